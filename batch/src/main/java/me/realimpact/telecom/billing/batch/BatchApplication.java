@@ -8,8 +8,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Spring Batch 애플리케이션의 메인 클래스.
  * 애플리케이션을 시작하는 진입점 역할을 한다.
  */
-@SpringBootApplication(scanBasePackages = {"me.realimpact.telecom.calculation", "me.realimpact.telecom.billing.batch"})
-@MapperScan("me.realimpact.telecom.calculation.infrastructure.adapter.mybatis")
+@SpringBootApplication(scanBasePackages = {"me.realimpact.telecom.calculation", "me.realimpact.telecom.billgeneration", "me.realimpact.telecom.billing.batch"})
+@MapperScan({"me.realimpact.telecom.calculation.infrastructure.adapter.mybatis", "me.realimpact.telecom.billgeneration.infrastructure.adapter.mybatis"})
 public class BatchApplication {
 
     /**
@@ -5,7 +5,10 @@ import me.realimpact.telecom.calculation.api.BillingCalculationType;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +43,10 @@ public class CalculationParameters {
      * 특정 계약 ID 목록 (비어있을 경우 전체 계약 대상)
      */
     private final List<Long> contractIds;
+    /**
+     * 같은 로딩 결과로 함께 계산할 추가 계산 컨텍스트 목록 (비어있을 경우 기본 컨텍스트만 계산)
+     */
+    private final List<CalculationContext> additionalCalculationContexts;
 
     /**
      * 이 파라미터 객체를 기반으로 CalculationContext 객체를 생성하여 반환한다.
@@ -53,4 +60,64 @@ public class CalculationParameters {
                 billingCalculationPeriod
         );
     }
+
+    /**
+     * 기본 컨텍스트와 추가 컨텍스트를 순서대로 반환한다.
+     * @return 계산할 CalculationContext 목록
+     */
+    public List<CalculationContext> toCalculationContexts() {
+        List<CalculationContext> contexts = new ArrayList<>(1 + additionalCalculationContexts.size());
+        contexts.add(toCalculationContext());
+        contexts.addAll(additionalCalculationContexts);
+        return contexts;
+    }
+
+    /**
+     * 여러 컨텍스트를 함께 계산하는지 여부
+     */
+    public boolean isMultiContext() {
+        return !additionalCalculationContexts.isEmpty();
+    }
+
+    /**
+     * 후처리(청구 횟수/청구 여부 갱신)를 실행할 컨텍스트를 반환한다.
+     * 후처리는 매출확정처럼 후처리가 있는 유형의 결과에만 실행하므로, 그런 컨텍스트가 없으면 빈 값을 반환한다.
+     * @return 후처리용 CalculationContext 객체
+     */
+    public Optional<CalculationContext> toPostProcessingContext() {
+        return toCalculationContexts().stream()
+                .filter(ctx -> ctx.billingCalculationType().isPostable())
+                .findFirst();
+    }
+
+    /**
+     * 추가 계산 컨텍스트 실행 인자를 파싱한다.
+     * 형식은 "유형코드:주기코드[:시작일:종료일]"을 쉼표로 구분하며, 날짜를 생략하면 기본 청구 기간을 쓴다.
+     * 예) B0:0 또는 OB:1:2025-08-01:2025-08-31,OB:2
+     * @param additionalContextsStr 추가 계산 컨텍스트 실행 인자
+     * @param billingStartDate 기본 청구 시작일
+     * @param billingEndDate 기본 청구 종료일
+     * @return 추가 계산 컨텍스트 목록
+     */
+    public static List<CalculationContext> parseAdditionalContexts(
+            String additionalContextsStr, LocalDate billingStartDate, LocalDate billingEndDate) {
+        if (additionalContextsStr == null || additionalContextsStr.trim().isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(additionalContextsStr.split(","))
+                .map(String::trim)
+                .map(spec -> {
+                    String[] tokens = spec.split(":");
+                    if (tokens.length != 2 && tokens.length != 4) {
+                        throw new IllegalArgumentException("추가 계산 컨텍스트 형식이 잘못되었습니다 (유형코드:주기코드[:시작일:종료일]): " + spec);
+                    }
+                    return new CalculationContext(
+                            tokens.length == 4 ? LocalDate.parse(tokens[2]) : billingStartDate,
+                            tokens.length == 4 ? LocalDate.parse(tokens[3]) : billingEndDate,
+                            BillingCalculationType.fromCode(tokens[0]),
+                            BillingCalculationPeriod.fromCode(tokens[1])
+                    );
+                })
+                .toList();
+    }
 }
@@ -0,0 +1,361 @@
+package me.realimpact.telecom.billing.batch.chunk;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.spill.SpillingResultBuffer;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+
+/**
+ * 파티션(Worker Step)별 적응형 청크 크기 조절기 (batch.adaptive-chunk.enabled=true 일 때만 사용).
+ * 청크 하나의 계약 수(= Reader가 한 번에 로딩하는 계약 수 = 커밋 단위)를 청크가 끝날 때마다 다시 정한다.
+ *
+ * 조절 규칙 (청크마다):
+ * - 지연: 계약당 소요 시간(로딩+계산+저장)으로 target-chunk-millis 안에 끝날 계약 수를 구한다.
+ * - 메모리: 계약당 결과 추정 크기로 max-result-mb를 넘지 않을 계약 수를 구한다.
+ * - 힙 여유: 마지막 GC 이후 힙 사용량 기준 여유 비율이 min-heap-headroom 아래이면 현재 크기의 절반 이하로 줄인다.
+ * 셋 중 가장 작은 값을 쓰되, 한 번에 두 배까지만 늘리고 10% 미만의 변화는 무시하며 [min-size, max-size]로 제한한다.
+ *
+ * 결정은 Micrometer 전역 레지스트리(Spring Batch 메트릭과 같은 곳)에 telecom.billing.chunk.* 로 남긴다.
+ * 파티션 Step은 한 스레드에서 실행되므로 Step 범위 인스턴스 하나가 파티션 하나를 담당한다.
+ */
+@Slf4j
+public class AdaptiveChunkController implements CompletionPolicy, StepExecutionListener, ChunkListener,
+        ItemReadListener<CalculationTarget>, ItemProcessListener<CalculationTarget, CalculationResultGroup>,
+        ItemWriteListener<CalculationResultGroup> {
+
+    private static final String METRIC_PREFIX = "telecom.billing.chunk";
+
+    // 한 번의 결정으로 늘릴 수 있는 최대 배율
+    private static final int MAX_GROWTH_FACTOR = 2;
+    // 이 비율 미만의 변화는 측정 잡음으로 보고 크기를 유지한다.
+    private static final double HOLD_RATIO = 0.1;
+
+    /**
+     * 청크 크기 결정 이유
+     */
+    public enum Reason {
+        GROW, HOLD, LATENCY, MEMORY, HEAP
+    }
+
+    private final Integer partitionKey;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetChunkNanos;
+    private final long maxResultBytes;
+    private final double minHeapHeadroom;
+
+    private final SimpleCompletionPolicy completionPolicy;
+    private final AtomicInteger chunkSize;
+
+    // 현재 청크의 측정값
+    private long chunkStartedAt;
+    private long readStartedAt;
+    private long processStartedAt;
+    private long writeStartedAt;
+    private long loadNanos;
+    private long calculateNanos;
+    private long writeNanos;
+    private int contractsInChunk;
+    private long resultsInChunk;
+
+    // Step 전체 통계
+    private int smallestSize;
+    private int largestSize;
+    private long decisions;
+    private final Map<Reason, Long> decisionCounts = new EnumMap<>(Reason.class);
+
+    private MeterRegistry registry;
+    private Meter sizeGauge;
+    private Timer loadTimer;
+    private Timer calculateTimer;
+    private Timer writeTimer;
+    private final Map<Reason, Counter> decisionCounters = new EnumMap<>(Reason.class);
+
+    public AdaptiveChunkController(Integer partitionKey, int initialSize, int minSize, int maxSize,
+                                   long targetChunkMillis, long maxResultMb, double minHeapHeadroom) {
+        this.partitionKey = partitionKey;
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetChunkNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, targetChunkMillis));
+        this.maxResultBytes = Math.max(1, maxResultMb) * 1024 * 1024;
+        this.minHeapHeadroom = minHeapHeadroom;
+
+        int size = clamp(initialSize);
+        this.completionPolicy = new SimpleCompletionPolicy(size);
+        this.chunkSize = new AtomicInteger(size);
+        this.smallestSize = size;
+        this.largestSize = size;
+    }
+
+    /**
+     * 현재 청크 크기 (계약 수)
+     */
+    public int chunkSize() {
+        return chunkSize.get();
+    }
+
+    /**
+     * Reader가 다음에 로딩할 계약 수. 청크에 남은 자리만큼만 로딩하여 로딩 단위와 커밋 단위를 맞춘다.
+     */
+    public int contractsToLoad() {
+        return Math.max(1, chunkSize.get() - contractsInChunk);
+    }
+
+    // ===== CompletionPolicy: 현재 청크 크기만큼 읽으면 청크를 끝낸다 =====
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        return completionPolicy.isComplete(context, result);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return completionPolicy.isComplete(context);
+    }
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        return completionPolicy.start(parent);
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        completionPolicy.update(context);
+    }
+
+    // ===== 측정 =====
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        registry = Metrics.globalRegistry;
+        Tags tags = Tags.of("partition", String.valueOf(partitionKey));
+        sizeGauge = Gauge.builder(METRIC_PREFIX + ".size", chunkSize, AtomicInteger::get)
+                .description("파티션의 현재 청크 크기 (계약 수)")
+                .tags(tags)
+                .register(registry);
+        loadTimer = phaseTimer(tags, "load");
+        calculateTimer = phaseTimer(tags, "calculate");
+        writeTimer = phaseTimer(tags, "write");
+        for (Reason reason : Reason.values()) {
+            decisionCounters.put(reason, Counter.builder(METRIC_PREFIX + ".decisions")
+                    .description("청크 크기 결정 횟수")
+                    .tags(tags.and("reason", reason.name()))
+                    .register(registry));
+        }
+        log.info("=== 적응형 청크 사용 (파티션 {}) === 시작 크기: {}, 범위: {}~{}, 목표 {}ms, 결과 상한 {}MB, 최소 힙 여유 {}",
+                partitionKey, chunkSize.get(), minSize, maxSize,
+                TimeUnit.NANOSECONDS.toMillis(targetChunkNanos), maxResultBytes / 1024 / 1024, minHeapHeadroom);
+    }
+
+    private Timer phaseTimer(Tags tags, String phase) {
+        return Timer.builder(METRIC_PREFIX + ".phase")
+                .description("청크 단계별 소요 시간")
+                .tags(tags.and("phase", phase))
+                .register(registry);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStartedAt = System.nanoTime();
+        loadNanos = 0;
+        calculateNanos = 0;
+        writeNanos = 0;
+        contractsInChunk = 0;
+        resultsInChunk = 0;
+    }
+
+    @Override
+    public void beforeRead() {
+        readStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(CalculationTarget item) {
+        loadNanos += System.nanoTime() - readStartedAt;
+        contractsInChunk++;
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        loadNanos += System.nanoTime() - readStartedAt;
+    }
+
+    @Override
+    public void beforeProcess(CalculationTarget item) {
+        processStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(CalculationTarget item, CalculationResultGroup result) {
+        calculateNanos += System.nanoTime() - processStartedAt;
+        if (result != null) {
+            resultsInChunk += result.calculationResults().size();
+        }
+    }
+
+    @Override
+    public void onProcessError(CalculationTarget item, Exception e) {
+        calculateNanos += System.nanoTime() - processStartedAt;
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends CalculationResultGroup> items) {
+        writeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends CalculationResultGroup> items) {
+        writeNanos += System.nanoTime() - writeStartedAt;
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends CalculationResultGroup> items) {
+        writeNanos += System.nanoTime() - writeStartedAt;
+    }
+
+    // ===== 결정 =====
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        // 읽을 계약이 없던 마지막 청크는 결정에 쓰지 않는다.
+        if (contractsInChunk == 0) {
+            return;
+        }
+        loadTimer.record(loadNanos, TimeUnit.NANOSECONDS);
+        calculateTimer.record(calculateNanos, TimeUnit.NANOSECONDS);
+        writeTimer.record(writeNanos, TimeUnit.NANOSECONDS);
+
+        int current = chunkSize.get();
+        long chunkNanos = System.nanoTime() - chunkStartedAt;
+        long resultBytes = resultsInChunk * SpillingResultBuffer.ESTIMATED_RESULT_BYTES;
+        double heapHeadroom = heapHeadroom();
+
+        Decision decision = decide(current, contractsInChunk, chunkNanos, resultBytes, heapHeadroom);
+        apply(decision);
+
+        log.debug("청크 크기 결정 (파티션 {}): {} -> {} ({}), 계약 {}건, {}ms (로딩 {}ms / 계산 {}ms / 저장 {}ms), 결과 {}건, 힙 여유 {}",
+                partitionKey, current, decision.size(), decision.reason(), contractsInChunk,
+                TimeUnit.NANOSECONDS.toMillis(chunkNanos), TimeUnit.NANOSECONDS.toMillis(loadNanos),
+                TimeUnit.NANOSECONDS.toMillis(calculateNanos), TimeUnit.NANOSECONDS.toMillis(writeNanos),
+                resultsInChunk, String.format("%.2f", heapHeadroom));
+    }
+
+    /**
+     * 다음 청크 크기 결정
+     *
+     * @param current 현재 청크 크기
+     * @param contracts 이번 청크에서 읽은 계약 수
+     * @param chunkNanos 이번 청크의 소요 시간
+     * @param resultBytes 이번 청크의 결과 추정 크기
+     * @param heapHeadroom 힙 여유 비율 (0~1)
+     */
+    Decision decide(int current, int contracts, long chunkNanos, long resultBytes, double heapHeadroom) {
+        long perContractNanos = Math.max(1, chunkNanos / contracts);
+        long latencyBound = targetChunkNanos / perContractNanos;
+
+        long perContractBytes = resultBytes / contracts;
+        long memoryBound = perContractBytes > 0 ? maxResultBytes / perContractBytes : Long.MAX_VALUE;
+
+        long desired;
+        Reason reason;
+        if (heapHeadroom < minHeapHeadroom) {
+            desired = Math.min(current / 2, Math.min(latencyBound, memoryBound));
+            reason = Reason.HEAP;
+        } else if (memoryBound < latencyBound) {
+            desired = memoryBound;
+            reason = Reason.MEMORY;
+        } else {
+            desired = latencyBound;
+            reason = Reason.LATENCY;
+        }
+
+        if (desired > current) {
+            desired = Math.min(desired, (long) current * MAX_GROWTH_FACTOR);
+            reason = Reason.GROW;
+        }
+        int next = clamp(desired);
+        if (reason != Reason.HEAP && Math.abs(next - current) < current * HOLD_RATIO) {
+            return new Decision(current, Reason.HOLD);
+        }
+        return new Decision(next, next == current ? Reason.HOLD : reason);
+    }
+
+    private void apply(Decision decision) {
+        chunkSize.set(decision.size());
+        completionPolicy.setChunkSize(decision.size());
+        smallestSize = Math.min(smallestSize, decision.size());
+        largestSize = Math.max(largestSize, decision.size());
+        decisions++;
+        decisionCounts.merge(decision.reason(), 1L, Long::sum);
+        decisionCounters.get(decision.reason()).increment();
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    /**
+     * 힙 여유 비율. 힙 풀마다 마지막 GC 직후 사용량(없으면 현재 사용량)을 더해 아직 수거되지 않은 garbage를 빼고 본다.
+     */
+    static double heapHeadroom() {
+        long max = Runtime.getRuntime().maxMemory();
+        if (max <= 0 || max == Long.MAX_VALUE) {
+            return 1.0;
+        }
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isValid()) {
+                continue;
+            }
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            used += afterGc != null ? afterGc.getUsed() : pool.getUsage().getUsed();
+        }
+        return Math.max(0.0, 1.0 - (double) used / max);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("=== 적응형 청크 결과 (파티션 {}) === 결정 {}회 {}, 최종 크기 {}, 최소 {}, 최대 {}",
+                partitionKey, decisions, decisionCounts, chunkSize.get(), smallestSize, largestSize);
+        // 재시작/재할당으로 같은 파티션 태그의 Step이 다시 실행될 수 있으므로 게이지를 남기지 않는다.
+        if (registry != null && sizeGauge != null) {
+            registry.remove(sizeGauge);
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 청크 크기 결정 결과
+     */
+    record Decision(int size, Reason reason) {}
+}
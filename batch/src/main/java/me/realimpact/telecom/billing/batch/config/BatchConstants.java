@@ -24,4 +24,14 @@ public final class BatchConstants {
      * 파티셔닝을 사용하는 요금 계산 잡(Job)의 이름.
      */
     public static final String PARTITIONED_JOB_NAME = "partitionedMonthlyFeeCalculationJob";
+
+    /**
+     * 계산 결과로 청구서를 생성하는 잡(Job)의 이름.
+     */
+    public static final String BILL_GENERATION_JOB_NAME = "billGenerationJob";
+
+    /**
+     * 해지핫빌 응답 시간을 측정하는 잡(Job)의 이름.
+     */
+    public static final String TERMINATION_INQUIRY_BENCHMARK_JOB_NAME = "terminationInquiryBenchmarkJob";
 }
@@ -0,0 +1,200 @@
+package me.realimpact.telecom.billing.batch.config;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.application.BillGenerationProperties;
+import me.realimpact.telecom.billgeneration.application.BillGenerationService;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+import me.realimpact.telecom.billing.batch.partitioner.ContractPartitioner;
+import me.realimpact.telecom.billing.batch.reader.InvoiceReader;
+import me.realimpact.telecom.billing.batch.tasklet.InvoiceCleanupTasklet;
+import me.realimpact.telecom.billing.batch.writer.InvoiceWriter;
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+
+/**
+ * 청구서 생성 배치를 설정하는 클래스.
+ * `billGenerationJob` 잡이 활성화될 때 이 설정이 사용된다.
+ *
+ * 기존 청구서 삭제 → 파티션(contractId MOD thread-count)별로 계산 결과를 계약 ID 순으로 스트리밍하여 청구서 생성/저장.
+ * 청크 크기는 billing.bill-generation.flush-size 이며, 파티션마다 커서용과 저장용 커넥션을 하나씩 사용한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.names", havingValue = "billGenerationJob")
+@Slf4j
+public class BillGenerationBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final BillGenerationService billGenerationService;
+    private final InvoiceCommandPort invoiceCommandPort;
+    private final BillGenerationProperties billGenerationProperties;
+
+    /**
+     * 실행 인자로 청구서 생성 요청을 만든다. billDate가 없으면 청구 종료일 다음 날로 발행한다.
+     * 청구 계산 유형/주기가 없으면 매출확정(B0) 당월(0) 계산 결과로 청구서를 만든다.
+     */
+    private BillGenerationRequest createBillGenerationRequest(
+            String billingStartDateStr,
+            String billingEndDateStr,
+            String billingCalculationTypeStr,
+            String billingCalculationPeriodStr,
+            String billDateStr,
+            String contractIdsStr
+    ) {
+        LocalDate billingStartDate = LocalDate.parse(billingStartDateStr);
+        LocalDate billingEndDate = LocalDate.parse(billingEndDateStr);
+        LocalDate billDate = billDateStr == null || billDateStr.isBlank()
+            ? billingEndDate.plusDays(1)
+            : LocalDate.parse(billDateStr);
+
+        List<Long> contractIds = contractIdsStr == null || contractIdsStr.trim().isEmpty()
+            ? List.of()
+            : Arrays.stream(contractIdsStr.split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .toList();
+
+        return new BillGenerationRequest(
+                billingStartDate,
+                billingEndDate,
+                BillingCalculationType.fromCode(billingCalculationTypeStr),
+                BillingCalculationPeriod.fromCode(billingCalculationPeriodStr),
+                billDate,
+                contractIds);
+    }
+
+    @Bean("billGenerationRequest")
+    public BillGenerationRequest billGenerationRequest(
+            @Value("${billingStartDate}") String billingStartDateStr,
+            @Value("${billingEndDate}") String billingEndDateStr,
+            @Value("${billingCalculationType:B0}") String billingCalculationTypeStr,
+            @Value("${billingCalculationPeriod:0}") String billingCalculationPeriodStr,
+            @Value("${billDate:}") String billDateStr,
+            @Value("${contractIds:}") String contractIdsStr
+    ) {
+        BillGenerationRequest request = createBillGenerationRequest(
+                billingStartDateStr, billingEndDateStr, billingCalculationTypeStr, billingCalculationPeriodStr, billDateStr, contractIdsStr);
+        log.info("=== BillGenerationRequest === 청구기간: {} ~ {}, 유형: {}, 주기: {}, 발행일: {}, 대상 계약: {}",
+                request.billingStartDate(), request.billingEndDate(), request.billingCalculationType(),
+                request.billingCalculationPeriod(), request.billDate(),
+                request.contractIds().isEmpty() ? "전체" : request.contractIds().size() + "건");
+        return request;
+    }
+
+    /**
+     * 청구서 생성 파티션용 TaskExecutor
+     */
+    @Bean("billGenerationTaskExecutor")
+    public TaskExecutor billGenerationTaskExecutor(@Value("${batch.thread-count}") Integer threadCount) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setQueueCapacity(threadCount);
+        executor.setThreadNamePrefix("bill-generation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("billGenerationPartitioner")
+    public Partitioner billGenerationPartitioner(@Value("${batch.thread-count}") Integer threadCount) {
+        return new ContractPartitioner(threadCount);
+    }
+
+    /**
+     * 파티션별 청구서 Reader
+     */
+    @Bean("invoiceReader")
+    @StepScope
+    public InvoiceReader invoiceReader(
+            @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey,
+            @Value("#{stepExecutionContext['partitionCount']}") Integer partitionCount
+    ) {
+        return new InvoiceReader(billGenerationService, billGenerationRequest(null, null, null, null, null, null), partitionKey, partitionCount);
+    }
+
+    @Bean("invoiceWriter")
+    public InvoiceWriter invoiceWriter() {
+        return new InvoiceWriter(invoiceCommandPort);
+    }
+
+    /**
+     * Worker Step - 파티션 하나의 청구서를 flush-size 단위로 저장
+     */
+    @Bean("billGenerationWorkerStep")
+    public Step billGenerationWorkerStep() {
+        return new StepBuilder("billGenerationWorkerStep", jobRepository)
+                .<Invoice, Invoice>chunk(billGenerationProperties.getFlushSize(), transactionManager)
+                .reader(invoiceReader(null, null))
+                .writer(invoiceWriter())
+                .build();
+    }
+
+    @Bean("billGenerationPartitionHandler")
+    public PartitionHandler billGenerationPartitionHandler(@Value("${batch.thread-count}") Integer threadCount) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(billGenerationWorkerStep());
+        partitionHandler.setTaskExecutor(billGenerationTaskExecutor(threadCount));
+        partitionHandler.setGridSize(threadCount);
+        return partitionHandler;
+    }
+
+    /**
+     * Master Step - 파티션별 Worker Step 병렬 실행
+     */
+    @Bean("billGenerationMasterStep")
+    public Step billGenerationMasterStep() {
+        return new StepBuilder("billGenerationMasterStep", jobRepository)
+                .partitioner("billGenerationWorkerStep", billGenerationPartitioner(null))
+                .partitionHandler(billGenerationPartitionHandler(null))
+                .build();
+    }
+
+    /**
+     * Cleanup Step - 해당 청구 기간의 기존 청구서 삭제
+     */
+    @Bean("invoiceCleanupStep")
+    public Step invoiceCleanupStep() {
+        return new StepBuilder("invoiceCleanupStep", jobRepository)
+                .tasklet(new InvoiceCleanupTasklet(invoiceCommandPort, billGenerationRequest(null, null, null, null, null, null)), transactionManager)
+                .build();
+    }
+
+    /**
+     * 청구서 생성 Job - Cleanup → Master Step 순서로 실행
+     */
+    @Bean("billGenerationJob")
+    public Job billGenerationJob() {
+        return new JobBuilder("billGenerationJob", jobRepository)
+                .start(invoiceCleanupStep())
+                .next(billGenerationMasterStep())
+                .build();
+    }
+}
@@ -55,6 +55,10 @@ public class CalculationBatchConfig {
 
     private final CalculationResultSavePort calculationResultSavePort;
 
+    // 추가 계산 컨텍스트: 같은 로딩 결과로 함께 계산할 컨텍스트 (유형코드:주기코드[:시작일:종료일], 쉼표 구분)
+    @Value("${additionalCalculationContexts:}")
+    private String additionalCalculationContextsStr;
+
     /**
      * Helper method to create CalculationParameters from individual parameters
      */
@@ -85,18 +89,24 @@ public class CalculationBatchConfig {
             billingCalculationType,
             billingCalculationPeriod,
             threadCount,
-            contractIds
+            contractIds,
+            CalculationParameters.parseAdditionalContexts(additionalCalculationContextsStr, billingStartDate, billingEndDate)
         );
     }
 
     /**
      * 멀티쓰레드 처리를 위한 TaskExecutor 설정
+     * batch.virtual-threads=true이면 threadCount를 동시 실행 제한으로 하는 가상 스레드 Executor를 사용한다.
      */
     @Bean
     public TaskExecutor taskExecutor(
-            @Value("${batch.thread-count:8}") Integer threadCount
+            @Value("${batch.thread-count:8}") Integer threadCount,
+            @Value("${batch.virtual-threads:false}") Boolean virtualThreads
     ) {
         log.info("=== TaskExecutor Bean 생성 시작 ===  threadCount: {}", threadCount);
+        if (Boolean.TRUE.equals(virtualThreads)) {
+            return VirtualThreadTaskExecutors.create("batch-", threadCount);
+        }
         int maxThreadCount = threadCount * 2;
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -248,7 +258,7 @@ public class CalculationBatchConfig {
                 .reader(contractReader(null, null, null, null, null, null, null))  // Thread-Safe Reader 사용
                 .processor(calculationProcessor(null, null, null, null, null, null))  // @JobScope Processor 사용
                 .writer(calculationWriter(null, null, null, null, null, null))        // @JobScope Writer 사용
-                .taskExecutor(taskExecutor(null))             // 멀티쓰레드 실행 (@JobScope가 런타임에 실제 값 주입)
+                .taskExecutor(taskExecutor(null, null))             // 멀티쓰레드 실행 (@JobScope가 런타임에 실제 값 주입)
                 .build();
     }
 
@@ -0,0 +1,66 @@
+package me.realimpact.telecom.billing.batch.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.application.VirtualThreadProperties;
+import me.realimpact.telecom.calculation.application.monthlyfee.MonthlyFeeDataLoader;
+import me.realimpact.telecom.calculation.application.onetimecharge.OneTimeChargeDataLoader;
+
+/**
+ * 배치 동시성 설정 대비 JDBC 커넥션 풀 크기를 점검한다.
+ * 가상 스레드로 작업 스레드 수를 늘리면 병목이 커넥션 풀로 옮겨가므로, 풀이 부족하면 시작 시점에 경고한다.
+ *
+ * 작업 스레드(파티션) 1개당 필요한 커넥션 수
+ * - 청크 트랜잭션 1 + 계약 ID 커서 세션 1
+ * - DataLoader 가상 스레드 동시 실행 시 (DataLoader 수 + 할인 1)개 추가
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcPoolSizingVerifier {
+
+    private final DataSource dataSource;
+    private final VirtualThreadProperties virtualThreadProperties;
+    private final List<MonthlyFeeDataLoader<?>> monthlyFeeDataLoaders;
+    private final List<OneTimeChargeDataLoader<?>> oneTimeChargeDataLoaders;
+
+    @Value("${batch.thread-count:8}")
+    private Integer threadCount;
+
+    @Value("${batch.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+            return;
+        }
+
+        int connectionsPerWorker = 2;
+        if (virtualThreadProperties.isLoaderEnabled()) {
+            connectionsPerWorker += monthlyFeeDataLoaders.size() + oneTimeChargeDataLoaders.size() + 1;
+        }
+        int requiredConnections = threadCount * connectionsPerWorker;
+        int maximumPoolSize = hikariDataSource.getMaximumPoolSize();
+
+        log.info("=== JDBC 풀 점검 === 작업 스레드: {} ({}), DataLoader 동시 실행: {}, 필요 커넥션: {}, 최대 풀 크기: {}",
+                threadCount, virtualThreads ? "가상 스레드" : "플랫폼 스레드",
+                virtualThreadProperties.isLoaderEnabled(), requiredConnections, maximumPoolSize);
+
+        if (maximumPoolSize < requiredConnections) {
+            log.warn("커넥션 풀이 부족합니다. spring.datasource.hikari.maximum-pool-size를 {} 이상으로 설정하거나 batch.thread-count를 줄이세요. "
+                    + "(부족 시 작업 스레드가 connection-timeout까지 커넥션을 대기합니다)", requiredConnections);
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package me.realimpact.telecom.billing.batch.config;
 
-import static me.realimpact.telecom.billing.batch.config.BatchConstants.CHUNK_SIZE;
-
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
 
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.partition.PartitionHandler;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemStreamReader;
@@ -24,22 +33,46 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.chunk.AdaptiveChunkController;
 import me.realimpact.telecom.billing.batch.partitioner.ContractPartitioner;
+import me.realimpact.telecom.billing.batch.partitioner.WorkStealingPartitionHandler;
+import me.realimpact.telecom.billing.batch.performance.ChunkCalculationEventListener;
+import me.realimpact.telecom.billing.batch.performance.JobPerformanceReportListener;
+import me.realimpact.telecom.billing.batch.performance.PartitionPerformanceListener;
+import me.realimpact.telecom.billing.batch.processor.AsyncCalculationProcessor;
 import me.realimpact.telecom.billing.batch.processor.CalculationProcessor;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfileReportListener;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfiler;
 import me.realimpact.telecom.billing.batch.reader.PartitionedContractReader;
+import me.realimpact.telecom.billing.batch.reader.SortMergeContractReader;
+import me.realimpact.telecom.billing.batch.spill.SpillingResultBuffer;
+import me.realimpact.telecom.billing.batch.remote.DbWorkQueuePartitionHandler;
+import me.realimpact.telecom.billing.batch.remote.PartitionQueueWorker;
+import me.realimpact.telecom.billing.batch.remote.PartitionWorkQueue;
 import me.realimpact.telecom.billing.batch.tasklet.CalculationResultCleanupTasklet;
+import me.realimpact.telecom.billing.batch.tasklet.DeltaTargetTasklet;
+import me.realimpact.telecom.billing.batch.tasklet.WatermarkCommitTasklet;
 import me.realimpact.telecom.billing.batch.writer.CalculationWriter;
+import me.realimpact.telecom.billing.batch.writer.ExportingCalculationResultSavePort;
+import me.realimpact.telecom.billing.batch.writer.PipelinedCalculationWriter;
+import me.realimpact.telecom.billing.batch.writer.SpillingCalculationWriter;
 import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
 import me.realimpact.telecom.calculation.api.BillingCalculationType;
 import me.realimpact.telecom.calculation.api.CalculationResultGroup;
 import me.realimpact.telecom.calculation.application.CalculationCommandService;
 import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.application.service.BillingPeriodService;
+import me.realimpact.telecom.calculation.infrastructure.converter.ContractDiscountDtoConverter;
+import me.realimpact.telecom.calculation.infrastructure.converter.ContractDtoToDomainConverter;
+import me.realimpact.telecom.calculation.infrastructure.converter.OneTimeChargeDtoConverter;
+import me.realimpact.telecom.calculation.port.out.CalculationResultExportPort;
 import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
 
 /**
@@ -55,9 +88,70 @@ public class PartitionedCalculationBatchConfig {
     private final SqlSessionFactory sqlSessionFactory;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final JobExplorer jobExplorer;
+    private final JdbcTemplate jdbcTemplate;
 
     private final CalculationCommandService calculationCommandService;
     private final CalculationResultSavePort calculationResultSavePort;
+    private final CalculationResultExportPort calculationResultExportPort;
+
+    // 정렬 병합 Reader 관련
+    private final BillingPeriodService billingPeriodService;
+    private final ContractDtoToDomainConverter contractDtoToDomainConverter;
+    private final ContractDiscountDtoConverter contractDiscountDtoConverter;
+    private final OneTimeChargeDtoConverter oneTimeChargeDtoConverter;
+
+    // 청크 크기: 파티션 Reader가 한 번에 로딩하는 계약 수이자 커밋 단위 (적응형 청크 사용 시 시작 크기)
+    @Value("${batch.chunk-size:1000}")
+    private int chunkSize;
+
+    // 적응형 청크: 파티션마다 로딩/계산/저장 시간, 결과 크기, 힙 여유를 보고 청크 크기를 조절 (파이프라인 모드 제외)
+    @Value("${batch.adaptive-chunk.enabled:false}")
+    private boolean adaptiveChunkEnabled;
+
+    // 파티션 수: 0이면 thread-count와 같다. 스레드보다 많이 만들면 먼저 끝난 스레드가 남은 파티션을 가져간다
+    @Value("${batch.partition.count:0}")
+    private int partitionCountSetting;
+
+    // 작업 분배: 워커들이 공유 대기열에서 파티션을 꺼내 실행하고, 감시자가 지연 파티션을 분할한다 (원격 파티셔닝 제외)
+    @Value("${batch.partition.work-stealing.enabled:false}")
+    private boolean workStealingEnabled;
+
+    // 파이프라인 모드: 계산은 별도 Executor에서 비동기로, 저장은 Step 스레드에서 flush 단위로 수행
+    @Value("${batch.pipeline.enabled:false}")
+    private boolean pipelineEnabled;
+
+    // 증분 재계산: 직전 성공 실행 이후 원천 데이터가 바뀐 계약만 재계산
+    @Value("${batch.delta.enabled:false}")
+    private boolean deltaEnabled;
+
+    // 원격 파티셔닝: none(기존 단일 JVM) | manager(작업 큐 등록/감시) | worker(작업 큐에서 파티션 실행)
+    @Value("${batch.remote-partitioning.role:none}")
+    private String remotePartitioningRole;
+
+    // 계약별 프로파일링: 계약마다 로딩/계산 시간, 할당량, 결과 건수를 측정하여 상위 N건을 보고
+    @Value("${batch.profiling.enabled:false}")
+    private boolean profilingEnabled;
+
+    // 성능 보고서: 파티션별 처리량 추이, 단계별 시간(DB 대기/CPU), 대기열 길이를 수집하여 Job 종료 시 보고
+    @Value("${batch.performance.enabled:false}")
+    private boolean performanceReportEnabled;
+
+    // 결과 디스크 버퍼: 청크의 계산 결과가 메모리 예산을 넘으면 메모리 매핑 임시 파일로 내보낸다 (파이프라인 모드 제외)
+    @Value("${batch.spill.enabled:false}")
+    private boolean spillEnabled;
+
+    // 컬럼 파일 내보내기: DB 저장과 함께 파티션별 결과를 하위 시스템용 컬럼 파일(.cres)로 기록
+    @Value("${billing.columnar-export.enabled:false}")
+    private boolean columnarExportEnabled;
+
+    // 추가 계산 컨텍스트: 같은 로딩 결과로 함께 계산할 컨텍스트 (유형코드:주기코드[:시작일:종료일], 쉼표 구분)
+    @Value("${additionalCalculationContexts:}")
+    private String additionalCalculationContextsStr;
+
+    // 매니저와 같은 실행 인자로 기동한 워커만 파티션을 선점하도록 큐에 기록하는 서명
+    @Value("${billingStartDate:}|${billingEndDate:}|${billingCalculationType:}|${billingCalculationPeriod:}|${contractIds:}|${batch.thread-count}|${batch.partition.count:0}|${batch.delta.enabled:false}|${additionalCalculationContexts:}")
+    private String remoteRunSignature;
 
     /**
      * Helper method to create CalculationParameters from individual parameters
@@ -83,22 +177,36 @@ public class PartitionedCalculationBatchConfig {
         BillingCalculationType billingCalculationType = BillingCalculationType.fromCode(billingCalculationTypeStr);
         BillingCalculationPeriod billingCalculationPeriod = BillingCalculationPeriod.fromCode(billingCalculationPeriodStr);
 
-        return new CalculationParameters(
+        CalculationParameters params = new CalculationParameters(
             billingStartDate,
             billingEndDate,
             billingCalculationType,
             billingCalculationPeriod,
             threadCount,
-            contractIds
+            contractIds,
+            CalculationParameters.parseAdditionalContexts(additionalCalculationContextsStr, billingStartDate, billingEndDate)
         );
+        // 컨텍스트별 결과 구분은 CalculationWriter만 지원한다. 다른 Writer는 결과를 한 컨텍스트로 저장한다.
+        if (params.isMultiContext() && (pipelineEnabled || spillEnabled || columnarExportEnabled)) {
+            throw new IllegalStateException(
+                    "추가 계산 컨텍스트는 파이프라인, 결과 디스크 버퍼, 컬럼 파일 내보내기 모드와 함께 사용할 수 없습니다");
+        }
+        return params;
     }
 
     /**
      * 파티션 기반 처리를 위한 TaskExecutor 설정
+     * batch.virtual-threads=true이면 파티션마다 가상 스레드를 사용한다.
      */
     @Bean("partitionedTaskExecutor")
-    public TaskExecutor partitionedTaskExecutor(@Value("${batch.thread-count}") Integer threadCount) {
+    public TaskExecutor partitionedTaskExecutor(
+            @Value("${batch.thread-count}") Integer threadCount,
+            @Value("${batch.virtual-threads:false}") Boolean virtualThreads
+    ) {
         log.info("=== PartitionedTaskExecutor Bean 생성 시작 === threadCount: {}", threadCount);
+        if (Boolean.TRUE.equals(virtualThreads)) {
+            return VirtualThreadTaskExecutors.create("partitioned-batch-", threadCount);
+        }
 
         int maxThreadCount = threadCount * 2;
 
@@ -119,21 +227,31 @@ public class PartitionedCalculationBatchConfig {
     }
 
     /**
-     * Contract Partitioner Bean - Step 실행 시 동적으로 thread count 결정
+     * Contract Partitioner Bean - batch.partition.count(0이면 thread count)만큼 파티션 생성
      */
     @Bean("contractPartitioner")
     public Partitioner contractPartitioner(@Value("${batch.thread-count}") Integer threadCount) {
-        log.info("=== ContractPartitioner Bean 생성 시작 === threadCount: {}", threadCount);
+        int partitionCount = partitionCount(threadCount);
+        log.info("=== ContractPartitioner Bean 생성 시작 === threadCount: {}, partitionCount: {}", threadCount, partitionCount);
 
-        ContractPartitioner partitioner = new ContractPartitioner(threadCount);
+        ContractPartitioner partitioner = new ContractPartitioner(partitionCount);
 
-        log.info("=== ContractPartitioner Bean 생성 완료 === 파티션 수: {}", threadCount);   
+        log.info("=== ContractPartitioner Bean 생성 완료 === 파티션 수: {}", partitionCount);   
         return partitioner;
     }
 
+    private int partitionCount(int threadCount) {
+        return partitionCountSetting > 0 ? partitionCountSetting : threadCount;
+    }
+
+    private boolean isWorkStealing() {
+        return workStealingEnabled && !"manager".equals(remotePartitioningRole);
+    }
+
 
     /**
-     * 파티션별 Contract Reader  
+     * 파티션별 Contract Reader
+     * batch.sort-merge-reader=true이고 전체 계약 대상이면 테이블별 커서를 병합하는 SortMergeContractReader를 사용한다.
      */
     @Bean("partitionedContractReader")
     @StepScope
@@ -146,7 +264,10 @@ public class PartitionedCalculationBatchConfig {
             @Value("${billingCalculationType}") String billingCalculationTypeStr,
             @Value("${billingCalculationPeriod}") String billingCalculationPeriodStr,
             @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey,
-            @Value("#{stepExecutionContext['partitionCount']}") Integer partitionCount
+            @Value("#{stepExecutionContext['partitionCount']}") Integer partitionCount,
+            @Value("#{stepExecutionContext['minContractIdExclusive']}") Long minContractIdExclusive,
+            @Value("#{stepExecution.stepName}") String stepName,
+            @Value("${batch.sort-merge-reader:false}") Boolean sortMergeReader
     ) {
         log.info("=== PartitionedContractReader Bean 생성 시작 === billingStartDate: {}, threadCount: {}, partitionKey: {}, partitionCount: {}",
                 billingStartDateStr, threadCount, partitionKey, partitionCount);
@@ -156,13 +277,51 @@ public class PartitionedCalculationBatchConfig {
                 threadCount, billingCalculationTypeStr, billingCalculationPeriodStr
         );
 
+        // 특정 계약 대상이거나 미리보기 조회, 분할된 파티션, 여러 컨텍스트 계산은 기존 IN 절 방식을 사용한다.
+        if (Boolean.TRUE.equals(sortMergeReader)
+                && minContractIdExclusive == null
+                && !params.isMultiContext()
+                && params.getContractIds().isEmpty()
+                && params.getBillingCalculationType() != BillingCalculationType.PREVIEW_INQUIRY) {
+            log.info("=== SortMergeContractReader 사용 (파티션 {}) ===", partitionKey);
+            SortMergeContractReader sortMergeReader = new SortMergeContractReader(
+                    sqlSessionFactory,
+                    params,
+                    billingPeriodService,
+                    contractDtoToDomainConverter,
+                    contractDiscountDtoConverter,
+                    oneTimeChargeDtoConverter,
+                    partitionKey,
+                    partitionCount,
+                    deltaEnabled
+            );
+            if (profilingEnabled) {
+                sortMergeReader.setContractProfiler(contractProfiler(null, null));
+            }
+            return sortMergeReader;
+        }
+
         PartitionedContractReader reader = new PartitionedContractReader(
                 calculationCommandService,
                 sqlSessionFactory,
                 params,
                 partitionKey,
-                partitionCount 
+                partitionCount,
+                deltaEnabled,
+                minContractIdExclusive
         );
+        if (profilingEnabled) {
+            reader.setContractProfiler(contractProfiler(null, null));
+        }
+        if (isWorkStealing()) {
+            reader.setSplitTicket(workStealingPartitionHandler(null, null, null, null, null, null).register(stepName));
+        }
+        if (isAdaptiveChunk()) {
+            reader.setLoadSizeSupplier(adaptiveChunkController(null, null, null, null, null, null)::contractsToLoad);
+        } else {
+            int loadSize = chunkSize;
+            reader.setLoadSizeSupplier(() -> loadSize);
+        }
 
         log.info("=== PartitionedContractReader Bean 생성 완료 ==="); 
         return reader;
@@ -187,11 +346,93 @@ public class PartitionedCalculationBatchConfig {
         );
 
         CalculationProcessor processor = new CalculationProcessor(calculationCommandService, params);
+        if (profilingEnabled) {
+            processor.setContractProfiler(contractProfiler(null, null));
+        }
+        if (spillEnabled) {
+            processor.setSpillingResultBuffer(spillingResultBuffer(null, null, null));
+        }
         log.info("=== PartitionedCalculationProcessor Bean 생성 완료 ===");
 
         return processor;
     }
 
+    /**
+     * 파이프라인 모드의 계산 Executor. 모든 파티션이 공유하며 parallelism만큼의 스레드로 계산한다.
+     */
+    @Bean("calculationPipelineExecutor")
+    public TaskExecutor calculationPipelineExecutor(
+            @Value("${batch.pipeline.parallelism:4}") Integer parallelism,
+            @Value("${batch.pipeline.max-in-flight:256}") Integer maxInFlight,
+            @Value("${batch.thread-count}") Integer threadCount
+    ) {
+        log.info("=== CalculationPipelineExecutor Bean 생성 시작 === parallelism: {}, maxInFlight: {}", parallelism, maxInFlight);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        // 파티션마다 maxInFlight 이하로 제출하므로 큐는 넘치지 않는다.
+        executor.setQueueCapacity(maxInFlight * threadCount);
+        executor.setThreadNamePrefix("calc-pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        log.info("=== CalculationPipelineExecutor Bean 생성 완료 ===");
+        return executor;
+    }
+
+    /**
+     * 파이프라인 모드의 비동기 Processor Bean
+     */
+    @Bean("pipelinedCalculationProcessor")
+    @StepScope
+    public ItemProcessor<CalculationTarget, Future<CalculationResultGroup>> pipelinedCalculationProcessor(
+            @Value("${billingStartDate}") String billingStartDateStr,
+            @Value("${billingEndDate}") String billingEndDateStr,
+            @Value("${contractIds:}") String contractIdsStr,
+            @Value("${batch.thread-count}") Integer threadCount,
+            @Value("${billingCalculationType}") String billingCalculationTypeStr,
+            @Value("${billingCalculationPeriod}") String billingCalculationPeriodStr,
+            @Value("${batch.pipeline.max-in-flight:256}") Integer maxInFlight
+    ) {
+        CalculationParameters params = createCalculationParameters(
+                billingStartDateStr, billingEndDateStr, contractIdsStr,
+                threadCount, billingCalculationTypeStr, billingCalculationPeriodStr
+        );
+
+        log.info("=== AsyncCalculationProcessor Bean 생성 === maxInFlight: {}", maxInFlight);
+        AsyncCalculationProcessor processor = new AsyncCalculationProcessor(
+                calculationCommandService, params, calculationPipelineExecutor(null, null, null), maxInFlight);
+        if (profilingEnabled) {
+            processor.setContractProfiler(contractProfiler(null, null));
+        }
+        return processor;
+    }
+
+    /**
+     * 파이프라인 모드의 Writer Bean
+     */
+    @Bean("pipelinedCalculationWriter")
+    @StepScope
+    public ItemWriter<Future<CalculationResultGroup>> pipelinedCalculationWriter(
+            @Value("${billingStartDate}") String billingStartDateStr,
+            @Value("${billingEndDate}") String billingEndDateStr,
+            @Value("${contractIds:}") String contractIdsStr,
+            @Value("${batch.thread-count}") Integer threadCount,
+            @Value("${billingCalculationType}") String billingCalculationTypeStr,
+            @Value("${billingCalculationPeriod}") String billingCalculationPeriodStr,
+            @Value("${batch.pipeline.flush-size:500}") Integer flushSize
+    ) {
+        CalculationParameters params = createCalculationParameters(
+                billingStartDateStr, billingEndDateStr, contractIdsStr,
+                threadCount, billingCalculationTypeStr, billingCalculationPeriodStr
+        );
+
+        log.info("=== PipelinedCalculationWriter Bean 생성 === flushSize: {}", flushSize);
+        return new PipelinedCalculationWriter(resultSavePort(), params, flushSize);
+    }
+
     /**
      * 파티션별 Writer Bean
      */
@@ -203,7 +444,8 @@ public class PartitionedCalculationBatchConfig {
             @Value("${contractIds:}") String contractIdsStr,
             @Value("${batch.thread-count}") Integer threadCount,
             @Value("${billingCalculationType}") String billingCalculationTypeStr,
-            @Value("${billingCalculationPeriod}") String billingCalculationPeriodStr
+            @Value("${billingCalculationPeriod}") String billingCalculationPeriodStr,
+            @Value("${batch.spill.flush-size:1000}") Integer spillFlushSize
     ) {
         log.info("=== PartitionedCalculationWriter Bean 생성 시작 === billingStartDate: {}, threadCount: {}",
                 billingStartDateStr, threadCount);
@@ -213,38 +455,328 @@ public class PartitionedCalculationBatchConfig {
                 threadCount, billingCalculationTypeStr, billingCalculationPeriodStr
         );
 
-        CalculationWriter writer = new CalculationWriter(calculationResultSavePort, params);
+        if (spillEnabled) {
+            log.info("=== SpillingCalculationWriter 사용 === flushSize: {}", spillFlushSize);
+            return new SpillingCalculationWriter(
+                    resultSavePort(), params, spillingResultBuffer(null, null, null), spillFlushSize);
+        }
+
+        CalculationWriter writer = new CalculationWriter(resultSavePort(), params);
         log.info("=== PartitionedCalculationWriter Bean 생성 완료 ===");
 
         return writer;
     }
 
+    /**
+     * Writer가 사용할 저장 포트. 컬럼 파일 내보내기가 켜져 있으면 파일에도 기록하는 파티션별 데코레이터를 사용한다.
+     */
+    private CalculationResultSavePort resultSavePort() {
+        return columnarExportEnabled ? exportingCalculationResultSavePort() : calculationResultSavePort;
+    }
+
+    /**
+     * 파티션별 컬럼 파일 내보내기 저장 포트 - billing.columnar-export.enabled=true 일 때만 Writer/Step에 연결된다.
+     */
+    @Bean("exportingCalculationResultSavePort")
+    @StepScope
+    public ExportingCalculationResultSavePort exportingCalculationResultSavePort() {
+        return new ExportingCalculationResultSavePort(calculationResultSavePort, calculationResultExportPort);
+    }
+
+    /**
+     * 파티션별 계산 결과 디스크 버퍼 - batch.spill.enabled=true 일 때만 Processor/Writer/Step에 연결된다.
+     * spill.dir이 비어 있으면 java.io.tmpdir을 사용한다.
+     */
+    @Bean("spillingResultBuffer")
+    @StepScope
+    public SpillingResultBuffer spillingResultBuffer(
+            @Value("${batch.spill.memory-budget-mb:64}") Long memoryBudgetMb,
+            @Value("${batch.spill.segment-mb:64}") Integer segmentMb,
+            @Value("${batch.spill.dir:}") String spillDir
+    ) {
+        Path directory = Path.of(spillDir == null || spillDir.isBlank() ? System.getProperty("java.io.tmpdir") : spillDir);
+        log.info("=== SpillingResultBuffer Bean 생성 === memoryBudget: {}MB, segment: {}MB, dir: {}", memoryBudgetMb, segmentMb, directory);
+        return new SpillingResultBuffer(memoryBudgetMb * 1024 * 1024, segmentMb * 1024 * 1024, directory);
+    }
+
+    /**
+     * 파티션별 적응형 청크 조절기 - batch.adaptive-chunk.enabled=true 이고 파이프라인 모드가 아닐 때만 Reader/Step에 연결된다.
+     * Step의 완료 정책(커밋 단위)과 Reader의 로딩 단위를 함께 정한다.
+     */
+    @Bean("adaptiveChunkController")
+    @StepScope
+    public AdaptiveChunkController adaptiveChunkController(
+            @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey,
+            @Value("${batch.adaptive-chunk.min-size:100}") Integer minSize,
+            @Value("${batch.adaptive-chunk.max-size:5000}") Integer maxSize,
+            @Value("${batch.adaptive-chunk.target-chunk-millis:5000}") Long targetChunkMillis,
+            @Value("${batch.adaptive-chunk.max-result-mb:64}") Long maxResultMb,
+            @Value("${batch.adaptive-chunk.min-heap-headroom:0.2}") Double minHeapHeadroom
+    ) {
+        return new AdaptiveChunkController(partitionKey, chunkSize, minSize, maxSize,
+                targetChunkMillis, maxResultMb, minHeapHeadroom);
+    }
+
+    private boolean isAdaptiveChunk() {
+        return adaptiveChunkEnabled && !pipelineEnabled;
+    }
+
+    /**
+     * 파티션별 계약 프로파일러 - batch.profiling.enabled=true 일 때만 Reader/Processor/Step에 연결된다.
+     * 같은 파티션의 Reader와 Processor가 하나의 인스턴스를 공유한다.
+     */
+    @Bean("contractProfiler")
+    @StepScope
+    public ContractProfiler contractProfiler(
+            @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey,
+            @Value("${batch.profiling.top-n:20}") Integer topN
+    ) {
+        log.info("=== ContractProfiler Bean 생성 === partitionKey: {}, topN: {}", partitionKey, topN);
+        return new ContractProfiler(partitionKey, topN);
+    }
+
+    /**
+     * 모든 파티션의 프로파일을 병합하여 보고하는 Job 리스너
+     */
+    @Bean("contractProfileReportListener")
+    public ContractProfileReportListener contractProfileReportListener(
+            @Value("${batch.profiling.top-n:20}") Integer topN,
+            @Value("${batch.profiling.report-dir:}") String reportDir
+    ) {
+        return new ContractProfileReportListener(jobExplorer, topN, reportDir);
+    }
+
+    /**
+     * 파티션별 성능 수집 리스너 - batch.performance.enabled=true 일 때만 Worker Step에 연결된다.
+     */
+    @Bean("partitionPerformanceListener")
+    @StepScope
+    public PartitionPerformanceListener partitionPerformanceListener(
+            @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey,
+            @Value("${batch.performance.sample-interval-seconds:10}") Long sampleIntervalSeconds
+    ) {
+        return new PartitionPerformanceListener(partitionKey, sampleIntervalSeconds, executorQueueDepth());
+    }
+
+    /**
+     * 성능 보고서용 Executor 대기열 길이. 파이프라인 모드는 계산 Executor, 그 외에는 파티션 Executor를 관측한다.
+     * 가상 스레드 Executor처럼 대기열이 없으면 -1을 반환한다.
+     */
+    private IntSupplier executorQueueDepth() {
+        TaskExecutor executor = pipelineEnabled
+                ? calculationPipelineExecutor(null, null, null)
+                : partitionedTaskExecutor(null, null);
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            return () -> threadPool.getThreadPoolExecutor().getQueue().size();
+        }
+        return () -> -1;
+    }
+
+    /**
+     * 모든 파티션의 성능 측정 결과를 모아 JSON 보고서와 요약을 남기는 Job 리스너
+     */
+    @Bean("jobPerformanceReportListener")
+    public JobPerformanceReportListener jobPerformanceReportListener(
+            @Value("${batch.performance.report-dir:}") String reportDir
+    ) {
+        return new JobPerformanceReportListener(jobExplorer, reportDir);
+    }
+
+    /**
+     * 파티션별 JFR 청크 이벤트 리스너 - JFR 기록 중일 때만 이벤트를 남기므로 항상 연결한다.
+     */
+    @Bean("chunkCalculationEventListener")
+    @StepScope
+    public ChunkCalculationEventListener chunkCalculationEventListener(
+            @Value("#{stepExecutionContext['partitionKey']}") Integer partitionKey
+    ) {
+        return new ChunkCalculationEventListener(partitionKey);
+    }
+
+    /**
+     * JFR 청크 이벤트 리스너와 활성화된 측정 리스너를 Worker Step에 연결한다
+     */
+    private void registerWorkerStepListeners(SimpleStepBuilder<CalculationTarget, ?> builder) {
+        ChunkCalculationEventListener chunkEventListener = chunkCalculationEventListener(null);
+        builder.listener((ChunkListener) chunkEventListener);
+        builder.listener((ItemReadListener<CalculationTarget>) chunkEventListener);
+        builder.listener((ItemWriteListener<Object>) chunkEventListener);
+
+        if (isWorkStealing()) {
+            // 청크 커밋 후 Reader가 떼어 낸 파티션을 작업 대기열에 넣는다
+            builder.listener((ChunkListener) workStealingPartitionHandler(null, null, null, null, null, null));
+        }
+
+        if (profilingEnabled) {
+            builder.listener(contractProfiler(null, null));
+        }
+        if (spillEnabled && !pipelineEnabled) {
+            SpillingResultBuffer buffer = spillingResultBuffer(null, null, null);
+            builder.listener((ChunkListener) buffer);
+            builder.listener((StepExecutionListener) buffer);
+        }
+        if (columnarExportEnabled) {
+            ExportingCalculationResultSavePort exportingSavePort = exportingCalculationResultSavePort();
+            builder.listener((ChunkListener) exportingSavePort);
+            builder.listener((StepExecutionListener) exportingSavePort);
+        }
+        if (performanceReportEnabled) {
+            PartitionPerformanceListener listener = partitionPerformanceListener(null, null);
+            builder.listener((StepExecutionListener) listener);
+            builder.listener((ChunkListener) listener);
+            builder.listener((ItemReadListener<Object>) listener);
+            builder.listener((ItemProcessListener<Object, Object>) listener);
+            builder.listener((ItemWriteListener<Object>) listener);
+        }
+    }
+
     /**
      * Worker Step - 각 파티션에서 실행되는 실제 처리 Step
      */
     @Bean("partitionedWorkerStep")
     public Step partitionedWorkerStep() {
-        return new StepBuilder("partitionedWorkerStep", jobRepository)
-                .<CalculationTarget, CalculationResultGroup>chunk(CHUNK_SIZE, transactionManager)
-                .reader(partitionedContractReader(null, null, null, null, null, null, null, null))
+        if (pipelineEnabled) {
+            log.info("=== partitionedWorkerStep: 파이프라인 모드 ===");
+            if (spillEnabled) {
+                log.warn("파이프라인 모드에서는 batch.spill 설정을 사용하지 않습니다.");
+            }
+            if (adaptiveChunkEnabled) {
+                log.warn("파이프라인 모드에서는 batch.adaptive-chunk 설정을 사용하지 않습니다.");
+            }
+            SimpleStepBuilder<CalculationTarget, Future<CalculationResultGroup>> builder = new StepBuilder("partitionedWorkerStep", jobRepository)
+                    .<CalculationTarget, Future<CalculationResultGroup>>chunk(chunkSize, transactionManager)
+                    .reader(partitionedContractReader(null, null, null, null, null, null, null, null, null, null, null))
+                    .processor(pipelinedCalculationProcessor(null, null, null, null, null, null, null))
+                    .writer(pipelinedCalculationWriter(null, null, null, null, null, null, null));
+            registerWorkerStepListeners(builder);
+            return builder.build();
+        }
+        StepBuilder stepBuilder = new StepBuilder("partitionedWorkerStep", jobRepository);
+        SimpleStepBuilder<CalculationTarget, CalculationResultGroup> builder = isAdaptiveChunk()
+                ? stepBuilder.<CalculationTarget, CalculationResultGroup>chunk(adaptiveChunkController(null, null, null, null, null, null), transactionManager)
+                : stepBuilder.<CalculationTarget, CalculationResultGroup>chunk(chunkSize, transactionManager);
+        builder.reader(partitionedContractReader(null, null, null, null, null, null, null, null, null, null, null))
                 .processor(partitionedCalculationProcessor(null, null, null, null, null, null))
-                .writer(partitionedCalculationWriter(null, null, null, null, null, null))
-                .build();
+                .writer(partitionedCalculationWriter(null, null, null, null, null, null, null));
+        registerWorkerStepListeners(builder);
+        if (isAdaptiveChunk()) {
+            log.info("=== partitionedWorkerStep: 적응형 청크 사용 ===");
+            AdaptiveChunkController controller = adaptiveChunkController(null, null, null, null, null, null);
+            builder.listener((StepExecutionListener) controller);
+            builder.listener((ChunkListener) controller);
+            builder.listener((ItemReadListener<CalculationTarget>) controller);
+            builder.listener((ItemProcessListener<CalculationTarget, CalculationResultGroup>) controller);
+            builder.listener((ItemWriteListener<CalculationResultGroup>) controller);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 원격 파티셔닝용 파티션 작업 큐
+     */
+    @Bean("partitionWorkQueue")
+    public PartitionWorkQueue partitionWorkQueue() {
+        return new PartitionWorkQueue(jdbcTemplate);
+    }
+
+    /**
+     * 원격 파티셔닝 워커 - batch.remote-partitioning.role=worker 일 때만 생성된다.
+     * BatchCommandLineRunner는 이 Bean이 있으면 Job 대신 워커를 실행한다.
+     */
+    @Bean("partitionQueueWorker")
+    @ConditionalOnProperty(name = "batch.remote-partitioning.role", havingValue = "worker")
+    public PartitionQueueWorker partitionQueueWorker(
+            @Value("${batch.remote-partitioning.worker-concurrency:${batch.thread-count}}") Integer concurrency,
+            @Value("${batch.remote-partitioning.poll-interval-ms:2000}") Long pollIntervalMs,
+            @Value("${batch.remote-partitioning.heartbeat-interval-ms:5000}") Long heartbeatIntervalMs,
+            @Value("${batch.remote-partitioning.worker-idle-timeout-seconds:300}") Long idleTimeoutSeconds
+    ) {
+        log.info("=== PartitionQueueWorker Bean 생성 === concurrency: {}", concurrency);
+        return new PartitionQueueWorker(
+                partitionWorkQueue(),
+                jobExplorer,
+                partitionedWorkerStep(),
+                remoteRunSignature,
+                concurrency,
+                Duration.ofMillis(pollIntervalMs),
+                Duration.ofMillis(heartbeatIntervalMs),
+                Duration.ofSeconds(idleTimeoutSeconds)
+        );
+    }
+
+    /**
+     * 작업 분배 PartitionHandler - batch.partition.work-stealing.enabled=true 일 때만 Reader/Step/Master Step에 연결된다.
+     * thread-count개의 워커가 공유 대기열에서 파티션을 꺼내 실행하고, 감시자가 지연 파티션을 분할한다.
+     */
+    @Bean("workStealingPartitionHandler")
+    public WorkStealingPartitionHandler workStealingPartitionHandler(
+            @Value("${batch.thread-count:8}") Integer threadCount,
+            @Value("${batch.partition.work-stealing.split-enabled:true}") Boolean splitEnabled,
+            @Value("${batch.partition.work-stealing.straggler-factor:3.0}") Double stragglerFactor,
+            @Value("${batch.partition.work-stealing.min-completed-partitions:3}") Integer minCompletedPartitions,
+            @Value("${batch.partition.work-stealing.max-split-depth:4}") Integer maxSplitDepth,
+            @Value("${batch.partition.work-stealing.watchdog-interval-ms:2000}") Long watchdogIntervalMs
+    ) {
+        log.info("=== WorkStealingPartitionHandler Bean 생성 === 워커 수: {}, 파티션 수: {}, 분할: {}, 지연 기준: 중앙값 x{}",
+                threadCount, partitionCount(threadCount), splitEnabled, stragglerFactor);
+        return new WorkStealingPartitionHandler(
+                partitionedTaskExecutor(threadCount, null),
+                jobRepository,
+                jobExplorer,
+                "partitionedWorkerStep",
+                partitionCount(threadCount),
+                threadCount,
+                splitEnabled,
+                stragglerFactor,
+                minCompletedPartitions,
+                maxSplitDepth,
+                Duration.ofMillis(watchdogIntervalMs)
+        );
     }
 
     /**
      * Partition Handler - 파티션들을 관리하고 병렬 실행
+     * batch.remote-partitioning.role=manager 이면 파티션을 DB 작업 큐에 등록하고 워커 JVM들의 실행을 기다린다.
+     * batch.partition.work-stealing.enabled=true 이면 공유 대기열 기반 작업 분배 Handler를 사용한다.
      */
     @Bean("partitionHandler")
-    public PartitionHandler partitionHandler(@Value("${batch.thread-count:8}") Integer threadCount) {
+    public PartitionHandler partitionHandler(
+            @Value("${batch.thread-count:8}") Integer threadCount,
+            @Value("${batch.remote-partitioning.poll-interval-ms:2000}") Long pollIntervalMs,
+            @Value("${batch.remote-partitioning.heartbeat-timeout-seconds:30}") Integer heartbeatTimeoutSeconds,
+            @Value("${batch.remote-partitioning.max-attempts:3}") Integer maxAttempts,
+            @Value("${batch.remote-partitioning.timeout-minutes:0}") Long timeoutMinutes
+    ) {
         log.info("=== PartitionHandler Bean 생성 시작 === threadCount: {}", threadCount);
 
+        if ("manager".equals(remotePartitioningRole)) {
+            log.info("=== 원격 파티셔닝 매니저 모드 === heartbeatTimeout: {}s, maxAttempts: {}", heartbeatTimeoutSeconds, maxAttempts);
+            return new DbWorkQueuePartitionHandler(
+                    partitionWorkQueue(),
+                    jobExplorer,
+                    jobRepository,
+                    "partitionedWorkerStep",
+                    partitionCount(threadCount),
+                    remoteRunSignature,
+                    Duration.ofMillis(pollIntervalMs),
+                    heartbeatTimeoutSeconds,
+                    maxAttempts,
+                    Duration.ofMinutes(timeoutMinutes)
+            );
+        }
+
+        if (isWorkStealing()) {
+            WorkStealingPartitionHandler workStealingHandler = workStealingPartitionHandler(threadCount, null, null, null, null, null);
+            workStealingHandler.setStep(partitionedWorkerStep());
+            return workStealingHandler;
+        }
+
         TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
         partitionHandler.setStep(partitionedWorkerStep());
-        partitionHandler.setTaskExecutor(partitionedTaskExecutor(threadCount));
-        partitionHandler.setGridSize(threadCount);  // 파티션 수 설정
+        partitionHandler.setTaskExecutor(partitionedTaskExecutor(threadCount, null));
+        partitionHandler.setGridSize(partitionCount(threadCount));  // 파티션 수 설정
 
-        log.info("=== PartitionHandler Bean 생성 완료 === Grid Size (파티션 수): {}", threadCount);
+        log.info("=== PartitionHandler Bean 생성 완료 === Grid Size (파티션 수): {}", partitionCount(threadCount));
 
         return partitionHandler;
     }
@@ -256,7 +788,7 @@ public class PartitionedCalculationBatchConfig {
     public Step partitionedMasterStep() {
         return new StepBuilder("partitionedMasterStep", jobRepository)
                 .partitioner("partitionedWorkerStep", contractPartitioner(null))
-                .partitionHandler(partitionHandler(null))
+                .partitionHandler(partitionHandler(null, null, null, null, null))
                 .build();
     }
 
@@ -270,12 +802,53 @@ public class PartitionedCalculationBatchConfig {
                 .build();
     }
 
+    /**
+     * 증분 재계산 대상 선정 Step - 변경된 계약 적재 및 해당 계약의 계산 결과 삭제
+     */
+    @Bean("deltaTargetStep")
+    public Step deltaTargetStep(DeltaTargetTasklet deltaTargetTasklet) {
+        return new StepBuilder("deltaTargetStep", jobRepository)
+                .tasklet(deltaTargetTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 증분 재계산 기준 시각 저장 Step
+     */
+    @Bean("watermarkCommitStep")
+    public Step watermarkCommitStep(WatermarkCommitTasklet watermarkCommitTasklet) {
+        return new StepBuilder("watermarkCommitStep", jobRepository)
+                .tasklet(watermarkCommitTasklet, transactionManager)
+                .build();
+    }
+
     /**
      * Partitioned Job - Cleanup → Master Step 순서로 실행
+     * batch.delta.enabled=true 이면 증분 대상 선정 → Master Step → 기준 시각 저장 순서로 실행
      */
     @Bean("partitionedMonthlyFeeCalculationJob")
-    public Job partitionedMonthlyFeeCalculationJob(CalculationResultCleanupTasklet calculationResultCleanupTasklet) {
-        return new JobBuilder("partitionedMonthlyFeeCalculationJob", jobRepository)
+    public Job partitionedMonthlyFeeCalculationJob(
+            CalculationResultCleanupTasklet calculationResultCleanupTasklet,
+            DeltaTargetTasklet deltaTargetTasklet,
+            WatermarkCommitTasklet watermarkCommitTasklet) {
+        JobBuilder jobBuilder = new JobBuilder("partitionedMonthlyFeeCalculationJob", jobRepository);
+        if (profilingEnabled) {
+            log.info("=== partitionedMonthlyFeeCalculationJob: 계약별 프로파일링 사용 ===");
+            jobBuilder.listener(contractProfileReportListener(null, null));
+        }
+        if (performanceReportEnabled) {
+            log.info("=== partitionedMonthlyFeeCalculationJob: 성능 보고서 사용 ===");
+            jobBuilder.listener(jobPerformanceReportListener(null));
+        }
+        if (deltaEnabled) {
+            log.info("=== partitionedMonthlyFeeCalculationJob: 증분 재계산 모드 ===");
+            return jobBuilder
+                    .start(deltaTargetStep(deltaTargetTasklet))              // 1. 변경 계약 선정 및 해당 결과 삭제
+                    .next(partitionedMasterStep())                           // 2. 대상 계약만 파티션 계산
+                    .next(watermarkCommitStep(watermarkCommitTasklet))       // 3. 기준 시각 저장
+                    .build();
+        }
+        return jobBuilder
                 .start(partitionedCleanupCalculationResultStep(calculationResultCleanupTasklet))  // 1. 기존 결과 삭제
                 .next(partitionedMasterStep())                                                     // 2. 파티션 기반 계산 수행
                 .build();
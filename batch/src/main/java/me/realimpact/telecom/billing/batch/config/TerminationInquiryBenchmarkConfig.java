@@ -0,0 +1,101 @@
+package me.realimpact.telecom.billing.batch.config;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.tasklet.TerminationInquiryBenchmarkTasklet;
+import me.realimpact.telecom.calculation.api.TerminationInquiryUseCase;
+import me.realimpact.telecom.calculation.application.termination.TerminationInquiryProperties;
+
+/**
+ * 해지핫빌 응답 시간 측정 배치를 설정하는 클래스.
+ * `terminationInquiryBenchmarkJob` 잡이 활성화될 때 이 설정이 사용된다.
+ *
+ * 웹 서비스와 같은 TerminationInquiryUseCase를 직접 호출하므로 HTTP 구간을 뺀 서비스 응답 시간을 측정한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.batch.job.names", havingValue = BatchConstants.TERMINATION_INQUIRY_BENCHMARK_JOB_NAME)
+@Slf4j
+public class TerminationInquiryBenchmarkConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    private final TerminationInquiryUseCase terminationInquiryUseCase;
+    private final TerminationInquiryProperties terminationInquiryProperties;
+
+    @Value("${terminationDate:}")
+    private String terminationDateStr;
+
+    @Value("${contractIds:}")
+    private String contractIdsStr;
+
+    @Value("${batch.termination-benchmark.sample-size:100}")
+    private int sampleSize;
+
+    @Value("${batch.termination-benchmark.warmup-iterations:200}")
+    private int warmupIterations;
+
+    @Value("${batch.termination-benchmark.iterations:1000}")
+    private int iterations;
+
+    @Value("${batch.termination-benchmark.fail-on-target-miss:true}")
+    private boolean failOnTargetMiss;
+
+    @Bean("terminationInquiryBenchmarkStep")
+    public Step terminationInquiryBenchmarkStep() {
+        if (sampleSize <= 0 || iterations <= 0 || warmupIterations < 0) {
+            throw new IllegalStateException("batch.termination-benchmark의 sample-size, iterations는 1 이상, warmup-iterations는 0 이상이어야 합니다.");
+        }
+        LocalDate terminationDate = terminationDateStr == null || terminationDateStr.isBlank()
+                ? LocalDate.now()
+                : LocalDate.parse(terminationDateStr);
+        List<Long> contractIds = contractIdsStr == null || contractIdsStr.trim().isEmpty()
+                ? List.of()
+                : Arrays.stream(contractIdsStr.split(","))
+                    .map(String::trim)
+                    .map(Long::parseLong)
+                    .toList();
+
+        return new StepBuilder("terminationInquiryBenchmarkStep", jobRepository)
+                .tasklet(new TerminationInquiryBenchmarkTasklet(
+                        terminationInquiryUseCase,
+                        sqlSessionFactory,
+                        terminationDate,
+                        contractIds,
+                        sampleSize,
+                        warmupIterations,
+                        iterations,
+                        terminationInquiryProperties.getLatencyTarget(),
+                        failOnTargetMiss
+                ), transactionManager)
+                .build();
+    }
+
+    /**
+     * 해지핫빌 응답 시간 측정 Job
+     */
+    @Bean(BatchConstants.TERMINATION_INQUIRY_BENCHMARK_JOB_NAME)
+    public Job terminationInquiryBenchmarkJob() {
+        return new JobBuilder(BatchConstants.TERMINATION_INQUIRY_BENCHMARK_JOB_NAME, jobRepository)
+                .start(terminationInquiryBenchmarkStep())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package me.realimpact.telecom.billing.batch.config;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 기반 TaskExecutor 생성 헬퍼.
+ * 배치 작업 대부분의 시간이 JDBC 대기이므로 플랫폼 스레드 풀 대신 작업마다 가상 스레드를 만든다.
+ * 동시 실행 수는 concurrencyLimit로 제한하며, 실제 DB 동시성은 커넥션 풀 크기가 결정한다.
+ */
+@Slf4j
+public final class VirtualThreadTaskExecutors {
+
+    private static final long TASK_TERMINATION_TIMEOUT_MILLIS = 10_000L;
+
+    private VirtualThreadTaskExecutors() {
+    }
+
+    /**
+     * 가상 스레드 TaskExecutor 생성
+     * @param threadNamePrefix 스레드 이름 접두어
+     * @param concurrencyLimit 최대 동시 실행 수
+     * @return 가상 스레드 TaskExecutor
+     */
+    public static TaskExecutor create(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(TASK_TERMINATION_TIMEOUT_MILLIS);
+
+        log.info("=== 가상 스레드 TaskExecutor 생성 === prefix: {}, 동시 실행 제한: {}", threadNamePrefix, concurrencyLimit);
+        return executor;
+    }
+}
@@ -0,0 +1,127 @@
+package me.realimpact.telecom.billing.batch.partitioner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 파티션 분할 이력에 따라 계약 ID를 거르는 필터.
+ * 파티션은 `contractId MOD modulus = residue` 조건의 계약 ID를 오름차순으로 읽는다.
+ * 분할되면 그때까지 읽은 마지막 계약 ID(boundary) 이후의 계약을 modulus를 두 배로 늘려 둘로 나누고,
+ * 현재 파티션은 residue를, 떼어 낸 파티션은 residue + modulus를 맡는다.
+ *
+ * boundary 이하의 계약은 이미 현재 파티션이 읽었으므로 분할 전 조건을 그대로 따른다.
+ * 재시작 시 커밋되지 않은 구간을 다시 읽어도 같은 결과가 나오도록 분할 이력 전체를 ExecutionContext에 저장한다.
+ */
+public class ContractIdSplitFilter {
+
+    static final String SPLITS_KEY = "contractIdSplitFilter.splits";
+
+    private final int partitionKey;
+    private final int partitionCount;
+    // 분할 이력: {boundary, modulus, residue} (boundary 오름차순)
+    private final List<long[]> splits = new ArrayList<>();
+
+    public ContractIdSplitFilter(int partitionKey, int partitionCount) {
+        this.partitionKey = partitionKey;
+        this.partitionCount = partitionCount;
+    }
+
+    /**
+     * 현재 파티션이 처리할 계약 ID인지 확인한다
+     */
+    public boolean accepts(long contractId) {
+        for (int i = splits.size() - 1; i >= 0; i--) {
+            long[] split = splits.get(i);
+            if (contractId > split[0]) {
+                return Math.floorMod(contractId, split[1]) == split[2];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * boundary 이후의 남은 계약을 둘로 나누고, 떼어 낸 쪽의 파티션 정보를 반환한다
+     *
+     * @param boundary 지금까지 읽은 마지막 계약 ID
+     */
+    public PartitionSplit split(long boundary) {
+        long modulus = currentModulus();
+        long residue = currentResidue();
+        splits.add(new long[]{boundary, modulus * 2, residue});
+        return new PartitionSplit((int) (residue + modulus), (int) (modulus * 2), boundary);
+    }
+
+    /**
+     * 분할 횟수
+     */
+    public int depth() {
+        return splits.size();
+    }
+
+    /**
+     * 떼어 낸 파티션 목록 (분할 순서)
+     */
+    public List<PartitionSplit> splitOffs() {
+        List<PartitionSplit> splitOffs = new ArrayList<>(splits.size());
+        long modulus = partitionCount;
+        for (long[] split : splits) {
+            splitOffs.add(new PartitionSplit((int) (split[2] + modulus), (int) split[1], split[0]));
+            modulus = split[1];
+        }
+        return splitOffs;
+    }
+
+    private long currentModulus() {
+        return splits.isEmpty() ? partitionCount : splits.get(splits.size() - 1)[1];
+    }
+
+    private long currentResidue() {
+        return splits.isEmpty() ? partitionKey : splits.get(splits.size() - 1)[2];
+    }
+
+    public void save(ExecutionContext executionContext) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        StringBuilder value = new StringBuilder();
+        for (long[] split : splits) {
+            if (!value.isEmpty()) {
+                value.append(';');
+            }
+            value.append(split[0]).append(',').append(split[1]).append(',').append(split[2]);
+        }
+        executionContext.putString(SPLITS_KEY, value.toString());
+    }
+
+    public void restore(ExecutionContext executionContext) {
+        splits.clear();
+        splits.addAll(parse(executionContext));
+    }
+
+    /**
+     * ExecutionContext에 기록된 떼어 낸 파티션 목록 (재시작 시 누락된 분할 파티션 복구용)
+     */
+    public static List<PartitionSplit> splitOffs(ExecutionContext executionContext) {
+        if (!executionContext.containsKey("partitionKey") || !executionContext.containsKey(SPLITS_KEY)) {
+            return List.of();
+        }
+        ContractIdSplitFilter filter = new ContractIdSplitFilter(
+                executionContext.getInt("partitionKey"), executionContext.getInt("partitionCount"));
+        filter.restore(executionContext);
+        return filter.splitOffs();
+    }
+
+    private static List<long[]> parse(ExecutionContext executionContext) {
+        if (!executionContext.containsKey(SPLITS_KEY)) {
+            return List.of();
+        }
+        List<long[]> parsed = new ArrayList<>();
+        for (String split : executionContext.getString(SPLITS_KEY).split(";")) {
+            String[] values = split.split(",");
+            parsed.add(new long[]{Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2])});
+        }
+        return parsed;
+    }
+}
@@ -10,16 +10,17 @@ import java.util.Map;
 
 /**
  * 계약 ID를 기준으로 데이터 처리를 병렬화하기 위해 파티션을 생성하는 Partitioner.
- * 각 파티션은 `contractId % threadCount = partitionKey` 조건에 따라 데이터를 분할하여 처리한다.
+ * 각 파티션은 `contractId % partitionCount = partitionKey` 조건에 따라 데이터를 분할하여 처리한다.
+ * 파티션 수는 스레드 수와 달라도 되며, 스레드보다 많이 만들면 작은 파티션들을 워커들이 나누어 가져간다.
  */
 @RequiredArgsConstructor
 @Slf4j
 public class ContractPartitioner implements Partitioner {
 
-    private final int threadCount;
+    private final int partitionCount;
 
     /**
-     * 지정된 gridSize(스레드 수)에 따라 파티션을 생성한다.
+     * 생성자에서 받은 파티션 수만큼 파티션을 생성한다.
      * 각 파티션은 고유한 `partitionKey`와 전체 파티션 수 `partitionCount`를 ExecutionContext에 포함한다.
      * @param gridSize 파티션의 수 (보통 스레드 수와 동일)
      * @return 파티션 이름과 ExecutionContext를 담은 맵
@@ -30,21 +31,21 @@ public class ContractPartitioner implements Partitioner {
         
         log.info("=== 파티션 생성 시작 ===");
         log.info("요청된 파티션 수 (gridSize): {}", gridSize);
-        log.info("실제 생성할 파티션 수 (threadCount): {}", threadCount);
+        log.info("실제 생성할 파티션 수 (partitionCount): {}", partitionCount);
         
-        // gridSize 대신 생성자에서 받은 threadCount를 기준으로 파티션을 생성한다.
-        for (int i = 0; i < threadCount; i++) {
+        // gridSize 대신 생성자에서 받은 partitionCount를 기준으로 파티션을 생성한다.
+        for (int i = 0; i < partitionCount; i++) {
             ExecutionContext context = new ExecutionContext();
             
             // 각 파티션이 처리할 데이터 범위를 정의하는 정보를 ExecutionContext에 저장한다.
             context.putInt("partitionKey", i);
-            context.putInt("partitionCount", threadCount);
+            context.putInt("partitionCount", partitionCount);
             
             String partitionName = "partition" + i;
             partitions.put(partitionName, context);
             
             log.info("파티션 생성: {} (partitionKey={}, partitionCount={})", 
-                    partitionName, i, threadCount);
+                    partitionName, i, partitionCount);
         }
         
         log.info("총 {} 개 파티션 생성 완료", partitions.size());
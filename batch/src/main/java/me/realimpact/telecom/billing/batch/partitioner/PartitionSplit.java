@@ -0,0 +1,31 @@
+package me.realimpact.telecom.billing.batch.partitioner;
+
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 실행 중인 파티션에서 떼어 낸 파티션.
+ * `contractId MOD partitionCount = partitionKey` 이고 contractId > minContractIdExclusive 인 계약을 맡는다.
+ *
+ * @param partitionKey 파티션 키 (나머지)
+ * @param partitionCount 파티션 수 (나누는 수)
+ * @param minContractIdExclusive 이 계약 ID 이후부터 처리
+ */
+public record PartitionSplit(int partitionKey, int partitionCount, long minContractIdExclusive) {
+
+    public static final String MIN_CONTRACT_ID_KEY = "minContractIdExclusive";
+
+    /**
+     * 파티션 이름 (정규 파티션 "partition{키}"와 겹치지 않도록 나누는 수를 붙인다)
+     */
+    public String partitionName() {
+        return "partition" + partitionKey + "m" + partitionCount;
+    }
+
+    public ExecutionContext toExecutionContext() {
+        ExecutionContext context = new ExecutionContext();
+        context.putInt("partitionKey", partitionKey);
+        context.putInt("partitionCount", partitionCount);
+        context.putLong(MIN_CONTRACT_ID_KEY, minContractIdExclusive);
+        return context;
+    }
+}
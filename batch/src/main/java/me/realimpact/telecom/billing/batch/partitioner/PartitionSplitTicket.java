@@ -0,0 +1,87 @@
+package me.realimpact.telecom.billing.batch.partitioner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+/**
+ * 실행 중인 파티션 하나와 WorkStealingPartitionHandler(지연 파티션 감시자)를 잇는 연결 고리.
+ * 감시자가 분할을 요청하면 파티션 Reader가 다음 로딩 시점에 남은 계약을 둘로 나누어 떼어 낸 파티션을 맡기고,
+ * 감시자는 그 청크가 커밋된 뒤에 떼어 낸 파티션을 작업 대기열에 넣는다.
+ */
+public class PartitionSplitTicket {
+
+    @Getter
+    private final String stepName;
+    private final Consumer<PartitionSplitTicket> onRelease;
+    private final Queue<PartitionSplit> pendingSplits = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean splitRequested;
+    @Getter
+    private volatile int depth;
+    @Getter
+    private volatile long lastSplitAtMillis;
+
+    PartitionSplitTicket(String stepName, Consumer<PartitionSplitTicket> onRelease) {
+        this.stepName = stepName;
+        this.onRelease = onRelease;
+    }
+
+    void requestSplit() {
+        splitRequested = true;
+    }
+
+    boolean isSplitPending() {
+        return splitRequested || !pendingSplits.isEmpty();
+    }
+
+    /**
+     * 분할 요청이 있으면 요청을 소비하고 true를 반환한다 (Reader 스레드에서 호출)
+     */
+    public boolean takeSplitRequest() {
+        if (!splitRequested) {
+            return false;
+        }
+        splitRequested = false;
+        return true;
+    }
+
+    /**
+     * 떼어 낸 파티션을 넘긴다. 청크 커밋 후 감시자가 작업 대기열에 넣는다 (Reader 스레드에서 호출)
+     *
+     * @param split 떼어 낸 파티션
+     * @param depth 지금까지의 분할 횟수
+     */
+    public void offer(PartitionSplit split, int depth) {
+        pendingSplits.add(split);
+        this.depth = depth;
+        this.lastSplitAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 재시작 시 ExecutionContext에서 복원한 분할 횟수를 반영한다
+     */
+    public void restoreDepth(int depth) {
+        this.depth = depth;
+    }
+
+    List<PartitionSplit> drainPendingSplits() {
+        List<PartitionSplit> splits = new ArrayList<>();
+        PartitionSplit split;
+        while ((split = pendingSplits.poll()) != null) {
+            splits.add(split);
+        }
+        return splits;
+    }
+
+    /**
+     * 파티션 처리가 끝나 더 이상 분할할 수 없음을 알린다
+     */
+    public void release() {
+        onRelease.accept(this);
+    }
+}
@@ -0,0 +1,330 @@
+package me.realimpact.telecom.billing.batch.partitioner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.core.task.TaskExecutor;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작은 파티션을 많이 만들어 공유 대기열에 넣고, workerCount개의 워커가 하나씩 꺼내 실행하는 PartitionHandler.
+ * 먼저 끝난 워커가 남은 파티션을 가져가므로 Job의 꼬리 지연이 작은 파티션 하나의 처리 시간 수준으로 줄어든다.
+ *
+ * 감시자(handle을 호출한 매니저 스레드)는 대기열이 비었는데 쉬는 워커가 있을 때,
+ * 완료된 파티션 처리 시간 중앙값의 stragglerFactor배를 넘겨 실행 중인 파티션에 분할을 요청한다.
+ * 분할 요청을 받은 파티션 Reader는 다음 로딩 시점에 남은 계약을 나누고(ContractIdSplitFilter),
+ * 떼어 낸 파티션은 그 청크가 커밋된 뒤(afterChunk) 새 StepExecution으로 만들어 대기열에 넣는다.
+ * 분할 이력은 원래 파티션의 ExecutionContext에 남으므로, 재시작 시 완료되지 않은 분할 파티션을 다시 만든다.
+ *
+ * Worker Step에 ChunkListener로도 등록되어야 분할이 동작한다.
+ */
+@Slf4j
+public class WorkStealingPartitionHandler implements PartitionHandler, ChunkListener {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final TaskExecutor taskExecutor;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final String stepName;
+    private final int gridSize;
+    private final int workerCount;
+    private final boolean splitEnabled;
+    private final double stragglerFactor;
+    private final int minCompletedPartitions;
+    private final int maxSplitDepth;
+    private final Duration watchdogInterval;
+
+    // Worker Step과 이 Handler가 서로를 참조하므로 Step은 나중에 설정한다
+    @Setter
+    private Step step;
+
+    private final Map<String, PartitionSplitTicket> tickets = new ConcurrentHashMap<>();
+    private volatile Run currentRun;
+
+    public WorkStealingPartitionHandler(
+            TaskExecutor taskExecutor,
+            JobRepository jobRepository,
+            JobExplorer jobExplorer,
+            String stepName,
+            int gridSize,
+            int workerCount,
+            boolean splitEnabled,
+            double stragglerFactor,
+            int minCompletedPartitions,
+            int maxSplitDepth,
+            Duration watchdogInterval) {
+        this.taskExecutor = taskExecutor;
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.stepName = stepName;
+        this.gridSize = gridSize;
+        this.workerCount = workerCount;
+        this.splitEnabled = splitEnabled;
+        this.stragglerFactor = stragglerFactor;
+        this.minCompletedPartitions = minCompletedPartitions;
+        this.maxSplitDepth = maxSplitDepth;
+        this.watchdogInterval = watchdogInterval;
+    }
+
+    /**
+     * 파티션 Reader가 분할 요청을 받을 수 있도록 등록한다
+     *
+     * @param partitionStepName 파티션 StepExecution 이름 (예: partitionedWorkerStep:partition5)
+     */
+    public PartitionSplitTicket register(String partitionStepName) {
+        PartitionSplitTicket ticket = new PartitionSplitTicket(partitionStepName, released -> tickets.remove(released.getStepName(), released));
+        tickets.put(partitionStepName, ticket);
+        return ticket;
+    }
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter, StepExecution managerStepExecution) throws Exception {
+        // 재시작 시 splitter는 완료되지 않은 정규 파티션만 돌려주므로, 분할 파티션은 이력을 보고 따로 복구한다.
+        Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, gridSize);
+        List<StepExecution> initial = new ArrayList<>(partitions);
+        initial.addAll(recoverSplitPartitions(managerStepExecution, partitions));
+
+        Run run = new Run(managerStepExecution.getJobExecution());
+        initial.forEach(run::enqueue);
+        currentRun = run;
+        log.info("=== 작업 분배 시작 === 파티션 수: {}, 워커 수: {}, 지연 파티션 분할: {}", initial.size(), workerCount, splitEnabled);
+
+        try {
+            CountDownLatch workersDone = new CountDownLatch(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                taskExecutor.execute(() -> {
+                    try {
+                        runWorker(run);
+                    } finally {
+                        workersDone.countDown();
+                    }
+                });
+            }
+            while (!workersDone.await(watchdogInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (splitEnabled) {
+                    detectStragglers(run);
+                }
+            }
+        } finally {
+            currentRun = null;
+        }
+
+        log.info("=== 작업 분배 완료 === 실행 파티션 수: {} (분할로 추가된 파티션 {}개)", run.results.size(), run.splitCount.get());
+        return run.results;
+    }
+
+    /**
+     * 대기열이 빌 때까지 파티션을 하나씩 꺼내 실행한다
+     */
+    private void runWorker(Run run) {
+        while (true) {
+            StepExecution partition;
+            try {
+                partition = run.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (partition == null) {
+                // 실행 중인 파티션이 분할되면 대기열에 다시 들어올 수 있으므로 모두 끝날 때까지 기다린다
+                if (run.outstanding.get() == 0) {
+                    return;
+                }
+                continue;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            run.running.put(partition.getStepName(), startedAt);
+            try {
+                step.execute(partition);
+            } catch (Exception e) {
+                log.error("파티션 실행 실패: {}", partition.getStepName(), e);
+                partition.setStatus(BatchStatus.FAILED);
+                partition.setExitStatus(ExitStatus.FAILED.addExitDescription(e));
+                partition.setEndTime(LocalDateTime.now());
+            } finally {
+                run.running.remove(partition.getStepName());
+                run.completedMillis.add(System.currentTimeMillis() - startedAt);
+                run.results.add(partition);
+                run.outstanding.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 쉬는 워커가 있으면 오래 실행 중인 파티션부터 분할을 요청한다
+     */
+    private void detectStragglers(Run run) {
+        int idleWorkers = workerCount - run.running.size();
+        if (idleWorkers <= 0 || !run.queue.isEmpty()) {
+            return;
+        }
+        List<Long> completed = new ArrayList<>(run.completedMillis);
+        if (completed.size() < minCompletedPartitions) {
+            return;
+        }
+        completed.sort(Comparator.naturalOrder());
+        long medianMillis = completed.get(completed.size() / 2);
+        long thresholdMillis = (long) (medianMillis * stragglerFactor);
+        long now = System.currentTimeMillis();
+
+        List<Map.Entry<String, Long>> oldestFirst = new ArrayList<>(run.running.entrySet());
+        oldestFirst.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Long> running : oldestFirst) {
+            long elapsedMillis = now - running.getValue();
+            if (elapsedMillis < thresholdMillis) {
+                break;
+            }
+            PartitionSplitTicket ticket = tickets.get(running.getKey());
+            if (ticket == null || ticket.isSplitPending() || ticket.getDepth() >= maxSplitDepth) {
+                continue;
+            }
+            // 직전 분할 이후에도 기준 시간만큼 지나야 다시 분할한다
+            if (ticket.getLastSplitAtMillis() > 0 && now - ticket.getLastSplitAtMillis() < thresholdMillis) {
+                continue;
+            }
+            ticket.requestSplit();
+            log.info("지연 파티션 분할 요청: {} (경과 {}ms, 완료 파티션 중앙값 {}ms, 쉬는 워커 {}개)",
+                    running.getKey(), elapsedMillis, medianMillis, idleWorkers);
+            if (--idleWorkers == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 청크 커밋 후 Reader가 떼어 낸 파티션을 StepExecution으로 만들어 대기열에 넣는다.
+     * 분할 이력이 커밋된 뒤에 만들어야 재시작 시 같은 계약을 두 파티션이 처리하지 않는다.
+     */
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Run run = currentRun;
+        PartitionSplitTicket ticket = tickets.get(context.getStepContext().getStepExecution().getStepName());
+        if (run == null || ticket == null) {
+            return;
+        }
+        for (PartitionSplit split : ticket.drainPendingSplits()) {
+            StepExecution splitOff = run.jobExecution.createStepExecution(stepName + ":" + split.partitionName());
+            splitOff.setExecutionContext(split.toExecutionContext());
+            jobRepository.add(splitOff);
+            run.splitCount.incrementAndGet();
+            run.enqueue(splitOff);
+            log.info("파티션 분할: {} → {} (contractId % {} = {}, contractId > {})",
+                    ticket.getStepName(), splitOff.getStepName(),
+                    split.partitionCount(), split.partitionKey(), split.minContractIdExclusive());
+        }
+    }
+
+    /**
+     * 청크가 롤백되면 분할 이력도 커밋되지 않으므로 떼어 낸 파티션을 버린다 (Step은 실패 처리된다)
+     */
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        PartitionSplitTicket ticket = tickets.get(context.getStepContext().getStepExecution().getStepName());
+        if (ticket != null && !ticket.drainPendingSplits().isEmpty()) {
+            log.warn("청크 실패로 파티션 분할을 취소합니다: {}", ticket.getStepName());
+        }
+    }
+
+    /**
+     * 이전 실행에서 분할된 파티션 중 완료되지 않은 것을 현재 실행의 StepExecution으로 다시 만든다.
+     * 정규 파티션(ContractPartitioner의 partition{키})부터 분할 이력을 따라가며 찾는다.
+     */
+    private List<StepExecution> recoverSplitPartitions(StepExecution managerStepExecution, Set<StepExecution> partitions) {
+        JobExecution jobExecution = managerStepExecution.getJobExecution();
+        JobInstance jobInstance = jobExecution.getJobInstance();
+        if (jobExplorer.getJobExecutions(jobInstance).size() <= 1) {
+            return List.of();
+        }
+
+        Set<String> scheduled = new HashSet<>();
+        partitions.forEach(partition -> scheduled.add(partition.getStepName()));
+
+        Deque<StepExecution> toVisit = new ArrayDeque<>();
+        for (int i = 0; i < gridSize; i++) {
+            StepExecution last = jobRepository.getLastStepExecution(jobInstance, stepName + ":partition" + i);
+            if (last != null) {
+                toVisit.add(last);
+            }
+        }
+
+        List<StepExecution> recovered = new ArrayList<>();
+        while (!toVisit.isEmpty()) {
+            StepExecution visited = toVisit.poll();
+            for (PartitionSplit split : ContractIdSplitFilter.splitOffs(visited.getExecutionContext())) {
+                String splitStepName = stepName + ":" + split.partitionName();
+                StepExecution last = jobRepository.getLastStepExecution(jobInstance, splitStepName);
+                if (last != null) {
+                    toVisit.add(last);
+                }
+                if ((last != null && last.getStatus() == BatchStatus.COMPLETED) || !scheduled.add(splitStepName)) {
+                    continue;
+                }
+                StepExecution restarted = jobExecution.createStepExecution(splitStepName);
+                restarted.setExecutionContext(last != null ? last.getExecutionContext() : split.toExecutionContext());
+                jobRepository.add(restarted);
+                recovered.add(restarted);
+            }
+        }
+        if (!recovered.isEmpty()) {
+            log.info("=== 재시작: 완료되지 않은 분할 파티션 {}개 복구 ===", recovered.size());
+        }
+        return recovered;
+    }
+
+    /**
+     * handle 한 번의 실행 상태
+     */
+    private static class Run {
+        private final JobExecution jobExecution;
+        private final BlockingQueue<StepExecution> queue = new LinkedBlockingQueue<>();
+        // 대기 중 + 실행 중인 파티션 수
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger splitCount = new AtomicInteger();
+        // 실행 중인 파티션 이름 → 시작 시각
+        private final Map<String, Long> running = new ConcurrentHashMap<>();
+        private final Queue<Long> completedMillis = new ConcurrentLinkedQueue<>();
+        private final Queue<StepExecution> results = new ConcurrentLinkedQueue<>();
+
+        private Run(JobExecution jobExecution) {
+            this.jobExecution = jobExecution;
+        }
+
+        private void enqueue(StepExecution partition) {
+            outstanding.incrementAndGet();
+            queue.add(partition);
+        }
+    }
+}
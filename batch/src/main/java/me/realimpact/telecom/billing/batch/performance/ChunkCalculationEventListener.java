@@ -0,0 +1,95 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.ChunkCalculationEvent;
+
+/**
+ * 파티션 Worker Step의 청크마다 JFR ChunkCalculationEvent를 남기는 리스너.
+ * 이벤트 구간은 청크의 읽기~쓰기 전체이며, 같은 스레드의 LoaderQuery/WriterFlush 이벤트가 어느 파티션의 어느 계약 구간에 속하는지 알 수 있게 한다.
+ * JFR 기록 중이 아니면 이벤트가 비활성 상태라 항상 연결해 두어도 비용이 거의 없다.
+ */
+public class ChunkCalculationEventListener implements ChunkListener,
+        ItemReadListener<CalculationTarget>, ItemWriteListener<Object> {
+
+    private final int partitionKey;
+
+    private ChunkCalculationEvent event;
+    private long firstContractId;
+    private long lastContractId;
+    private int contracts;
+    private int results;
+
+    public ChunkCalculationEventListener(Integer partitionKey) {
+        this.partitionKey = partitionKey != null ? partitionKey : -1;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        event = new ChunkCalculationEvent();
+        if (!event.isEnabled()) {
+            event = null;
+            return;
+        }
+        firstContractId = -1;
+        lastContractId = -1;
+        contracts = 0;
+        results = 0;
+        event.begin();
+    }
+
+    @Override
+    public void afterRead(CalculationTarget item) {
+        if (event == null) {
+            return;
+        }
+        if (contracts == 0) {
+            firstContractId = item.contractId();
+        }
+        lastContractId = item.contractId();
+        contracts++;
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        if (event == null) {
+            return;
+        }
+        for (Object item : items) {
+            results += PartitionPerformanceListener.resultRowCount(item);
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        commit(false);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        commit(true);
+    }
+
+    private void commit(boolean failed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        // 읽을 계약이 없던 마지막 청크는 남기지 않는다.
+        if (contracts > 0 && event.shouldCommit()) {
+            event.partitionKey = partitionKey;
+            event.firstContractId = firstContractId;
+            event.lastContractId = lastContractId;
+            event.contracts = contracts;
+            event.results = results;
+            event.failed = failed;
+            event.commit();
+        }
+        event = null;
+    }
+}
@@ -0,0 +1,125 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Job 전체 성능 보고서 (JSON 보고서의 최상위 구조)
+ *
+ * @param jobExecutionId JobExecution ID
+ * @param jobName Job 이름
+ * @param status Job 종료 상태
+ * @param durationMillis Job 실행 시간
+ * @param partitionCount 파티션 수
+ * @param totalReadCount 전체 읽은 계약 수
+ * @param totalResultRows 전체 저장한 계산 결과 건수
+ * @param contractsPerSecond Job 실행 시간 기준 처리량
+ * @param skew 파티션 간 편차
+ * @param bottleneck 병목 단계
+ * @param partitions 파티션별 측정 결과 (파티션 키 순)
+ */
+public record JobPerformanceReport(
+        Long jobExecutionId,
+        String jobName,
+        String status,
+        long durationMillis,
+        int partitionCount,
+        long totalReadCount,
+        long totalResultRows,
+        double contractsPerSecond,
+        Skew skew,
+        Bottleneck bottleneck,
+        List<PartitionPerformance> partitions
+) {
+
+    /**
+     * 파티션 간 실행 시간 편차. ratio는 가장 느린 파티션 시간 / 중앙값이다.
+     */
+    public record Skew(String slowestStep, long slowestMillis, long medianMillis, long fastestMillis, double ratio) {
+    }
+
+    /**
+     * 병목 단계. stage는 전체 파티션에서 누적 시간이 가장 긴 단계(read/process/write)이고,
+     * waitShare는 세 단계 경과 시간 중 CPU를 쓰지 않은 시간(대부분 DB 대기)의 비율이다 (측정 불가 시 -1).
+     */
+    public record Bottleneck(String stage, double stageShare, double waitShare, String boundBy) {
+    }
+
+    static JobPerformanceReport of(Long jobExecutionId, String jobName, String status, long durationMillis,
+                                   List<PartitionPerformance> partitions) {
+        List<PartitionPerformance> sorted = partitions.stream()
+                .sorted(Comparator.comparing(PartitionPerformance::partitionKey, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        long totalReadCount = sorted.stream().mapToLong(PartitionPerformance::readCount).sum();
+        long totalResultRows = sorted.stream().mapToLong(PartitionPerformance::resultRows).sum();
+
+        return new JobPerformanceReport(
+                jobExecutionId,
+                jobName,
+                status,
+                durationMillis,
+                sorted.size(),
+                totalReadCount,
+                totalResultRows,
+                durationMillis <= 0 ? 0 : totalReadCount * 1000.0 / durationMillis,
+                skewOf(sorted),
+                bottleneckOf(sorted),
+                sorted
+        );
+    }
+
+    private static Skew skewOf(List<PartitionPerformance> partitions) {
+        if (partitions.isEmpty()) {
+            return null;
+        }
+        List<PartitionPerformance> byDuration = partitions.stream()
+                .sorted(Comparator.comparingLong(PartitionPerformance::durationMillis))
+                .toList();
+        int size = byDuration.size();
+        long median = size % 2 == 1
+                ? byDuration.get(size / 2).durationMillis()
+                : (byDuration.get(size / 2 - 1).durationMillis() + byDuration.get(size / 2).durationMillis()) / 2;
+        PartitionPerformance slowest = byDuration.get(size - 1);
+        return new Skew(
+                slowest.stepName(),
+                slowest.durationMillis(),
+                median,
+                byDuration.get(0).durationMillis(),
+                median <= 0 ? 0 : (double) slowest.durationMillis() / median
+        );
+    }
+
+    private static Bottleneck bottleneckOf(List<PartitionPerformance> partitions) {
+        if (partitions.isEmpty()) {
+            return null;
+        }
+        long read = partitions.stream().mapToLong(p -> p.read().wallMillis()).sum();
+        long process = partitions.stream().mapToLong(p -> p.process().wallMillis()).sum();
+        long write = partitions.stream().mapToLong(p -> p.write().wallMillis()).sum();
+        long total = read + process + write;
+
+        String stage = "read";
+        long stageMillis = read;
+        if (process > stageMillis) {
+            stage = "process";
+            stageMillis = process;
+        }
+        if (write > stageMillis) {
+            stage = "write";
+            stageMillis = write;
+        }
+
+        boolean cpuMeasured = partitions.stream().allMatch(p ->
+                p.read().cpuMillis() >= 0 && p.process().cpuMillis() >= 0 && p.write().cpuMillis() >= 0);
+        double waitShare = -1;
+        if (cpuMeasured && total > 0) {
+            long wait = partitions.stream()
+                    .mapToLong(p -> p.read().waitMillis() + p.process().waitMillis() + p.write().waitMillis())
+                    .sum();
+            waitShare = (double) wait / total;
+        }
+        String boundBy = waitShare < 0 ? "UNKNOWN" : waitShare >= 0.5 ? "DB_WAIT" : "CPU";
+
+        return new Bottleneck(stage, total <= 0 ? 0 : (double) stageMillis / total, waitShare, boundBy);
+    }
+}
@@ -0,0 +1,131 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job 종료 시 모든 파티션의 성능 측정 결과를 모아 JSON 보고서와 요약 로그를 남긴다.
+ * 원격 파티셔닝 워커가 실행한 파티션도 포함하도록 JobRepository에서 StepExecution을 다시 읽는다.
+ *
+ * JSON은 reportDir/job-performance-{jobExecutionId}.json 으로 저장하며, reportDir이 비어 있으면 요약 로그만 남긴다.
+ */
+@Slf4j
+public class JobPerformanceReportListener implements JobExecutionListener {
+
+    private final JobExplorer jobExplorer;
+    private final String reportDir;
+
+    public JobPerformanceReportListener(JobExplorer jobExplorer, String reportDir) {
+        this.jobExplorer = jobExplorer;
+        this.reportDir = reportDir;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        JobExecution reloaded = jobExplorer.getJobExecution(jobExecution.getId());
+        JobExecution source = reloaded != null ? reloaded : jobExecution;
+
+        List<PartitionPerformance> partitions = new ArrayList<>();
+        for (StepExecution stepExecution : source.getStepExecutions()) {
+            String json = stepExecution.getExecutionContext().getString(PartitionPerformanceListener.CONTEXT_KEY, null);
+            if (json != null) {
+                partitions.add(PartitionPerformance.fromJson(json));
+            }
+        }
+        if (partitions.isEmpty()) {
+            log.info("파티션 성능 측정 결과가 없습니다. (jobExecutionId: {})", jobExecution.getId());
+            return;
+        }
+
+        // afterJob 시점에는 종료 시각이 아직 기록되지 않았으므로 현재 시각까지를 실행 시간으로 본다.
+        long durationMillis = jobExecution.getStartTime() == null ? 0
+                : Duration.between(jobExecution.getStartTime(), LocalDateTime.now()).toMillis();
+        JobPerformanceReport report = JobPerformanceReport.of(
+                jobExecution.getId(),
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getStatus().name(),
+                durationMillis,
+                partitions);
+
+        logSummary(report);
+        if (reportDir != null && !reportDir.isBlank()) {
+            writeJson(report);
+        }
+    }
+
+    private void logSummary(JobPerformanceReport report) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%n  처리량: 계약 %,d건 / %,dms = %.1f건/s, 결과 %,d건",
+                report.totalReadCount(), report.durationMillis(), report.contractsPerSecond(), report.totalResultRows()));
+
+        JobPerformanceReport.Skew skew = report.skew();
+        summary.append(String.format("%n  파티션 편차: 가장 느린 %s %,dms / 중앙값 %,dms / 가장 빠른 %,dms (중앙값 대비 x%.2f)",
+                skew.slowestStep(), skew.slowestMillis(), skew.medianMillis(), skew.fastestMillis(), skew.ratio()));
+
+        JobPerformanceReport.Bottleneck bottleneck = report.bottleneck();
+        summary.append(String.format("%n  병목 단계: %s (단계 시간의 %.0f%%), 대기(DB) 비율: %s → %s",
+                stageName(bottleneck.stage()), bottleneck.stageShare() * 100,
+                bottleneck.waitShare() < 0 ? "측정 불가" : String.format("%.0f%%", bottleneck.waitShare() * 100),
+                boundByName(bottleneck.boundBy())));
+
+        summary.append(String.format("%n  %-28s %10s %10s %10s %10s %10s %10s %10s %8s",
+                "파티션", "시간(ms)", "계약", "건/s", "결과", "읽기(ms)", "처리(ms)", "쓰기(ms)", "대기열"));
+        for (PartitionPerformance partition : report.partitions()) {
+            summary.append(String.format("%n  %-28s %10d %10d %10.1f %10d %10d %10d %10d %8d",
+                    partition.stepName(),
+                    partition.durationMillis(),
+                    partition.readCount(),
+                    partition.contractsPerSecond(),
+                    partition.resultRows(),
+                    partition.read().wallMillis(),
+                    partition.process().wallMillis(),
+                    partition.write().wallMillis(),
+                    partition.maxQueueDepth()));
+        }
+
+        log.info("=== Job 성능 보고서 === {} (jobExecutionId: {}, 상태: {}, 파티션 {}개){}",
+                report.jobName(), report.jobExecutionId(), report.status(), report.partitionCount(), summary);
+    }
+
+    private static String stageName(String stage) {
+        return switch (stage) {
+            case "read" -> "읽기";
+            case "process" -> "처리";
+            case "write" -> "쓰기";
+            default -> stage;
+        };
+    }
+
+    private static String boundByName(String boundBy) {
+        return switch (boundBy) {
+            case "DB_WAIT" -> "DB 대기 위주";
+            case "CPU" -> "CPU 위주";
+            default -> "판단 불가";
+        };
+    }
+
+    private void writeJson(JobPerformanceReport report) {
+        try {
+            Path directory = Path.of(reportDir);
+            Files.createDirectories(directory);
+            Path reportFile = directory.resolve("job-performance-" + report.jobExecutionId() + ".json");
+            PartitionPerformance.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            log.info("Job 성능 보고서 저장: {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            // 보고서 저장 실패가 Job 결과를 바꾸지 않도록 로그만 남긴다.
+            log.error("Job 성능 보고서 저장 실패: {}", reportDir, e);
+        }
+    }
+}
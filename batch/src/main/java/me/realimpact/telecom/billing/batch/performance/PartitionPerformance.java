@@ -0,0 +1,90 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 파티션(Worker Step) 하나의 성능 측정 결과.
+ * StepExecutionContext에 JSON 문자열로 저장되어 원격 워커가 실행한 파티션도 매니저가 모을 수 있다.
+ *
+ * @param stepName 파티션 Step 이름
+ * @param partitionKey 파티션 키
+ * @param status Step 종료 상태
+ * @param durationMillis Step 실행 시간
+ * @param readCount 읽은 계약 수
+ * @param writeCount 저장한 계약 수
+ * @param resultRows 저장한 계산 결과 건수
+ * @param chunkCount 커밋한 청크 수
+ * @param contractsPerSecond 평균 처리량 (계약/초)
+ * @param read 읽기 단계 누적 시간
+ * @param process 처리 단계 누적 시간
+ * @param write 쓰기 단계 누적 시간
+ * @param maxQueueDepth 청크 종료 시점에 관측한 Executor 대기열 최대 길이 (측정 불가 시 -1)
+ * @param avgQueueDepth 청크 종료 시점에 관측한 Executor 대기열 평균 길이 (측정 불가 시 -1)
+ * @param throughput 구간별 처리량 추이
+ */
+public record PartitionPerformance(
+        String stepName,
+        Integer partitionKey,
+        String status,
+        long durationMillis,
+        long readCount,
+        long writeCount,
+        long resultRows,
+        long chunkCount,
+        double contractsPerSecond,
+        StageTiming read,
+        StageTiming process,
+        StageTiming write,
+        int maxQueueDepth,
+        double avgQueueDepth,
+        List<ThroughputSample> throughput
+) {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 단계별 누적 시간. wait은 경과 시간 중 Step 스레드가 CPU를 쓰지 않은 시간으로, 대부분 DB 대기다.
+     *
+     * @param wallMillis 경과 시간
+     * @param cpuMillis Step 스레드 CPU 시간 (측정 불가 시 -1)
+     * @param waitMillis 대기 시간 (측정 불가 시 -1)
+     */
+    public record StageTiming(long wallMillis, long cpuMillis, long waitMillis) {
+
+        static StageTiming of(long wallNanos, long cpuNanos) {
+            if (cpuNanos < 0) {
+                return new StageTiming(wallNanos / 1_000_000, -1, -1);
+            }
+            return new StageTiming(wallNanos / 1_000_000, cpuNanos / 1_000_000, Math.max(0, wallNanos - cpuNanos) / 1_000_000);
+        }
+    }
+
+    /**
+     * 처리량 표본
+     *
+     * @param elapsedMillis Step 시작 후 경과 시간
+     * @param readCount 누적 읽은 계약 수
+     * @param contractsPerSecond 직전 표본 이후 구간의 처리량
+     */
+    public record ThroughputSample(long elapsedMillis, long readCount, double contractsPerSecond) {
+    }
+
+    String toJson() {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("파티션 성능 정보 직렬화 실패: " + stepName, e);
+        }
+    }
+
+    static PartitionPerformance fromJson(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, PartitionPerformance.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("파티션 성능 정보 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+
+/**
+ * 파티션(Worker Step) 단위 성능 수집 리스너 (batch.performance.enabled=true 일 때만 사용).
+ * 읽기/처리/쓰기 단계마다 경과 시간과 Step 스레드 CPU 시간을 누적하여 DB 대기와 CPU 사용을 구분하고,
+ * 청크가 끝날 때마다 Executor 대기열 길이와 처리량 추이를 표본으로 남긴다.
+ *
+ * 파티션 Step은 한 스레드에서 실행되므로 Step 범위 인스턴스 하나가 파티션 하나를 담당한다.
+ * 파이프라인 모드에서는 처리 단계가 계산 제출만, 쓰기 단계가 계산 완료 대기까지 포함한다.
+ * 가상 스레드에서는 스레드 CPU 시간을 잴 수 없으므로(-1 반환) 해당 단계의 CPU/대기 시간은 측정 불가(-1)로 남긴다.
+ */
+@Slf4j
+public class PartitionPerformanceListener implements StepExecutionListener, ChunkListener,
+        ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    static final String CONTEXT_KEY = "partitionPerformance";
+
+    // 표본이 이 수를 넘으면 절반으로 솎고 표본 주기를 두 배로 늘린다.
+    static final int MAX_SAMPLES = 120;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private final Integer partitionKey;
+    private final IntSupplier queueDepth;
+    private long sampleIntervalNanos;
+
+    private final StageTimer readTimer = new StageTimer();
+    private final StageTimer processTimer = new StageTimer();
+    private final StageTimer writeTimer = new StageTimer();
+
+    private StepExecution stepExecution;
+    private long stepStartedAt;
+    private long resultRows;
+
+    private int maxQueueDepth = -1;
+    private long queueDepthSum;
+    private long queueDepthSamples;
+
+    private final List<long[]> samples = new ArrayList<>();
+    private long lastSampledAt;
+
+    public PartitionPerformanceListener(Integer partitionKey, long sampleIntervalSeconds, IntSupplier queueDepth) {
+        this.partitionKey = partitionKey;
+        this.sampleIntervalNanos = Math.max(1, sampleIntervalSeconds) * 1_000_000_000L;
+        this.queueDepth = queueDepth;
+    }
+
+    private static long currentThreadCpuNanos() {
+        if (!CPU_TIME_SUPPORTED || Thread.currentThread().isVirtual()) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * 단계 하나의 경과 시간과 CPU 시간 누적기
+     */
+    private static final class StageTimer {
+        private long wallNanos;
+        private long cpuNanos;
+        private long startedAt = -1;
+        private long cpuStartedAt;
+        // 한 번이라도 CPU 시간을 잴 수 없었으면 누적값이 틀리므로 측정 불가로 본다.
+        private boolean cpuUnsupported = !CPU_TIME_SUPPORTED;
+
+        void start() {
+            startedAt = System.nanoTime();
+            cpuStartedAt = cpuUnsupported ? -1 : currentThreadCpuNanos();
+            if (cpuStartedAt < 0) {
+                cpuUnsupported = true;
+            }
+        }
+
+        void stop() {
+            if (startedAt < 0) {
+                return;
+            }
+            wallNanos += System.nanoTime() - startedAt;
+            if (!cpuUnsupported) {
+                long cpuStoppedAt = currentThreadCpuNanos();
+                if (cpuStoppedAt < 0) {
+                    cpuUnsupported = true;
+                } else {
+                    cpuNanos += cpuStoppedAt - cpuStartedAt;
+                }
+            }
+            startedAt = -1;
+        }
+
+        PartitionPerformance.StageTiming toTiming() {
+            return PartitionPerformance.StageTiming.of(wallNanos, cpuUnsupported ? -1 : cpuNanos);
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        beforeStep(stepExecution, System.nanoTime());
+    }
+
+    void beforeStep(StepExecution stepExecution, long startedAt) {
+        this.stepExecution = stepExecution;
+        this.stepStartedAt = startedAt;
+        this.lastSampledAt = startedAt;
+    }
+
+    @Override
+    public void beforeRead() {
+        readTimer.start();
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        readTimer.stop();
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        readTimer.stop();
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        processTimer.start();
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        processTimer.stop();
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception e) {
+        processTimer.stop();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        writeTimer.start();
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        writeTimer.stop();
+        for (Object item : items) {
+            resultRows += resultRowCount(item);
+        }
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        writeTimer.stop();
+    }
+
+    /**
+     * 저장된 항목의 계산 결과 건수. 파이프라인 모드의 Future는 Writer가 완료를 기다린 뒤이므로 결과를 바로 꺼낼 수 있다.
+     */
+    static int resultRowCount(Object item) {
+        if (item instanceof CalculationResultGroup group) {
+            return group.calculationResults().size();
+        }
+        if (item instanceof Future<?> future
+                && future.state() == Future.State.SUCCESS
+                && future.resultNow() instanceof CalculationResultGroup group) {
+            return group.calculationResults().size();
+        }
+        return 0;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        int depth = queueDepth.getAsInt();
+        if (depth >= 0) {
+            maxQueueDepth = Math.max(maxQueueDepth, depth);
+            queueDepthSum += depth;
+            queueDepthSamples++;
+        }
+
+        long now = System.nanoTime();
+        if (now - lastSampledAt >= sampleIntervalNanos) {
+            addSample(now);
+        }
+    }
+
+    /**
+     * 처리량 표본을 추가한다. 표본이 MAX_SAMPLES를 넘으면 두 번째, 네 번째, ... 표본만 남기고 표본 주기를 두 배로 늘린다.
+     */
+    void addSample(long now) {
+        samples.add(new long[]{(now - stepStartedAt) / 1_000_000, stepExecution.getReadCount()});
+        lastSampledAt = now;
+
+        if (samples.size() > MAX_SAMPLES) {
+            List<long[]> thinned = new ArrayList<>(samples.size() / 2 + 1);
+            for (int i = 1; i < samples.size(); i += 2) {
+                thinned.add(samples.get(i));
+            }
+            samples.clear();
+            samples.addAll(thinned);
+            sampleIntervalNanos *= 2;
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long now = System.nanoTime();
+        addSample(now);
+
+        long durationMillis = (now - stepStartedAt) / 1_000_000;
+        PartitionPerformance performance = new PartitionPerformance(
+                stepExecution.getStepName(),
+                partitionKey,
+                stepExecution.getStatus().name(),
+                durationMillis,
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                resultRows,
+                stepExecution.getCommitCount(),
+                perSecond(stepExecution.getReadCount(), durationMillis),
+                readTimer.toTiming(),
+                processTimer.toTiming(),
+                writeTimer.toTiming(),
+                maxQueueDepth,
+                queueDepthSamples == 0 ? -1 : (double) queueDepthSum / queueDepthSamples,
+                toThroughputSamples()
+        );
+        stepExecution.getExecutionContext().putString(CONTEXT_KEY, performance.toJson());
+
+        log.info("=== 파티션 성능 ({}) === {}ms, 계약 {}건 ({}/s), 결과 {}건, 읽기 {}ms / 처리 {}ms / 쓰기 {}ms, 대기열 최대 {}",
+                performance.stepName(), durationMillis, performance.readCount(),
+                String.format("%.1f", performance.contractsPerSecond()), resultRows,
+                performance.read().wallMillis(), performance.process().wallMillis(), performance.write().wallMillis(),
+                maxQueueDepth);
+        return stepExecution.getExitStatus();
+    }
+
+    List<PartitionPerformance.ThroughputSample> toThroughputSamples() {
+        List<PartitionPerformance.ThroughputSample> throughput = new ArrayList<>(samples.size());
+        long previousElapsed = 0;
+        long previousReadCount = 0;
+        for (long[] sample : samples) {
+            throughput.add(new PartitionPerformance.ThroughputSample(
+                    sample[0], sample[1], perSecond(sample[1] - previousReadCount, sample[0] - previousElapsed)));
+            previousElapsed = sample[0];
+            previousReadCount = sample[1];
+        }
+        return throughput;
+    }
+
+    private static double perSecond(long count, long millis) {
+        return millis <= 0 ? 0 : count * 1000.0 / millis;
+    }
+}
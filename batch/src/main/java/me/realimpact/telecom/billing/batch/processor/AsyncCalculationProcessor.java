@@ -0,0 +1,84 @@
+package me.realimpact.telecom.billing.batch.processor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.batch.item.ItemProcessor;
+
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfiler;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.application.CalculationCommandService;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+
+/**
+ * 계산을 별도 Executor에서 비동기로 수행하는 ItemProcessor (AsyncItemProcessor 방식).
+ * Step 스레드는 계산을 기다리지 않고 Future만 Writer로 넘기므로, Writer가 앞선 결과를 저장하는 동안에도 계산이 계속 진행된다.
+ * 동시에 진행 중인 계산 수는 maxInFlight로 제한되며, 한도에 도달하면 Step 스레드가 다음 계산을 넘기기 전에 대기한다 (backpressure).
+ * Spring Batch는 청크 전체를 읽은 뒤 처리하므로 대기하는 것은 읽기가 아니라 처리 단계다.
+ *
+ * 반환하는 Future는 계산 Executor에 넘긴 FutureTask 자체이므로, Writer가 cancel(true)하면 아직 시작하지 않은 계산은 실행되지 않고
+ * 실행 중인 계산 스레드에는 인터럽트가 전달된다.
+ */
+@Slf4j
+public class AsyncCalculationProcessor implements ItemProcessor<CalculationTarget, Future<CalculationResultGroup>> {
+
+    private final CalculationCommandService calculationCommandService;
+    private final CalculationParameters calculationParameters;
+    private final Executor calculationExecutor;
+    private final Semaphore inFlightPermits;
+
+    // 프로파일링 모드에서만 설정된다 (batch.profiling.enabled)
+    @Setter
+    private ContractProfiler contractProfiler;
+
+    public AsyncCalculationProcessor(
+            CalculationCommandService calculationCommandService,
+            CalculationParameters calculationParameters,
+            Executor calculationExecutor,
+            int maxInFlight) {
+        this.calculationCommandService = calculationCommandService;
+        this.calculationParameters = calculationParameters;
+        this.calculationExecutor = calculationExecutor;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public Future<CalculationResultGroup> process(@NonNull CalculationTarget calculationTarget) throws Exception {
+        CalculationContext ctx = calculationParameters.toCalculationContext();
+
+        inFlightPermits.acquire();
+        FutureTask<CalculationResultGroup> task = new FutureTask<>(() -> calculate(calculationTarget, ctx)) {
+            @Override
+            protected void done() {
+                // 정상 완료, 실패, 취소 모두 한 번만 호출된다
+                inFlightPermits.release();
+            }
+        };
+        try {
+            calculationExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlightPermits.release();
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * 계산 스레드에서 실행된다. 프로파일링 시 할당량도 계산 스레드 기준으로 측정된다.
+     */
+    private CalculationResultGroup calculate(CalculationTarget calculationTarget, CalculationContext ctx) {
+        if (contractProfiler != null) {
+            return contractProfiler.profile(calculationTarget,
+                    () -> calculationCommandService.processCalculation(calculationTarget, ctx));
+        }
+        return calculationCommandService.processCalculation(calculationTarget, ctx);
+    }
+}
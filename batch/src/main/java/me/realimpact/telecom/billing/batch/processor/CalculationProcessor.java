@@ -2,14 +2,19 @@ package me.realimpact.telecom.billing.batch.processor;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfiler;
+import me.realimpact.telecom.billing.batch.spill.SpillingResultBuffer;
 import me.realimpact.telecom.calculation.api.CalculationResultGroup;
 import me.realimpact.telecom.calculation.application.CalculationCommandService;
 import me.realimpact.telecom.calculation.application.CalculationTarget;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import org.springframework.batch.item.ItemProcessor;
 
+import java.util.List;
+
 /**
  * Spring Batch ItemProcessor 구현체
  * ContractDto를 받아서 월정액 계산을 수행하고 결과를 반환
@@ -22,10 +27,24 @@ public class CalculationProcessor implements ItemProcessor<CalculationTarget, Ca
     private final CalculationCommandService calculationCommandService;
     private final CalculationParameters calculationParameters;
 
+    // 프로파일링 모드에서만 설정된다 (batch.profiling.enabled)
+    @Setter
+    private ContractProfiler contractProfiler;
+
+    // 결과 디스크 버퍼 모드에서만 설정된다 (batch.spill.enabled). 결과는 버퍼에 보관하고 자리표시 그룹을 Writer로 넘긴다.
+    @Setter
+    private SpillingResultBuffer spillingResultBuffer;
+
     @Override
     public CalculationResultGroup process(@NonNull CalculationTarget calculationTarget) throws Exception {
-        CalculationContext ctx = calculationParameters.toCalculationContext();
+        // 추가 컨텍스트가 있으면 Reader가 모든 청구 기간을 포함해 로딩한 대상을 컨텍스트마다 좁혀서 계산한다.
+        List<CalculationContext> contexts = calculationParameters.toCalculationContexts();
+
+        CalculationResultGroup result = contractProfiler != null
+                ? contractProfiler.profile(calculationTarget,
+                        () -> calculationCommandService.processCalculation(calculationTarget, contexts))
+                : calculationCommandService.processCalculation(calculationTarget, contexts);
 
-        return calculationCommandService.processCalculation(calculationTarget, ctx);
+        return spillingResultBuffer != null ? spillingResultBuffer.add(result) : result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package me.realimpact.telecom.billing.batch.profiling;
+
+/**
+ * 계약 한 건의 계산 프로파일
+ *
+ * @param contractId 계약 ID
+ * @param partitionKey 파티션 키
+ * @param loadNanos 데이터 로딩 시간 (청크 단위로 읽는 Reader는 청크 로딩 시간을 계약 수로 나눈 몫)
+ * @param calculationNanos 계산 시간
+ * @param allocatedBytes 계산 중 할당한 메모리 추정치 (측정 불가 시 -1)
+ * @param resultCount 계산 결과 건수
+ * @param productCount 상품 수
+ * @param suspensionCount 정지이력 수
+ * @param discountCount 할인 수
+ */
+public record ContractProfile(
+        Long contractId,
+        int partitionKey,
+        long loadNanos,
+        long calculationNanos,
+        long allocatedBytes,
+        int resultCount,
+        int productCount,
+        int suspensionCount,
+        int discountCount
+) {
+
+    static final String CSV_HEADER =
+            "contract_id,partition_key,load_ms,calculation_ms,total_ms,allocated_kb,result_count,product_count,suspension_count,discount_count";
+
+    public long totalNanos() {
+        return loadNanos + calculationNanos;
+    }
+
+    /**
+     * StepExecutionContext 저장용 직렬화 (Step 간/JVM 간 전달)
+     */
+    String encode() {
+        return contractId + "," + partitionKey + "," + loadNanos + "," + calculationNanos + "," + allocatedBytes + ","
+                + resultCount + "," + productCount + "," + suspensionCount + "," + discountCount;
+    }
+
+    static ContractProfile decode(String encoded) {
+        String[] values = encoded.split(",");
+        return new ContractProfile(
+                Long.parseLong(values[0]),
+                Integer.parseInt(values[1]),
+                Long.parseLong(values[2]),
+                Long.parseLong(values[3]),
+                Long.parseLong(values[4]),
+                Integer.parseInt(values[5]),
+                Integer.parseInt(values[6]),
+                Integer.parseInt(values[7]),
+                Integer.parseInt(values[8])
+        );
+    }
+
+    /**
+     * 보고서용 CSV 행 (시간은 ms, 메모리는 KB)
+     */
+    String toCsvLine() {
+        return contractId + "," + partitionKey + ","
+                + String.format("%.3f,%.3f,%.3f", loadNanos / 1_000_000.0, calculationNanos / 1_000_000.0, totalNanos() / 1_000_000.0) + ","
+                + (allocatedBytes < 0 ? "" : String.valueOf(allocatedBytes / 1024)) + ","
+                + resultCount + "," + productCount + "," + suspensionCount + "," + discountCount;
+    }
+}
@@ -0,0 +1,138 @@
+package me.realimpact.telecom.billing.batch.profiling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job 종료 시 모든 파티션의 계약별 프로파일 상위 목록을 병합하여 보고서를 남긴다.
+ * 원격 파티셔닝 워커가 실행한 파티션도 포함하도록 JobRepository에서 StepExecution을 다시 읽는다.
+ *
+ * 보고서는 로그로 출력하며, reportDir이 지정되면 contract-profile-{jobExecutionId}.csv 파일도 만든다.
+ */
+@Slf4j
+public class ContractProfileReportListener implements JobExecutionListener {
+
+    private final JobExplorer jobExplorer;
+    private final int topN;
+    private final String reportDir;
+
+    public ContractProfileReportListener(JobExplorer jobExplorer, int topN, String reportDir) {
+        this.jobExplorer = jobExplorer;
+        this.topN = topN;
+        this.reportDir = reportDir;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        JobExecution reloaded = jobExplorer.getJobExecution(jobExecution.getId());
+        JobExecution source = reloaded != null ? reloaded : jobExecution;
+
+        PriorityQueue<ContractProfile> slowest = new PriorityQueue<>(ContractProfiler.BY_TOTAL_TIME);
+        PriorityQueue<ContractProfile> heaviest = new PriorityQueue<>(ContractProfiler.BY_ALLOCATION);
+        long profiledCount = 0;
+        int partitionCount = 0;
+
+        for (StepExecution stepExecution : source.getStepExecutions()) {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            if (!context.containsKey(ContractProfiler.SLOWEST_KEY)) {
+                continue;
+            }
+            partitionCount++;
+            profiledCount += context.getLong(ContractProfiler.PROFILED_COUNT_KEY, 0L);
+            merge(slowest, context, ContractProfiler.SLOWEST_KEY, ContractProfiler.BY_TOTAL_TIME);
+            merge(heaviest, context, ContractProfiler.HEAVIEST_KEY, ContractProfiler.BY_ALLOCATION);
+        }
+
+        if (partitionCount == 0) {
+            log.info("계약별 프로파일 결과가 없습니다. (jobExecutionId: {})", jobExecution.getId());
+            return;
+        }
+
+        List<ContractProfile> slowestRanking = sortedDescending(slowest, ContractProfiler.BY_TOTAL_TIME);
+        List<ContractProfile> heaviestRanking = sortedDescending(heaviest, ContractProfiler.BY_ALLOCATION);
+
+        log.info("=== 계약별 프로파일 보고서 === jobExecutionId: {}, 파티션 수: {}, 프로파일 계약 수: {}",
+                jobExecution.getId(), partitionCount, profiledCount);
+        logRanking("가장 느린 계약 (로딩 몫 + 계산)", slowestRanking);
+        logRanking("할당량이 가장 많은 계약", heaviestRanking);
+
+        if (reportDir != null && !reportDir.isBlank()) {
+            writeCsv(jobExecution.getId(), slowestRanking, heaviestRanking);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void merge(PriorityQueue<ContractProfile> heap, ExecutionContext context, String key, Comparator<ContractProfile> comparator) {
+        Object encoded = context.get(key);
+        if (!(encoded instanceof List<?> lines)) {
+            return;
+        }
+        for (String line : (List<String>) lines) {
+            ContractProfiler.offer(heap, ContractProfile.decode(line), comparator, topN);
+        }
+    }
+
+    private static List<ContractProfile> sortedDescending(PriorityQueue<ContractProfile> heap, Comparator<ContractProfile> comparator) {
+        List<ContractProfile> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator.reversed());
+        return sorted;
+    }
+
+    private void logRanking(String title, List<ContractProfile> ranking) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n  %4s %12s %5s %10s %10s %10s %10s %6s %6s %6s %6s",
+                "순위", "계약ID", "파티션", "로딩(ms)", "계산(ms)", "합계(ms)", "할당(KB)", "결과", "상품", "정지", "할인"));
+        for (int i = 0; i < ranking.size(); i++) {
+            ContractProfile profile = ranking.get(i);
+            report.append(String.format("%n  %4d %12d %5d %10.3f %10.3f %10.3f %10s %6d %6d %6d %6d",
+                    i + 1,
+                    profile.contractId(),
+                    profile.partitionKey(),
+                    profile.loadNanos() / 1_000_000.0,
+                    profile.calculationNanos() / 1_000_000.0,
+                    profile.totalNanos() / 1_000_000.0,
+                    profile.allocatedBytes() < 0 ? "-" : String.valueOf(profile.allocatedBytes() / 1024),
+                    profile.resultCount(),
+                    profile.productCount(),
+                    profile.suspensionCount(),
+                    profile.discountCount()));
+        }
+        log.info("--- {} 상위 {}건 ---{}", title, ranking.size(), report);
+    }
+
+    private void writeCsv(Long jobExecutionId, List<ContractProfile> slowestRanking, List<ContractProfile> heaviestRanking) {
+        List<String> lines = new ArrayList<>();
+        lines.add("ranking,rank," + ContractProfile.CSV_HEADER);
+        for (int i = 0; i < slowestRanking.size(); i++) {
+            lines.add("slowest," + (i + 1) + "," + slowestRanking.get(i).toCsvLine());
+        }
+        for (int i = 0; i < heaviestRanking.size(); i++) {
+            lines.add("heaviest," + (i + 1) + "," + heaviestRanking.get(i).toCsvLine());
+        }
+
+        try {
+            Path directory = Path.of(reportDir);
+            Files.createDirectories(directory);
+            Path reportFile = directory.resolve("contract-profile-" + jobExecutionId + ".csv");
+            Files.write(reportFile, lines, StandardCharsets.UTF_8);
+            log.info("계약별 프로파일 보고서 저장: {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            // 보고서 저장 실패가 Job 결과를 바꾸지 않도록 로그만 남긴다.
+            log.error("계약별 프로파일 보고서 저장 실패: {}", reportDir, e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package me.realimpact.telecom.billing.batch.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+
+/**
+ * 파티션 단위 계약별 프로파일러 (batch.profiling.enabled=true 일 때만 사용).
+ * Reader가 기록한 로딩 시간과 Processor에서 측정한 계산 시간/할당량/결과 건수를 계약별로 모아,
+ * 가장 느린 계약과 가장 많이 할당한 계약을 각각 상위 topN개까지만 최소 힙으로 유지한다.
+ *
+ * Step 종료 시 상위 목록을 StepExecutionContext에 저장하며, ContractProfileReportListener가 Job 종료 시 모든 파티션의 목록을 병합한다.
+ * 할당량은 com.sun.management.ThreadMXBean의 현재 스레드 누적 할당량 차이로 추정하며, 지원하지 않는 JVM에서는 -1로 기록한다.
+ */
+@Slf4j
+public class ContractProfiler implements StepExecutionListener {
+
+    static final String SLOWEST_KEY = "contractProfiler.slowest";
+    static final String HEAVIEST_KEY = "contractProfiler.heaviest";
+    static final String PROFILED_COUNT_KEY = "contractProfiler.profiledCount";
+
+    static final Comparator<ContractProfile> BY_TOTAL_TIME = Comparator.comparingLong(ContractProfile::totalNanos);
+    static final Comparator<ContractProfile> BY_ALLOCATION = Comparator.comparingLong(ContractProfile::allocatedBytes);
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = resolveAllocationMXBean();
+
+    private final int partitionKey;
+    private final int topN;
+
+    // Reader가 기록하고 Processor가 가져가는 계약별 로딩 시간
+    private final Map<Long, Long> loadNanosByContract = new ConcurrentHashMap<>();
+
+    private final PriorityQueue<ContractProfile> slowest = new PriorityQueue<>(BY_TOTAL_TIME);
+    private final PriorityQueue<ContractProfile> heaviest = new PriorityQueue<>(BY_ALLOCATION);
+    private long profiledCount;
+    private long totalLoadNanos;
+    private long totalCalculationNanos;
+
+    public ContractProfiler(int partitionKey, int topN) {
+        this.partitionKey = partitionKey;
+        this.topN = topN;
+    }
+
+    private static com.sun.management.ThreadMXBean resolveAllocationMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()) {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+                return threadMXBean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.warn("스레드 할당량 측정을 사용할 수 없습니다: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_MX_BEAN != null ? ALLOCATION_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 청크 단위 로딩 시간을 계약 수로 나누어 기록한다
+     */
+    public void recordChunkLoad(List<Long> contractIds, long elapsedNanos) {
+        if (contractIds.isEmpty()) {
+            return;
+        }
+        long share = elapsedNanos / contractIds.size();
+        for (Long contractId : contractIds) {
+            loadNanosByContract.put(contractId, share);
+        }
+    }
+
+    /**
+     * 계약 한 건의 로딩 시간을 기록한다
+     */
+    public void recordLoad(Long contractId, long elapsedNanos) {
+        loadNanosByContract.put(contractId, elapsedNanos);
+    }
+
+    /**
+     * 계산을 실행하면서 계약의 계산 시간/할당량/결과 건수를 기록한다
+     *
+     * @param calculationTarget 계산 대상
+     * @param calculation 계산 (호출 스레드에서 실행되어야 할당량이 맞게 측정된다)
+     * @return 계산 결과
+     */
+    public CalculationResultGroup profile(CalculationTarget calculationTarget, Supplier<CalculationResultGroup> calculation) {
+        Long loadNanos = loadNanosByContract.remove(calculationTarget.contractId());
+
+        long allocatedBefore = currentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        CalculationResultGroup result = calculation.get();
+        long calculationNanos = System.nanoTime() - startedAt;
+        long allocatedBytes = allocatedBefore < 0 ? -1 : currentThreadAllocatedBytes() - allocatedBefore;
+
+        List<ContractWithProductsAndSuspensions> contracts =
+                calculationTarget.getMonthlyChargeData(ContractWithProductsAndSuspensions.class);
+        record(new ContractProfile(
+                calculationTarget.contractId(),
+                partitionKey,
+                loadNanos != null ? loadNanos : 0L,
+                calculationNanos,
+                allocatedBytes,
+                result.calculationResults().size(),
+                contracts.stream().mapToInt(contract -> contract.getProducts().size()).sum(),
+                contracts.stream().mapToInt(contract -> contract.getSuspensions().size()).sum(),
+                calculationTarget.discounts().size()
+        ));
+        return result;
+    }
+
+    synchronized void record(ContractProfile profile) {
+        profiledCount++;
+        totalLoadNanos += profile.loadNanos();
+        totalCalculationNanos += profile.calculationNanos();
+        offer(slowest, profile, BY_TOTAL_TIME, topN);
+        if (profile.allocatedBytes() >= 0) {
+            offer(heaviest, profile, BY_ALLOCATION, topN);
+        }
+    }
+
+    /**
+     * 최소 힙에 topN개까지만 유지한다. 가득 찼으면 최솟값보다 큰 경우에만 교체한다.
+     */
+    static void offer(PriorityQueue<ContractProfile> heap, ContractProfile profile, Comparator<ContractProfile> comparator, int topN) {
+        if (heap.size() < topN) {
+            heap.add(profile);
+        } else if (topN > 0 && comparator.compare(profile, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(profile);
+        }
+    }
+
+    /**
+     * 느린 순(로딩 몫 + 계산 시간)으로 정렬된 상위 목록
+     */
+    public synchronized List<ContractProfile> getSlowest() {
+        return sortedDescending(slowest, BY_TOTAL_TIME);
+    }
+
+    /**
+     * 할당량이 많은 순으로 정렬된 상위 목록
+     */
+    public synchronized List<ContractProfile> getHeaviest() {
+        return sortedDescending(heaviest, BY_ALLOCATION);
+    }
+
+    private static List<ContractProfile> sortedDescending(PriorityQueue<ContractProfile> heap, Comparator<ContractProfile> comparator) {
+        List<ContractProfile> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator.reversed());
+        return sorted;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        List<String> slowestEncoded = new ArrayList<>(getSlowest().stream().map(ContractProfile::encode).toList());
+        List<String> heaviestEncoded = new ArrayList<>(getHeaviest().stream().map(ContractProfile::encode).toList());
+
+        synchronized (this) {
+            stepExecution.getExecutionContext().put(SLOWEST_KEY, slowestEncoded);
+            stepExecution.getExecutionContext().put(HEAVIEST_KEY, heaviestEncoded);
+            stepExecution.getExecutionContext().putLong(PROFILED_COUNT_KEY, profiledCount);
+
+            log.info("=== 계약별 프로파일 (파티션 {}) === 계약 수: {}, 로딩 합계: {}ms, 계산 합계: {}ms, 미처리 로딩 기록: {}",
+                    partitionKey, profiledCount, totalLoadNanos / 1_000_000, totalCalculationNanos / 1_000_000,
+                    loadNanosByContract.size());
+        }
+        return stepExecution.getExitStatus();
+    }
+}
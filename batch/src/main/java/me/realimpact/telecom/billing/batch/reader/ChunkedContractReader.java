@@ -32,6 +32,8 @@ public class ChunkedContractReader implements ItemStreamReader<CalculationTarget
 
     private final SqlSessionFactory sqlSessionFactory;
     private final CalculationParameters calculationParameters;
+    // 계약 조회와 데이터 로딩에 쓰는 컨텍스트. 여러 컨텍스트를 함께 계산하면 모든 청구 기간을 포함한다.
+    private final CalculationContext loadingContext;
 
     private static final int chunkSize = CHUNK_SIZE;
 
@@ -50,6 +52,7 @@ public class ChunkedContractReader implements ItemStreamReader<CalculationTarget
         this.calculationCommandService = calculationCommandService;
         this.sqlSessionFactory = sqlSessionFactory;
         this.calculationParameters = calculationParameters;
+        this.loadingContext = calculationCommandService.loadingContext(calculationParameters.toCalculationContexts());
 
         log.info("=== ChunkedContractReader 생성 ===");
     }
@@ -132,8 +135,8 @@ public class ChunkedContractReader implements ItemStreamReader<CalculationTarget
 
     private Map<String, Object> getParameterValues() {
         Map<String, Object> parameterValues = new HashMap<>();
-        parameterValues.put("billingStartDate", calculationParameters.getBillingStartDate());
-        parameterValues.put("billingEndDate", calculationParameters.getBillingEndDate());
+        parameterValues.put("billingStartDate", loadingContext.billingStartDate());
+        parameterValues.put("billingEndDate", loadingContext.billingEndDate());
         parameterValues.put("contractIds", calculationParameters.getContractIds());
         return parameterValues;
     }
@@ -173,7 +176,6 @@ public class ChunkedContractReader implements ItemStreamReader<CalculationTarget
     }
 
     private List<CalculationTarget> getCalculationTargets(List<Long> contractIds) {
-        CalculationContext ctx = calculationParameters.toCalculationContext();
-        return calculationCommandService.loadCalculationTargets(contractIds, ctx);
+        return calculationCommandService.loadCalculationTargets(contractIds, loadingContext);
     }
 }
\ No newline at end of file
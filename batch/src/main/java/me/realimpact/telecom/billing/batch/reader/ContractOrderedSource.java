@@ -0,0 +1,69 @@
+package me.realimpact.telecom.billing.batch.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 계약 ID 오름차순으로 정렬된 스트림을 계약 단위로 잘라서 꺼내주는 병합용 소스.
+ * 정렬 병합(k-way merge) Reader에서 테이블별 커서 하나를 감싸는 용도로 사용한다.
+ *
+ * @param <T> 스트림 원소 타입
+ */
+public class ContractOrderedSource<T> {
+
+    private final String name;
+    private final Iterator<T> iterator;
+    private final Function<T, Long> contractIdExtractor;
+
+    private T head;
+    private Long headContractId;
+
+    public ContractOrderedSource(String name, Iterator<T> iterator, Function<T, Long> contractIdExtractor) {
+        this.name = name;
+        this.iterator = iterator;
+        this.contractIdExtractor = contractIdExtractor;
+        advance();
+    }
+
+    /**
+     * 주어진 계약 ID에 해당하는 원소를 모두 꺼낸다.
+     * 더 작은 계약 ID의 원소는 구동 커서에 없는 계약이므로 버린다.
+     *
+     * @param contractId 계약 ID
+     * @return 해당 계약의 원소 목록 (없으면 빈 목록)
+     */
+    public List<T> takeFor(Long contractId) {
+        while (head != null && headContractId < contractId) {
+            advance();
+        }
+        if (head == null || !headContractId.equals(contractId)) {
+            return List.of();
+        }
+
+        List<T> items = new ArrayList<>();
+        while (head != null && headContractId.equals(contractId)) {
+            items.add(head);
+            advance();
+        }
+        return items;
+    }
+
+    private void advance() {
+        if (!iterator.hasNext()) {
+            head = null;
+            headContractId = null;
+            return;
+        }
+
+        T next = iterator.next();
+        Long nextContractId = contractIdExtractor.apply(next);
+        if (headContractId != null && nextContractId < headContractId) {
+            throw new IllegalStateException(
+                name + " 커서가 계약 ID 순으로 정렬되어 있지 않습니다. " + headContractId + " 다음에 " + nextContractId);
+        }
+        head = next;
+        headContractId = nextContractId;
+    }
+}
@@ -0,0 +1,57 @@
+package me.realimpact.telecom.billing.batch.reader;
+
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.application.BillGenerationService;
+import me.realimpact.telecom.billgeneration.application.InvoiceStream;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+
+/**
+ * 파티션의 계산 결과를 계약 ID 순으로 스트리밍하여 계약마다 청구서 하나를 반환하는 Reader.
+ * 커서는 open()에서(청크 트랜잭션 밖) 열리며, 재시작 시에는 이미 읽은 청구서 수만큼 건너뛴다.
+ */
+@Slf4j
+public class InvoiceReader extends AbstractItemCountingItemStreamItemReader<Invoice> {
+
+    private final BillGenerationService billGenerationService;
+    private final BillGenerationRequest request;
+    private final int partitionKey;
+    private final int partitionCount;
+
+    private InvoiceStream invoiceStream;
+
+    public InvoiceReader(
+            BillGenerationService billGenerationService,
+            BillGenerationRequest request,
+            int partitionKey,
+            int partitionCount) {
+        this.billGenerationService = billGenerationService;
+        this.request = request;
+        this.partitionKey = partitionKey;
+        this.partitionCount = partitionCount;
+        setName("invoiceReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        log.info("=== InvoiceReader open (파티션 {}/{}) ===", partitionKey, partitionCount);
+        invoiceStream = billGenerationService.openInvoiceStream(request, partitionKey, partitionCount,
+                billGenerationService.lineDescriptions(request.billingEndDate()));
+    }
+
+    @Override
+    protected Invoice doRead() {
+        return invoiceStream.next();
+    }
+
+    @Override
+    protected void doClose() {
+        if (invoiceStream != null) {
+            log.info("=== InvoiceReader close (파티션 {}) === 계산 결과 {}건", partitionKey, invoiceStream.resultRows());
+            invoiceStream.close();
+            invoiceStream = null;
+        }
+    }
+}
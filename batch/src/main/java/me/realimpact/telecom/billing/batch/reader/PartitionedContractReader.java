@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.batch.MyBatisCursorItemReader;
@@ -14,8 +15,13 @@ import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.support.ListItemReader;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.partitioner.ContractIdSplitFilter;
+import me.realimpact.telecom.billing.batch.partitioner.PartitionSplit;
+import me.realimpact.telecom.billing.batch.partitioner.PartitionSplitTicket;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfiler;
 import me.realimpact.telecom.calculation.application.CalculationCommandService;
 import me.realimpact.telecom.calculation.application.CalculationTarget;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
@@ -23,6 +29,9 @@ import me.realimpact.telecom.calculation.domain.CalculationContext;
 /**
  * 파티션 기반으로 계약 데이터를 읽어오는 ItemStreamReader 구현체.
  * 각 파티션은 독립적인 MyBatisCursorItemReader 인스턴스를 사용하여 계약 ID를 읽어온다.
+ * deltaOnly이면 증분 재계산 대상(calculation_delta_target) 계약만 읽는다.
+ * 분할된 파티션은 minContractIdExclusive 이후의 계약만 읽고,
+ * 분할 요청(PartitionSplitTicket)을 받으면 남은 계약의 절반을 떼어 내 다른 워커에게 넘긴다.
  */
 @Slf4j
 public class PartitionedContractReader implements ItemStreamReader<CalculationTarget> {
@@ -30,35 +39,64 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
     private final CalculationCommandService calculationCommandService;
     private final SqlSessionFactory sqlSessionFactory;
     private final CalculationParameters calculationParameters;
+    // 계약 조회와 데이터 로딩에 쓰는 컨텍스트. 여러 컨텍스트를 함께 계산하면 모든 청구 기간을 포함한다.
+    private final CalculationContext loadingContext;
     private final Integer partitionKey;
     private final Integer partitionCount;
+    private final boolean deltaOnly;
+    private final Long minContractIdExclusive;
+    private final ContractIdSplitFilter splitFilter;
 
     private static final int chunkSize = CHUNK_SIZE;
 
     private MyBatisCursorItemReader<Long> contractIdReader;
     private ListItemReader<CalculationTarget> currentChunkReader;
     private boolean initialized = false;
+    private Long lastContractId;
+
+    // 프로파일링 모드에서만 설정된다 (batch.profiling.enabled)
+    @Setter
+    private ContractProfiler contractProfiler;
+
+    // 한 번에 로딩할 계약 수. 설정하지 않으면 CHUNK_SIZE (batch.chunk-size / 적응형 청크 조절기가 설정한다)
+    @Setter
+    private IntSupplier loadSizeSupplier = () -> chunkSize;
+
+    // 작업 분배 모드에서 지연 파티션 분할을 사용할 때만 설정된다 (batch.partition.work-stealing)
+    @Setter
+    private PartitionSplitTicket splitTicket;
 
     public PartitionedContractReader(
             CalculationCommandService calculationCommandService,
             SqlSessionFactory sqlSessionFactory,
             CalculationParameters calculationParameters,
             Integer partitionKey,
-            Integer partitionCount) {
+            Integer partitionCount,
+            boolean deltaOnly,
+            Long minContractIdExclusive) {
         this.calculationCommandService = calculationCommandService;
         this.sqlSessionFactory = sqlSessionFactory;
         this.calculationParameters = calculationParameters;
+        this.loadingContext = calculationCommandService.loadingContext(calculationParameters.toCalculationContexts());
         this.partitionKey = partitionKey;
         this.partitionCount = partitionCount;
+        this.deltaOnly = deltaOnly;
+        this.minContractIdExclusive = minContractIdExclusive;
+        this.splitFilter = new ContractIdSplitFilter(partitionKey, partitionCount);
 
         log.info("=== PartitionedContractReader 생성 (파티션 {}) ===", partitionKey);
-        log.info("Partition Key: {}, Partition Count: {}", partitionKey, partitionCount);
+        log.info("Partition Key: {}, Partition Count: {}, Min Contract ID (exclusive): {}", partitionKey, partitionCount, minContractIdExclusive);
     }
 
     @Override
     public void open(ExecutionContext executionContext) throws ItemStreamException {
         if (!initialized) {
             log.info("=== PartitionedContractReader open() 시작 (파티션 {}) ===", partitionKey);
+            // 재시작 시 이전 실행의 분할 이력을 복원해야 이미 떼어 낸 계약을 다시 처리하지 않는다
+            splitFilter.restore(executionContext);
+            if (splitTicket != null) {
+                splitTicket.restoreDepth(splitFilter.depth());
+            }
             initializePartitionedContractIdReader(executionContext);
             initialized = true;
             log.info("=== PartitionedContractReader open() 완료 (파티션 {}) ===", partitionKey);
@@ -70,10 +108,14 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
         if (contractIdReader != null) {
             contractIdReader.update(executionContext);
         }
+        splitFilter.save(executionContext);
     }
 
     @Override
     public void close() throws ItemStreamException {
+        if (splitTicket != null) {
+            splitTicket.release();
+        }
         if (contractIdReader != null) {
             contractIdReader.close();
             log.info("=== MyBatisCursorItemReader close() 완료 (파티션 {}) ===", partitionKey);
@@ -130,8 +172,10 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
                 Map<String, Object> parameterValues = new HashMap<>();
                 parameterValues.put("partitionKey", partitionKey);
                 parameterValues.put("partitionCount", partitionCount);
-                parameterValues.put("billingStartDate", calculationParameters.getBillingStartDate());
-                parameterValues.put("billingEndDate", calculationParameters.getBillingEndDate());
+                parameterValues.put("minContractIdExclusive", minContractIdExclusive);
+                parameterValues.put("billingStartDate", loadingContext.billingStartDate());
+                parameterValues.put("billingEndDate", loadingContext.billingEndDate());
+                parameterValues.put("deltaOnly", deltaOnly);
                 contractIdReader.setParameterValues(parameterValues);
                 contractIdReader.open(executionContext);    // ItemStreamReader 기반이므로 반드시 호출해야함
 
@@ -140,6 +184,7 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
                 // 특정 계약 대상 (파티션 조건 적용)
                 List<Long> filteredContractIds = calculationParameters.getContractIds().stream()
                         .filter(contractId -> contractId % partitionCount == partitionKey)
+                        .filter(contractId -> minContractIdExclusive == null || contractId > minContractIdExclusive)
                         .toList();
 
                 if (filteredContractIds.isEmpty()) {
@@ -171,16 +216,28 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
      * 다음 청크 로드 (ChunkedContractReader 로직과 동일)
      */
     private void loadNextChunk() throws Exception {
-        
+        long startedAt = System.nanoTime();
         List<Long> contractIds = new ArrayList<>();
+
+        // 분할 요청이 있으면 지금까지 읽은 계약 이후의 남은 계약을 둘로 나눈다 (이번 청크가 커밋된 뒤 떼어 낸 파티션이 실행된다)
+        if (splitTicket != null && lastContractId != null && splitTicket.takeSplitRequest()) {
+            PartitionSplit split = splitFilter.split(lastContractId);
+            splitTicket.offer(split, splitFilter.depth());
+            log.info("파티션 {} 분할: contractId > {} 중 contractId % {} = {} 계약을 떼어 냄",
+                    partitionKey, lastContractId, split.partitionCount(), split.partitionKey());
+        }
         
-        // chunkSize만큼 Contract ID 수집
-        for (int i = 0; i < chunkSize; i++) {
+        // loadSize만큼 Contract ID 수집 (떼어 낸 계약은 건너뛴다)
+        int loadSize = loadSizeSupplier.getAsInt();
+        while (contractIds.size() < loadSize) {
             Long contractId = contractIdReader.read();
             if (contractId == null) {
                 break; // 더 이상 읽을 데이터가 없음
             }
-            contractIds.add(contractId);
+            lastContractId = contractId;
+            if (splitFilter.accepts(contractId)) {
+                contractIds.add(contractId);
+            }
         }
         
         if (contractIds.isEmpty()) {
@@ -190,10 +247,13 @@ public class PartitionedContractReader implements ItemStreamReader<CalculationTa
 
         // ListItemReader로 감싸서 하나씩 반환할 수 있도록 설정
         currentChunkReader = new ListItemReader<>(getCalculationTargets(contractIds));
+
+        if (contractProfiler != null) {
+            contractProfiler.recordChunkLoad(contractIds, System.nanoTime() - startedAt);
+        }
     }
 
     private List<CalculationTarget> getCalculationTargets(List<Long> contractIds) {
-        CalculationContext ctx = calculationParameters.toCalculationContext();
-        return calculationCommandService.loadCalculationTargets(contractIds, ctx);
+        return calculationCommandService.loadCalculationTargets(contractIds, loadingContext);
     }
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+package me.realimpact.telecom.billing.batch.reader;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.profiling.ContractProfiler;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.application.service.BillingPeriodService;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.DefaultPeriod;
+import me.realimpact.telecom.calculation.domain.monthlyfee.MonthlyChargeDomain;
+import me.realimpact.telecom.calculation.domain.onetimecharge.OneTimeChargeDomain;
+import me.realimpact.telecom.calculation.domain.onetimecharge.policy.installation.InstallationHistory;
+import me.realimpact.telecom.calculation.domain.onetimecharge.policy.installment.DeviceInstallmentMaster;
+import me.realimpact.telecom.calculation.infrastructure.converter.ContractDiscountDtoConverter;
+import me.realimpact.telecom.calculation.infrastructure.converter.ContractDtoToDomainConverter;
+import me.realimpact.telecom.calculation.infrastructure.converter.OneTimeChargeDtoConverter;
+import me.realimpact.telecom.calculation.infrastructure.dto.ContractDiscountDto;
+import me.realimpact.telecom.calculation.infrastructure.dto.ContractProductsSuspensionsDto;
+import me.realimpact.telecom.calculation.infrastructure.dto.DeviceInstallmentDto;
+import me.realimpact.telecom.calculation.infrastructure.dto.InstallationHistoryDto;
+
+/**
+ * 정렬 병합(sort-merge) 방식으로 파티션의 계산 대상을 읽어오는 ItemStreamReader 구현체.
+ * PartitionedContractReader는 계약 ID 커서를 연 뒤 1000건마다 각 테이블을 IN 절로 재조회하지만,
+ * 이 Reader는 테이블마다 파티션 범위 전체를 계약 ID 순으로 정렬한 커서를 하나씩 열고
+ * 계약 ID 커서를 기준으로 k-way 병합하여 CalculationTarget을 만든다.
+ * 파티션당 각 테이블을 한 번만 순차 조회하며 IN 절 조회는 발생하지 않는다.
+ *
+ * 청크 커밋마다 마지막으로 읽은 계약 ID를 ExecutionContext에 저장하므로,
+ * 재시작이나 원격 파티션 재할당 시 커밋된 계약 이후부터 이어서 처리한다.
+ * 미리보기 상품 테이블(PREVIEW_INQUIRY)은 지원하지 않는다.
+ */
+@Slf4j
+public class SortMergeContractReader implements ItemStreamReader<CalculationTarget> {
+
+    private static final String MAPPER_PACKAGE = "me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.";
+    private static final String CONTRACT_ID_STATEMENT = MAPPER_PACKAGE + "ContractQueryMapper.findContractIdsWithPartition";
+    private static final String PRODUCT_STATEMENT = MAPPER_PACKAGE + "ProductQueryMapper.findContractsAndProductInventoriesByPartition";
+    private static final String DISCOUNT_STATEMENT = MAPPER_PACKAGE + "ContractDiscountMapper.findDiscountsByPartition";
+    private static final String INSTALLMENT_STATEMENT = MAPPER_PACKAGE + "DeviceInstallmentMapper.findInstallmentsByPartition";
+    private static final String INSTALLATION_STATEMENT = MAPPER_PACKAGE + "InstallationHistoryMapper.findInstallationsByPartition";
+    private static final String LAST_CONTRACT_ID_KEY = "sortMergeReader.lastContractId";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final CalculationParameters calculationParameters;
+    private final BillingPeriodService billingPeriodService;
+    private final ContractDtoToDomainConverter contractDtoToDomainConverter;
+    private final ContractDiscountDtoConverter contractDiscountDtoConverter;
+    private final OneTimeChargeDtoConverter oneTimeChargeDtoConverter;
+    private final Integer partitionKey;
+    private final Integer partitionCount;
+    private final boolean deltaOnly;
+
+    private SqlSession sqlSession;
+    private final List<Cursor<?>> cursors = new ArrayList<>();
+
+    private Iterator<Long> contractIds;
+    private ContractOrderedSource<ContractProductsSuspensionsDto> products;
+    private ContractOrderedSource<ContractDiscountDto> discounts;
+    private ContractOrderedSource<DeviceInstallmentDto> installments;
+    private ContractOrderedSource<InstallationHistoryDto> installations;
+
+    private long readCount = 0;
+    private Long lastContractId;
+    private Long resumeAfterContractId;
+
+    // 프로파일링 모드에서만 설정된다 (batch.profiling.enabled)
+    @Setter
+    private ContractProfiler contractProfiler;
+
+    public SortMergeContractReader(
+            SqlSessionFactory sqlSessionFactory,
+            CalculationParameters calculationParameters,
+            BillingPeriodService billingPeriodService,
+            ContractDtoToDomainConverter contractDtoToDomainConverter,
+            ContractDiscountDtoConverter contractDiscountDtoConverter,
+            OneTimeChargeDtoConverter oneTimeChargeDtoConverter,
+            Integer partitionKey,
+            Integer partitionCount,
+            boolean deltaOnly) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.calculationParameters = calculationParameters;
+        this.billingPeriodService = billingPeriodService;
+        this.contractDtoToDomainConverter = contractDtoToDomainConverter;
+        this.contractDiscountDtoConverter = contractDiscountDtoConverter;
+        this.oneTimeChargeDtoConverter = oneTimeChargeDtoConverter;
+        this.partitionKey = partitionKey;
+        this.partitionCount = partitionCount;
+        this.deltaOnly = deltaOnly;
+
+        log.info("=== SortMergeContractReader 생성 (파티션 {}/{}) ===", partitionKey, partitionCount);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (sqlSession != null) {
+            return;
+        }
+        log.info("=== SortMergeContractReader open() 시작 (파티션 {}) ===", partitionKey);
+        if (executionContext.containsKey(LAST_CONTRACT_ID_KEY)) {
+            resumeAfterContractId = executionContext.getLong(LAST_CONTRACT_ID_KEY);
+            log.info("=== 계약 ID {} 이후부터 이어서 처리 (파티션 {}) ===", resumeAfterContractId, partitionKey);
+        }
+
+        CalculationContext ctx = calculationParameters.toCalculationContext();
+        // 상품 조회는 DataLoader와 동일하게 청구기간 보정(말일 포함 여부)을 적용한다.
+        DefaultPeriod productPeriod = billingPeriodService.createBillingPeriod(ctx);
+
+        Map<String, Object> params = partitionParameters(ctx.billingStartDate(), ctx.billingEndDate());
+        Map<String, Object> productParams = partitionParameters(productPeriod.getStartDate(), productPeriod.getEndDate());
+
+        try {
+            // 모든 커서를 하나의 세션(커넥션)에서 연다. 파티션당 커넥션은 하나만 사용한다.
+            sqlSession = sqlSessionFactory.openSession();
+            Cursor<Long> contractIdCursor = openCursor(CONTRACT_ID_STATEMENT, params);
+            contractIds = contractIdCursor.iterator();
+
+            products = new ContractOrderedSource<>("상품",
+                    this.<ContractProductsSuspensionsDto>openCursor(PRODUCT_STATEMENT, productParams).iterator(),
+                    ContractProductsSuspensionsDto::getContractId);
+            discounts = new ContractOrderedSource<>("할인",
+                    this.<ContractDiscountDto>openCursor(DISCOUNT_STATEMENT, params).iterator(),
+                    ContractDiscountDto::getContractId);
+            installments = new ContractOrderedSource<>("단말할부",
+                    this.<DeviceInstallmentDto>openCursor(INSTALLMENT_STATEMENT, params).iterator(),
+                    DeviceInstallmentDto::getContractId);
+            installations = new ContractOrderedSource<>("설치내역",
+                    this.<InstallationHistoryDto>openCursor(INSTALLATION_STATEMENT, params).iterator(),
+                    InstallationHistoryDto::getContractId);
+        } catch (RuntimeException e) {
+            close();
+            throw new ItemStreamException("정렬 병합 커서 초기화 실패 (파티션 " + partitionKey + ")", e);
+        }
+
+        log.info("=== SortMergeContractReader open() 완료 (파티션 {}) ===", partitionKey);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastContractId != null) {
+            executionContext.putLong(LAST_CONTRACT_ID_KEY, lastContractId);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        for (Cursor<?> cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                log.warn("커서 close 실패 (파티션 {})", partitionKey, e);
+            }
+        }
+        cursors.clear();
+        if (sqlSession != null) {
+            sqlSession.close();
+            sqlSession = null;
+            log.info("=== SortMergeContractReader close() 완료 (파티션 {}, {} 건) ===", partitionKey, readCount);
+        }
+    }
+
+    @Override
+    public CalculationTarget read() {
+        if (contractIds == null) {
+            return null;
+        }
+        while (contractIds.hasNext()) {
+            Long contractId = contractIds.next();
+            // 이미 커밋된 계약은 건너뛴다. 다른 소스의 해당 데이터는 takeFor에서 함께 버려진다.
+            if (resumeAfterContractId != null && contractId <= resumeAfterContractId) {
+                continue;
+            }
+            readCount++;
+            lastContractId = contractId;
+            if (contractProfiler == null) {
+                return createCalculationTarget(contractId);
+            }
+            long startedAt = System.nanoTime();
+            CalculationTarget calculationTarget = createCalculationTarget(contractId);
+            contractProfiler.recordLoad(contractId, System.nanoTime() - startedAt);
+            return calculationTarget;
+        }
+        return null;
+    }
+
+    /**
+     * 각 테이블 커서에서 해당 계약의 데이터를 꺼내 CalculationTarget을 만든다.
+     * 데이터가 없는 유형은 CalculationCommandService와 동일하게 맵에 넣지 않는다.
+     */
+    private CalculationTarget createCalculationTarget(Long contractId) {
+        Map<Class<? extends MonthlyChargeDomain>, List<? extends MonthlyChargeDomain>> monthlyChargeData = new HashMap<>();
+        List<ContractWithProductsAndSuspensions> contracts =
+                contractDtoToDomainConverter.convertToContracts(products.takeFor(contractId));
+        if (!contracts.isEmpty()) {
+            monthlyChargeData.put(ContractWithProductsAndSuspensions.class, contracts);
+        }
+
+        Map<Class<? extends OneTimeChargeDomain>, List<? extends OneTimeChargeDomain>> oneTimeChargeData = new HashMap<>();
+        List<DeviceInstallmentMaster> deviceInstallments =
+                oneTimeChargeDtoConverter.convertToDeviceInstallmentMasters(installments.takeFor(contractId));
+        if (!deviceInstallments.isEmpty()) {
+            oneTimeChargeData.put(DeviceInstallmentMaster.class, deviceInstallments);
+        }
+        List<InstallationHistory> installationHistories =
+                oneTimeChargeDtoConverter.convertToInstallationHistories(installations.takeFor(contractId));
+        if (!installationHistories.isEmpty()) {
+            oneTimeChargeData.put(InstallationHistory.class, installationHistories);
+        }
+
+        List<Discount> contractDiscounts = contractDiscountDtoConverter
+                .convertToContractDiscounts(discounts.takeFor(contractId)).stream()
+                .flatMap(contractDiscount -> contractDiscount.discounts().stream())
+                .toList();
+
+        return new CalculationTarget(contractId, monthlyChargeData, oneTimeChargeData, contractDiscounts);
+    }
+
+    private <T> Cursor<T> openCursor(String statement, Map<String, Object> parameterValues) {
+        Cursor<T> cursor = sqlSession.selectCursor(statement, parameterValues);
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    private Map<String, Object> partitionParameters(LocalDate billingStartDate, LocalDate billingEndDate) {
+        Map<String, Object> parameterValues = new HashMap<>();
+        parameterValues.put("partitionKey", partitionKey);
+        parameterValues.put("partitionCount", partitionCount);
+        parameterValues.put("billingStartDate", billingStartDate);
+        parameterValues.put("billingEndDate", billingEndDate);
+        // 증분 재계산이면 계약 ID 커서만 대상 계약으로 좁힌다. 다른 커서의 나머지 계약 데이터는 병합 중에 버려진다.
+        parameterValues.put("deltaOnly", deltaOnly);
+        return parameterValues;
+    }
+}
@@ -0,0 +1,128 @@
+package me.realimpact.telecom.billing.batch.remote;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 작업 큐 기반 원격 파티셔닝의 매니저 측 PartitionHandler.
+ * 파티션 StepExecution들을 JobRepository에 만든 뒤 batch_partition_queue에 등록하고,
+ * 별도 워커 JVM들(PartitionQueueWorker)이 실행을 마칠 때까지 큐를 폴링한다.
+ * 폴링 중 하트비트가 끊긴 파티션은 다시 READY로 돌려 다른 워커가 이어서 실행하게 하고,
+ * 재시도 횟수를 모두 소진한 파티션은 실패 처리한다.
+ *
+ * 외부 메시지 브로커 없이 JobRepository와 같은 DB만으로 동작한다.
+ */
+@Slf4j
+public class DbWorkQueuePartitionHandler implements PartitionHandler {
+
+    private final PartitionWorkQueue partitionWorkQueue;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final String stepName;
+    private final int gridSize;
+    private final String runSignature;
+    private final Duration pollInterval;
+    private final int heartbeatTimeoutSeconds;
+    private final int maxAttempts;
+    private final Duration timeout;
+
+    public DbWorkQueuePartitionHandler(
+            PartitionWorkQueue partitionWorkQueue,
+            JobExplorer jobExplorer,
+            JobRepository jobRepository,
+            String stepName,
+            int gridSize,
+            String runSignature,
+            Duration pollInterval,
+            int heartbeatTimeoutSeconds,
+            int maxAttempts,
+            Duration timeout) {
+        this.partitionWorkQueue = partitionWorkQueue;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.stepName = stepName;
+        this.gridSize = gridSize;
+        this.runSignature = runSignature;
+        this.pollInterval = pollInterval;
+        this.heartbeatTimeoutSeconds = heartbeatTimeoutSeconds;
+        this.maxAttempts = maxAttempts;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter, StepExecution managerStepExecution) throws Exception {
+        Long jobExecutionId = managerStepExecution.getJobExecutionId();
+
+        // 재시작 시 splitter는 완료되지 않은 파티션만 새 StepExecution으로 돌려준다.
+        Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, gridSize);
+        List<Long> stepExecutionIds = partitions.stream().map(StepExecution::getId).toList();
+
+        partitionWorkQueue.enqueue(jobExecutionId, stepName, runSignature, stepExecutionIds);
+        log.info("=== 파티션 작업 큐 등록 완료 === jobExecutionId: {}, 파티션 수: {}, 실행 서명: {}",
+                jobExecutionId, stepExecutionIds.size(), runSignature);
+
+        long startedAt = System.currentTimeMillis();
+        int lastOpenCount = -1;
+        while (true) {
+            int reclaimed = partitionWorkQueue.reclaimStale(jobExecutionId, heartbeatTimeoutSeconds, maxAttempts);
+            if (reclaimed > 0) {
+                log.warn("하트비트가 끊긴 파티션 {}개를 재할당 대기열로 되돌렸습니다.", reclaimed);
+            }
+            failExhausted(jobExecutionId);
+
+            int openCount = partitionWorkQueue.countOpen(jobExecutionId);
+            if (openCount == 0) {
+                break;
+            }
+            if (openCount != lastOpenCount) {
+                log.info("파티션 진행 현황: 남은 파티션 {}/{}", openCount, stepExecutionIds.size());
+                lastOpenCount = openCount;
+            }
+            if (!timeout.isZero() && System.currentTimeMillis() - startedAt > timeout.toMillis()) {
+                throw new TimeoutException("원격 파티션 실행 대기 시간 초과: 남은 파티션 " + openCount + "개");
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+
+        log.info("=== 모든 원격 파티션 실행 종료 === jobExecutionId: {}", jobExecutionId);
+
+        // 워커가 JobRepository에 기록한 최종 상태를 매니저 Step 집계에 사용한다.
+        return stepExecutionIds.stream()
+                .map(stepExecutionId -> jobExplorer.getStepExecution(jobExecutionId, stepExecutionId))
+                .toList();
+    }
+
+    /**
+     * 재시도 횟수를 모두 소진한 파티션을 큐와 JobRepository 양쪽에서 실패 처리한다
+     */
+    private void failExhausted(Long jobExecutionId) {
+        for (Long stepExecutionId : partitionWorkQueue.findExhausted(jobExecutionId, heartbeatTimeoutSeconds, maxAttempts)) {
+            if (!partitionWorkQueue.markFailed(stepExecutionId)) {
+                continue;
+            }
+            StepExecution stepExecution = jobExplorer.getStepExecution(jobExecutionId, stepExecutionId);
+            if (stepExecution != null && stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(
+                        "워커 하트비트 끊김, 재시도 " + maxAttempts + "회 소진"));
+                stepExecution.setEndTime(LocalDateTime.now());
+                jobRepository.update(stepExecution);
+            }
+            log.error("파티션 실패 처리: stepExecutionId {} (재시도 {}회 소진)", stepExecutionId, maxAttempts);
+        }
+    }
+}
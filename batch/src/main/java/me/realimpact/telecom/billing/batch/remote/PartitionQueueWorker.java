@@ -0,0 +1,175 @@
+package me.realimpact.telecom.billing.batch.remote;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 작업 큐 기반 원격 파티셔닝의 워커.
+ * batch_partition_queue에서 같은 실행 서명의 파티션을 선점하여 Worker Step을 실행하고 결과를 기록한다.
+ * 실행 중에는 주기적으로 하트비트를 갱신하며, 소유권을 잃으면(매니저가 재할당) 다음 청크 경계에서 Step을 중단한다.
+ *
+ * concurrency개의 스레드가 각자 선점/실행을 반복하고, 모든 스레드가 idleTimeout 동안 일감을 찾지 못하면 종료한다.
+ */
+@Slf4j
+public class PartitionQueueWorker {
+
+    private final PartitionWorkQueue partitionWorkQueue;
+    private final JobExplorer jobExplorer;
+    private final Step workerStep;
+    private final String runSignature;
+    private final int concurrency;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration idleTimeout;
+
+    private final String workerIdPrefix = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+
+    public PartitionQueueWorker(
+            PartitionWorkQueue partitionWorkQueue,
+            JobExplorer jobExplorer,
+            Step workerStep,
+            String runSignature,
+            int concurrency,
+            Duration pollInterval,
+            Duration heartbeatInterval,
+            Duration idleTimeout) {
+        this.partitionWorkQueue = partitionWorkQueue;
+        this.jobExplorer = jobExplorer;
+        this.workerStep = workerStep;
+        this.runSignature = runSignature;
+        this.concurrency = concurrency;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * 일감이 없을 때까지 파티션을 처리한다
+     *
+     * @return 실행한 파티션 중 실패가 없으면 true
+     */
+    public boolean run() throws InterruptedException {
+        log.info("=== 파티션 워커 시작 === worker: {}, 동시 실행: {}, 실행 서명: {}", workerIdPrefix, concurrency, runSignature);
+
+        ExecutorService workerThreads = Executors.newFixedThreadPool(concurrency);
+        ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            List<Future<?>> loops = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                String workerId = workerIdPrefix + "#" + i;
+                loops.add(workerThreads.submit(() -> workLoop(workerId, heartbeatScheduler)));
+            }
+            for (Future<?> loop : loops) {
+                try {
+                    loop.get();
+                } catch (ExecutionException e) {
+                    log.error("파티션 워커 스레드 오류", e.getCause());
+                    failed.set(true);
+                }
+            }
+        } finally {
+            workerThreads.shutdownNow();
+            heartbeatScheduler.shutdownNow();
+        }
+
+        log.info("=== 파티션 워커 종료 === worker: {}, 실패 여부: {}", workerIdPrefix, failed.get());
+        return !failed.get();
+    }
+
+    private void workLoop(String workerId, ScheduledExecutorService heartbeatScheduler) {
+        long idleSince = System.currentTimeMillis();
+        while (!Thread.currentThread().isInterrupted()) {
+            PartitionWorkQueue.WorkItem claimed = claimNext(workerId);
+            if (claimed == null) {
+                if (System.currentTimeMillis() - idleSince > idleTimeout.toMillis()) {
+                    return;
+                }
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+
+            execute(claimed, workerId, heartbeatScheduler);
+            idleSince = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * READY 파티션을 하나 선점한다. 다른 워커와 경합하면 다음 후보로 넘어간다.
+     */
+    private PartitionWorkQueue.WorkItem claimNext(String workerId) {
+        for (PartitionWorkQueue.WorkItem candidate : partitionWorkQueue.findReady(runSignature, concurrency)) {
+            if (partitionWorkQueue.claim(candidate.stepExecutionId(), workerId)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void execute(PartitionWorkQueue.WorkItem item, String workerId, ScheduledExecutorService heartbeatScheduler) {
+        Long stepExecutionId = item.stepExecutionId();
+        StepExecution stepExecution = jobExplorer.getStepExecution(item.jobExecutionId(), stepExecutionId);
+        if (stepExecution == null) {
+            log.error("StepExecution을 찾을 수 없습니다: {}", stepExecutionId);
+            partitionWorkQueue.complete(stepExecutionId, workerId, PartitionWorkQueue.FAILED);
+            failed.set(true);
+            return;
+        }
+
+        log.info("=== 파티션 실행 시작 === {} (stepExecutionId: {}, worker: {})",
+                stepExecution.getStepName(), stepExecutionId, workerId);
+
+        ScheduledFuture<?> heartbeat = heartbeatScheduler.scheduleAtFixedRate(() -> {
+            try {
+                if (!partitionWorkQueue.heartbeat(stepExecutionId, workerId)) {
+                    // 매니저가 재할당한 파티션: 다음 청크 경계에서 중단시킨다.
+                    log.warn("파티션 소유권 상실, 실행 중단 요청: stepExecutionId {}", stepExecutionId);
+                    stepExecution.setTerminateOnly();
+                }
+            } catch (RuntimeException e) {
+                log.warn("하트비트 갱신 실패: stepExecutionId {}", stepExecutionId, e);
+            }
+        }, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            workerStep.execute(stepExecution);
+        } catch (Exception e) {
+            log.error("파티션 실행 중 오류: stepExecutionId {}", stepExecutionId, e);
+        } finally {
+            heartbeat.cancel(false);
+        }
+
+        boolean completed = stepExecution.getStatus() == BatchStatus.COMPLETED;
+        if (!completed) {
+            failed.set(true);
+        }
+        if (!partitionWorkQueue.complete(stepExecutionId, workerId, completed ? PartitionWorkQueue.DONE : PartitionWorkQueue.FAILED)) {
+            log.warn("파티션 결과 기록 실패 (소유권 상실): stepExecutionId {}", stepExecutionId);
+        }
+
+        log.info("=== 파티션 실행 종료 === {} (stepExecutionId: {}), 상태: {}",
+                stepExecution.getStepName(), stepExecutionId, stepExecution.getStatus());
+    }
+}
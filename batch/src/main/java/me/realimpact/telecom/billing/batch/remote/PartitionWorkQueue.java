@@ -0,0 +1,171 @@
+package me.realimpact.telecom.billing.batch.remote;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원격 파티셔닝용 파티션 작업 큐 (batch_partition_queue 테이블).
+ * 매니저가 파티션 StepExecution ID를 등록하고, 워커 JVM들이 선점(claim) → 실행 → 완료 처리한다.
+ *
+ * 모든 갱신은 Step 트랜잭션 밖에서 즉시 커밋되며, 시각 비교는 노드 간 시계 차이를 피하기 위해 DB 시각(SYSTIMESTAMP)을 사용한다.
+ * 선점/하트비트/완료는 worker_id 조건으로 갱신하므로, 재할당된 파티션을 이전 워커가 덮어쓰지 못한다.
+ *
+ * 상태: READY → CLAIMED → DONE | FAILED (하트비트가 끊긴 CLAIMED는 READY로 되돌린다)
+ */
+@RequiredArgsConstructor
+public class PartitionWorkQueue {
+
+    public static final String READY = "READY";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기 중인 파티션 작업
+     */
+    public record WorkItem(Long stepExecutionId, Long jobExecutionId) {
+    }
+
+    /**
+     * 파티션들을 READY 상태로 등록한다
+     *
+     * @param jobExecutionId 매니저 JobExecution ID
+     * @param stepName 파티션 Step 이름
+     * @param runSignature 실행 인자 서명 (같은 서명의 워커만 선점한다)
+     * @param stepExecutionIds 파티션 StepExecution ID 목록
+     */
+    public void enqueue(Long jobExecutionId, String stepName, String runSignature, Collection<Long> stepExecutionIds) {
+        List<Object[]> rows = stepExecutionIds.stream()
+                .map(stepExecutionId -> new Object[]{stepExecutionId, jobExecutionId, stepName, runSignature})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO batch_partition_queue
+                    (step_execution_id, job_execution_id, step_name, run_signature, status, attempt_count, created_at)
+                VALUES (?, ?, ?, ?, 'READY', 0, SYSTIMESTAMP)
+                """, rows);
+    }
+
+    /**
+     * 선점 가능한 파티션을 조회한다 (선점은 claim으로 별도 수행)
+     */
+    public List<WorkItem> findReady(String runSignature, int limit) {
+        return jdbcTemplate.query("""
+                SELECT step_execution_id, job_execution_id
+                  FROM batch_partition_queue
+                 WHERE status = 'READY'
+                   AND run_signature = ?
+                 ORDER BY created_at, step_execution_id
+                 FETCH FIRST ? ROWS ONLY
+                """,
+                (rs, rowNum) -> new WorkItem(rs.getLong("step_execution_id"), rs.getLong("job_execution_id")),
+                runSignature, limit);
+    }
+
+    /**
+     * 파티션을 선점한다. 다른 워커가 먼저 선점했으면 false를 반환한다.
+     */
+    public boolean claim(Long stepExecutionId, String workerId) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_queue
+                   SET status = 'CLAIMED',
+                       worker_id = ?,
+                       attempt_count = attempt_count + 1,
+                       claimed_at = SYSTIMESTAMP,
+                       heartbeat_at = SYSTIMESTAMP
+                 WHERE step_execution_id = ?
+                   AND status = 'READY'
+                """, workerId, stepExecutionId) == 1;
+    }
+
+    /**
+     * 하트비트를 갱신한다. 파티션이 재할당되어 소유권을 잃었으면 false를 반환한다.
+     */
+    public boolean heartbeat(Long stepExecutionId, String workerId) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_queue
+                   SET heartbeat_at = SYSTIMESTAMP
+                 WHERE step_execution_id = ?
+                   AND worker_id = ?
+                   AND status = 'CLAIMED'
+                """, stepExecutionId, workerId) == 1;
+    }
+
+    /**
+     * 파티션 실행 결과를 기록한다. 소유권을 잃었으면 false를 반환한다.
+     *
+     * @param status DONE 또는 FAILED
+     */
+    public boolean complete(Long stepExecutionId, String workerId, String status) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_queue
+                   SET status = ?,
+                       completed_at = SYSTIMESTAMP
+                 WHERE step_execution_id = ?
+                   AND worker_id = ?
+                   AND status = 'CLAIMED'
+                """, status, stepExecutionId, workerId) == 1;
+    }
+
+    /**
+     * 하트비트가 끊긴 파티션 중 재시도 횟수가 남은 것을 READY로 되돌린다
+     *
+     * @return 재할당 대상으로 돌린 파티션 수
+     */
+    public int reclaimStale(Long jobExecutionId, int heartbeatTimeoutSeconds, int maxAttempts) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_queue
+                   SET status = 'READY',
+                       worker_id = NULL
+                 WHERE job_execution_id = ?
+                   AND status = 'CLAIMED'
+                   AND attempt_count < ?
+                   AND heartbeat_at < SYSTIMESTAMP - NUMTODSINTERVAL(?, 'SECOND')
+                """, jobExecutionId, maxAttempts, heartbeatTimeoutSeconds);
+    }
+
+    /**
+     * 하트비트가 끊겼고 재시도 횟수를 모두 소진한 파티션을 조회한다
+     */
+    public List<Long> findExhausted(Long jobExecutionId, int heartbeatTimeoutSeconds, int maxAttempts) {
+        return jdbcTemplate.queryForList("""
+                SELECT step_execution_id
+                  FROM batch_partition_queue
+                 WHERE job_execution_id = ?
+                   AND status = 'CLAIMED'
+                   AND attempt_count >= ?
+                   AND heartbeat_at < SYSTIMESTAMP - NUMTODSINTERVAL(?, 'SECOND')
+                """, Long.class, jobExecutionId, maxAttempts, heartbeatTimeoutSeconds);
+    }
+
+    /**
+     * 선점 상태의 파티션을 실패 처리한다 (매니저가 재시도 소진 시 사용)
+     */
+    public boolean markFailed(Long stepExecutionId) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_queue
+                   SET status = 'FAILED',
+                       completed_at = SYSTIMESTAMP
+                 WHERE step_execution_id = ?
+                   AND status = 'CLAIMED'
+                """, stepExecutionId) == 1;
+    }
+
+    /**
+     * 아직 끝나지 않은(READY, CLAIMED) 파티션 수
+     */
+    public int countOpen(Long jobExecutionId) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                  FROM batch_partition_queue
+                 WHERE job_execution_id = ?
+                   AND status IN ('READY', 'CLAIMED')
+                """, Integer.class, jobExecutionId);
+        return count == null ? 0 : count;
+    }
+}
@@ -6,13 +6,17 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import me.realimpact.telecom.billing.batch.remote.PartitionQueueWorker;
+
 /**
  * Spring Batch Job을 수동으로 실행하는 CommandLineRunner
  * spring.batch.job.names 파라미터를 기반으로 실행할 Job을 선택
@@ -25,6 +29,7 @@ public class BatchCommandLineRunner implements CommandLineRunner {
 
     private final JobLauncher jobLauncher;
     private final ConfigurableApplicationContext applicationContext;
+    private final ObjectProvider<PartitionQueueWorker> partitionQueueWorkerProvider;
 
     @Value("${spring.batch.job.names:}")
     private String jobNames;
@@ -39,6 +44,14 @@ public class BatchCommandLineRunner implements CommandLineRunner {
                 return;
             }
 
+            // 원격 파티셔닝 워커 모드: Job을 실행하지 않고 작업 큐의 파티션만 처리한다.
+            PartitionQueueWorker partitionQueueWorker = partitionQueueWorkerProvider.getIfAvailable();
+            if (partitionQueueWorker != null) {
+                log.info("=== 원격 파티션 워커 모드로 실행 ===");
+                hasFailure = !partitionQueueWorker.run();
+                return;
+            }
+
             String[] jobNameArray = jobNames.split(",");
 
             for (String jobName : jobNameArray) {
@@ -108,6 +121,10 @@ public class BatchCommandLineRunner implements CommandLineRunner {
                         if (executor instanceof ThreadPoolTaskExecutor threadPoolExecutor) {
                             log.info("TaskExecutor shutdown: {}", name);
                             threadPoolExecutor.shutdown();
+                        } else if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncExecutor) {
+                            // 가상 스레드 Executor: 실행 중인 작업이 끝날 때까지 대기 후 종료
+                            log.info("TaskExecutor close: {}", name);
+                            simpleAsyncExecutor.close();
                         }
                     });
 
@@ -0,0 +1,119 @@
+package me.realimpact.telecom.billing.batch.spill;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import me.realimpact.telecom.calculation.infrastructure.adapter.columnar.ColumnValueEncoder;
+
+/**
+ * 계산 결과의 저장 대상 컬럼만 담는 바이너리 인코더/디코더.
+ * 문자열 사전 번호와 epoch day는 컬럼 파일과 같은 ColumnValueEncoder로 만들고, 금액은 가능한 경우 long 비정규화 값으로 기록한다.
+ *
+ * 복원된 결과에는 도메인 객체와 후처리기가 없으므로, 후처리는 디스크로 내보내기 전에 따로 모아 두어야 한다.
+ * 사전은 인스턴스에 보관되므로 같은 인스턴스로 인코딩한 데이터만 디코딩할 수 있다.
+ */
+class CalculationResultCodec {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private static final byte DECIMAL_NULL = 0;
+    private static final byte DECIMAL_COMPACT = 1;
+    private static final byte DECIMAL_BIG = 2;
+
+    private static final Suspension.SuspensionType[] SUSPENSION_TYPES = Suspension.SuspensionType.values();
+
+    private final ColumnValueEncoder encoder = new ColumnValueEncoder();
+
+    /**
+     * 결과 한 건을 기록한다. 공간이 부족하면 BufferOverflowException이 발생하며, 이때 버퍼 위치는 정의되지 않는다.
+     */
+    void encode(CalculationResult<?> result, ByteBuffer buffer) {
+        buffer.putLong(result.getContractId() == null ? NULL_LONG : result.getContractId());
+        putDate(buffer, result.getBillingStartDate());
+        putDate(buffer, result.getBillingEndDate());
+        buffer.putInt(encoder.dictionaryId(result.getProductOfferingId()));
+        buffer.putInt(encoder.dictionaryId(result.getChargeItemId()));
+        buffer.putInt(encoder.dictionaryId(result.getRevenueItemId()));
+        putDate(buffer, result.getEffectiveStartDate());
+        putDate(buffer, result.getEffectiveEndDate());
+        buffer.put(result.getSuspensionType() == null ? 0 : (byte) (result.getSuspensionType().ordinal() + 1));
+        putDecimal(buffer, result.getFee());
+        putDecimal(buffer, result.getBalance());
+    }
+
+    /**
+     * 결과 한 건을 읽는다 (도메인 객체와 후처리기는 null)
+     */
+    CalculationResult<?> decode(ByteBuffer buffer) {
+        long contractId = buffer.getLong();
+        LocalDate billingStartDate = getDate(buffer);
+        LocalDate billingEndDate = getDate(buffer);
+        String productOfferingId = encoder.dictionaryValue(buffer.getInt());
+        String chargeItemId = encoder.dictionaryValue(buffer.getInt());
+        String revenueItemId = encoder.dictionaryValue(buffer.getInt());
+        LocalDate effectiveStartDate = getDate(buffer);
+        LocalDate effectiveEndDate = getDate(buffer);
+        byte suspensionType = buffer.get();
+        BigDecimal fee = getDecimal(buffer);
+        BigDecimal balance = getDecimal(buffer);
+
+        return new CalculationResult<>(
+                contractId == NULL_LONG ? null : contractId,
+                billingStartDate,
+                billingEndDate,
+                productOfferingId,
+                chargeItemId,
+                revenueItemId,
+                effectiveStartDate,
+                effectiveEndDate,
+                suspensionType == 0 ? null : SUSPENSION_TYPES[suspensionType - 1],
+                fee,
+                balance,
+                null,
+                null
+        );
+    }
+
+    private static void putDate(ByteBuffer buffer, LocalDate date) {
+        buffer.putInt(ColumnValueEncoder.epochDay(date));
+    }
+
+    private static LocalDate getDate(ByteBuffer buffer) {
+        return ColumnValueEncoder.toDate(buffer.getInt());
+    }
+
+    private static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value == null) {
+            buffer.put(DECIMAL_NULL);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        buffer.put(unscaled.bitLength() < 64 ? DECIMAL_COMPACT : DECIMAL_BIG);
+        buffer.putInt(value.scale());
+        if (unscaled.bitLength() < 64) {
+            buffer.putLong(unscaled.longValue());
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        if (kind == DECIMAL_NULL) {
+            return null;
+        }
+        int scale = buffer.getInt();
+        if (kind == DECIMAL_COMPACT) {
+            return BigDecimal.valueOf(buffer.getLong(), scale);
+        }
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+}
@@ -0,0 +1,248 @@
+package me.realimpact.telecom.billing.batch.spill;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.PostProcessingBatch;
+
+/**
+ * 파티션 단위 계산 결과 버퍼 (batch.spill.enabled=true 일 때만 사용).
+ * Processor가 계산한 결과 그룹을 청크가 끝날 때까지 보관하되, 추정 메모리가 예산을 넘으면
+ * 보관 중인 결과를 저장 대상 컬럼만 바이너리로 인코딩해 메모리 매핑된 임시 파일로 내보내고 힙에서 놓는다.
+ * Writer는 내보낸 결과를 flush 단위로 다시 읽어 저장하므로, 파티션의 힙 사용량은 청크 크기가 아닌 예산으로 정해진다.
+ *
+ * 결과의 후처리(할인 적용, 설치비 청구 표시 등)는 도메인 객체가 필요하므로 내보내기 전에 postProcessingBatch로 모아 힙에 남긴다.
+ * 매핑 구간(segment)은 Step 동안 재사용하며, 청크가 시작될 때 비우고 Step이 끝나면 파일을 삭제한다.
+ */
+@Slf4j
+public class SpillingResultBuffer implements ChunkListener, StepExecutionListener {
+
+    // 힙에 보관 중인 결과 한 건의 추정 크기 (결과 객체, 금액, 날짜). 도메인 객체는 다른 결과와 공유되는 경우가 많아 제외한다.
+    public static final long ESTIMATED_RESULT_BYTES = 256;
+
+    private static final int INITIAL_SCRATCH_BYTES = 1024;
+    private static final int MIN_SEGMENT_BYTES = 1024 * 1024;
+
+    // Processor가 Writer로 넘기는 자리표시 그룹
+    private static final CalculationResultGroup PLACEHOLDER = new CalculationResultGroup(List.of());
+
+    private final long memoryBudgetBytes;
+    private final int segmentBytes;
+    private final Path spillDirectory;
+
+    private final List<CalculationResultGroup> held = new ArrayList<>();
+    private long heldBytes;
+    private PostProcessingBatch postProcessingBatch = new PostProcessingBatch();
+
+    private CalculationResultCodec codec = new CalculationResultCodec();
+    private ByteBuffer scratch = ByteBuffer.allocate(INITIAL_SCRATCH_BYTES);
+
+    private Path spillFile;
+    private FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<Integer> segmentLimits = new ArrayList<>();
+    private int currentSegment = -1;
+    private long spilledInChunk;
+
+    // Step 전체 통계
+    private long totalSpilledResults;
+    private long totalSpills;
+    private long maxSpilledBytes;
+
+    public SpillingResultBuffer(long memoryBudgetBytes, int segmentBytes, Path spillDirectory) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.segmentBytes = Math.max(segmentBytes, MIN_SEGMENT_BYTES);
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * 결과 그룹을 보관한다. Processor는 반환된 빈 그룹을 Writer로 넘긴다 (실제 결과는 Writer가 버퍼에서 꺼낸다).
+     */
+    public CalculationResultGroup add(CalculationResultGroup group) {
+        held.add(group);
+        heldBytes += group.calculationResults().size() * ESTIMATED_RESULT_BYTES;
+        if (heldBytes > memoryBudgetBytes) {
+            spillHeld();
+        }
+        return PLACEHOLDER;
+    }
+
+    /**
+     * 보관 중인 결과를 모두 디스크로 내보낸다
+     */
+    private void spillHeld() {
+        int spilled = 0;
+        for (CalculationResultGroup group : held) {
+            for (CalculationResult<?> result : group.calculationResults()) {
+                result.collectPost(postProcessingBatch);
+                write(result);
+                spilled++;
+            }
+        }
+        held.clear();
+        heldBytes = 0;
+
+        spilledInChunk += spilled;
+        totalSpilledResults += spilled;
+        totalSpills++;
+        maxSpilledBytes = Math.max(maxSpilledBytes, spilledBytes());
+        log.debug("계산 결과 {}건 디스크로 내보냄 (청크 누적 {}건, {} bytes)", spilled, spilledInChunk, spilledBytes());
+    }
+
+    private void write(CalculationResult<?> result) {
+        scratch.clear();
+        while (true) {
+            try {
+                codec.encode(result, scratch);
+                break;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        scratch.flip();
+
+        if (currentSegment < 0 || segments.get(currentSegment).remaining() < scratch.remaining()) {
+            nextSegment();
+        }
+        MappedByteBuffer segment = segments.get(currentSegment);
+        segment.put(scratch);
+        segmentLimits.set(currentSegment, segment.position());
+    }
+
+    /**
+     * 다음 매핑 구간으로 넘어간다. 이전 청크에서 매핑한 구간이 있으면 재사용한다.
+     */
+    private void nextSegment() {
+        currentSegment++;
+        if (currentSegment < segments.size()) {
+            segments.get(currentSegment).clear();
+            segmentLimits.set(currentSegment, 0);
+            return;
+        }
+        try {
+            if (channel == null) {
+                Files.createDirectories(spillDirectory);
+                spillFile = Files.createTempFile(spillDirectory, "calc-spill-", ".bin");
+                spillFile.toFile().deleteOnExit();
+                channel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) currentSegment * segmentBytes, segmentBytes));
+            segmentLimits.add(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("계산 결과 임시 파일 매핑 실패: " + spillDirectory, e);
+        }
+    }
+
+    private long spilledBytes() {
+        long bytes = 0;
+        for (int i = 0; i <= currentSegment; i++) {
+            bytes += segmentLimits.get(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * 힙에 보관 중인 결과
+     */
+    public List<CalculationResult<?>> heldResults() {
+        List<CalculationResult<?>> results = new ArrayList<>();
+        held.forEach(group -> results.addAll(group.calculationResults()));
+        return results;
+    }
+
+    /**
+     * 디스크로 내보낸 결과를 batchSize 단위로 복원하여 순서대로 넘긴다
+     */
+    public void forEachSpilledBatch(int batchSize, Consumer<List<CalculationResult<?>>> consumer) {
+        List<CalculationResult<?>> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i <= currentSegment; i++) {
+            ByteBuffer segment = segments.get(i).duplicate();
+            segment.position(0).limit(segmentLimits.get(i));
+            while (segment.hasRemaining()) {
+                batch.add(codec.decode(segment));
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * 디스크로 내보낸 결과들의 후처리. Writer는 힙에 남은 결과의 후처리를 여기에 더해 한 번에 실행한다.
+     */
+    public PostProcessingBatch postProcessingBatch() {
+        return postProcessingBatch;
+    }
+
+    /**
+     * 청크 하나의 내용을 비운다. 매핑 구간과 문자열 사전은 다음 청크에서 재사용한다.
+     */
+    public void clear() {
+        held.clear();
+        heldBytes = 0;
+        postProcessingBatch = new PostProcessingBatch();
+        currentSegment = -1;
+        spilledInChunk = 0;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        // 실패한 청크가 남긴 내용을 버린다.
+        clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (totalSpills > 0) {
+            log.info("=== 계산 결과 디스크 버퍼 사용 ({}) === 내보낸 횟수: {}, 내보낸 결과: {}건, 최대 사용량: {} bytes",
+                    stepExecution.getStepName(), totalSpills, totalSpilledResults, maxSpilledBytes);
+        }
+        close();
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 임시 파일을 닫고 삭제한다. 매핑은 GC 시 해제되므로 일부 OS에서는 삭제가 JVM 종료 시점으로 미뤄진다.
+     */
+    void close() {
+        clear();
+        segments.clear();
+        segmentLimits.clear();
+        codec = new CalculationResultCodec();
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            log.warn("계산 결과 임시 파일 삭제 실패 (JVM 종료 시 삭제): {}", spillFile, e);
+        } finally {
+            channel = null;
+            spillFile = null;
+        }
+    }
+}
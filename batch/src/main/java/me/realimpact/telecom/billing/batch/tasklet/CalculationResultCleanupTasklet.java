@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.billing.batch.CalculationParameters;
 import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.CalculationResultMapper;
+import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.DeltaCalculationMapper;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.scope.context.ChunkContext;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 /**
  * 계산 결과 정리 Tasklet
  * 배치 실행 전에 해당 청구 기간의 기존 계산 결과를 삭제한다.
+ * 계산 결과가 모두 지워지므로 증분 재계산 기준 시각도 함께 삭제해 다음 증분 실행이 전체 계약을 대상으로 하게 한다.
  */
 
 @RequiredArgsConstructor
@@ -22,6 +24,7 @@ import org.springframework.stereotype.Component;
 public class CalculationResultCleanupTasklet implements Tasklet {
     
     private final CalculationResultMapper calculationResultMapper;
+    private final DeltaCalculationMapper deltaCalculationMapper;
     
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -29,13 +32,14 @@ public class CalculationResultCleanupTasklet implements Tasklet {
         
         try {
             int deletedCount = calculationResultMapper.deleteAllCalculationResults();
+            int deletedWatermarkCount = deltaCalculationMapper.deleteAllWatermarks();
             
             // Step 실행 결과에 삭제된 행 수 기록
             contribution.incrementWriteCount(deletedCount);
             
             long executionTime = System.currentTimeMillis() - startTime;
             log.info("=== Calculation Result Cleanup Completed ===");
-            log.info("삭제된 행 수: {}, 실행 시간: {}ms", deletedCount, executionTime);
+            log.info("삭제된 행 수: {}, 삭제된 증분 기준 시각: {}건, 실행 시간: {}ms", deletedCount, deletedWatermarkCount, executionTime);
             
             return RepeatStatus.FINISHED;
             
@@ -0,0 +1,184 @@
+package me.realimpact.telecom.billing.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.CalculationResultMapper;
+import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.DeltaCalculationMapper;
+import me.realimpact.telecom.calculation.infrastructure.dto.SourceWatermarkDto;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분 재계산 대상 선정 Tasklet
+ * 직전 성공 실행의 원천 테이블별 기준 시각(high-water mark) 이후 변경된 계약을 calculation_delta_target에 적재하고,
+ * 해당 계약의 같은 청구기간/유형/주기 계산 결과만 삭제한다. 이번 실행의 기준 시각은 Job ExecutionContext에 담아
+ * 모든 계산이 성공한 뒤 WatermarkCommitTasklet이 저장한다.
+ * 기준 시각은 청구 계산 유형, 주기, 청구기간을 합친 키로 구분하므로 유형/주기가 다른 실행끼리 기준 시각을 공유하지 않는다.
+ *
+ * 다음 경우에는 전체 계약을 대상으로 한다.
+ * - 해당 키의 기준 시각이 없는 첫 실행 (전체 정리 Step이 실행되면 모든 기준 시각이 삭제된다)
+ * - 상품/과금항목/수익항목 등 기준 정보 테이블이 변경된 경우
+ *
+ * 원천 행의 물리 삭제는 updated_at으로 감지할 수 없으므로, 삭제가 있었던 경우에는 전체 실행이 필요하다.
+ * 비어 있는 원천 테이블은 MAX(updated_at)이 NULL이므로 EMPTY_TABLE_HIGH_WATER_MARK를 기준 시각으로 저장해
+ * 다음 실행이 기준 시각 없음으로 매번 전체 계약을 대상으로 하지 않게 한다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class DeltaTargetTasklet implements Tasklet {
+
+    static final String HIGH_WATER_MARKS_KEY = "delta.highWaterMarks";
+    static final String WATERMARK_KEY = "delta.watermarkKey";
+
+    // 계약 단위 원천 테이블: 변경된 행의 계약만 재계산한다.
+    static final List<String> CONTRACT_SOURCE_TABLES = List.of(
+            "contract", "product", "suspension", "contract_discount",
+            "device_installment_master", "device_installment_detail", "installation_history");
+    // 기준 정보 테이블: 변경되면 전체 계약에 영향을 줄 수 있어 전체 재계산한다.
+    static final List<String> REFERENCE_TABLES = List.of(
+            "product_offering", "charge_item", "revenue_master_data");
+
+    // 비어 있는 원천 테이블의 기준 시각. 이후 적재된 행은 모두 이 시각보다 나중이므로 변경으로 감지된다.
+    static final LocalDateTime EMPTY_TABLE_HIGH_WATER_MARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final DeltaCalculationMapper deltaCalculationMapper;
+    private final CalculationResultMapper calculationResultMapper;
+
+    @Value("${billingStartDate:}")
+    private String billingStartDate;
+
+    @Value("${billingEndDate:}")
+    private String billingEndDate;
+
+    @Value("${billingCalculationType:}")
+    private String billingCalculationType;
+
+    @Value("${billingCalculationPeriod:}")
+    private String billingCalculationPeriod;
+
+    @Value("${contractIds:}")
+    private String contractIds;
+
+    @Value("${additionalCalculationContexts:}")
+    private String additionalCalculationContexts;
+
+    // 기준 시각 직전에 시작해 늦게 커밋된 트랜잭션을 놓치지 않도록 겹쳐서 조회하는 시간
+    @Value("${batch.delta.overlap-seconds:60}")
+    private long overlapSeconds;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!contractIds.isBlank()) {
+            throw new IllegalStateException("증분 재계산 모드에서는 contractIds를 지정할 수 없습니다.");
+        }
+        if (!additionalCalculationContexts.isBlank()) {
+            throw new IllegalStateException("증분 재계산 모드에서는 additionalCalculationContexts를 지정할 수 없습니다.");
+        }
+        long startTime = System.currentTimeMillis();
+        LocalDate startDate = LocalDate.parse(billingStartDate);
+        LocalDate endDate = LocalDate.parse(billingEndDate);
+        BillingCalculationType calculationType = BillingCalculationType.fromCode(billingCalculationType);
+        BillingCalculationPeriod calculationPeriod = BillingCalculationPeriod.fromCode(billingCalculationPeriod);
+        String watermarkKey = watermarkKey(startDate, endDate, calculationType, calculationPeriod);
+
+        Map<String, LocalDateTime> previous = toStoredWatermarks(deltaCalculationMapper.findWatermarks(watermarkKey));
+        Map<String, LocalDateTime> current = toCurrentHighWaterMarks(deltaCalculationMapper.findCurrentHighWaterMarks());
+
+        deltaCalculationMapper.deleteDeltaTargets();
+
+        String fullReason = fullRecalculationReason(previous, current);
+        int targetCount;
+        if (fullReason != null) {
+            log.info("=== 증분 재계산: 전체 계약 대상 ({}) ===", fullReason);
+            targetCount = deltaCalculationMapper.insertAllContractsAsDeltaTargets();
+        } else {
+            targetCount = deltaCalculationMapper.insertChangedContractsAsDeltaTargets(changedSince(previous, overlapSeconds));
+        }
+
+        int deletedCount = calculationResultMapper.deleteCalculationResultsOfDeltaTargets(
+                startDate, endDate, calculationType.getCode(), calculationPeriod.getCode());
+        contribution.incrementWriteCount(targetCount);
+
+        // 이번 실행의 기준 시각: 계산이 모두 성공한 뒤에 저장한다.
+        HashMap<String, String> highWaterMarks = new HashMap<>();
+        current.forEach((table, highWaterMark) -> highWaterMarks.put(table, highWaterMark.toString()));
+        var jobExecutionContext = chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+        jobExecutionContext.put(HIGH_WATER_MARKS_KEY, highWaterMarks);
+        jobExecutionContext.putString(WATERMARK_KEY, watermarkKey);
+
+        log.info("=== 증분 재계산 대상 선정 완료 === 기준 시각 키: {}, 대상 계약: {}건, 삭제된 계산 결과: {}건, 실행 시간: {}ms",
+                watermarkKey, targetCount, deletedCount, System.currentTimeMillis() - startTime);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 기준 시각 구분 키: 유형코드:주기코드:시작일~종료일 (예: B0:0:2025-10-01~2025-10-31)
+     * 계산 결과 삭제 범위(청구기간/유형/주기)와 같은 값으로 만든다.
+     */
+    static String watermarkKey(LocalDate billingStartDate, LocalDate billingEndDate,
+                               BillingCalculationType billingCalculationType, BillingCalculationPeriod billingCalculationPeriod) {
+        return billingCalculationType.getCode() + ":" + billingCalculationPeriod.getCode() + ":"
+                + billingStartDate + "~" + billingEndDate;
+    }
+
+    /**
+     * 전체 재계산이 필요한 사유를 반환한다 (증분 재계산이 가능하면 null)
+     */
+    static String fullRecalculationReason(Map<String, LocalDateTime> previous, Map<String, LocalDateTime> current) {
+        for (String table : CONTRACT_SOURCE_TABLES) {
+            if (!previous.containsKey(table)) {
+                return table + " 기준 시각 없음";
+            }
+        }
+        for (String table : REFERENCE_TABLES) {
+            LocalDateTime currentMark = current.get(table);
+            LocalDateTime previousMark = previous.get(table);
+            if (currentMark != null && (previousMark == null || currentMark.isAfter(previousMark))) {
+                return table + " 기준 정보 변경";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 계약 단위 원천 테이블별 변경 조회 기준 시각 (저장된 기준 시각에서 겹침 시간을 뺀 값)
+     */
+    static Map<String, LocalDateTime> changedSince(Map<String, LocalDateTime> previous, long overlapSeconds) {
+        Map<String, LocalDateTime> since = new HashMap<>();
+        CONTRACT_SOURCE_TABLES.forEach(table ->
+                since.put(table, previous.get(table).minusSeconds(overlapSeconds)));
+        return since;
+    }
+
+    /**
+     * 저장된 기준 시각 (high_water_mark는 NOT NULL)
+     */
+    static Map<String, LocalDateTime> toStoredWatermarks(List<SourceWatermarkDto> watermarks) {
+        Map<String, LocalDateTime> map = new HashMap<>();
+        watermarks.forEach(watermark -> map.put(watermark.getSourceTable(), watermark.getHighWaterMark()));
+        return map;
+    }
+
+    /**
+     * 원천 테이블별 현재 기준 시각. 비어 있는 테이블(NULL)은 EMPTY_TABLE_HIGH_WATER_MARK로 채워 저장 대상에 포함한다.
+     */
+    static Map<String, LocalDateTime> toCurrentHighWaterMarks(List<SourceWatermarkDto> watermarks) {
+        Map<String, LocalDateTime> map = new HashMap<>();
+        watermarks.forEach(watermark -> map.put(watermark.getSourceTable(),
+                watermark.getHighWaterMark() == null ? EMPTY_TABLE_HIGH_WATER_MARK : watermark.getHighWaterMark()));
+        return map;
+    }
+}
@@ -0,0 +1,35 @@
+package me.realimpact.telecom.billing.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 청구서 정리 Tasklet
+ * 청구서 생성 전에 해당 청구 기간(대상 계약 지정 시 해당 계약)의 기존 청구서를 삭제한다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceCleanupTasklet implements Tasklet {
+
+    private final InvoiceCommandPort invoiceCommandPort;
+    private final BillGenerationRequest request;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        long startTime = System.currentTimeMillis();
+
+        int deletedCount = invoiceCommandPort.deleteInvoices(request, 0, 1);
+        contribution.incrementWriteCount(deletedCount);
+
+        log.info("=== Invoice Cleanup Completed ===");
+        log.info("청구기간: {} ~ {}, 삭제된 청구서 수: {}, 실행 시간: {}ms",
+                request.billingStartDate(), request.billingEndDate(), deletedCount, System.currentTimeMillis() - startTime);
+        return RepeatStatus.FINISHED;
+    }
+}
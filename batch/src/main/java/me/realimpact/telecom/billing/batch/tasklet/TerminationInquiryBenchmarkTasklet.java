@@ -0,0 +1,124 @@
+package me.realimpact.telecom.billing.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.TerminationInquiryRequest;
+import me.realimpact.telecom.calculation.api.TerminationInquiryUseCase;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해지핫빌 응답 시간 측정 Tasklet
+ * 표본 계약을 돌아가며 해지핫빌을 순차 호출해 예열한 뒤, 측정 구간의 호출별 응답 시간으로 p50/p95/p99/최대를 구한다.
+ * p99가 목표(billing.termination-inquiry.latency-target)를 넘으면 Step을 실패시켜 성능 회귀를 드러낸다.
+ * 계산 결과는 저장하지 않으므로 운영 데이터에 영향이 없다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class TerminationInquiryBenchmarkTasklet implements Tasklet {
+
+    private static final String CONTRACT_IDS_STATEMENT =
+            "me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.ContractQueryMapper.findContractIds";
+
+    private final TerminationInquiryUseCase terminationInquiryUseCase;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final LocalDate terminationDate;
+    private final List<Long> contractIds;
+    private final int sampleSize;
+    private final int warmupIterations;
+    private final int iterations;
+    private final Duration p99Target;
+    private final boolean failOnTargetMiss;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<Long> samples = contractIds.isEmpty() ? sampleContractIds() : contractIds;
+        if (samples.isEmpty()) {
+            throw new IllegalStateException("해지핫빌 성능 측정 대상 계약이 없습니다. 해지일: " + terminationDate);
+        }
+        log.info("=== 해지핫빌 성능 측정 시작 === 해지일: {}, 표본 계약: {}건, 예열: {}회, 측정: {}회",
+                terminationDate, samples.size(), warmupIterations, iterations);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            inquire(samples.get(i % samples.size()));
+        }
+
+        long[] elapsedNanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            inquire(samples.get(i % samples.size()));
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        contribution.incrementReadCount();
+
+        Arrays.sort(elapsedNanos);
+        Duration p99 = Duration.ofNanos(percentile(elapsedNanos, 0.99));
+        log.info("=== 해지핫빌 성능 측정 완료 === p50: {}ms, p95: {}ms, p99: {}ms, 최대: {}ms (목표 p99 {}ms)",
+                toMillis(percentile(elapsedNanos, 0.50)),
+                toMillis(percentile(elapsedNanos, 0.95)),
+                toMillis(p99.toNanos()),
+                toMillis(elapsedNanos[elapsedNanos.length - 1]),
+                p99Target.toMillis());
+
+        if (p99.compareTo(p99Target) > 0) {
+            if (failOnTargetMiss) {
+                throw new IllegalStateException("해지핫빌 p99 " + toMillis(p99.toNanos()) + "ms가 목표 " + p99Target.toMillis() + "ms를 초과했습니다");
+            }
+            log.warn("해지핫빌 p99가 목표를 초과했습니다: {}ms > {}ms", toMillis(p99.toNanos()), p99Target.toMillis());
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private void inquire(Long contractId) {
+        terminationInquiryUseCase.inquire(new TerminationInquiryRequest(contractId, terminationDate));
+    }
+
+    /**
+     * 해지월에 유효한 계약을 계약 ID 순으로 sampleSize건까지 읽는다
+     */
+    private List<Long> sampleContractIds() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("contractIds", List.of());
+        params.put("billingStartDate", terminationDate.withDayOfMonth(1));
+        params.put("billingEndDate", terminationDate);
+
+        List<Long> samples = new ArrayList<>(sampleSize);
+        try (SqlSession sqlSession = sqlSessionFactory.openSession();
+             Cursor<Long> cursor = sqlSession.selectCursor(CONTRACT_IDS_STATEMENT, params)) {
+            for (Long contractId : cursor) {
+                samples.add(contractId);
+                if (samples.size() >= sampleSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("해지핫빌 성능 측정 표본 계약 조회 실패", e);
+        }
+        return samples;
+    }
+
+    /**
+     * 정렬된 값에서 nearest-rank 방식의 백분위수
+     */
+    static long percentile(long[] sortedValues, double quantile) {
+        int rank = (int) Math.ceil(quantile * sortedValues.length);
+        return sortedValues[Math.max(0, Math.min(sortedValues.length, rank) - 1)];
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
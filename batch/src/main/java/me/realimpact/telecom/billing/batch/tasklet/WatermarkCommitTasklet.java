@@ -0,0 +1,41 @@
+package me.realimpact.telecom.billing.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.DeltaCalculationMapper;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 증분 재계산 기준 시각 저장 Tasklet
+ * 계산 Step이 모두 성공한 뒤 DeltaTargetTasklet이 조회해 둔 원천 테이블별 기준 시각을 저장한다.
+ * 계산이 실패하면 이 Step까지 오지 않으므로 다음 실행은 이전 기준 시각부터 다시 변경분을 찾는다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class WatermarkCommitTasklet implements Tasklet {
+
+    private final DeltaCalculationMapper deltaCalculationMapper;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        var jobExecutionContext = chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+        String watermarkKey = jobExecutionContext.getString(DeltaTargetTasklet.WATERMARK_KEY);
+        Map<String, String> highWaterMarks = (Map<String, String>) jobExecutionContext.get(DeltaTargetTasklet.HIGH_WATER_MARKS_KEY);
+
+        highWaterMarks.forEach((table, highWaterMark) ->
+                deltaCalculationMapper.mergeWatermark(watermarkKey, table, LocalDateTime.parse(highWaterMark)));
+        contribution.incrementWriteCount(highWaterMarks.size());
+
+        log.info("=== 증분 재계산 기준 시각 저장 완료 === 기준 시각 키: {}, {}", watermarkKey, highWaterMarks);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -4,12 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.billing.batch.CalculationParameters;
 import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.PostProcessingBatch;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.PostProcessingBatchEvent;
 import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * MonthlyFeeCalculationResult를 데이터베이스에 저장하는 커스텀 Writer
@@ -27,14 +34,30 @@ public class CalculationWriter implements ItemWriter<CalculationResultGroup> {
             return;
         }
 
-        List<CalculationResult<?>> calculationResults = chunk.getItems().stream()
-            .flatMap(calculationResultGroup -> calculationResultGroup.calculationResults().stream())
-            .toList();
-
-        // 1. 계산 결과 저장
-        calculationResultSavePort.save(calculationParameters.toCalculationContext(), calculationResults);
+        // 1. 계산 결과 저장 (여러 컨텍스트를 함께 계산했으면 컨텍스트별로 나누어 저장하여 결과에 컨텍스트를 기록)
+        CalculationContext defaultContext = calculationParameters.toCalculationContext();
+        Map<CalculationContext, List<CalculationResult<?>>> resultsByContext = new LinkedHashMap<>();
+        for (CalculationResultGroup calculationResultGroup : chunk.getItems()) {
+            calculationResultGroup.groupByContext(defaultContext).forEach((ctx, results) ->
+                resultsByContext.computeIfAbsent(ctx, key -> new ArrayList<>()).addAll(results));
+        }
+        resultsByContext.forEach(calculationResultSavePort::save);
 
-        // 2. 각 결과의 후처리 실행
-        calculationResults.forEach(result -> result.executePost(calculationParameters.toCalculationContext()));
+        // 2. 후처리 대상 컨텍스트 결과의 후처리만 모아서 후처리기별로 한 번에 실행 (bulk update)
+        //    다른 컨텍스트(매출추정 등)의 결과가 확정으로 반영되지 않도록 후처리 컨텍스트의 결과만 모은다.
+        Optional<CalculationContext> postProcessingContext = calculationParameters.toPostProcessingContext();
+        if (postProcessingContext.isEmpty()) {
+            return;
+        }
+        PostProcessingBatch postProcessingBatch = new PostProcessingBatch();
+        resultsByContext.getOrDefault(postProcessingContext.get(), List.of())
+            .forEach(result -> result.collectPost(postProcessingBatch));
+
+        PostProcessingBatchEvent event = new PostProcessingBatchEvent();
+        event.begin();
+        event.processorCalls = postProcessingBatch.processorCalls();
+        event.inputs = postProcessingBatch.size();
+        postProcessingBatch.flush(postProcessingContext.get());
+        event.commit();
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package me.realimpact.telecom.billing.batch.writer;
+
+import java.util.List;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.port.out.CalculationResultExportPort;
+import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
+
+/**
+ * DB 저장과 함께 계산 결과를 내보내기 포트(컬럼 파일)에도 기록하는 저장 포트 데코레이터.
+ * Writer가 저장한 결과는 청크 트랜잭션이 커밋된 뒤(afterChunk)에 확정되고, 롤백되면 버려지므로 파일과 DB의 내용이 같다.
+ *
+ * 파일은 Step 실행마다 하나이며(이름에 stepExecutionId 포함), 실패한 Step도 커밋된 청크까지는 파일로 남긴다.
+ * 재시작한 Step은 새 파일에 나머지 계약을 기록하므로 하위 시스템은 실행 디렉터리의 모든 파일을 읽어야 한다.
+ */
+@Slf4j
+public class ExportingCalculationResultSavePort implements CalculationResultSavePort, ChunkListener, StepExecutionListener {
+
+    private final CalculationResultSavePort delegate;
+    private final CalculationResultExportPort exportPort;
+
+    private String exportName;
+    private CalculationResultExportPort.ExportSession session;
+
+    public ExportingCalculationResultSavePort(CalculationResultSavePort delegate, CalculationResultExportPort exportPort) {
+        this.delegate = delegate;
+        this.exportPort = exportPort;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        exportName = stepExecution.getStepName().replaceAll("[^A-Za-z0-9_-]", "_") + "-" + stepExecution.getId();
+    }
+
+    @Override
+    public void save(CalculationContext calculationContext, List<CalculationResult<?>> results) {
+        delegate.save(calculationContext, results);
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+        if (session == null) {
+            session = exportPort.open(calculationContext, exportName);
+        }
+        session.append(results);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (session != null) {
+            session.commit();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        if (session != null) {
+            session.rollback();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (session != null) {
+            long exported = session.committedCount();
+            session.close();
+            session = null;
+            log.info("=== 계산 결과 컬럼 파일 내보내기 완료 === {} ({}건)", exportName, exported);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package me.realimpact.telecom.billing.batch.writer;
+
+import java.util.ArrayList;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+
+/**
+ * 청크의 청구서와 항목을 일괄 저장하는 Writer (청크 트랜잭션에 참여)
+ */
+@RequiredArgsConstructor
+public class InvoiceWriter implements ItemWriter<Invoice> {
+
+    private final InvoiceCommandPort invoiceCommandPort;
+
+    @Override
+    public void write(Chunk<? extends Invoice> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        invoiceCommandPort.saveAll(new ArrayList<>(chunk.getItems()));
+    }
+}
@@ -0,0 +1,89 @@
+package me.realimpact.telecom.billing.batch.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.PostProcessingBatch;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.PostProcessingBatchEvent;
+import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
+
+/**
+ * AsyncCalculationProcessor가 넘긴 Future를 순서대로 받아 flushSize 단위로 저장하는 Writer.
+ * 완료된 결과를 버퍼에 모아 저장하는 동안 나머지 계산은 계산 Executor에서 계속 진행되어 DB 저장과 계산이 겹쳐 실행된다.
+ *
+ * 저장과 후처리는 청크 트랜잭션을 가진 Step 스레드에서만 수행하므로 커밋/재시작 동작은 CalculationWriter와 같다.
+ * 계산이 하나라도 실패하면 남은 Future를 취소하고 예외를 던져 청크 전체를 롤백한다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class PipelinedCalculationWriter implements ItemWriter<Future<CalculationResultGroup>> {
+
+    private final CalculationResultSavePort calculationResultSavePort;
+    private final CalculationParameters calculationParameters;
+    private final int flushSize;
+
+    @Override
+    public void write(Chunk<? extends Future<CalculationResultGroup>> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        CalculationContext ctx = calculationParameters.toCalculationContext();
+        List<CalculationResult<?>> buffer = new ArrayList<>(flushSize);
+        try {
+            for (Future<CalculationResultGroup> future : chunk.getItems()) {
+                buffer.addAll(await(future).calculationResults());
+                if (buffer.size() >= flushSize) {
+                    flush(ctx, buffer);
+                    buffer = new ArrayList<>(flushSize);
+                }
+            }
+            flush(ctx, buffer);
+        } catch (Exception e) {
+            chunk.getItems().forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private void flush(CalculationContext ctx, List<CalculationResult<?>> calculationResults) {
+        if (calculationResults.isEmpty()) {
+            return;
+        }
+
+        // 1. 계산 결과 저장
+        calculationResultSavePort.save(ctx, calculationResults);
+
+        // 2. 각 결과의 후처리를 모아서 후처리기별로 한 번에 실행 (bulk update)
+        PostProcessingBatch postProcessingBatch = new PostProcessingBatch();
+        calculationResults.forEach(result -> result.collectPost(postProcessingBatch));
+
+        PostProcessingBatchEvent event = new PostProcessingBatchEvent();
+        event.begin();
+        event.processorCalls = postProcessingBatch.processorCalls();
+        event.inputs = postProcessingBatch.size();
+        postProcessingBatch.flush(ctx);
+        event.commit();
+    }
+
+    private CalculationResultGroup await(Future<CalculationResultGroup> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package me.realimpact.telecom.billing.batch.writer;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billing.batch.CalculationParameters;
+import me.realimpact.telecom.billing.batch.spill.SpillingResultBuffer;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.PostProcessingBatch;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.PostProcessingBatchEvent;
+import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
+
+/**
+ * SpillingResultBuffer에 모인 청크의 계산 결과를 저장하는 Writer.
+ * Processor가 넘긴 항목은 자리표시이므로 사용하지 않고, 디스크로 내보낸 결과를 flushSize 단위로 복원해 저장한 뒤 힙에 남은 결과를 저장한다.
+ *
+ * 후처리는 CalculationWriter와 같이 청크의 모든 결과를 저장한 뒤 후처리기별로 한 번에 실행하며,
+ * 후처리가 있는 유형(매출확정)이 아니면 실행하지 않는다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SpillingCalculationWriter implements ItemWriter<CalculationResultGroup> {
+
+    private final CalculationResultSavePort calculationResultSavePort;
+    private final CalculationParameters calculationParameters;
+    private final SpillingResultBuffer spillingResultBuffer;
+    private final int flushSize;
+
+    @Override
+    public void write(Chunk<? extends CalculationResultGroup> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        CalculationContext ctx = calculationParameters.toCalculationContext();
+
+        // 1. 계산 결과 저장 (디스크로 내보낸 결과 → 힙에 남은 결과 순)
+        spillingResultBuffer.forEachSpilledBatch(flushSize, batch -> calculationResultSavePort.save(ctx, batch));
+        List<CalculationResult<?>> heldResults = spillingResultBuffer.heldResults();
+        for (int from = 0; from < heldResults.size(); from += flushSize) {
+            calculationResultSavePort.save(ctx, heldResults.subList(from, Math.min(from + flushSize, heldResults.size())));
+        }
+
+        // 2. 각 결과의 후처리를 모아서 후처리기별로 한 번에 실행 (bulk update)
+        Optional<CalculationContext> postProcessingContext = calculationParameters.toPostProcessingContext();
+        if (postProcessingContext.isPresent()) {
+            PostProcessingBatch postProcessingBatch = spillingResultBuffer.postProcessingBatch();
+            heldResults.forEach(result -> result.collectPost(postProcessingBatch));
+
+            PostProcessingBatchEvent event = new PostProcessingBatchEvent();
+            event.begin();
+            event.processorCalls = postProcessingBatch.processorCalls();
+            event.inputs = postProcessingBatch.size();
+            postProcessingBatch.flush(postProcessingContext.get());
+            event.commit();
+        }
+
+        spillingResultBuffer.clear();
+    }
+}
@@ -0,0 +1,98 @@
+package me.realimpact.telecom.billing.batch.chunk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveChunkControllerTest {
+
+    private static final long MB = 1024 * 1024;
+
+    // 시작 100, 범위 10~1000, 목표 1초, 결과 상한 1MB, 최소 힙 여유 20%
+    private final AdaptiveChunkController controller = new AdaptiveChunkController(0, 100, 10, 1000, 1000, 1, 0.2);
+
+    @Test
+    void decide_빠르면두배까지만증가() {
+        // when: 계약당 1ms → 목표 1초면 1000건까지 가능
+        AdaptiveChunkController.Decision decision = controller.decide(100, 100, millis(100), 0, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(200, AdaptiveChunkController.Reason.GROW));
+    }
+
+    @Test
+    void decide_최대크기를넘지않음() {
+        // when
+        AdaptiveChunkController.Decision decision = controller.decide(800, 800, millis(80), 0, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(1000, AdaptiveChunkController.Reason.GROW));
+    }
+
+    @Test
+    void decide_느리면목표시간에맞춰감소() {
+        // when: 계약당 20ms → 목표 1초면 50건
+        AdaptiveChunkController.Decision decision = controller.decide(100, 100, millis(2000), 0, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(50, AdaptiveChunkController.Reason.LATENCY));
+    }
+
+    @Test
+    void decide_최소크기아래로줄이지않음() {
+        // when: 계약당 1초 → 목표 1초면 1건
+        AdaptiveChunkController.Decision decision = controller.decide(20, 20, millis(20_000), 0, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(10, AdaptiveChunkController.Reason.LATENCY));
+    }
+
+    @Test
+    void decide_결과크기상한으로감소() {
+        // when: 계약당 결과 20KB → 1MB 상한이면 51건
+        AdaptiveChunkController.Decision decision = controller.decide(100, 100, millis(100), 100 * 20 * 1024, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision((int) (MB / (20 * 1024)), AdaptiveChunkController.Reason.MEMORY));
+    }
+
+    @Test
+    void decide_변화가10퍼센트미만이면유지() {
+        // when: 계약당 10.5ms → 목표 1초면 95건
+        AdaptiveChunkController.Decision decision = controller.decide(100, 100, millis(1050), 0, 1.0);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(100, AdaptiveChunkController.Reason.HOLD));
+    }
+
+    @Test
+    void decide_힙여유가부족하면절반이하로감소() {
+        // when
+        AdaptiveChunkController.Decision decision = controller.decide(100, 100, millis(100), 0, 0.1);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(50, AdaptiveChunkController.Reason.HEAP));
+    }
+
+    @Test
+    void decide_힙여유가부족해도최소크기면유지() {
+        // when
+        AdaptiveChunkController.Decision decision = controller.decide(10, 10, millis(10), 0, 0.1);
+
+        // then
+        assertThat(decision).isEqualTo(new AdaptiveChunkController.Decision(10, AdaptiveChunkController.Reason.HOLD));
+    }
+
+    @Test
+    void new_시작크기를범위로제한() {
+        // when & then
+        assertThat(new AdaptiveChunkController(0, 5000, 10, 1000, 1000, 1, 0.2).chunkSize()).isEqualTo(1000);
+        assertThat(new AdaptiveChunkController(0, 1, 10, 1000, 1000, 1, 0.2).chunkSize()).isEqualTo(10);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
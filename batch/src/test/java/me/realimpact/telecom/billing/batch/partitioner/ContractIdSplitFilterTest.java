@@ -0,0 +1,110 @@
+package me.realimpact.telecom.billing.batch.partitioner;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractIdSplitFilterTest {
+
+    private static final int PARTITION_COUNT = 4;
+    private static final long MAX_CONTRACT_ID = 1000;
+
+    @Test
+    void split_분할경계이후를둘로나눔() {
+        // given
+        ContractIdSplitFilter filter = new ContractIdSplitFilter(1, PARTITION_COUNT);
+
+        // when
+        PartitionSplit splitOff = filter.split(100);
+
+        // then
+        assertThat(splitOff).isEqualTo(new PartitionSplit(5, 8, 100));
+        assertThat(filter.depth()).isEqualTo(1);
+        assertThat(filter.accepts(97)).isTrue();
+        assertThat(filter.accepts(105)).isTrue();
+        assertThat(filter.accepts(101)).isFalse();
+        assertThat(filter.accepts(113)).isTrue();
+    }
+
+    @Test
+    void split_여러번분할해도계약이빠지거나겹치지않음() {
+        // given: 파티션 1이 100, 300에서 분할되고, 떼어 낸 파티션(5 mod 8)이 다시 500에서 분할된다
+        List<Partition> partitions = new ArrayList<>();
+        for (int key = 0; key < PARTITION_COUNT; key++) {
+            partitions.add(new Partition(key, PARTITION_COUNT, null));
+        }
+        Partition partition1 = partitions.get(1);
+        PartitionSplit split1 = partition1.filter().split(100);
+        PartitionSplit split2 = partition1.filter().split(300);
+        Partition splitOff1 = Partition.of(split1);
+        PartitionSplit split3 = splitOff1.filter().split(500);
+        partitions.addAll(List.of(splitOff1, Partition.of(split2), Partition.of(split3)));
+
+        // when & then
+        assertThat(List.of(split1, split2, split3)).containsExactly(
+                new PartitionSplit(5, 8, 100), new PartitionSplit(9, 16, 300), new PartitionSplit(13, 16, 500));
+        for (long contractId = 1; contractId <= MAX_CONTRACT_ID; contractId++) {
+            long id = contractId;
+            assertThat(partitions.stream().filter(partition -> partition.reads(id)).count())
+                    .as("계약 %d를 읽는 파티션 수", id)
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void saveRestore_분할이력복원() {
+        // given
+        ContractIdSplitFilter filter = new ContractIdSplitFilter(2, PARTITION_COUNT);
+        filter.split(100);
+        filter.split(300);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt("partitionKey", 2);
+        executionContext.putInt("partitionCount", PARTITION_COUNT);
+
+        // when
+        filter.save(executionContext);
+        ContractIdSplitFilter restored = new ContractIdSplitFilter(2, PARTITION_COUNT);
+        restored.restore(executionContext);
+
+        // then
+        assertThat(restored.depth()).isEqualTo(2);
+        for (long contractId = 1; contractId <= MAX_CONTRACT_ID; contractId++) {
+            assertThat(restored.accepts(contractId)).isEqualTo(filter.accepts(contractId));
+        }
+        assertThat(ContractIdSplitFilter.splitOffs(executionContext))
+                .containsExactly(new PartitionSplit(6, 8, 100), new PartitionSplit(10, 16, 300));
+    }
+
+    @Test
+    void splitOffs_분할이력이없으면빈목록() {
+        // given
+        ExecutionContext executionContext = new PartitionSplit(1, PARTITION_COUNT, 0).toExecutionContext();
+
+        // when & then
+        assertThat(ContractIdSplitFilter.splitOffs(executionContext)).isEmpty();
+    }
+
+    /**
+     * 파티션 Reader의 조회 조건(contractId MOD count = key, contractId > min)과 분할 필터
+     */
+    private record Partition(int key, int count, Long minContractIdExclusive, ContractIdSplitFilter filter) {
+
+        Partition(int key, int count, Long minContractIdExclusive) {
+            this(key, count, minContractIdExclusive, new ContractIdSplitFilter(key, count));
+        }
+
+        static Partition of(PartitionSplit split) {
+            return new Partition(split.partitionKey(), split.partitionCount(), split.minContractIdExclusive());
+        }
+
+        boolean reads(long contractId) {
+            return Math.floorMod(contractId, count) == key
+                    && (minContractIdExclusive == null || contractId > minContractIdExclusive)
+                    && filter.accepts(contractId);
+        }
+    }
+}
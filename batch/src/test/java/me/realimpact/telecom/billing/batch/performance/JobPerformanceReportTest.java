@@ -0,0 +1,124 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JobPerformanceReportTest {
+
+    private static final PartitionPerformance.StageTiming IDLE = new PartitionPerformance.StageTiming(0, 0, 0);
+
+    @Test
+    void of_파티션키순정렬과합계() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 2000, List.of(
+                partition(2, 100, IDLE, IDLE, IDLE),
+                partition(0, 300, IDLE, IDLE, IDLE),
+                partition(1, 200, IDLE, IDLE, IDLE)));
+
+        // then
+        assertThat(report.partitions()).extracting(PartitionPerformance::partitionKey).containsExactly(0, 1, 2);
+        assertThat(report.partitionCount()).isEqualTo(3);
+        assertThat(report.totalReadCount()).isEqualTo(300);
+        assertThat(report.totalResultRows()).isEqualTo(3000);
+        assertThat(report.contractsPerSecond()).isEqualTo(150.0);
+    }
+
+    @Test
+    void of_홀수파티션은가운데값이중앙값() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 1000, List.of(
+                partition(0, 100, IDLE, IDLE, IDLE),
+                partition(1, 300, IDLE, IDLE, IDLE),
+                partition(2, 200, IDLE, IDLE, IDLE)));
+
+        // then
+        assertThat(report.skew()).isEqualTo(new JobPerformanceReport.Skew("partition1", 300, 200, 100, 1.5));
+    }
+
+    @Test
+    void of_짝수파티션은가운데두값의평균이중앙값() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 1000, List.of(
+                partition(0, 1000, IDLE, IDLE, IDLE),
+                partition(1, 200, IDLE, IDLE, IDLE),
+                partition(2, 100, IDLE, IDLE, IDLE),
+                partition(3, 400, IDLE, IDLE, IDLE)));
+
+        // then
+        JobPerformanceReport.Skew skew = report.skew();
+        assertThat(skew.slowestStep()).isEqualTo("partition0");
+        assertThat(skew.slowestMillis()).isEqualTo(1000);
+        assertThat(skew.medianMillis()).isEqualTo(300);
+        assertThat(skew.fastestMillis()).isEqualTo(100);
+        assertThat(skew.ratio()).isCloseTo(3.333, within(0.001));
+    }
+
+    @Test
+    void of_중앙값이0이면편차비율0() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 0, List.of(
+                partition(0, 0, IDLE, IDLE, IDLE),
+                partition(1, 0, IDLE, IDLE, IDLE),
+                partition(2, 50, IDLE, IDLE, IDLE)));
+
+        // then
+        assertThat(report.skew().ratio()).isZero();
+        assertThat(report.contractsPerSecond()).isZero();
+    }
+
+    @Test
+    void of_파티션이없으면편차와병목없음() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 1000, List.of());
+
+        // then
+        assertThat(report.skew()).isNull();
+        assertThat(report.bottleneck()).isNull();
+    }
+
+    @Test
+    void of_누적시간이가장긴단계와대기비율() {
+        // when: 읽기 100ms / 처리 50ms / 쓰기 250ms, 그중 대기 280ms
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 1000, List.of(
+                partition(0, 500, timing(100, 20), timing(30, 30), timing(250, 50)),
+                partition(1, 500, IDLE, timing(20, 20), timing(0, 0))));
+
+        // then
+        JobPerformanceReport.Bottleneck bottleneck = report.bottleneck();
+        assertThat(bottleneck.stage()).isEqualTo("write");
+        assertThat(bottleneck.stageShare()).isCloseTo(0.625, within(0.001));
+        assertThat(bottleneck.waitShare()).isCloseTo(0.7, within(0.001));
+        assertThat(bottleneck.boundBy()).isEqualTo("DB_WAIT");
+    }
+
+    @Test
+    void of_CPU시간을잴수없으면병목원인미상() {
+        // when
+        JobPerformanceReport report = JobPerformanceReport.of(1L, "job", "COMPLETED", 1000, List.of(
+                partition(0, 500, timing(100, 20), timing(300, -1), timing(50, 10))));
+
+        // then
+        JobPerformanceReport.Bottleneck bottleneck = report.bottleneck();
+        assertThat(bottleneck.stage()).isEqualTo("process");
+        assertThat(bottleneck.waitShare()).isEqualTo(-1);
+        assertThat(bottleneck.boundBy()).isEqualTo("UNKNOWN");
+    }
+
+    private static PartitionPerformance.StageTiming timing(long wallMillis, long cpuMillis) {
+        return cpuMillis < 0
+                ? new PartitionPerformance.StageTiming(wallMillis, -1, -1)
+                : new PartitionPerformance.StageTiming(wallMillis, cpuMillis, wallMillis - cpuMillis);
+    }
+
+    private static PartitionPerformance partition(int partitionKey, long durationMillis,
+                                                  PartitionPerformance.StageTiming read,
+                                                  PartitionPerformance.StageTiming process,
+                                                  PartitionPerformance.StageTiming write) {
+        return new PartitionPerformance("partition" + partitionKey, partitionKey, "COMPLETED", durationMillis,
+                100, 100, 1000, 1, 0, read, process, write, -1, -1, List.of());
+    }
+}
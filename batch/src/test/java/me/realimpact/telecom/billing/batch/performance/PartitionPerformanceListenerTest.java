@@ -0,0 +1,57 @@
+package me.realimpact.telecom.billing.batch.performance;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionPerformanceListenerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final StepExecution stepExecution = new StepExecution("partition0", new JobExecution(1L));
+    private final PartitionPerformanceListener listener = new PartitionPerformanceListener(0, 1, () -> -1);
+
+    @Test
+    void addSample_구간처리량계산() {
+        // given
+        listener.beforeStep(stepExecution, 0);
+
+        // when: 1초에 10건, 다음 2초 동안 60건
+        sample(1, 10);
+        sample(3, 70);
+
+        // then
+        assertThat(listener.toThroughputSamples()).containsExactly(
+                new PartitionPerformance.ThroughputSample(1000, 10, 10.0),
+                new PartitionPerformance.ThroughputSample(3000, 70, 30.0));
+    }
+
+    @Test
+    void addSample_최대표본수를넘으면절반으로솎음() {
+        // given
+        listener.beforeStep(stepExecution, 0);
+
+        // when: 1초마다 10건씩 MAX_SAMPLES + 1개
+        for (int second = 1; second <= PartitionPerformanceListener.MAX_SAMPLES + 1; second++) {
+            sample(second, second * 10L);
+        }
+
+        // then: 2초, 4초, ... 표본만 남고 구간 처리량은 그대로다
+        List<PartitionPerformance.ThroughputSample> samples = listener.toThroughputSamples();
+        assertThat(samples).hasSize(PartitionPerformanceListener.MAX_SAMPLES / 2);
+        assertThat(samples.get(0)).isEqualTo(new PartitionPerformance.ThroughputSample(2000, 20, 10.0));
+        assertThat(samples.get(samples.size() - 1))
+                .isEqualTo(new PartitionPerformance.ThroughputSample(PartitionPerformanceListener.MAX_SAMPLES * 1000L,
+                        PartitionPerformanceListener.MAX_SAMPLES * 10L, 10.0));
+        assertThat(samples).extracting(PartitionPerformance.ThroughputSample::contractsPerSecond).containsOnly(10.0);
+    }
+
+    private void sample(long second, long readCount) {
+        stepExecution.setReadCount(readCount);
+        listener.addSample(second * SECOND);
+    }
+}
@@ -0,0 +1,124 @@
+package me.realimpact.telecom.billing.batch.profiling;
+
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractProfilerTest {
+
+    @Test
+    void record_느린계약상위N개만유지() {
+        // given
+        ContractProfiler profiler = new ContractProfiler(0, 3);
+
+        // when: 전체 시간(로딩 + 계산) 50, 10, 30, 70, 20, 60
+        profiler.record(profile(1L, 20, 30, 100));
+        profiler.record(profile(2L, 0, 10, 100));
+        profiler.record(profile(3L, 10, 20, 100));
+        profiler.record(profile(4L, 0, 70, 100));
+        profiler.record(profile(5L, 5, 15, 100));
+        profiler.record(profile(6L, 60, 0, 100));
+
+        // then
+        assertThat(profiler.getSlowest()).extracting(ContractProfile::contractId).containsExactly(4L, 6L, 1L);
+    }
+
+    @Test
+    void record_할당량상위N개만유지하고측정불가는제외() {
+        // given
+        ContractProfiler profiler = new ContractProfiler(0, 2);
+
+        // when
+        profiler.record(profile(1L, 0, 10, 300));
+        profiler.record(profile(2L, 0, 10, -1));
+        profiler.record(profile(3L, 0, 10, 100));
+        profiler.record(profile(4L, 0, 10, 500));
+
+        // then
+        assertThat(profiler.getHeaviest()).extracting(ContractProfile::contractId).containsExactly(4L, 1L);
+        assertThat(profiler.getSlowest()).extracting(ContractProfile::contractId).hasSize(2);
+    }
+
+    @Test
+    void offer_최솟값이하면교체하지않음() {
+        // given
+        PriorityQueue<ContractProfile> heap = new PriorityQueue<>(ContractProfiler.BY_TOTAL_TIME);
+        ContractProfiler.offer(heap, profile(1L, 0, 10, 0), ContractProfiler.BY_TOTAL_TIME, 2);
+        ContractProfiler.offer(heap, profile(2L, 0, 20, 0), ContractProfiler.BY_TOTAL_TIME, 2);
+
+        // when
+        ContractProfiler.offer(heap, profile(3L, 0, 10, 0), ContractProfiler.BY_TOTAL_TIME, 2);
+        ContractProfiler.offer(heap, profile(4L, 0, 5, 0), ContractProfiler.BY_TOTAL_TIME, 2);
+
+        // then
+        assertThat(heap).extracting(ContractProfile::contractId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void offer_topN이0이면보관하지않음() {
+        // given
+        PriorityQueue<ContractProfile> heap = new PriorityQueue<>(ContractProfiler.BY_TOTAL_TIME);
+
+        // when
+        ContractProfiler.offer(heap, profile(1L, 0, 10, 0), ContractProfiler.BY_TOTAL_TIME, 0);
+
+        // then
+        assertThat(heap).isEmpty();
+    }
+
+    @Test
+    void profile_기록된로딩시간은한번만반영() {
+        // given
+        ContractProfiler profiler = new ContractProfiler(3, 10);
+        CalculationTarget calculationTarget = new CalculationTarget(7L, Map.of(), Map.of(), List.of());
+        profiler.recordChunkLoad(List.of(7L, 8L), 1000);
+
+        // when
+        profiler.profile(calculationTarget, () -> new CalculationResultGroup(List.of()));
+        profiler.profile(calculationTarget, () -> new CalculationResultGroup(List.of()));
+
+        // then
+        assertThat(profiler.getSlowest())
+                .extracting(ContractProfile::loadNanos)
+                .containsExactlyInAnyOrder(500L, 0L);
+        assertThat(profiler.getSlowest())
+                .allSatisfy(profile -> {
+                    assertThat(profile.contractId()).isEqualTo(7L);
+                    assertThat(profile.partitionKey()).isEqualTo(3);
+                    assertThat(profile.resultCount()).isZero();
+                });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void afterStep_상위목록을ExecutionContext에저장() {
+        // given
+        ContractProfiler profiler = new ContractProfiler(0, 2);
+        profiler.record(profile(1L, 0, 10, 300));
+        profiler.record(profile(2L, 0, 30, 100));
+        profiler.record(profile(3L, 0, 20, 200));
+        StepExecution stepExecution = new StepExecution("partition0", new JobExecution(1L));
+
+        // when
+        profiler.afterStep(stepExecution);
+
+        // then
+        List<String> slowest = (List<String>) stepExecution.getExecutionContext().get(ContractProfiler.SLOWEST_KEY);
+        List<String> heaviest = (List<String>) stepExecution.getExecutionContext().get(ContractProfiler.HEAVIEST_KEY);
+        assertThat(slowest).extracting(line -> ContractProfile.decode(line).contractId()).containsExactly(2L, 3L);
+        assertThat(heaviest).extracting(line -> ContractProfile.decode(line).contractId()).containsExactly(1L, 3L);
+        assertThat(stepExecution.getExecutionContext().getLong(ContractProfiler.PROFILED_COUNT_KEY)).isEqualTo(3);
+    }
+
+    private static ContractProfile profile(Long contractId, long loadNanos, long calculationNanos, long allocatedBytes) {
+        return new ContractProfile(contractId, 0, loadNanos, calculationNanos, allocatedBytes, 1, 1, 0, 0);
+    }
+}
@@ -0,0 +1,98 @@
+package me.realimpact.telecom.billing.batch.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContractOrderedSourceTest {
+
+    /**
+     * 테스트용 행: 계약 ID와 값
+     */
+    private record Row(Long contractId, String value) {}
+
+    @Test
+    void takeFor_같은계약의행을모두꺼냄() {
+        // given
+        ContractOrderedSource<Row> source = source(row(1L, "a"), row(1L, "b"), row(2L, "c"));
+
+        // when & then
+        assertThat(source.takeFor(1L)).extracting(Row::value).containsExactly("a", "b");
+        assertThat(source.takeFor(2L)).extracting(Row::value).containsExactly("c");
+        assertThat(source.takeFor(3L)).isEmpty();
+    }
+
+    @Test
+    void takeFor_구동커서에없는계약의행은버림() {
+        // given: 계약 2, 4는 구동 커서(계약 ID 커서)에 없다
+        ContractOrderedSource<Row> source = source(row(1L, "a"), row(2L, "b"), row(3L, "c"), row(4L, "d"), row(5L, "e"));
+
+        // when & then
+        assertThat(source.takeFor(1L)).extracting(Row::value).containsExactly("a");
+        assertThat(source.takeFor(3L)).extracting(Row::value).containsExactly("c");
+        assertThat(source.takeFor(5L)).extracting(Row::value).containsExactly("e");
+    }
+
+    @Test
+    void takeFor_데이터가없는계약은빈목록이고다음계약에영향없음() {
+        // given
+        ContractOrderedSource<Row> source = source(row(3L, "a"), row(7L, "b"));
+
+        // when & then
+        assertThat(source.takeFor(1L)).isEmpty();
+        assertThat(source.takeFor(2L)).isEmpty();
+        assertThat(source.takeFor(3L)).extracting(Row::value).containsExactly("a");
+        assertThat(source.takeFor(5L)).isEmpty();
+        assertThat(source.takeFor(7L)).extracting(Row::value).containsExactly("b");
+    }
+
+    @Test
+    void takeFor_여러소스를계약ID순으로병합() {
+        // given
+        List<Long> contractIds = List.of(10L, 20L, 30L, 40L);
+        ContractOrderedSource<Row> products = source(row(10L, "p10"), row(20L, "p20a"), row(20L, "p20b"), row(40L, "p40"));
+        ContractOrderedSource<Row> discounts = source(row(5L, "d5"), row(20L, "d20"), row(30L, "d30"), row(50L, "d50"));
+
+        // when
+        Map<Long, List<String>> merged = new TreeMap<>();
+        for (Long contractId : contractIds) {
+            List<String> values = new ArrayList<>();
+            products.takeFor(contractId).forEach(row -> values.add(row.value()));
+            discounts.takeFor(contractId).forEach(row -> values.add(row.value()));
+            merged.put(contractId, values);
+        }
+
+        // then
+        assertThat(merged).containsExactly(
+                Map.entry(10L, List.of("p10")),
+                Map.entry(20L, List.of("p20a", "p20b", "d20")),
+                Map.entry(30L, List.of("d30")),
+                Map.entry(40L, List.of("p40")));
+    }
+
+    @Test
+    void takeFor_정렬되지않은커서면예외() {
+        // given
+        ContractOrderedSource<Row> source = source(row(1L, "a"), row(3L, "b"), row(2L, "c"));
+
+        // when & then
+        assertThat(source.takeFor(1L)).extracting(Row::value).containsExactly("a");
+        assertThatThrownBy(() -> source.takeFor(3L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("정렬되어 있지 않습니다");
+    }
+
+    private static ContractOrderedSource<Row> source(Row... rows) {
+        return new ContractOrderedSource<>("테스트", List.of(rows).iterator(), Row::contractId);
+    }
+
+    private static Row row(Long contractId, String value) {
+        return new Row(contractId, value);
+    }
+}
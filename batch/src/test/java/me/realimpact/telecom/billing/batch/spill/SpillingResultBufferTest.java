@@ -0,0 +1,174 @@
+package me.realimpact.telecom.billing.batch.spill;
+
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.PostProcessor;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillingResultBufferTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 10, 1);
+    private static final LocalDate END = LocalDate.of(2025, 10, 31);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void codec_모든컬럼복원() {
+        // given
+        CalculationResultCodec codec = new CalculationResultCodec();
+        CalculationResult<?> prorated = result(1L, "PO1", START, LocalDate.of(2025, 10, 15), null, "12345.67", "100.5", null);
+        CalculationResult<?> suspended = result(1L, "PO2", LocalDate.of(2025, 10, 16), END, Suspension.SuspensionType.NON_PAYMENT_SUSPENSION, "-300", null, null);
+        CalculationResult<?> huge = result(2L, null, null, LocalDate.of(9999, 12, 31), null, "123456789012345678901234567890.12", "1E+3", null);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        // when
+        codec.encode(prorated, buffer);
+        codec.encode(suspended, buffer);
+        codec.encode(huge, buffer);
+        buffer.flip();
+
+        // then
+        assertSame(codec.decode(buffer), prorated);
+        assertSame(codec.decode(buffer), suspended);
+        assertSame(codec.decode(buffer), huge);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void add_예산초과시내보내고순서대로복원() {
+        // given: 결과 3건까지만 힙에 보관
+        SpillingResultBuffer buffer = new SpillingResultBuffer(SpillingResultBuffer.ESTIMATED_RESULT_BYTES * 3, 0, tempDir);
+        List<CalculationResult<?>> results = new ArrayList<>();
+        for (long contractId = 1; contractId <= 5; contractId++) {
+            results.add(result(contractId, "PO" + contractId, START, END, null, String.valueOf(contractId * 1000), "0", null));
+        }
+
+        // when
+        CalculationResultGroup placeholder = buffer.add(new CalculationResultGroup(results.subList(0, 2)));
+        buffer.add(new CalculationResultGroup(results.subList(2, 4)));
+        buffer.add(new CalculationResultGroup(results.subList(4, 5)));
+
+        // then: 앞의 4건은 내보냈고 마지막 1건은 힙에 남아 있다
+        assertThat(placeholder.calculationResults()).isEmpty();
+        List<List<CalculationResult<?>>> batches = new ArrayList<>();
+        buffer.forEachSpilledBatch(3, batches::add);
+        assertThat(batches).extracting(List::size).containsExactly(3, 1);
+        List<CalculationResult<?>> spilled = batches.stream().flatMap(List::stream).toList();
+        for (int i = 0; i < spilled.size(); i++) {
+            assertSame(spilled.get(i), results.get(i));
+        }
+        assertThat(buffer.heldResults()).containsExactly(results.get(4));
+    }
+
+    @Test
+    void add_내보낸결과의후처리는미리수집() {
+        // given
+        SpillingResultBuffer buffer = new SpillingResultBuffer(SpillingResultBuffer.ESTIMATED_RESULT_BYTES, 0, tempDir);
+        List<String> processed = new ArrayList<>();
+        PostProcessor<String> postProcessor = (ctx, input) -> processed.add(input);
+
+        // when
+        buffer.add(new CalculationResultGroup(List.of(
+                result(1L, "PO1", START, END, null, "1000", "1000", postProcessor),
+                result(2L, "PO1", START, END, null, "2000", "2000", postProcessor))));
+        buffer.postProcessingBatch().flush(null);
+
+        // then
+        assertThat(processed).containsExactly("domain-1", "domain-2");
+    }
+
+    @Test
+    void clear_다음청크는새결과만복원() {
+        // given
+        SpillingResultBuffer buffer = new SpillingResultBuffer(SpillingResultBuffer.ESTIMATED_RESULT_BYTES, 0, tempDir);
+        buffer.add(new CalculationResultGroup(List.of(
+                result(1L, "PO1", START, END, null, "1000", "1000", null),
+                result(2L, "PO2", START, END, null, "2000", "2000", null))));
+
+        // when
+        buffer.clear();
+        buffer.add(new CalculationResultGroup(List.of(
+                result(3L, "PO2", START, END, null, "3000", "3000", null),
+                result(4L, "PO3", START, END, null, "4000", "4000", null))));
+
+        // then
+        List<CalculationResult<?>> spilled = new ArrayList<>();
+        buffer.forEachSpilledBatch(10, spilled::addAll);
+        assertThat(spilled).extracting(CalculationResult::getContractId).containsExactly(3L, 4L);
+        assertThat(spilled).extracting(CalculationResult::getProductOfferingId).containsExactly("PO2", "PO3");
+    }
+
+    @Test
+    void close_임시파일삭제() throws Exception {
+        // given
+        SpillingResultBuffer buffer = new SpillingResultBuffer(SpillingResultBuffer.ESTIMATED_RESULT_BYTES, 0, tempDir);
+        buffer.add(new CalculationResultGroup(List.of(
+                result(1L, "PO1", START, END, null, "1000", "1000", null),
+                result(2L, "PO1", START, END, null, "2000", "2000", null))));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+
+        // when
+        buffer.close();
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        List<CalculationResult<?>> spilled = new ArrayList<>();
+        buffer.forEachSpilledBatch(10, spilled::addAll);
+        assertThat(spilled).isEmpty();
+    }
+
+    private static void assertSame(CalculationResult<?> actual, CalculationResult<?> expected) {
+        assertThat(actual.getContractId()).isEqualTo(expected.getContractId());
+        assertThat(actual.getBillingStartDate()).isEqualTo(expected.getBillingStartDate());
+        assertThat(actual.getBillingEndDate()).isEqualTo(expected.getBillingEndDate());
+        assertThat(actual.getProductOfferingId()).isEqualTo(expected.getProductOfferingId());
+        assertThat(actual.getChargeItemId()).isEqualTo(expected.getChargeItemId());
+        assertThat(actual.getRevenueItemId()).isEqualTo(expected.getRevenueItemId());
+        assertThat(actual.getEffectiveStartDate()).isEqualTo(expected.getEffectiveStartDate());
+        assertThat(actual.getEffectiveEndDate()).isEqualTo(expected.getEffectiveEndDate());
+        assertThat(actual.getSuspensionType()).isEqualTo(expected.getSuspensionType());
+        assertThat(actual.getFee()).isEqualTo(expected.getFee());
+        assertThat(actual.getBalance()).isEqualTo(expected.getBalance());
+        assertThat(actual.getDomain()).isNull();
+        assertThat(actual.getPostProcessor()).isNull();
+    }
+
+    private static CalculationResult<String> result(Long contractId, String productOfferingId,
+                                                    LocalDate effectiveStartDate, LocalDate effectiveEndDate,
+                                                    Suspension.SuspensionType suspensionType, String fee, String balance,
+                                                    PostProcessor<String> postProcessor) {
+        return new CalculationResult<>(
+                contractId,
+                START,
+                END,
+                productOfferingId,
+                productOfferingId == null ? null : "CI_" + productOfferingId,
+                "REV01",
+                effectiveStartDate,
+                effectiveEndDate,
+                suspensionType,
+                fee == null ? null : new BigDecimal(fee),
+                balance == null ? null : new BigDecimal(balance),
+                "domain-" + contractId,
+                postProcessor
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package me.realimpact.telecom.billing.batch.tasklet;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.infrastructure.dto.SourceWatermarkDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaTargetTaskletTest {
+
+    private static final LocalDateTime MARK = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    void fullRecalculationReason_기준시각이없으면전체() {
+        // given
+        Map<String, LocalDateTime> current = DeltaTargetTasklet.toCurrentHighWaterMarks(currentMarks(null));
+
+        // when
+        String reason = DeltaTargetTasklet.fullRecalculationReason(Map.of(), current);
+
+        // then
+        assertThat(reason).isEqualTo("contract 기준 시각 없음");
+    }
+
+    @Test
+    void toCurrentHighWaterMarks_빈테이블은기준시각을채워저장() {
+        // given: installation_history, device_installment_detail, charge_item이 비어 있다
+        List<SourceWatermarkDto> marks = currentMarks(null);
+
+        // when
+        Map<String, LocalDateTime> current = DeltaTargetTasklet.toCurrentHighWaterMarks(marks);
+
+        // then
+        assertThat(current).containsOnlyKeys(allTables());
+        assertThat(current.get("installation_history")).isEqualTo(DeltaTargetTasklet.EMPTY_TABLE_HIGH_WATER_MARK);
+        assertThat(current.get("device_installment_detail")).isEqualTo(DeltaTargetTasklet.EMPTY_TABLE_HIGH_WATER_MARK);
+        assertThat(current.get("charge_item")).isEqualTo(DeltaTargetTasklet.EMPTY_TABLE_HIGH_WATER_MARK);
+        assertThat(current.get("contract")).isEqualTo(MARK);
+    }
+
+    @Test
+    void fullRecalculationReason_빈테이블이있어도다음실행은증분() {
+        // given: 첫 실행의 기준 시각을 WatermarkCommitTasklet처럼 문자열로 저장했다가 다시 읽는다
+        Map<String, LocalDateTime> firstRun = DeltaTargetTasklet.toCurrentHighWaterMarks(currentMarks(null));
+        List<SourceWatermarkDto> stored = new ArrayList<>();
+        firstRun.forEach((table, mark) -> stored.add(watermark(table, LocalDateTime.parse(mark.toString()))));
+        Map<String, LocalDateTime> previous = DeltaTargetTasklet.toStoredWatermarks(stored);
+
+        // when
+        Map<String, LocalDateTime> current = DeltaTargetTasklet.toCurrentHighWaterMarks(currentMarks(null));
+        String reason = DeltaTargetTasklet.fullRecalculationReason(previous, current);
+        Map<String, LocalDateTime> since = DeltaTargetTasklet.changedSince(previous, 60);
+
+        // then
+        assertThat(reason).isNull();
+        assertThat(since).containsOnlyKeys(DeltaTargetTasklet.CONTRACT_SOURCE_TABLES);
+        assertThat(since.get("installation_history")).isEqualTo(DeltaTargetTasklet.EMPTY_TABLE_HIGH_WATER_MARK.minusSeconds(60));
+        assertThat(since.get("contract")).isEqualTo(MARK.minusSeconds(60));
+    }
+
+    @Test
+    void fullRecalculationReason_빈기준정보테이블에행이생기면전체() {
+        // given
+        Map<String, LocalDateTime> previous = DeltaTargetTasklet.toCurrentHighWaterMarks(currentMarks(null));
+
+        // when
+        Map<String, LocalDateTime> current = DeltaTargetTasklet.toCurrentHighWaterMarks(currentMarks(MARK.plusMinutes(5)));
+        String reason = DeltaTargetTasklet.fullRecalculationReason(previous, current);
+
+        // then
+        assertThat(reason).isEqualTo("charge_item 기준 정보 변경");
+    }
+
+    @Test
+    void watermarkKey_유형주기청구기간을포함() {
+        // when
+        String key = DeltaTargetTasklet.watermarkKey(
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31),
+                BillingCalculationType.REVENUE_CONFIRMATION, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH);
+
+        // then
+        assertThat(key).isEqualTo("B0:0:2025-10-01~2025-10-31");
+    }
+
+    /**
+     * findCurrentHighWaterMarks 결과: installation_history, device_installment_detail은 비어 있고 charge_item은 chargeItemMark
+     */
+    private static List<SourceWatermarkDto> currentMarks(LocalDateTime chargeItemMark) {
+        Map<String, LocalDateTime> marks = new HashMap<>();
+        allTables().forEach(table -> marks.put(table, MARK));
+        marks.put("installation_history", null);
+        marks.put("device_installment_detail", null);
+        marks.put("charge_item", chargeItemMark);
+
+        List<SourceWatermarkDto> watermarks = new ArrayList<>();
+        marks.forEach((table, mark) -> watermarks.add(watermark(table, mark)));
+        return watermarks;
+    }
+
+    private static List<String> allTables() {
+        List<String> tables = new ArrayList<>(DeltaTargetTasklet.CONTRACT_SOURCE_TABLES);
+        tables.addAll(DeltaTargetTasklet.REFERENCE_TABLES);
+        return tables;
+    }
+
+    private static SourceWatermarkDto watermark(String sourceTable, LocalDateTime highWaterMark) {
+        SourceWatermarkDto watermark = new SourceWatermarkDto();
+        watermark.setSourceTable(sourceTable);
+        watermark.setHighWaterMark(highWaterMark);
+        return watermark;
+    }
+}
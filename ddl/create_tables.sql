@@ -167,6 +167,8 @@ CREATE TABLE calculation_result (
     -- 청구 기간 정보 (중복 저장됨)
                                     billing_start_date DATE NOT NULL COMMENT '청구 시작일',
                                     billing_end_date DATE NOT NULL COMMENT '청구 종료일',
+                                    billing_calculation_type VARCHAR(2) NOT NULL COMMENT '청구 계산 유형 코드 (B0: 매출확정, BB: 매출추정 등)',
+                                    billing_calculation_period VARCHAR(1) NOT NULL COMMENT '청구 계산 주기 코드 (0: 당월, 1: 전당월의 전월, 2: 전당월의 당월)',
 
     -- MonthlyFeeCalculationResultItem 정보
                                     product_offering_id VARCHAR(50) NOT NULL COMMENT '상품 오퍼링 ID',
@@ -25,6 +25,18 @@ BEGIN EXECUTE IMMEDIATE 'DROP TABLE contract PURGE'; EXCEPTION WHEN OTHERS THEN
 /
 BEGIN EXECUTE IMMEDIATE 'DROP TABLE revenue_master_data PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
 /
+BEGIN EXECUTE IMMEDIATE 'DROP TABLE batch_partition_queue PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
+/
+BEGIN EXECUTE IMMEDIATE 'DROP TABLE calculation_watermark PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
+/
+BEGIN EXECUTE IMMEDIATE 'DROP TABLE calculation_delta_target PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
+/
+BEGIN EXECUTE IMMEDIATE 'DROP TABLE invoice_line PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
+/
+BEGIN EXECUTE IMMEDIATE 'DROP TABLE invoice PURGE'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -942 THEN RAISE; END IF; END;
+/
+BEGIN EXECUTE IMMEDIATE 'DROP SEQUENCE invoice_number_seq'; EXCEPTION WHEN OTHERS THEN IF SQLCODE != -2289 THEN RAISE; END IF; END;
+/
 
 -- revenue_master_data
 CREATE TABLE revenue_master_data (
@@ -148,6 +160,8 @@ CREATE TABLE contract_discount (
   discount_amt            NUMBER(19,0),
   discount_rate           NUMBER(15,2),
   discount_applied_amount NUMBER(15,2),
+  created_at              TIMESTAMP    DEFAULT SYSTIMESTAMP,
+  updated_at              TIMESTAMP    DEFAULT SYSTIMESTAMP,
   CONSTRAINT pk_contract_discount PRIMARY KEY (contract_id, discount_id, discount_start_date, discount_end_date)
 );
 
@@ -160,6 +174,8 @@ CREATE TABLE calculation_result (
   contract_id           NUMBER(19)   NOT NULL,
   billing_start_date    DATE         NOT NULL,
   billing_end_date      DATE         NOT NULL,
+  billing_calculation_type   VARCHAR2(2) NOT NULL,
+  billing_calculation_period VARCHAR2(1) NOT NULL,
   product_offering_id   VARCHAR2(50) NOT NULL,
   charge_item_id        VARCHAR2(50) NOT NULL,
   revenue_item_id       VARCHAR2(50) NOT NULL,
@@ -174,4 +190,75 @@ CREATE TABLE calculation_result (
 -- Optional index to speed up contract queries
 CREATE INDEX idx_calculation_result_contract ON calculation_result(contract_id);
 
+-- 증분 재계산: 원천 테이블 변경 감지용 updated_at 인덱스
+-- (계산 결과 반영용 갱신인 contract_discount.discount_applied_amount, installation_history.billed_flag 등은 updated_at을 바꾸지 않는다)
+CREATE INDEX idx_contract_updated_at ON contract(updated_at);
+CREATE INDEX idx_product_updated_at ON product(updated_at);
+CREATE INDEX idx_suspension_updated_at ON suspension(updated_at);
+CREATE INDEX idx_contract_discount_updated_at ON contract_discount(updated_at);
+CREATE INDEX idx_device_inst_master_updated_at ON device_installment_master(updated_at);
+CREATE INDEX idx_device_inst_detail_updated_at ON device_installment_detail(updated_at);
+CREATE INDEX idx_installation_history_updated_at ON installation_history(updated_at);
+
+-- calculation_watermark (청구 계산 유형/주기/청구기간별, 원천 테이블별 마지막 성공 실행 기준 시각)
+CREATE TABLE calculation_watermark (
+  watermark_key   VARCHAR2(100) NOT NULL,
+  source_table    VARCHAR2(50)  NOT NULL,
+  high_water_mark TIMESTAMP     NOT NULL,
+  updated_at      TIMESTAMP     DEFAULT SYSTIMESTAMP,
+  CONSTRAINT pk_calculation_watermark PRIMARY KEY (watermark_key, source_table)
+);
+
+-- calculation_delta_target (증분 재계산 대상 계약)
+CREATE TABLE calculation_delta_target (
+  contract_id NUMBER(19) PRIMARY KEY
+);
+
+-- batch_partition_queue (원격 파티셔닝 작업 큐: READY → CLAIMED → DONE | FAILED)
+CREATE TABLE batch_partition_queue (
+  step_execution_id NUMBER(19)     NOT NULL,
+  job_execution_id  NUMBER(19)     NOT NULL,
+  step_name         VARCHAR2(100)  NOT NULL,
+  run_signature     VARCHAR2(4000) NOT NULL,
+  status            VARCHAR2(10)   NOT NULL,
+  worker_id         VARCHAR2(200),
+  attempt_count     NUMBER(5)      DEFAULT 0 NOT NULL,
+  created_at        TIMESTAMP      DEFAULT SYSTIMESTAMP NOT NULL,
+  claimed_at        TIMESTAMP,
+  heartbeat_at      TIMESTAMP,
+  completed_at      TIMESTAMP,
+  CONSTRAINT pk_batch_partition_queue PRIMARY KEY (step_execution_id)
+);
+
+CREATE INDEX idx_batch_partition_queue_status ON batch_partition_queue(status, job_execution_id);
+
+-- invoice (청구서: 계약별/청구기간별, 금액은 원 단위)
+CREATE TABLE invoice (
+  invoice_number     NUMBER(19)  NOT NULL,
+  contract_id        NUMBER(19)  NOT NULL,
+  billing_start_date DATE        NOT NULL,
+  billing_end_date   DATE        NOT NULL,
+  billing_calculation_type   VARCHAR2(2) NOT NULL,
+  billing_calculation_period VARCHAR2(1) NOT NULL,
+  bill_date          DATE        NOT NULL,
+  total_amount       NUMBER(15)  NOT NULL,
+  created_at         TIMESTAMP   DEFAULT SYSTIMESTAMP,
+  CONSTRAINT pk_invoice PRIMARY KEY (invoice_number)
+);
+
+CREATE INDEX idx_invoice_period_contract ON invoice(billing_start_date, billing_end_date, billing_calculation_type, billing_calculation_period, contract_id);
+
+-- invoice_line (청구서 항목: 수익 항목별 합계)
+CREATE TABLE invoice_line (
+  invoice_number  NUMBER(19)    NOT NULL,
+  line_no         NUMBER(5)     NOT NULL,
+  revenue_item_id VARCHAR2(50)  NOT NULL,
+  description     VARCHAR2(200),
+  amount          NUMBER(15)    NOT NULL,
+  CONSTRAINT pk_invoice_line PRIMARY KEY (invoice_number, line_no)
+);
+
+-- 청구서 번호 블록 할당용 시퀀스 (INCREMENT BY는 billing.bill-generation.number-block-size와 같아야 한다)
+CREATE SEQUENCE invoice_number_seq START WITH 1 INCREMENT BY 1000 CACHE 20;
+
 COMMIT;
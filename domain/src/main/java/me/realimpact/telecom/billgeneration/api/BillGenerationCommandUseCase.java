@@ -1,16 +1,16 @@
 package me.realimpact.telecom.billgeneration.api;
 
-import java.util.List;
-
 /**
  * Use case for generating bills. This is intentionally minimal so we can
  * evolve inputs/outputs later without impacting other modules.
  */
 public interface BillGenerationCommandUseCase {
     /**
-     * Generate bills for the given contract IDs.
+     * Generate bills for the given contract IDs (all contracts with calculation results when empty).
+     * Existing invoices of the same billing period for those contracts are replaced.
      *
-     * @param contractIds target contract identifiers
+     * @param request billing period, bill date and target contract identifiers
+     * @return counts and total amount of the generated invoices
      */
-    void generateForContracts(List<Long> contractIds);
+    BillGenerationSummary generateForContracts(BillGenerationRequest request);
 }
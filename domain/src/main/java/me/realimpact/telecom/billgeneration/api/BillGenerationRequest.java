@@ -0,0 +1,41 @@
+package me.realimpact.telecom.billgeneration.api;
+
+import jakarta.validation.constraints.NotNull;
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 청구서 생성 요청
+ *
+ * @param billingStartDate 청구 시작일
+ * @param billingEndDate 청구 종료일
+ * @param billingCalculationType 청구서로 만들 계산 결과의 청구 계산 유형
+ * @param billingCalculationPeriod 청구서로 만들 계산 결과의 청구 계산 주기
+ * @param billDate 청구서 발행일
+ * @param contractIds 대상 계약 ID 목록 (비어 있으면 해당 청구 기간의 계산 결과가 있는 전체 계약)
+ */
+public record BillGenerationRequest(
+    @NotNull(message = "청구 시작일은 필수입니다")
+    LocalDate billingStartDate,
+
+    @NotNull(message = "청구 종료일은 필수입니다")
+    LocalDate billingEndDate,
+
+    @NotNull(message = "청구 계산 유형은 필수입니다")
+    BillingCalculationType billingCalculationType,
+
+    @NotNull(message = "청구 계산 주기는 필수입니다")
+    BillingCalculationPeriod billingCalculationPeriod,
+
+    @NotNull(message = "청구서 발행일은 필수입니다")
+    LocalDate billDate,
+
+    List<Long> contractIds) {
+
+    public BillGenerationRequest {
+        contractIds = contractIds == null ? List.of() : List.copyOf(contractIds);
+    }
+}
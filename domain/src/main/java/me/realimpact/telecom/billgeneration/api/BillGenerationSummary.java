@@ -0,0 +1,26 @@
+package me.realimpact.telecom.billgeneration.api;
+
+/**
+ * 청구서 생성 결과 요약
+ *
+ * @param resultRows 읽은 계산 결과 행 수
+ * @param invoices 생성한 청구서 수
+ * @param lines 생성한 청구서 항목 수
+ * @param totalAmount 청구서 합계 금액
+ */
+public record BillGenerationSummary(
+    long resultRows,
+    long invoices,
+    long lines,
+    long totalAmount) {
+
+    public static final BillGenerationSummary EMPTY = new BillGenerationSummary(0, 0, 0, 0);
+
+    public BillGenerationSummary merge(BillGenerationSummary other) {
+        return new BillGenerationSummary(
+            resultRows + other.resultRows,
+            invoices + other.invoices,
+            lines + other.lines,
+            totalAmount + other.totalAmount);
+    }
+}
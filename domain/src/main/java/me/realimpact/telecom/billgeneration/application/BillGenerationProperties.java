@@ -0,0 +1,30 @@
+package me.realimpact.telecom.billgeneration.application;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청구서 생성 관련 설정 프로퍼티
+ * application.yml의 billing.bill-generation 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.bill-generation")
+@Data
+public class BillGenerationProperties {
+
+    /**
+     * 병렬로 처리할 파티션 수 (기본값: 8). 파티션마다 조회/저장 커넥션을 하나씩 사용한다.
+     */
+    private int partitionCount = 8;
+
+    /**
+     * 한 트랜잭션으로 저장할 청구서 수 (기본값: 500)
+     */
+    private int flushSize = 500;
+
+    /**
+     * 청구서 번호 블록 크기. invoice_number_seq의 INCREMENT BY와 같아야 한다 (기본값: 1000)
+     */
+    private int numberBlockSize = 1000;
+}
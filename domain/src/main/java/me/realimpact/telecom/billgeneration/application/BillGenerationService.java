@@ -0,0 +1,146 @@
+package me.realimpact.telecom.billgeneration.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billgeneration.api.BillGenerationCommandUseCase;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.api.BillGenerationSummary;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.domain.InvoiceAssembler;
+import me.realimpact.telecom.billgeneration.port.out.BillableResultQueryPort;
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+import me.realimpact.telecom.calculation.domain.masterdata.RevenueMasterData;
+import me.realimpact.telecom.calculation.port.out.RevenueMasterDataQueryPort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 청구서 생성 서비스.
+ * 계산 결과를 계약 ID 순으로 스트리밍하여 계약마다 청구서를 만들고, flushSize 단위로 일괄 저장한다.
+ * 계산 Job과 같이 contractId MOD partitionCount 기준으로 파티션을 나누어 병렬 실행하며,
+ * 청구서 번호는 파티션마다 블록 단위로 할당받으므로 파티션 간 잠금이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BillGenerationService implements BillGenerationCommandUseCase {
+
+    private final BillableResultQueryPort billableResultQueryPort;
+    private final InvoiceCommandPort invoiceCommandPort;
+    private final RevenueMasterDataQueryPort revenueMasterDataQueryPort;
+    private final BillGenerationProperties billGenerationProperties;
+
+    @Override
+    public BillGenerationSummary generateForContracts(BillGenerationRequest request) {
+        int partitionCount = billGenerationProperties.getPartitionCount();
+        long startedAt = System.currentTimeMillis();
+        log.info("=== 청구서 생성 시작 === 청구기간: {} ~ {}, 유형: {}, 주기: {}, 발행일: {}, 파티션 수: {}",
+                request.billingStartDate(), request.billingEndDate(), request.billingCalculationType(),
+                request.billingCalculationPeriod(), request.billDate(), partitionCount);
+
+        Function<String, String> lineDescriptions = lineDescriptions(request.billingEndDate());
+        ExecutorService executor = Executors.newFixedThreadPool(partitionCount,
+                Thread.ofPlatform().name("bill-generation-", 0).factory());
+        try {
+            List<Future<BillGenerationSummary>> partitions = IntStream.range(0, partitionCount)
+                    .mapToObj(partitionKey -> executor.submit(
+                            () -> generatePartition(request, partitionKey, partitionCount, lineDescriptions)))
+                    .toList();
+
+            BillGenerationSummary summary = BillGenerationSummary.EMPTY;
+            for (int partitionKey = 0; partitionKey < partitionCount; partitionKey++) {
+                try {
+                    summary = summary.merge(partitions.get(partitionKey).get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("청구서 생성 실패: 파티션 " + partitionKey, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("청구서 생성 중단", e);
+                }
+            }
+
+            log.info("=== 청구서 생성 완료 === 계산 결과: {}건, 청구서: {}건, 항목: {}건, 합계: {}원, 실행 시간: {}ms",
+                    summary.resultRows(), summary.invoices(), summary.lines(), summary.totalAmount(),
+                    System.currentTimeMillis() - startedAt);
+            return summary;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 파티션 하나의 청구서를 생성한다 (기존 청구서 삭제 → 스트리밍 집계 → flushSize 단위 저장)
+     */
+    public BillGenerationSummary generatePartition(BillGenerationRequest request, int partitionKey, int partitionCount,
+                                                   Function<String, String> lineDescriptions) {
+        int deleted = invoiceCommandPort.deleteInvoices(request, partitionKey, partitionCount);
+        if (deleted > 0) {
+            log.info("파티션 {}: 기존 청구서 {}건 삭제", partitionKey, deleted);
+        }
+
+        int flushSize = billGenerationProperties.getFlushSize();
+        List<Invoice> buffer = new ArrayList<>(flushSize);
+        long invoices = 0;
+        long lines = 0;
+        long totalAmount = 0;
+
+        try (InvoiceStream stream = openInvoiceStream(request, partitionKey, partitionCount, lineDescriptions)) {
+            for (Invoice invoice = stream.next(); invoice != null; invoice = stream.next()) {
+                buffer.add(invoice);
+                invoices++;
+                lines += invoice.getLines().size();
+                totalAmount += invoice.getTotalAmount();
+                if (buffer.size() >= flushSize) {
+                    invoiceCommandPort.saveAll(buffer);
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty()) {
+                invoiceCommandPort.saveAll(buffer);
+            }
+
+            log.info("파티션 {}: 계산 결과 {}건 → 청구서 {}건", partitionKey, stream.resultRows(), invoices);
+            return new BillGenerationSummary(stream.resultRows(), invoices, lines, totalAmount);
+        }
+    }
+
+    /**
+     * 파티션의 계산 결과를 계약 단위 청구서로 읽는 스트림을 연다. 청구서 번호는 스트림마다 블록 단위로 할당된다.
+     */
+    public InvoiceStream openInvoiceStream(BillGenerationRequest request, int partitionKey, int partitionCount,
+                                           Function<String, String> lineDescriptions) {
+        BillableResultQueryPort.BillableResultCursor cursor =
+                billableResultQueryPort.openCursor(request, partitionKey, partitionCount);
+        InvoiceAssembler assembler = new InvoiceAssembler(
+                cursor,
+                request.billingStartDate(),
+                request.billingEndDate(),
+                request.billingCalculationType(),
+                request.billingCalculationPeriod(),
+                request.billDate(),
+                new InvoiceNumberAllocator(invoiceCommandPort, billGenerationProperties.getNumberBlockSize()),
+                lineDescriptions);
+        return new InvoiceStream(cursor, assembler);
+    }
+
+    /**
+     * 수익 항목 ID → 청구서 항목명 (기준일에 유효한 수익 항목명, 없으면 ID)
+     */
+    public Function<String, String> lineDescriptions(LocalDate baseDate) {
+        Map<String, RevenueMasterData> revenueMasterData = revenueMasterDataQueryPort.findRevenueMasterDataByBaseDate(baseDate);
+        return revenueItemId -> {
+            RevenueMasterData masterData = revenueMasterData.get(revenueItemId);
+            return masterData != null ? masterData.revenueItemName() : revenueItemId;
+        };
+    }
+}
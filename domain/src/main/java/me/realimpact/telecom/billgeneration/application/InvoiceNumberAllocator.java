@@ -0,0 +1,36 @@
+package me.realimpact.telecom.billgeneration.application;
+
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 청구서 번호를 블록 단위로 할당받아 나눠 준다.
+ * 파티션마다 하나씩 사용하므로 동기화하지 않으며, 블록을 다 쓴 경우에만 DB 시퀀스를 호출한다.
+ * 번호는 파티션 안에서만 오름차순이고, 실행이 끝나면 남은 블록은 버려진다.
+ */
+public class InvoiceNumberAllocator implements LongSupplier {
+
+    private final InvoiceCommandPort invoiceCommandPort;
+    private final int blockSize;
+
+    private long next;
+    private long blockEnd;
+
+    public InvoiceNumberAllocator(InvoiceCommandPort invoiceCommandPort, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("청구서 번호 블록 크기는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.invoiceCommandPort = invoiceCommandPort;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long getAsLong() {
+        if (next == blockEnd) {
+            next = invoiceCommandPort.allocateInvoiceNumberBlock();
+            blockEnd = next + blockSize;
+        }
+        return next++;
+    }
+}
@@ -0,0 +1,38 @@
+package me.realimpact.telecom.billgeneration.application;
+
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.domain.InvoiceAssembler;
+import me.realimpact.telecom.billgeneration.port.out.BillableResultQueryPort.BillableResultCursor;
+
+/**
+ * 파티션 하나의 계산 결과 커서를 계약 단위 청구서로 읽는 스트림
+ */
+public class InvoiceStream implements AutoCloseable {
+
+    private final BillableResultCursor cursor;
+    private final InvoiceAssembler assembler;
+
+    InvoiceStream(BillableResultCursor cursor, InvoiceAssembler assembler) {
+        this.cursor = cursor;
+        this.assembler = assembler;
+    }
+
+    /**
+     * @return 다음 청구서 (더 이상 없으면 null)
+     */
+    public Invoice next() {
+        return assembler.next();
+    }
+
+    /**
+     * @return 지금까지 읽은 계산 결과 행 수
+     */
+    public long resultRows() {
+        return assembler.resultRows();
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
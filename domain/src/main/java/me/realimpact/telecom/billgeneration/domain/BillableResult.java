@@ -0,0 +1,16 @@
+package me.realimpact.telecom.billgeneration.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 청구서 생성에 필요한 계산 결과 컬럼 (calculation_result 한 행)
+ *
+ * @param contractId 계약 ID
+ * @param revenueItemId 수익 항목 ID
+ * @param fee 금액
+ */
+public record BillableResult(
+    long contractId,
+    String revenueItemId,
+    BigDecimal fee
+) {}
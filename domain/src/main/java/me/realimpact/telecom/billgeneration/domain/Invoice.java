@@ -2,17 +2,24 @@ package me.realimpact.telecom.billgeneration.domain;
 
 import lombok.Builder;
 import lombok.Value;
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
 
 import java.time.LocalDate;
 import java.util.List;
 
 /**
- * Minimal placeholder aggregate for bill generation domain.
+ * 계약 하나의 청구 기간 청구서. 항목은 수익 항목별로 합산되어 있다.
  */
 @Value
 @Builder
 public class Invoice {
+    long invoiceNumber;
     Long contractId;
+    LocalDate billingStartDate;
+    LocalDate billingEndDate;
+    BillingCalculationType billingCalculationType;
+    BillingCalculationPeriod billingCalculationPeriod;
     LocalDate billDate;
     List<InvoiceLine> lines;
     long totalAmount;
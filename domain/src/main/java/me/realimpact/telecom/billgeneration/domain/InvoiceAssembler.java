@@ -0,0 +1,136 @@
+package me.realimpact.telecom.billgeneration.domain;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 계약 ID 순으로 정렬된 계산 결과를 계약 단위로 모아 청구서를 만든다.
+ * 한 번에 한 계약의 수익 항목별 합계만 들고 있으므로 메모리 사용량은 계약 수와 무관하다.
+ *
+ * 금액은 원 미만 2자리(NUMBER(15,2))의 고정소수점 long으로 합산한 뒤, 항목 합계에서 원 미만을 절사한다.
+ * 합계가 0원인 항목은 청구서에 싣지 않으며, 청구서 합계는 항목 금액의 합이다.
+ */
+public class InvoiceAssembler {
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final long AMOUNT_UNIT = 100;
+
+    private final Iterator<BillableResult> results;
+    private final LocalDate billingStartDate;
+    private final LocalDate billingEndDate;
+    private final BillingCalculationType billingCalculationType;
+    private final BillingCalculationPeriod billingCalculationPeriod;
+    private final LocalDate billDate;
+    private final LongSupplier invoiceNumbers;
+    private final Function<String, String> lineDescriptions;
+
+    private BillableResult pending;
+    private long previousContractId = Long.MIN_VALUE;
+    private long resultRows;
+
+    public InvoiceAssembler(
+            Iterator<BillableResult> results,
+            LocalDate billingStartDate,
+            LocalDate billingEndDate,
+            BillingCalculationType billingCalculationType,
+            BillingCalculationPeriod billingCalculationPeriod,
+            LocalDate billDate,
+            LongSupplier invoiceNumbers,
+            Function<String, String> lineDescriptions) {
+        this.results = results;
+        this.billingStartDate = billingStartDate;
+        this.billingEndDate = billingEndDate;
+        this.billingCalculationType = billingCalculationType;
+        this.billingCalculationPeriod = billingCalculationPeriod;
+        this.billDate = billDate;
+        this.invoiceNumbers = invoiceNumbers;
+        this.lineDescriptions = lineDescriptions;
+    }
+
+    /**
+     * 다음 계약의 청구서를 만든다
+     *
+     * @return 청구서 (더 이상 결과가 없으면 null)
+     * @throws IllegalStateException 결과가 계약 ID 순으로 정렬되어 있지 않은 경우
+     */
+    public Invoice next() {
+        BillableResult first = pending != null ? pending : poll();
+        pending = null;
+        if (first == null) {
+            return null;
+        }
+        long contractId = first.contractId();
+        if (contractId <= previousContractId) {
+            throw new IllegalStateException("계산 결과가 계약 ID 순으로 정렬되어 있지 않습니다: " + previousContractId + " -> " + contractId);
+        }
+        previousContractId = contractId;
+
+        Map<String, long[]> amountsByRevenueItem = new TreeMap<>();
+        for (BillableResult result = first; result != null; result = poll()) {
+            if (result.contractId() != contractId) {
+                pending = result;
+                break;
+            }
+            if (result.fee() != null) {
+                amountsByRevenueItem.computeIfAbsent(result.revenueItemId(), key -> new long[1])[0] += toFixedPoint(result.fee());
+            }
+        }
+
+        List<InvoiceLine> lines = new ArrayList<>(amountsByRevenueItem.size());
+        long totalAmount = 0;
+        for (Map.Entry<String, long[]> entry : amountsByRevenueItem.entrySet()) {
+            long amount = entry.getValue()[0] / AMOUNT_UNIT;
+            if (amount == 0) {
+                continue;
+            }
+            lines.add(InvoiceLine.builder()
+                    .revenueItemId(entry.getKey())
+                    .description(lineDescriptions.apply(entry.getKey()))
+                    .amount(amount)
+                    .build());
+            totalAmount += amount;
+        }
+
+        return Invoice.builder()
+                .invoiceNumber(invoiceNumbers.getAsLong())
+                .contractId(contractId)
+                .billingStartDate(billingStartDate)
+                .billingEndDate(billingEndDate)
+                .billingCalculationType(billingCalculationType)
+                .billingCalculationPeriod(billingCalculationPeriod)
+                .billDate(billDate)
+                .lines(lines)
+                .totalAmount(totalAmount)
+                .build();
+    }
+
+    /**
+     * @return 지금까지 읽은 계산 결과 행 수
+     */
+    public long resultRows() {
+        return resultRows;
+    }
+
+    private BillableResult poll() {
+        if (!results.hasNext()) {
+            return null;
+        }
+        resultRows++;
+        return results.next();
+    }
+
+    private static long toFixedPoint(BigDecimal fee) {
+        return fee.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
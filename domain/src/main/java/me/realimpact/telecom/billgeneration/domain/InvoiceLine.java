@@ -4,12 +4,12 @@ import lombok.Builder;
 import lombok.Value;
 
 /**
- * Minimal invoice line placeholder to allow package-based scaffolding
- * without impacting existing modules.
+ * 수익 항목 하나의 청구 금액
  */
 @Value
 @Builder
 public class InvoiceLine {
+    String revenueItemId;
     String description;
     long amount; // smallest currency unit (e.g., KRW)
 }
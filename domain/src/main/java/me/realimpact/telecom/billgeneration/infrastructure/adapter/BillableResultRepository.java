@@ -0,0 +1,152 @@
+package me.realimpact.telecom.billgeneration.infrastructure.adapter;
+
+import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.domain.BillableResult;
+import me.realimpact.telecom.billgeneration.infrastructure.adapter.mybatis.BillGenerationMapper;
+import me.realimpact.telecom.billgeneration.port.out.BillableResultQueryPort;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * 청구서 생성 대상 계산 결과 조회 Repository 구현체.
+ * MyBatisCursorItemReader와 같이 전용 SqlSession을 열어 커서로 읽으므로, 호출 스레드의 트랜잭션과 무관하게 커서가 유지된다.
+ * 첫 조회는 openCursor 시점에 실행된다 (배치 Reader에서는 청크 트랜잭션 밖인 open 단계).
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillableResultRepository implements BillableResultQueryPort {
+
+    // Oracle IN 절 최대 항목 수
+    static final int IN_LIST_LIMIT = 1000;
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    @Override
+    public BillableResultCursor openCursor(BillGenerationRequest request, int partitionKey, int partitionCount) {
+        List<List<Long>> contractIdSlices = contractIdSlices(request.contractIds(), partitionKey, partitionCount);
+        if (contractIdSlices.isEmpty()) {
+            return new SessionCursor(null, request, partitionKey, partitionCount, contractIdSlices);
+        }
+        SqlSession session = sqlSessionFactory.openSession(ExecutorType.SIMPLE);
+        try {
+            return new SessionCursor(session, request, partitionKey, partitionCount, contractIdSlices);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 파티션에 속한 대상 계약을 오름차순으로 IN_LIST_LIMIT씩 나눈다. 대상 계약을 지정하지 않았으면 빈 목록 하나(전체 조회).
+     * 지정했지만 파티션에 속한 계약이 없으면 빈 결과.
+     */
+    static List<List<Long>> contractIdSlices(List<Long> contractIds, int partitionKey, int partitionCount) {
+        if (contractIds.isEmpty()) {
+            return List.of(List.of());
+        }
+        List<Long> partitionContractIds = contractIds.stream()
+                .filter(contractId -> contractId % partitionCount == partitionKey)
+                .distinct()
+                .sorted()
+                .toList();
+        int sliceCount = (partitionContractIds.size() + IN_LIST_LIMIT - 1) / IN_LIST_LIMIT;
+        return IntStream.range(0, sliceCount)
+                .mapToObj(i -> partitionContractIds.subList(i * IN_LIST_LIMIT,
+                        Math.min((i + 1) * IN_LIST_LIMIT, partitionContractIds.size())))
+                .toList();
+    }
+
+    /**
+     * 계약 구간별 커서를 순서대로 이어 읽는 커서. 구간이 오름차순이므로 전체도 계약 ID 순이다.
+     */
+    private static class SessionCursor implements BillableResultCursor {
+
+        private final SqlSession session;
+        private final BillGenerationRequest request;
+        private final int partitionKey;
+        private final int partitionCount;
+        private final List<List<Long>> contractIdSlices;
+
+        private int nextSlice;
+        private Cursor<BillableResult> current;
+        private Iterator<BillableResult> iterator;
+
+        SessionCursor(SqlSession session, BillGenerationRequest request, int partitionKey, int partitionCount,
+                      List<List<Long>> contractIdSlices) {
+            this.session = session;
+            this.request = request;
+            this.partitionKey = partitionKey;
+            this.partitionCount = partitionCount;
+            this.contractIdSlices = contractIdSlices;
+            openNextSlice();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (iterator != null && !iterator.hasNext()) {
+                openNextSlice();
+            }
+            return iterator != null;
+        }
+
+        @Override
+        public BillableResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            try {
+                closeCurrent();
+            } finally {
+                if (session != null) {
+                    session.close();
+                }
+            }
+        }
+
+        private void openNextSlice() {
+            closeCurrent();
+            if (nextSlice >= contractIdSlices.size()) {
+                iterator = null;
+                return;
+            }
+            current = session.getMapper(BillGenerationMapper.class).streamBillableResults(
+                    request.billingStartDate(),
+                    request.billingEndDate(),
+                    request.billingCalculationType().getCode(),
+                    request.billingCalculationPeriod().getCode(),
+                    partitionKey,
+                    partitionCount,
+                    contractIdSlices.get(nextSlice++));
+            iterator = current.iterator();
+        }
+
+        private void closeCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                current.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.realimpact.telecom.billgeneration.infrastructure.adapter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.domain.InvoiceLine;
+import me.realimpact.telecom.billgeneration.infrastructure.adapter.mybatis.BillGenerationMapper;
+import me.realimpact.telecom.billgeneration.infrastructure.dto.InvoiceLineRowDto;
+import me.realimpact.telecom.billgeneration.port.out.InvoiceCommandPort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청구서 저장 Repository 구현체
+ * 헥사고날 아키텍처의 outbound adapter
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceRepository implements InvoiceCommandPort {
+
+    // 다중 행 INSERT 한 문장에 담을 최대 행 수
+    private static final int INSERT_SLICE_SIZE = 1000;
+
+    private final BillGenerationMapper billGenerationMapper;
+
+    @Override
+    @Transactional
+    public int deleteInvoices(BillGenerationRequest request, int partitionKey, int partitionCount) {
+        int deleted = 0;
+        for (List<Long> contractIds : BillableResultRepository.contractIdSlices(request.contractIds(), partitionKey, partitionCount)) {
+            billGenerationMapper.deleteInvoiceLines(
+                    request.billingStartDate(), request.billingEndDate(),
+                    request.billingCalculationType().getCode(), request.billingCalculationPeriod().getCode(),
+                    partitionKey, partitionCount, contractIds);
+            deleted += billGenerationMapper.deleteInvoices(
+                    request.billingStartDate(), request.billingEndDate(),
+                    request.billingCalculationType().getCode(), request.billingCalculationPeriod().getCode(),
+                    partitionKey, partitionCount, contractIds);
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<Invoice> invoices) {
+        if (invoices == null || invoices.isEmpty()) {
+            return;
+        }
+
+        List<InvoiceLineRowDto> lines = new ArrayList<>();
+        for (Invoice invoice : invoices) {
+            List<InvoiceLine> invoiceLines = invoice.getLines();
+            for (int i = 0; i < invoiceLines.size(); i++) {
+                InvoiceLine line = invoiceLines.get(i);
+                lines.add(InvoiceLineRowDto.builder()
+                        .invoiceNumber(invoice.getInvoiceNumber())
+                        .lineNo(i + 1)
+                        .revenueItemId(line.getRevenueItemId())
+                        .description(line.getDescription())
+                        .amount(line.getAmount())
+                        .build());
+            }
+        }
+
+        for (int from = 0; from < invoices.size(); from += INSERT_SLICE_SIZE) {
+            billGenerationMapper.batchInsertInvoices(invoices.subList(from, Math.min(from + INSERT_SLICE_SIZE, invoices.size())));
+        }
+        for (int from = 0; from < lines.size(); from += INSERT_SLICE_SIZE) {
+            billGenerationMapper.batchInsertInvoiceLines(lines.subList(from, Math.min(from + INSERT_SLICE_SIZE, lines.size())));
+        }
+        log.debug("청구서 {}건, 항목 {}건 저장", invoices.size(), lines.size());
+    }
+
+    @Override
+    public long allocateInvoiceNumberBlock() {
+        return billGenerationMapper.nextInvoiceNumberBlock();
+    }
+}
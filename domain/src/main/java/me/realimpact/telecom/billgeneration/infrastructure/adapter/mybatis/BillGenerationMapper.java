@@ -0,0 +1,77 @@
+package me.realimpact.telecom.billgeneration.infrastructure.adapter.mybatis;
+
+import me.realimpact.telecom.billgeneration.domain.BillableResult;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+import me.realimpact.telecom.billgeneration.infrastructure.dto.InvoiceLineRowDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 청구서 생성을 위한 MyBatis Mapper
+ */
+@Mapper
+public interface BillGenerationMapper {
+
+    /**
+     * 파티션의 계산 결과(청구 기간/유형/주기가 같은 결과만)를 계약 ID 순으로 조회하는 커서
+     * @param contractIds 대상 계약 (비어 있으면 전체, 1000건 이하)
+     */
+    Cursor<BillableResult> streamBillableResults(
+        @Param("billingStartDate") LocalDate billingStartDate,
+        @Param("billingEndDate") LocalDate billingEndDate,
+        @Param("billingCalculationType") String billingCalculationType,
+        @Param("billingCalculationPeriod") String billingCalculationPeriod,
+        @Param("partitionKey") int partitionKey,
+        @Param("partitionCount") int partitionCount,
+        @Param("contractIds") List<Long> contractIds
+    );
+
+    /**
+     * 청구서를 배치로 삽입
+     * @return 삽입된 행 수
+     */
+    int batchInsertInvoices(@Param("items") List<Invoice> items);
+
+    /**
+     * 청구서 항목을 배치로 삽입
+     * @return 삽입된 행 수
+     */
+    int batchInsertInvoiceLines(@Param("items") List<InvoiceLineRowDto> items);
+
+    /**
+     * 파티션에 속한 청구 기간/유형/주기의 청구서 항목 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteInvoiceLines(
+        @Param("billingStartDate") LocalDate billingStartDate,
+        @Param("billingEndDate") LocalDate billingEndDate,
+        @Param("billingCalculationType") String billingCalculationType,
+        @Param("billingCalculationPeriod") String billingCalculationPeriod,
+        @Param("partitionKey") int partitionKey,
+        @Param("partitionCount") int partitionCount,
+        @Param("contractIds") List<Long> contractIds
+    );
+
+    /**
+     * 파티션에 속한 청구 기간/유형/주기의 청구서 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteInvoices(
+        @Param("billingStartDate") LocalDate billingStartDate,
+        @Param("billingEndDate") LocalDate billingEndDate,
+        @Param("billingCalculationType") String billingCalculationType,
+        @Param("billingCalculationPeriod") String billingCalculationPeriod,
+        @Param("partitionKey") int partitionKey,
+        @Param("partitionCount") int partitionCount,
+        @Param("contractIds") List<Long> contractIds
+    );
+
+    /**
+     * 청구서 번호 블록의 첫 번호 (invoice_number_seq.NEXTVAL, INCREMENT BY = 블록 크기)
+     */
+    long nextInvoiceNumberBlock();
+}
@@ -0,0 +1,17 @@
+package me.realimpact.telecom.billgeneration.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * invoice_line 테이블과 매핑되는 DTO (청구서 번호와 항목 순번을 붙여 평면화한 청구서 항목)
+ */
+@Getter
+@Builder
+public class InvoiceLineRowDto {
+    private long invoiceNumber;
+    private int lineNo;
+    private String revenueItemId;
+    private String description;
+    private long amount;
+}
@@ -0,0 +1,28 @@
+package me.realimpact.telecom.billgeneration.port.out;
+
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.domain.BillableResult;
+
+import java.util.Iterator;
+
+/**
+ * 청구서 생성 대상 계산 결과 조회 포트
+ */
+public interface BillableResultQueryPort {
+
+    /**
+     * 파티션(contractId MOD partitionCount = partitionKey)의 계산 결과를 계약 ID 순으로 읽는 커서를 연다.
+     * 커서는 결과를 한 행씩 가져오므로 전체를 메모리에 올리지 않는다.
+     *
+     * @param request 청구 기간과 대상 계약
+     * @param partitionKey 파티션 번호
+     * @param partitionCount 전체 파티션 수
+     * @return 사용 후 반드시 닫아야 하는 커서
+     */
+    BillableResultCursor openCursor(BillGenerationRequest request, int partitionKey, int partitionCount);
+
+    interface BillableResultCursor extends Iterator<BillableResult>, AutoCloseable {
+        @Override
+        void close();
+    }
+}
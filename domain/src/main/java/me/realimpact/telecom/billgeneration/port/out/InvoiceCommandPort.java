@@ -0,0 +1,31 @@
+package me.realimpact.telecom.billgeneration.port.out;
+
+import me.realimpact.telecom.billgeneration.api.BillGenerationRequest;
+import me.realimpact.telecom.billgeneration.domain.Invoice;
+
+import java.util.List;
+
+/**
+ * 청구서 저장 포트
+ */
+public interface InvoiceCommandPort {
+
+    /**
+     * 파티션에 속한 청구 기간의 기존 청구서(항목 포함)를 삭제한다
+     *
+     * @return 삭제된 청구서 수
+     */
+    int deleteInvoices(BillGenerationRequest request, int partitionKey, int partitionCount);
+
+    /**
+     * 청구서와 항목을 한 트랜잭션으로 일괄 저장한다
+     */
+    void saveAll(List<Invoice> invoices);
+
+    /**
+     * 청구서 번호 블록을 할당한다. 반환값부터 blockSize개의 번호를 다른 호출과 겹치지 않게 사용할 수 있다.
+     *
+     * @return 블록의 첫 번호
+     */
+    long allocateInvoiceNumberBlock();
+}
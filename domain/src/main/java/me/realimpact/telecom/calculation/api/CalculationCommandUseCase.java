@@ -7,4 +7,13 @@ import java.util.List;
 
 public interface CalculationCommandUseCase {
     List<CalculationResultGroup> calculate(List<Long> contractIds, CalculationContext ctx);
+
+    /**
+     * 같은 계약들을 여러 계산 컨텍스트로 계산한다.
+     * 모든 컨텍스트의 청구 기간을 포함하는 기간으로 데이터를 한 번만 로딩하고, 컨텍스트마다 좁혀서 계산한다.
+     * @param contractIds 계약 ID 목록
+     * @param contexts 계산 컨텍스트 목록
+     * @return 컨텍스트별 계산 결과 (요청 순서 유지)
+     */
+    List<CalculationContextResult> calculate(List<Long> contractIds, List<CalculationContext> contexts);
 }
@@ -0,0 +1,17 @@
+package me.realimpact.telecom.calculation.api;
+
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+
+import java.util.List;
+
+/**
+ * 계산 컨텍스트 하나에 대한 계약별 계산 결과
+ *
+ * @param context 계산 컨텍스트
+ * @param resultGroups 계약별 계산 결과
+ */
+public record CalculationContextResult(
+    CalculationContext context,
+    List<CalculationResultGroup> resultGroups
+) {
+}
@@ -1,10 +1,48 @@
 package me.realimpact.telecom.calculation.api;
 
+import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 계약 하나의 계산 결과.
+ * 여러 계산 컨텍스트를 한 번에 계산하면 calculationResults에 모든 컨텍스트의 결과가 모이고,
+ * resultsByContext에 컨텍스트별 결과가 담긴다. 컨텍스트 하나만 계산하면 resultsByContext는 비어 있다.
+ */
 public record CalculationResultGroup(
-    List<CalculationResult<?>> calculationResults
+    List<CalculationResult<?>> calculationResults,
+    Map<CalculationContext, List<CalculationResult<?>>> resultsByContext
 ) {
+    public CalculationResultGroup(List<CalculationResult<?>> calculationResults) {
+        this(calculationResults, Map.of());
+    }
+
+    /**
+     * 컨텍스트별 계산 결과를 하나의 결과로 합친다
+     * @param groupsByContext 컨텍스트별 계산 결과 (컨텍스트 순서 유지)
+     * @return 합쳐진 계산 결과
+     */
+    public static CalculationResultGroup ofContexts(Map<CalculationContext, CalculationResultGroup> groupsByContext) {
+        List<CalculationResult<?>> calculationResults = new ArrayList<>();
+        Map<CalculationContext, List<CalculationResult<?>>> resultsByContext = new LinkedHashMap<>();
+        groupsByContext.forEach((ctx, group) -> {
+            calculationResults.addAll(group.calculationResults());
+            resultsByContext.put(ctx, group.calculationResults());
+        });
+        return new CalculationResultGroup(calculationResults, Collections.unmodifiableMap(resultsByContext));
+    }
+
+    /**
+     * 컨텍스트별 계산 결과를 반환한다. 컨텍스트 하나만 계산한 결과면 기본 컨텍스트의 결과로 본다.
+     * @param defaultContext 기본 계산 컨텍스트
+     * @return 컨텍스트별 계산 결과
+     */
+    public Map<CalculationContext, List<CalculationResult<?>>> groupByContext(CalculationContext defaultContext) {
+        return resultsByContext.isEmpty() ? Map.of(defaultContext, calculationResults) : resultsByContext;
+    }
 }
@@ -0,0 +1,10 @@
+package me.realimpact.telecom.calculation.api;
+
+/**
+ * 요금 시뮬레이션 유스케이스.
+ * 계약 데이터를 한 번만 로딩하고, 상품 추가/해지, 해지일 변경, 정지/할인 추가 같은 변경을 메모리에서 적용한 변형들을 계산한다.
+ * 계산 결과는 저장하지 않는다.
+ */
+public interface CalculationSimulationUseCase {
+    SimulationResponse simulate(SimulationRequest request);
+}
@@ -0,0 +1,47 @@
+package me.realimpact.telecom.calculation.api;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 요금 시뮬레이션에서 로딩한 계약에 적용할 변경 1건.
+ * 유형별로 사용하는 항목:
+ * <ul>
+ *   <li>ADD_PRODUCT: productOfferingId, startDate(없으면 청구 시작일), endDate(없으면 종료일 없음)</li>
+ *   <li>REMOVE_PRODUCT: productOfferingId, endDate(상품 해지일, 없으면 상품을 제외)</li>
+ *   <li>CHANGE_TERMINATION_DATE: endDate(계약 해지일)</li>
+ *   <li>ADD_SUSPENSION: startDate, endDate, suspensionTypeCode(없으면 F1 일시정지)</li>
+ *   <li>ADD_DISCOUNT: productOfferingId, startDate/endDate(없으면 청구 기간), discountApplyUnit, discountAmount 또는 discountRate</li>
+ * </ul>
+ *
+ * @param type 변경 유형
+ * @param productOfferingId 상품 오퍼링 ID
+ * @param startDate 시작일
+ * @param endDate 종료일/해지일
+ * @param suspensionTypeCode 정지 유형 코드
+ * @param discountApplyUnit 할인 적용 단위 (RATE: 율, AMOUNT: 금액)
+ * @param discountAmount 할인 금액
+ * @param discountRate 할인 비율
+ */
+public record ContractModification(
+    @NotNull(message = "변경 유형은 필수입니다")
+    ModificationType type,
+
+    String productOfferingId,
+    LocalDate startDate,
+    LocalDate endDate,
+    String suspensionTypeCode,
+    String discountApplyUnit,
+    Long discountAmount,
+    BigDecimal discountRate) {
+
+    public enum ModificationType {
+        ADD_PRODUCT,
+        REMOVE_PRODUCT,
+        CHANGE_TERMINATION_DATE,
+        ADD_SUSPENSION,
+        ADD_DISCOUNT
+    }
+}
@@ -0,0 +1,40 @@
+package me.realimpact.telecom.calculation.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 요금 시뮬레이션 요청. 계약 하나를 한 번만 로딩하고 변형마다 변경을 적용해 계산한다.
+ *
+ * @param contractId 계약 ID
+ * @param billingStartDate 청구 시작일
+ * @param billingEndDate 청구 종료일
+ * @param billingCalculationType 청구 계산 유형
+ * @param billingCalculationPeriod 청구 계산 주기
+ * @param variants 계산할 변형 목록
+ */
+public record SimulationRequest(
+    @NotNull(message = "계약 ID는 필수입니다")
+    Long contractId,
+
+    @NotNull(message = "청구 시작일은 필수입니다")
+    LocalDate billingStartDate,
+
+    @NotNull(message = "청구 종료일은 필수입니다")
+    LocalDate billingEndDate,
+
+    @NotNull(message = "청구 계산 유형은 필수입니다")
+    BillingCalculationType billingCalculationType,
+
+    @NotNull(message = "청구 계산 주기는 필수입니다")
+    BillingCalculationPeriod billingCalculationPeriod,
+
+    @NotEmpty(message = "변형 목록은 비어있을 수 없습니다")
+    @Valid
+    List<SimulationVariant> variants) {
+
+}
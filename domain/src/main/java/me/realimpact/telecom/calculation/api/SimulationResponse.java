@@ -0,0 +1,18 @@
+package me.realimpact.telecom.calculation.api;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 요금 시뮬레이션 응답
+ *
+ * @param contractId 계약 ID
+ * @param baseTotalFee 변경을 적용하지 않은 기준 계약의 금액 합계
+ * @param variants 요청 순서대로의 변형별 결과
+ */
+public record SimulationResponse(
+    Long contractId,
+    BigDecimal baseTotalFee,
+    List<SimulationVariantResult> variants) {
+
+}
@@ -0,0 +1,24 @@
+package me.realimpact.telecom.calculation.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+/**
+ * 요금 시뮬레이션 변형 1건. 기준 계약에 modifications를 순서대로 적용한 결과를 계산한다.
+ *
+ * @param variantId 변형 식별자 (응답에 그대로 돌려준다)
+ * @param modifications 적용할 변경 목록 (비어 있으면 기준 계약 그대로)
+ */
+public record SimulationVariant(
+    @NotBlank(message = "변형 ID는 필수입니다")
+    String variantId,
+
+    @Valid
+    List<ContractModification> modifications) {
+
+    public SimulationVariant {
+        modifications = modifications == null ? List.of() : List.copyOf(modifications);
+    }
+}
@@ -0,0 +1,22 @@
+package me.realimpact.telecom.calculation.api;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 변형별 시뮬레이션 결과
+ *
+ * @param variantId 변형 식별자
+ * @param totalFee 계산 결과 금액 합계 (할인, VAT 포함)
+ * @param differenceFromBase 기준 계약 대비 증감
+ * @param resultCount 계산 결과 건수
+ * @param feeByRevenueItem 수익항목별 금액 합계
+ */
+public record SimulationVariantResult(
+    String variantId,
+    BigDecimal totalFee,
+    BigDecimal differenceFromBase,
+    int resultCount,
+    Map<String, BigDecimal> feeByRevenueItem) {
+
+}
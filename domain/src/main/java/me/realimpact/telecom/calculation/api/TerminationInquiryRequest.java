@@ -0,0 +1,20 @@
+package me.realimpact.telecom.calculation.api;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * 해지핫빌 요청. 계약 하나를 해지일에 해지한다고 가정하고 해지월 1일부터 해지일까지의 요금을 계산한다.
+ *
+ * @param contractId 계약 ID
+ * @param terminationDate 해지일
+ */
+public record TerminationInquiryRequest(
+    @NotNull(message = "계약 ID는 필수입니다")
+    Long contractId,
+
+    @NotNull(message = "해지일은 필수입니다")
+    LocalDate terminationDate) {
+
+}
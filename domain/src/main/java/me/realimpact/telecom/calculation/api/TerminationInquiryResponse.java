@@ -0,0 +1,23 @@
+package me.realimpact.telecom.calculation.api;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 해지핫빌 응답
+ *
+ * @param contractId 계약 ID
+ * @param terminationDate 해지일
+ * @param totalFee 금액 합계 (잔여 할부금, 할인, VAT 포함)
+ * @param calculationResults 계산 결과
+ */
+public record TerminationInquiryResponse(
+    Long contractId,
+    LocalDate terminationDate,
+    BigDecimal totalFee,
+    List<CalculationResult<?>> calculationResults) {
+
+}
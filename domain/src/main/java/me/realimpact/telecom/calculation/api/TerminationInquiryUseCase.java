@@ -0,0 +1,10 @@
+package me.realimpact.telecom.calculation.api;
+
+/**
+ * 해지핫빌 유스케이스.
+ * 매장 창구에서 호출하는 단건 조회이므로 계약 하나만 로딩하고, 단말 할부는 마스터별 잔여 할부금 합계만 조회한다.
+ * 계산 결과는 저장하지 않는다.
+ */
+public interface TerminationInquiryUseCase {
+    TerminationInquiryResponse inquire(TerminationInquiryRequest request);
+}
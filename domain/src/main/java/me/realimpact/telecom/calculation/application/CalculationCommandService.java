@@ -4,18 +4,27 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
 import me.realimpact.telecom.calculation.api.CalculationCommandUseCase;
+import me.realimpact.telecom.calculation.api.CalculationContextResult;
 import me.realimpact.telecom.calculation.api.CalculationResultGroup;
 import me.realimpact.telecom.calculation.application.discount.CalculationResultProrater;
 import me.realimpact.telecom.calculation.application.discount.DiscountCalculator;
@@ -23,12 +32,14 @@ import me.realimpact.telecom.calculation.application.monthlyfee.MonthlyFeeCalcul
 import me.realimpact.telecom.calculation.application.monthlyfee.MonthlyFeeDataLoader;
 import me.realimpact.telecom.calculation.application.onetimecharge.OneTimeChargeCalculator;
 import me.realimpact.telecom.calculation.application.onetimecharge.OneTimeChargeDataLoader;
+import me.realimpact.telecom.calculation.application.service.BillingPeriodService;
 import me.realimpact.telecom.calculation.application.vat.VatCalculator;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 import me.realimpact.telecom.calculation.domain.discount.ContractDiscounts;
 import me.realimpact.telecom.calculation.domain.monthlyfee.MonthlyChargeDomain;
 import me.realimpact.telecom.calculation.domain.onetimecharge.OneTimeChargeDomain;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.ChunkCalculationEvent;
 
 /**
  * 요금 계산 요청을 처리하고 전체 계산 과정을 조율하는 서비스 클래스.
@@ -50,6 +61,10 @@ public class CalculationCommandService implements CalculationCommandUseCase {
 
     private final CalculationResultProrater calculationResultProrater;
     private final VatCalculator vatCalculator;
+    private final BillingPeriodService billingPeriodService;
+
+    // DataLoader 동시 실행용 가상 스레드 Executor (비활성화 시 null → 호출 스레드에서 순차 실행)
+    private final ExecutorService loaderExecutor;
 
     public CalculationCommandService(
             DiscountCalculator discountCalculator,
@@ -58,7 +73,9 @@ public class CalculationCommandService implements CalculationCommandUseCase {
             List<OneTimeChargeDataLoader<? extends OneTimeChargeDomain>> oneTimeChargeDataLoaders,
             List<OneTimeChargeCalculator<? extends OneTimeChargeDomain>> oneTimeChargeCalculators,
             CalculationResultProrater calculationResultProrater,
-            VatCalculator vatCalculator
+            VatCalculator vatCalculator,
+            BillingPeriodService billingPeriodService,
+            VirtualThreadProperties virtualThreadProperties
     ) {
         this.discountCalculator = discountCalculator;
 
@@ -84,6 +101,10 @@ public class CalculationCommandService implements CalculationCommandUseCase {
 
         this.calculationResultProrater = calculationResultProrater;
         this.vatCalculator = vatCalculator;
+        this.billingPeriodService = billingPeriodService;
+        this.loaderExecutor = virtualThreadProperties.isLoaderEnabled()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : null;
 
         log.info("Registered {} MonthlyFee DataLoaders: {}",
                 monthlyFeeDataLoaders.size(),
@@ -96,17 +117,34 @@ public class CalculationCommandService implements CalculationCommandUseCase {
                 oneTimeChargeDataLoaders.stream()
                         .map(loader -> loader.getDomainType().getSimpleName())
                         .collect(Collectors.joining(", ")));
+
+        log.info("DataLoader 실행 방식: {}", loaderExecutor != null ? "가상 스레드 동시 실행" : "순차 실행");
+    }
+
+    /**
+     * 컨텍스트 종료 시 DataLoader Executor를 닫는다. 진행 중인 로딩이 끝날 때까지 기다린다.
+     */
+    @PreDestroy
+    public void shutdownLoaderExecutor() {
+        if (loaderExecutor != null) {
+            loaderExecutor.close();
+        }
     }
 
     public List<CalculationTarget> loadCalculationTargets(List<Long> contractIds, CalculationContext ctx) {
+        // 모든 로딩을 먼저 시작한 뒤 결과를 모은다. 가상 스레드 모드에서는 각 DataLoader의 DB 조회가 겹쳐서 실행된다.
         // Monthly Fee 데이터를 Map으로 로딩
-        var monthlyFeeDataByType = loadMonthlyFeeDataByType(contractIds, ctx);
+        var monthlyFeeLoads = startMonthlyFeeLoads(contractIds, ctx);
 
         // OneTimeCharge 데이터를 Map으로 로딩 - 조건문 없음
-        var oneTimeChargeDataByType = loadOneTimeChargeDataByType(contractIds, ctx);
+        var oneTimeChargeLoads = startOneTimeChargeLoads(contractIds, ctx);
 
         // 할인 (기존 방식 유지)
-        var contractDiscountsMap = discountCalculator.read(ctx, contractIds);
+        var contractDiscountsLoad = supplyLoad(() -> discountCalculator.read(ctx, contractIds));
+
+        var monthlyFeeDataByType = collectLoaded(monthlyFeeLoads);
+        var oneTimeChargeDataByType = collectLoaded(oneTimeChargeLoads);
+        var contractDiscountsMap = join(contractDiscountsLoad);
 
         List<CalculationTarget> calculationTargets = new ArrayList<>();
 
@@ -136,22 +174,86 @@ public class CalculationCommandService implements CalculationCommandUseCase {
         return calculationTargets;
     }
 
+    /**
+     * 여러 계산 컨텍스트의 데이터를 한 번에 로딩할 컨텍스트를 만든다.
+     * 이 컨텍스트로 로딩한 계산 대상은 narrow로 각 컨텍스트에 맞게 좁혀서 계산한다.
+     *
+     * @param contexts 계산 컨텍스트 목록
+     * @return 로딩용 계산 컨텍스트 (컨텍스트가 하나면 그대로 반환)
+     */
+    public CalculationContext loadingContext(List<CalculationContext> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            throw new IllegalArgumentException("계산 컨텍스트가 없습니다");
+        }
+        if (new HashSet<>(contexts).size() != contexts.size()) {
+            throw new IllegalArgumentException("중복된 계산 컨텍스트가 있습니다: " + contexts);
+        }
+        if (contexts.size() > 1) {
+            // 미리보기는 상품을 다른 원천에서 조회하므로 다른 유형과 같은 로딩 결과를 공유할 수 없다.
+            boolean hasPreview = contexts.stream()
+                    .anyMatch(ctx -> ctx.billingCalculationType() == BillingCalculationType.PREVIEW_INQUIRY);
+            if (hasPreview) {
+                throw new IllegalArgumentException("미리보기 조회는 다른 계산 컨텍스트와 함께 계산할 수 없습니다");
+            }
+            // 후처리(청구 횟수/청구 여부 갱신)는 로딩 시점의 상태를 기준으로 하므로 한 번만 반영되어야 한다.
+            long postableCount = contexts.stream()
+                    .filter(ctx -> ctx.billingCalculationType().isPostable())
+                    .count();
+            if (postableCount > 1) {
+                throw new IllegalArgumentException("후처리가 있는 계산 유형은 하나만 함께 계산할 수 있습니다");
+            }
+        }
+        return billingPeriodService.createLoadingContext(contexts);
+    }
+
+    /**
+     * 로딩용 컨텍스트로 로딩한 계산 대상을 주어진 컨텍스트로 로딩했을 때의 계산 대상으로 좁힌다.
+     * 데이터 유형별 조회 조건은 각 DataLoader가 다시 적용한다.
+     *
+     * @param calculationTarget 로딩용 컨텍스트로 로딩한 계산 대상
+     * @param ctx 계산 컨텍스트
+     * @return 컨텍스트에 맞게 좁힌 계산 대상
+     */
+    public CalculationTarget narrow(CalculationTarget calculationTarget, CalculationContext ctx) {
+        Map<Class<? extends MonthlyChargeDomain>, List<? extends MonthlyChargeDomain>> monthlyFeeData = new HashMap<>();
+        for (var entry : calculationTarget.monthlyChargeData().entrySet()) {
+            var loader = monthlyFeeDataLoaderMap.get(entry.getKey());
+            List<? extends MonthlyChargeDomain> narrowed = loader == null ? entry.getValue() : loader.narrow(entry.getValue(), ctx);
+            if (!narrowed.isEmpty()) {
+                monthlyFeeData.put(entry.getKey(), narrowed);
+            }
+        }
+
+        Map<Class<? extends OneTimeChargeDomain>, List<? extends OneTimeChargeDomain>> oneTimeChargeData = new HashMap<>();
+        for (var entry : calculationTarget.oneTimeChargeData().entrySet()) {
+            var loader = oneTimeChargeDataLoaderMap.get(entry.getKey());
+            List<? extends OneTimeChargeDomain> narrowed = loader == null ? entry.getValue() : loader.narrow(entry.getValue(), ctx);
+            if (!narrowed.isEmpty()) {
+                oneTimeChargeData.put(entry.getKey(), narrowed);
+            }
+        }
+
+        return new CalculationTarget(
+                calculationTarget.contractId(),
+                monthlyFeeData,
+                oneTimeChargeData,
+                discountCalculator.narrow(calculationTarget.discounts(), ctx)
+        );
+    }
 
     /**
-     * 모든 MonthlyFeeDataLoader를 실행하여 데이터 로딩
+     * 모든 MonthlyFeeDataLoader의 데이터 로딩을 시작
      */
-    private Map<Class<? extends MonthlyChargeDomain>, Map<Long, List<? extends MonthlyChargeDomain>>>
-        loadMonthlyFeeDataByType(List<Long> contractIds, CalculationContext context) {
+    private Map<Class<? extends MonthlyChargeDomain>, CompletableFuture<Map<Long, List<? extends MonthlyChargeDomain>>>>
+        startMonthlyFeeLoads(List<Long> contractIds, CalculationContext context) {
 
-        Map<Class<? extends MonthlyChargeDomain>, Map<Long, List<? extends MonthlyChargeDomain>>> result = new HashMap<>();
+        Map<Class<? extends MonthlyChargeDomain>, CompletableFuture<Map<Long, List<? extends MonthlyChargeDomain>>>> result =
+                new LinkedHashMap<>();
 
         for (var entry : monthlyFeeDataLoaderMap.entrySet()) {
             var dataType = entry.getKey();
             var loader = entry.getValue();
-            Map<Long, List<? extends MonthlyChargeDomain>> data = loader.read(contractIds, context);
-            if (!data.isEmpty()) {
-                result.put(dataType, data);
-            }
+            result.put(dataType, supplyLoad(() -> loader.read(contractIds, context)));
         }
 
         return result;
@@ -180,30 +282,62 @@ public class CalculationCommandService implements CalculationCommandUseCase {
     }
 
     /**
-     * 모든 DataLoader를 실행하여 OneTimeCharge 데이터 로딩
+     * 모든 DataLoader의 OneTimeCharge 데이터 로딩을 시작
      * key : OneTimeCharge종류
-     * value : key가 계약Id이고, value가 domain의 list인 map
+     * value : key가 계약Id이고, value가 domain의 list인 map을 돌려주는 future
      */
-    private Map<Class<? extends OneTimeChargeDomain>, Map<Long, List<? extends OneTimeChargeDomain>>>
-        loadOneTimeChargeDataByType(List<Long> contractIds, CalculationContext context) {
+    private Map<Class<? extends OneTimeChargeDomain>, CompletableFuture<Map<Long, List<? extends OneTimeChargeDomain>>>>
+        startOneTimeChargeLoads(List<Long> contractIds, CalculationContext context) {
 
-        Map<Class<? extends OneTimeChargeDomain>, Map<Long, List<? extends OneTimeChargeDomain>>> result = new HashMap<>();
+        Map<Class<? extends OneTimeChargeDomain>, CompletableFuture<Map<Long, List<? extends OneTimeChargeDomain>>>> result =
+                new LinkedHashMap<>();
 
         // Map을 순회하면서 각 DataLoader 실행 - 조건문 완전 제거
-        //for (Map.Entry<Class<? extends OneTimeChargeDomain>, OneTimeChargeDataLoader<? extends OneTimeChargeDomain>>
         for (var entry : oneTimeChargeDataLoaderMap.entrySet()) {
-//            Class<? extends OneTimeChargeDomain> dataType = entry.getKey();
-//            OneTimeChargeDataLoader<? extends OneTimeChargeDomain> loader = entry.getValue();
             var dataType = entry.getKey();
             var loader = entry.getValue();
-            Map<Long, List<? extends OneTimeChargeDomain>> data = loader.read(contractIds, context);
+            result.put(dataType, supplyLoad(() -> loader.read(contractIds, context)));
+        }
+
+        return result;
+    }
+
+    /**
+     * 시작된 로딩 결과를 모아서 데이터 유형별 Map으로 변환. 빈 결과는 제외한다.
+     */
+    private <K, V> Map<K, Map<Long, List<? extends V>>> collectLoaded(
+            Map<K, CompletableFuture<Map<Long, List<? extends V>>>> loads) {
+
+        Map<K, Map<Long, List<? extends V>>> result = new HashMap<>();
+        for (var entry : loads.entrySet()) {
+            Map<Long, List<? extends V>> data = join(entry.getValue());
             if (!data.isEmpty()) {
-                result.put(dataType, data);
+                result.put(entry.getKey(), data);
             }
         }
-
         return result;
     }
+
+    /**
+     * 로딩 작업 실행. 가상 스레드 모드가 아니면 호출 스레드에서 즉시 실행한다.
+     */
+    private <T> CompletableFuture<T> supplyLoad(Supplier<T> loader) {
+        if (loaderExecutor == null) {
+            return CompletableFuture.completedFuture(loader.get());
+        }
+        return CompletableFuture.supplyAsync(loader, loaderExecutor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
     /**
      * 특정 계약의 OneTimeCharge 데이터 그룹화
      */
@@ -273,6 +407,25 @@ public class CalculationCommandService implements CalculationCommandUseCase {
         } 
     }
 
+    /**
+     * 로딩용 컨텍스트로 로딩한 계산 대상을 컨텍스트마다 좁혀서 계산한다.
+     * 컨텍스트가 하나면 좁히지 않고 그대로 계산한다.
+     *
+     * @param calculationTarget loadingContext(contexts)로 로딩한 계산 대상
+     * @param contexts 계산 컨텍스트 목록
+     * @return 컨텍스트별 결과를 담은 계산 결과
+     */
+    public CalculationResultGroup processCalculation(CalculationTarget calculationTarget, List<CalculationContext> contexts) {
+        if (contexts.size() == 1) {
+            return processCalculation(calculationTarget, contexts.get(0));
+        }
+        Map<CalculationContext, CalculationResultGroup> groupsByContext = new LinkedHashMap<>();
+        for (CalculationContext ctx : contexts) {
+            groupsByContext.put(ctx, processCalculation(narrow(calculationTarget, ctx), ctx));
+        }
+        return CalculationResultGroup.ofContexts(groupsByContext);
+    }
+
     /**
      * MonthlyFeeCalculator 타입 안전 처리
      */
@@ -284,7 +437,7 @@ public class CalculationCommandService implements CalculationCommandUseCase {
             List<CalculationResult<?>> results) {
         Class<T> inputType = calculator.getDomainType();
         List<T> inputData = target.getMonthlyChargeData(inputType);
-        results.addAll(process(inputData, calculator::process, ctx));
+        results.addAll(process(inputData, (context, item) -> calculator.process(context, item, target.discounts()), ctx));
     }
 
     /**
@@ -314,8 +467,40 @@ public class CalculationCommandService implements CalculationCommandUseCase {
 
     @Override
     public List<CalculationResultGroup> calculate(List<Long> contractIds, CalculationContext ctx) {
-        return loadCalculationTargets(contractIds, ctx).stream()
+        ChunkCalculationEvent event = new ChunkCalculationEvent();
+        event.begin();
+
+        List<CalculationResultGroup> resultGroups = loadCalculationTargets(contractIds, ctx).stream()
                 .map(calculationTarget -> processCalculation(calculationTarget, ctx))
                 .toList();
+
+        event.end();
+        if (event.shouldCommit() && !contractIds.isEmpty()) {
+            event.partitionKey = -1;
+            event.firstContractId = contractIds.get(0);
+            event.lastContractId = contractIds.get(contractIds.size() - 1);
+            event.contracts = contractIds.size();
+            event.results = resultGroups.stream().mapToInt(group -> group.calculationResults().size()).sum();
+            event.commit();
+        }
+        return resultGroups;
+    }
+
+    @Override
+    public List<CalculationContextResult> calculate(List<Long> contractIds, List<CalculationContext> contexts) {
+        CalculationContext loadingContext = loadingContext(contexts);
+        List<CalculationTarget> calculationTargets = loadCalculationTargets(contractIds, loadingContext);
+
+        List<CalculationContextResult> contextResults = new ArrayList<>(contexts.size());
+        for (CalculationContext ctx : contexts) {
+            List<CalculationResultGroup> resultGroups = calculationTargets.stream()
+                    .map(calculationTarget -> contexts.size() == 1 ? calculationTarget : narrow(calculationTarget, ctx))
+                    .map(calculationTarget -> processCalculation(calculationTarget, ctx))
+                    .toList();
+            contextResults.add(new CalculationContextResult(ctx, resultGroups));
+        }
+        log.info("=== 다중 컨텍스트 계산 완료 === 계약: {}건, 컨텍스트: {}개, 로딩 기간: {} ~ {}",
+                contractIds.size(), contexts.size(), loadingContext.billingStartDate(), loadingContext.billingEndDate());
+        return contextResults;
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package me.realimpact.telecom.calculation.application;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드(Virtual Thread) 관련 설정 프로퍼티
+ * application.yml의 billing.virtual-threads 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.virtual-threads")
+@Data
+public class VirtualThreadProperties {
+
+    /**
+     * 계산 대상 로딩 시 DataLoader들을 가상 스레드에서 동시에 실행할지 여부 (기본값: false)
+     * 활성화하면 로딩 1회당 (DataLoader 수 + 할인 1)개의 커넥션을 동시에 사용한다.
+     */
+    private boolean loaderEnabled = false;
+
+    /**
+     * 가상 스레드 고정(pinning) 진단 활성화 여부 (기본값: false)
+     * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 로그로 남긴다.
+     */
+    private boolean pinningDiagnostics = false;
+
+    /**
+     * 로그로 남길 고정(pinning) 최소 지속 시간 (기본값: 20ms)
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
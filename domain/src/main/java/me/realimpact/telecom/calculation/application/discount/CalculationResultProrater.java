@@ -2,42 +2,60 @@ package me.realimpact.telecom.calculation.application.discount;
 
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.ProrationPeriods;
 import me.realimpact.telecom.calculation.domain.discount.Discount;
-import me.realimpact.telecom.calculation.domain.monthlyfee.DefaultPeriod;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Component
 public class CalculationResultProrater {
     // calculationResultsBeforeDiscount와 discounts의 구간을 부딪쳐서 나눈다.
+    // 할인 기간은 계약당 한 번 상품 오퍼링 ID별로 묶어 청구 기간으로 자른 epoch day 배열로 만들어 두고,
+    // 결과마다 그 배열을 한 번 훑어 일할 결과를 만든다. 결과 순서는 계산 결과 순서 → 할인 순서이다.
     public List<? extends CalculationResult<?>> prorate(CalculationContext ctx,
                                               List<CalculationResult<?>> calculationResultsBeforeDiscount,
                                               List<Discount> discounts) {
-        return calculationResultsBeforeDiscount.stream()
-            .flatMap(calculationResult -> {
-                List<DefaultPeriod> discountDates = discounts.stream()
-                        .filter(discount -> discount.getProductOfferingId().equals(calculationResult.getProductOfferingId()))
-                        .map(discount -> DefaultPeriod.of(
-                                discount.getDiscountStartDate().isAfter(ctx.billingStartDate()) ? discount.getDiscountStartDate() : ctx.billingStartDate(),
-                                discount.getDiscountEndDate().isBefore(ctx.billingEndDate()) ? discount.getDiscountEndDate() : ctx.billingEndDate()
-                                )
-                        )
-                        .toList();
+        if (discounts.isEmpty()) {
+            return calculationResultsBeforeDiscount;
+        }
+        Map<String, ProrationPeriods> discountPeriodsByProductOffering = indexDiscountPeriods(ctx, discounts);
 
-                // 적합한 discount가 없으면 원본 CalculationResult를 그대로 반환
-                if (discountDates.isEmpty()) {
-                    return Stream.of(calculationResult);
-                }
+        List<CalculationResult<?>> proratedResults = new ArrayList<>(calculationResultsBeforeDiscount.size());
+        for (CalculationResult<?> calculationResult : calculationResultsBeforeDiscount) {
+            ProrationPeriods discountPeriods = calculationResult.getProductOfferingId() == null
+                    ? null
+                    : discountPeriodsByProductOffering.get(calculationResult.getProductOfferingId());
 
-                return calculationResult.prorate(discountDates).stream();
-            })
-            .toList();
+            // 적합한 discount가 없으면 원본 CalculationResult를 그대로 반환
+            if (discountPeriods == null) {
+                proratedResults.add(calculationResult);
+                continue;
+            }
+            calculationResult.prorateInto(discountPeriods, proratedResults);
+        }
+        return proratedResults;
+    }
+
+    /**
+     * 할인 기간을 상품 오퍼링 ID별로 묶는다. 각 기간은 청구 기간으로 잘라 두며, 같은 오퍼링 안에서는 할인 목록 순서를 유지한다.
+     */
+    private static Map<String, ProrationPeriods> indexDiscountPeriods(CalculationContext ctx, List<Discount> discounts) {
+        LocalDate billingStartDate = ctx.billingStartDate();
+        LocalDate billingEndDate = ctx.billingEndDate();
+        Map<String, ProrationPeriods> index = new HashMap<>();
+        for (Discount discount : discounts) {
+            index.computeIfAbsent(discount.getProductOfferingId(), key -> new ProrationPeriods(4))
+                    .add(discount.getDiscountStartDate().isAfter(billingStartDate) ? discount.getDiscountStartDate() : billingStartDate,
+                         discount.getDiscountEndDate().isBefore(billingEndDate) ? discount.getDiscountEndDate() : billingEndDate);
+        }
+        return index;
     }
     
     /**
@@ -1,6 +1,7 @@
 package me.realimpact.telecom.calculation.application.discount;
 
 import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.calculation.domain.BatchPostProcessor;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 import me.realimpact.telecom.calculation.domain.discount.ContractDiscounts;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -27,6 +29,8 @@ import java.util.stream.Collectors;
 public class DiscountCalculator {
     private final ContractDiscountQueryPort contractDiscountQueryPort;
     private final ContractDiscountCommandPort contractDiscountCommandPort;
+    // Writer가 청크 단위로 입력을 모을 수 있도록 모든 할인 결과가 같은 후처리기 인스턴스를 공유한다.
+    private final BatchPostProcessor<Discount> discountPostProcessor = this::postAll;
 
     /**
      * 주어진 계약 ID 목록에 대한 할인 정보를 조회한다.
@@ -42,6 +46,19 @@ public class DiscountCalculator {
         );
     }
 
+    /**
+     * 더 넓은 기간으로 조회한 할인을 주어진 컨텍스트의 청구 기간과 겹치는 할인으로 좁힌다.
+     * @param discounts 한 계약에 대해 조회된 할인 목록
+     * @param ctx 계산 컨텍스트
+     * @return 청구 기간과 겹치는 할인 목록
+     */
+    public List<Discount> narrow(List<Discount> discounts, CalculationContext ctx) {
+        return discounts.stream()
+            .filter(discount -> !discount.getDiscountStartDate().isAfter(ctx.billingEndDate())
+                && !discount.getDiscountEndDate().isBefore(ctx.billingStartDate()))
+            .toList();
+    }
+
     /**
      * 일할 계산된 요금 결과에 대해 할인을 적용하고, 할인에 대한 계산 결과를 생성한다.
      * @param ctx 계산 컨텍스트
@@ -53,9 +70,17 @@ public class DiscountCalculator {
                                               List<? extends CalculationResult<?>> proratedCalculationResultsBeforeDiscount,
                                               List<Discount> discounts) {
         List<CalculationResult<?>> results = new ArrayList<>();
+        if (discounts.isEmpty()) {
+            return results;
+        }
+        // 할인마다 전체 결과를 훑지 않도록 상품 오퍼링 ID별 후보 목록을 계약당 한 번 만든다.
+        Map<String, List<CalculationResult<?>>> resultsByProductOffering =
+                indexByProductOffering(proratedCalculationResultsBeforeDiscount);
         // 각 할인 항목에 대해 순회하며 계산 결과를 생성한다.
         for (Discount discount : discounts) {
-            for (CalculationResult<?> befDcCalResult : proratedCalculationResultsBeforeDiscount) {
+            List<CalculationResult<?>> candidates =
+                    resultsByProductOffering.getOrDefault(discount.getProductOfferingId(), List.of());
+            for (CalculationResult<?> befDcCalResult : candidates) {
                 // 할인이 적용될 수 있는 대상인지 확인한다.
                 if (!discount.isDiscountTarget(befDcCalResult)) {
                     continue;
@@ -84,7 +109,7 @@ public class DiscountCalculator {
                         discountAmount.negate(), // 할인 금액은 음수로 표현
                         BigDecimal.ZERO,
                         discount,
-                        this::post
+                        discountPostProcessor
                 );
                 results.add(discountResult);
             }
@@ -92,6 +117,20 @@ public class DiscountCalculator {
         return results;
     }
 
+    /**
+     * 계산 결과를 상품 오퍼링 ID별로 묶는다.
+     * 각 목록은 원래 목록의 순서를 유지하므로 할인 적용 순서와 결과 순서는 전체를 순회할 때와 같다.
+     * 상품 오퍼링 ID가 없는 결과는 null 키로 묶인다 (isDiscountTarget의 Objects.equals 비교와 동일).
+     */
+    private static Map<String, List<CalculationResult<?>>> indexByProductOffering(
+            List<? extends CalculationResult<?>> calculationResults) {
+        Map<String, List<CalculationResult<?>>> index = new HashMap<>();
+        for (CalculationResult<?> calculationResult : calculationResults) {
+            index.computeIfAbsent(calculationResult.getProductOfferingId(), key -> new ArrayList<>())
+                    .add(calculationResult);
+        }
+        return index;
+    }
 
     /**
      * 할인 처리 완료 후, 할인 적용 상태를 업데이트한다.
@@ -103,4 +142,15 @@ public class DiscountCalculator {
             contractDiscountCommandPort.applyDiscount(input);
         }
     }
+
+    /**
+     * 청크 내 할인들의 적용 상태를 한 번에 업데이트한다.
+     * @param ctx 계산 컨텍스트
+     * @param inputs 적용된 할인 정보 목록
+     */
+    public void postAll(CalculationContext ctx, List<Discount> inputs) {
+        if (ctx.billingCalculationType().isPostable()) {
+            contractDiscountCommandPort.applyDiscounts(inputs);
+        }
+    }
 }
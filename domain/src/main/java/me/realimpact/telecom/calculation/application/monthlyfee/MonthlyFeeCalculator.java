@@ -2,6 +2,7 @@ package me.realimpact.telecom.calculation.application.monthlyfee;
 
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
 import me.realimpact.telecom.calculation.domain.monthlyfee.MonthlyChargeDomain;
 
 import java.util.List;
@@ -27,4 +28,16 @@ public interface MonthlyFeeCalculator<T extends MonthlyChargeDomain> {
      * @return 계산 결과 목록
      */
     List<CalculationResult<T>> process(CalculationContext context, T input);
+
+    /**
+     * 계약의 할인 정보를 참고하여 Monthly Fee 계산 실행.
+     * 할인 대상 상품의 결과 행은 할인 구간분리/금액 할인에 그대로 쓰이므로, 결과 행 수를 줄이는 최적화는 이 정보를 보고 판단한다.
+     * @param context 계산 컨텍스트
+     * @param input 입력 데이터
+     * @param discounts 계약에 적용될 할인 목록
+     * @return 계산 결과 목록
+     */
+    default List<CalculationResult<T>> process(CalculationContext context, T input, List<Discount> discounts) {
+        return process(context, input);
+    }
 }
\ No newline at end of file
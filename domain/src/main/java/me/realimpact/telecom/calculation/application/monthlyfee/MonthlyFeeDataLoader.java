@@ -27,4 +27,13 @@ public interface MonthlyFeeDataLoader<T extends MonthlyChargeDomain> {
      * @return 로딩된 데이터 목록 (계약 ID별로 그룹화)
      */
     Map<Long, List<? extends MonthlyChargeDomain>> read(List<Long> contractIds, CalculationContext context);
+
+    /**
+     * 더 넓은 기간으로 로딩한 데이터를 주어진 컨텍스트로 로딩했을 때의 결과로 좁힌다
+     * (여러 컨텍스트를 한 번 로딩한 데이터로 계산할 때 사용)
+     * @param loaded 한 계약에 대해 로딩된 데이터 목록
+     * @param context 계산 컨텍스트
+     * @return 컨텍스트의 조회 조건을 만족하는 데이터 목록
+     */
+    List<? extends MonthlyChargeDomain> narrow(List<? extends MonthlyChargeDomain> loaded, CalculationContext context);
 }
\ No newline at end of file
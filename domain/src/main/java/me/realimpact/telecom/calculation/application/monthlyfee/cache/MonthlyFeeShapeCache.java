@@ -0,0 +1,170 @@
+package me.realimpact.telecom.calculation.application.monthlyfee.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProratedCalculationData;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 같은 형태(ShapeFingerprint)의 계약에 대한 월정액 일할 계산 결과 캐시.
+ * 캐시에는 계약 ID를 제외한 계산 결과만 의미가 있으며, 호출자가 계약 ID를 바꿔 끼워 결과를 만든다.
+ *
+ * 검증 모드(verify-sample-rate > 0)에서는 적중 건 일부를 전체 계산과 비교하고 불일치를 집계한다.
+ * 적중률은 getStatistics()로 조회할 수 있으며, log-interval 건마다 로그로 남긴다.
+ */
+@Component
+@Slf4j
+public class MonthlyFeeShapeCache {
+
+    private final PricingCacheProperties pricingCacheProperties;
+    private final Map<String, List<ProratedCalculationData>> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong mismatches = new AtomicLong();
+
+    public MonthlyFeeShapeCache(PricingCacheProperties pricingCacheProperties) {
+        this.pricingCacheProperties = pricingCacheProperties;
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param lookups 캐시 조회 건수 (캐시 대상이 아닌 계약 제외)
+     * @param hits 적중 건수
+     * @param bypasses 캐시 대상이 아니어서 바로 계산한 건수
+     * @param entries 캐시된 형태 수
+     * @param verifications 검증 건수
+     * @param mismatches 검증 불일치 건수
+     */
+    public record Statistics(long lookups, long hits, long bypasses, int entries, long verifications, long mismatches) {
+        public double hitRate() {
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * 형태가 같은 계약의 계산 결과가 있으면 재사용하고, 없으면 계산하여 캐시한다.
+     *
+     * @param ctx 계산 컨텍스트
+     * @param contract 계약
+     * @param calculator 전체 계산 함수
+     * @return 일할 계산 결과 (캐시 적중 시 contractId는 다른 계약의 값일 수 있다)
+     */
+    public List<ProratedCalculationData> getOrCompute(
+            CalculationContext ctx,
+            ContractWithProductsAndSuspensions contract,
+            Function<ContractWithProductsAndSuspensions, List<ProratedCalculationData>> calculator) {
+        if (!pricingCacheProperties.isEnabled()) {
+            return calculator.apply(contract);
+        }
+
+        Optional<String> fingerprint = ShapeFingerprint.of(ctx, contract);
+        if (fingerprint.isEmpty()) {
+            bypasses.incrementAndGet();
+            return calculator.apply(contract);
+        }
+
+        long lookupCount = lookups.incrementAndGet();
+        if (pricingCacheProperties.getLogInterval() > 0 && lookupCount % pricingCacheProperties.getLogInterval() == 0) {
+            logStatistics();
+        }
+
+        String key = fingerprint.get();
+        List<ProratedCalculationData> cached = cache.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return verifyIfSampled(key, cached, contract, calculator);
+        }
+
+        List<ProratedCalculationData> computed = List.copyOf(calculator.apply(contract));
+        if (cache.size() < pricingCacheProperties.getMaxEntries()) {
+            cache.putIfAbsent(key, computed);
+        }
+        return computed;
+    }
+
+    private List<ProratedCalculationData> verifyIfSampled(
+            String key,
+            List<ProratedCalculationData> cached,
+            ContractWithProductsAndSuspensions contract,
+            Function<ContractWithProductsAndSuspensions, List<ProratedCalculationData>> calculator) {
+        double sampleRate = pricingCacheProperties.getVerifySampleRate();
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return cached;
+        }
+
+        verifications.incrementAndGet();
+        List<ProratedCalculationData> computed = calculator.apply(contract);
+        if (sameIgnoringContractId(cached, computed)) {
+            return cached;
+        }
+
+        mismatches.incrementAndGet();
+        log.error("월정액 형태 캐시 검증 불일치: 계약 {}, 형태 {}\n캐시: {}\n계산: {}",
+                contract.getContractId(), key, cached, computed);
+        if (pricingCacheProperties.isFailOnMismatch()) {
+            throw new IllegalStateException("월정액 형태 캐시 검증 불일치: 계약 " + contract.getContractId());
+        }
+        return computed;
+    }
+
+    /**
+     * 계약 ID를 제외한 계산 결과가 같은지 비교한다. 금액은 scale과 무관하게 값으로 비교한다.
+     */
+    static boolean sameIgnoringContractId(List<ProratedCalculationData> expected, List<ProratedCalculationData> actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            ProratedCalculationData e = expected.get(i);
+            ProratedCalculationData a = actual.get(i);
+            boolean same = e.productOfferingId().equals(a.productOfferingId())
+                    && e.chargeItemId().equals(a.chargeItemId())
+                    && e.revenueItemId().equals(a.revenueItemId())
+                    && e.periodStartDate().equals(a.periodStartDate())
+                    && e.periodEndDate().equals(a.periodEndDate())
+                    && e.suspensionType().equals(a.suspensionType())
+                    && e.proratedFee().compareTo(a.proratedFee()) == 0
+                    && e.balance().compareTo(a.balance()) == 0;
+            if (!same) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(lookups.get(), hits.get(), bypasses.get(), cache.size(), verifications.get(), mismatches.get());
+    }
+
+    /**
+     * 캐시를 비운다 (기준 정보 변경 시)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @PreDestroy
+    public void logStatistics() {
+        if (!pricingCacheProperties.isEnabled()) {
+            return;
+        }
+        Statistics statistics = getStatistics();
+        log.info("=== 월정액 형태 캐시 === 조회: {}, 적중: {} ({}%), 캐시 제외: {}, 형태 수: {}, 검증: {}, 불일치: {}",
+                statistics.lookups(), statistics.hits(), String.format("%.1f", statistics.hitRate() * 100),
+                statistics.bypasses(), statistics.entries(), statistics.verifications(), statistics.mismatches());
+    }
+}
@@ -0,0 +1,42 @@
+package me.realimpact.telecom.calculation.application.monthlyfee.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월정액 형태(shape) 캐시 설정 프로퍼티
+ * application.yml의 billing.pricing-cache 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.pricing-cache")
+@Data
+public class PricingCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (기본값: false)
+     * 캐시된 요금은 과금항목 기준 정보가 바뀌어도 갱신되지 않으므로, 한 번 실행하고 끝나는 배치에서 사용한다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 최대 형태 수 (기본값: 10000). 가득 차면 새 형태는 캐시하지 않고 매번 계산한다.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 검증 모드 표본 비율 (0.0 ~ 1.0, 기본값: 0)
+     * 캐시 적중 건 중 이 비율만큼 전체 계산을 다시 수행해 캐시 결과와 비교한다.
+     */
+    private double verifySampleRate = 0.0;
+
+    /**
+     * 검증 불일치 시 예외 발생 여부 (기본값: true). false이면 오류 로그만 남기고 전체 계산 결과를 사용한다.
+     */
+    private boolean failOnMismatch = true;
+
+    /**
+     * 적중률 로그 주기 (조회 건수, 기본값: 100000)
+     */
+    private long logInterval = 100_000;
+}
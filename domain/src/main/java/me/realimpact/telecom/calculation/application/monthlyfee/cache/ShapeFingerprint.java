@@ -0,0 +1,78 @@
+package me.realimpact.telecom.calculation.application.monthlyfee.cache;
+
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ChargeItem;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Product;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Temporal;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 계약의 월정액 계산 형태(shape)를 나타내는 정규화된 키.
+ * 청구기간 시작일 기준 상대 일수로 바꾼 계약/상품/정지 구간과 상품/과금항목 ID로 구성되며,
+ * 키가 같은 두 계약은 계약 ID를 제외하고 같은 월정액 계산 결과를 갖는다.
+ *
+ * 청구기간 이전 시작일은 -1로, 청구기간 이후 종료일은 (청구일수)로 잘라서 표현한다.
+ * 잘린 날짜들은 구간 경계와 중첩 판정(Temporal.overlapsWith)에 모두 같은 영향을 주기 때문이다.
+ * 추가 과금 요소는 계약마다 값이 달라 캐시 효과가 없으므로, 과금 요소가 있는 계약은 키를 만들지 않는다.
+ */
+public final class ShapeFingerprint {
+
+    private ShapeFingerprint() {
+    }
+
+    /**
+     * 형태 키를 만든다.
+     *
+     * @param ctx 계산 컨텍스트
+     * @param contract 계약
+     * @return 형태 키 (캐시 대상이 아니면 empty)
+     */
+    public static Optional<String> of(CalculationContext ctx, ContractWithProductsAndSuspensions contract) {
+        if (!contract.getAdditionalBillingFactors().isEmpty()) {
+            return Optional.empty();
+        }
+
+        LocalDate base = contract.getBillingStartDate();
+        LocalDate billingEnd = contract.getBillingEndDate();
+
+        StringBuilder key = new StringBuilder(128)
+                .append(ctx.billingStartDate()).append('~').append(ctx.billingEndDate())
+                .append('|').append(base).append('~').append(billingEnd)
+                .append("|C").append(interval(contract, base, billingEnd));
+
+        for (Product product : contract.getProducts()) {
+            key.append("|P").append(product.getProductOffering().getProductOfferingId())
+                    .append(interval(product, base, billingEnd));
+            for (ChargeItem chargeItem : product.getProductOffering().getChargeItems()) {
+                key.append(',').append(chargeItem.getChargeItemId());
+            }
+        }
+        for (Suspension suspension : contract.getSuspensions()) {
+            key.append("|S").append(suspension.getSuspensionType().getCode())
+                    .append(interval(suspension, base, billingEnd));
+        }
+        return Optional.of(key.toString());
+    }
+
+    private static String interval(Temporal temporal, LocalDate base, LocalDate billingEnd) {
+        return "[" + relativeStartDay(temporal.getStartDate(), base)
+                + ":" + relativeEndDay(temporal.getEndDate(), base, billingEnd) + "]";
+    }
+
+    // 청구 시작일 이전 시작은 모두 같은 구간 경계(시작일)와 중첩 판정을 만든다.
+    private static long relativeStartDay(LocalDate startDate, LocalDate base) {
+        return startDate.isBefore(base) ? -1 : ChronoUnit.DAYS.between(base, startDate);
+    }
+
+    // 청구 종료일 이후 종료는 모두 같은 구간 경계(종료일)와 중첩 판정을 만든다.
+    private static long relativeEndDay(LocalDate endDate, LocalDate base, LocalDate billingEnd) {
+        return endDate.isAfter(billingEnd)
+                ? ChronoUnit.DAYS.between(base, billingEnd) + 1
+                : ChronoUnit.DAYS.between(base, endDate);
+    }
+}
@@ -1,26 +1,47 @@
 package me.realimpact.telecom.calculation.application.monthlyfee.calculator;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.calculation.application.monthlyfee.MonthlyFeeCalculator;
+import me.realimpact.telecom.calculation.application.monthlyfee.cache.MonthlyFeeShapeCache;
+import me.realimpact.telecom.calculation.application.monthlyfee.cache.PricingCacheProperties;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
 import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProratedCalculationData;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProratedDataCompactor;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProratedPeriod;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 기본 정책 기반 월정액 계산기
  * 단일 책임: 월정액 계산 로직만 담당
+ * 형태 캐시가 켜져 있으면 상품/정지 구성이 같은 계약의 계산 결과를 재사용하고 계약 ID만 바꿔 결과를 만든다.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @Order(10)
 public class BasicPolicyMonthlyFeeCalculator implements MonthlyFeeCalculator<ContractWithProductsAndSuspensions> {
 
+    private final MonthlyFeeShapeCache monthlyFeeShapeCache;
+
+    /**
+     * 형태 캐시 없이 생성한다 (테스트 등 Spring 컨텍스트 밖에서 사용)
+     */
+    public BasicPolicyMonthlyFeeCalculator() {
+        this(new MonthlyFeeShapeCache(new PricingCacheProperties()));
+    }
+
+    @Autowired
+    public BasicPolicyMonthlyFeeCalculator(MonthlyFeeShapeCache monthlyFeeShapeCache) {
+        this.monthlyFeeShapeCache = monthlyFeeShapeCache;
+    }
+
     // MonthlyFeeCalculator 인터페이스 구현
     @Override
     public Class<ContractWithProductsAndSuspensions> getDomainType() {
@@ -32,11 +53,36 @@ public class BasicPolicyMonthlyFeeCalculator implements MonthlyFeeCalculator<Con
         CalculationContext ctx,
         ContractWithProductsAndSuspensions contractWithProductInventoriesAndSuspensions
     ) {
-        var result = contractWithProductInventoriesAndSuspensions.buildProratedPeriods().stream()
-            .map(proratedPeriod -> {
-                var data = proratedPeriod.calculateProratedData();
-                return new CalculationResult<ContractWithProductsAndSuspensions>(
-                    data.contractId(),
+        var proratedData = monthlyFeeShapeCache.getOrCompute(ctx, contractWithProductInventoriesAndSuspensions, this::calculateProratedData);
+        return toCalculationResults(ctx, contractWithProductInventoriesAndSuspensions, proratedData);
+    }
+
+    /**
+     * 할인 대상 상품을 제외한 연속 구간과 0원 구간을 압축한 뒤 결과를 만든다.
+     */
+    @Override
+    public List<CalculationResult<ContractWithProductsAndSuspensions>> process(
+        CalculationContext ctx,
+        ContractWithProductsAndSuspensions contractWithProductInventoriesAndSuspensions,
+        List<Discount> discounts
+    ) {
+        var proratedData = monthlyFeeShapeCache.getOrCompute(ctx, contractWithProductInventoriesAndSuspensions, this::calculateProratedData);
+        Set<String> discountedProductOfferingIds = discounts.stream()
+            .map(Discount::getProductOfferingId)
+            .collect(Collectors.toSet());
+        return toCalculationResults(ctx, contractWithProductInventoriesAndSuspensions,
+            ProratedDataCompactor.compact(proratedData, discountedProductOfferingIds));
+    }
+
+    private List<CalculationResult<ContractWithProductsAndSuspensions>> toCalculationResults(
+        CalculationContext ctx,
+        ContractWithProductsAndSuspensions contractWithProductInventoriesAndSuspensions,
+        List<ProratedCalculationData> proratedData
+    ) {
+        Long contractId = contractWithProductInventoriesAndSuspensions.getContractId();
+        var result = proratedData.stream()
+            .map(data -> new CalculationResult<ContractWithProductsAndSuspensions>(
+                    contractId,   // 캐시된 결과는 다른 계약의 것일 수 있으므로 계약 ID를 바꿔 끼운다
                     ctx.billingStartDate(),
                     ctx.billingEndDate(),
                     data.productOfferingId(),
@@ -49,10 +95,15 @@ public class BasicPolicyMonthlyFeeCalculator implements MonthlyFeeCalculator<Con
                     data.balance(),
                     null,
                     null // BasicPolicyMonthlyFeeCalculator는 후처리가 필요 없음
-                );
-            })
+                ))
             .filter(Objects::nonNull)
             .toList();
         return result;
     }
-}
\ No newline at end of file
+
+    private List<ProratedCalculationData> calculateProratedData(ContractWithProductsAndSuspensions contract) {
+        return contract.buildProratedPeriods().stream()
+            .map(ProratedPeriod::calculateProratedData)
+            .toList();
+    }
+}
@@ -51,4 +51,13 @@ public class ContractWithProductsAndSuspensionsDataLoader implements MonthlyFeeD
         return specificData.entrySet().stream()
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    @Override
+    public List<? extends MonthlyChargeDomain> narrow(List<? extends MonthlyChargeDomain> loaded, CalculationContext ctx) {
+        DefaultPeriod billingPeriod = billingPeriodService.createBillingPeriod(ctx);
+        return loaded.stream()
+            .map(ContractWithProductsAndSuspensions.class::cast)
+            .flatMap(contract -> contract.narrowTo(billingPeriod).stream())
+            .toList();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package me.realimpact.telecom.calculation.application.onetimecharge.calculator;
 
 import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.calculation.domain.BatchPostProcessor;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 import me.realimpact.telecom.calculation.application.onetimecharge.OneTimeChargeCalculator;
@@ -21,6 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DeviceInstallmentCalculator implements OneTimeChargeCalculator<DeviceInstallmentMaster> {
     private final DeviceInstallmentCommandPort deviceInstallmentCommandPort;
+    private final BatchPostProcessor<DeviceInstallmentMaster> deviceInstallmentPostProcessor = this::postAll;
 
     @Override
     public List<CalculationResult<DeviceInstallmentMaster>> process(CalculationContext ctx, DeviceInstallmentMaster input) {
@@ -40,7 +42,7 @@ public class DeviceInstallmentCalculator implements OneTimeChargeCalculator<Devi
                         fee,
                         balance,
                         input,
-                        this::post
+                        deviceInstallmentPostProcessor
                 )
         );
     }
@@ -51,6 +53,12 @@ public class DeviceInstallmentCalculator implements OneTimeChargeCalculator<Devi
             //deviceInstallmentCommandPort.updateChargeStatus(input);
         }
     }
+
+    public void postAll(CalculationContext ctx, List<DeviceInstallmentMaster> inputs) {
+        if (ctx.billingCalculationType().isPostable()) {
+            //deviceInstallmentCommandPort.updateChargeStatuses(inputs);
+        }
+    }
     
     // OneTimeChargeCalculator 인터페이스 구현
     @Override
@@ -1,6 +1,7 @@
 package me.realimpact.telecom.calculation.application.onetimecharge.calculator;
 
 import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.calculation.domain.BatchPostProcessor;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 import me.realimpact.telecom.calculation.application.onetimecharge.OneTimeChargeCalculator;
@@ -21,6 +22,7 @@ import java.util.List;
 @Order(23)
 public class InstallationFeeCalculator implements OneTimeChargeCalculator<InstallationHistory> {
     private final InstallationHistoryCommandPort installationHistoryCommandPort;
+    private final BatchPostProcessor<InstallationHistory> installationPostProcessor = this::postAll;
 
     @Override
     public List<CalculationResult<InstallationHistory>> process(CalculationContext ctx, InstallationHistory input) {
@@ -38,14 +40,14 @@ public class InstallationFeeCalculator implements OneTimeChargeCalculator<Instal
                     BigDecimal.valueOf(input.getFee()),
                     BigDecimal.valueOf(input.getFee()),
                     input,
-                    this::post
+                    installationPostProcessor
                 )
         );
     }
 
-    private void post(CalculationContext ctx, InstallationHistory input) {
+    private void postAll(CalculationContext ctx, List<InstallationHistory> inputs) {
         if (ctx.billingCalculationType().isPostable()) {
-            //installationHistoryCommandPort.updateChargeStatus(input);
+            //installationHistoryCommandPort.updateChargeStatuses(inputs);
         }
     }
     
@@ -34,8 +34,12 @@ public class DeviceInstallmentMasterDataLoader implements OneTimeChargeDataLoade
     public Map<Long, List<? extends OneTimeChargeDomain>> read(List<Long> contractIds, CalculationContext ctx) {
         log.debug("Loading DeviceInstallmentMaster data for {} contracts", contractIds.size());
 
-        Map<Long, List<DeviceInstallmentMaster>> specificData = deviceInstallmentQueryPort
-                .findDeviceInstallments(contractIds, ctx.billingStartDate(), ctx.billingEndDate())
+        // 해지 가정 유형은 잔여 할부금 합계만 필요하므로 회차별 상세 행 대신 마스터별 합계를 조회한다
+        List<DeviceInstallmentMaster> deviceInstallments = ctx.billingCalculationType().isTerminationAssumed()
+                ? deviceInstallmentQueryPort.findRemainingDeviceInstallments(contractIds, ctx.billingEndDate())
+                : deviceInstallmentQueryPort.findDeviceInstallments(contractIds, ctx.billingStartDate(), ctx.billingEndDate());
+
+        Map<Long, List<DeviceInstallmentMaster>> specificData = deviceInstallments
                 .stream()
                 .collect(Collectors.groupingBy(DeviceInstallmentMaster::getContractId));
 
@@ -44,4 +48,13 @@ public class DeviceInstallmentMasterDataLoader implements OneTimeChargeDataLoade
         return specificData.entrySet().stream()
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    @Override
+    public List<? extends OneTimeChargeDomain> narrow(List<? extends OneTimeChargeDomain> loaded, CalculationContext ctx) {
+        // 조회 조건(청구 종료일 >= 할부 시작일)을 다시 적용한다. 나머지 조건은 기간과 무관하다.
+        return loaded.stream()
+            .map(DeviceInstallmentMaster.class::cast)
+            .filter(master -> !master.getInstallmentStartDate().isAfter(ctx.billingEndDate()))
+            .toList();
+    }
 }
\ No newline at end of file
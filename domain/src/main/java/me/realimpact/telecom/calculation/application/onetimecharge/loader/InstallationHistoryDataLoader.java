@@ -44,4 +44,13 @@ public class InstallationHistoryDataLoader implements OneTimeChargeDataLoader<In
         return specificData.entrySet().stream()
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    @Override
+    public List<? extends OneTimeChargeDomain> narrow(List<? extends OneTimeChargeDomain> loaded, CalculationContext ctx) {
+        // 조회 조건(청구 종료일 >= 설치일)을 다시 적용한다. 나머지 조건은 기간과 무관하다.
+        return loaded.stream()
+            .map(InstallationHistory.class::cast)
+            .filter(installation -> !installation.getInstallationDate().isAfter(ctx.billingEndDate()))
+            .toList();
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import me.realimpact.telecom.calculation.domain.monthlyfee.DefaultPeriod;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * 청구기간 생성 공통 서비스
@@ -29,4 +31,32 @@ public class BillingPeriodService {
         }
         return DefaultPeriod.of(ctx.billingStartDate(), billingEndDate);
     }
+
+    /**
+     * 여러 계산 컨텍스트의 데이터를 한 번에 로딩할 때 사용할 컨텍스트를 생성한다.
+     * 시작일은 가장 이른 청구 시작일을 쓰고, 종료일과 유형/주기는 청구 기간이 가장 늦게 끝나는 컨텍스트를 따른다
+     * (같으면 청구 종료일이 더 늦은 컨텍스트). 이렇게 만든 청구 기간과 청구 종료일은 모든 컨텍스트의 것을 포함한다.
+     *
+     * @param contexts 계산 컨텍스트 목록
+     * @return 로딩용 계산 컨텍스트 (컨텍스트가 하나면 그대로 반환)
+     */
+    public CalculationContext createLoadingContext(List<CalculationContext> contexts) {
+        if (contexts.size() == 1) {
+            return contexts.get(0);
+        }
+        CalculationContext widest = contexts.stream()
+                .max(Comparator.comparing((CalculationContext ctx) -> createBillingPeriod(ctx).getEndDate())
+                        .thenComparing(CalculationContext::billingEndDate))
+                .orElseThrow();
+        LocalDate billingStartDate = contexts.stream()
+                .map(CalculationContext::billingStartDate)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        return new CalculationContext(
+                billingStartDate,
+                widest.billingEndDate(),
+                widest.billingCalculationType(),
+                widest.billingCalculationPeriod()
+        );
+    }
 }
\ No newline at end of file
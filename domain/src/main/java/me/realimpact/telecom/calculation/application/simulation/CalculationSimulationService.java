@@ -0,0 +1,179 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.api.CalculationSimulationUseCase;
+import me.realimpact.telecom.calculation.api.ContractModification;
+import me.realimpact.telecom.calculation.api.SimulationRequest;
+import me.realimpact.telecom.calculation.api.SimulationResponse;
+import me.realimpact.telecom.calculation.api.SimulationVariant;
+import me.realimpact.telecom.calculation.api.SimulationVariantResult;
+import me.realimpact.telecom.calculation.application.CalculationCommandService;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Product;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+import me.realimpact.telecom.calculation.port.out.ProductOfferingQueryPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 요금 시뮬레이션 서비스.
+ * 계약의 계산 대상을 한 번만 로딩하고, 변형마다 변경을 적용한 계산 대상을 만들어 병렬로 계산한다.
+ * 변형들은 불변인 기준 계산 대상을 공유하므로 변형 수만큼 DB를 다시 조회하지 않는다.
+ * 계산 결과는 저장하지 않으므로 후처리(할부 청구 횟수 갱신 등)도 실행하지 않는다.
+ * 변형 계산은 모든 요청이 공유하는 시뮬레이션 Executor(SimulationExecutorConfig)에서 실행한다.
+ */
+@Service
+@Slf4j
+public class CalculationSimulationService implements CalculationSimulationUseCase {
+
+    private final CalculationCommandService calculationCommandService;
+    private final ProductOfferingQueryPort productOfferingQueryPort;
+    private final SimulationProperties simulationProperties;
+    private final ExecutorService simulationExecutor;
+
+    public CalculationSimulationService(
+            CalculationCommandService calculationCommandService,
+            ProductOfferingQueryPort productOfferingQueryPort,
+            SimulationProperties simulationProperties,
+            @Qualifier(SimulationExecutorConfig.SIMULATION_EXECUTOR) ExecutorService simulationExecutor) {
+        this.calculationCommandService = calculationCommandService;
+        this.productOfferingQueryPort = productOfferingQueryPort;
+        this.simulationProperties = simulationProperties;
+        this.simulationExecutor = simulationExecutor;
+    }
+
+    @Override
+    public SimulationResponse simulate(SimulationRequest request) {
+        if (request.variants().size() > simulationProperties.getMaxVariants()) {
+            throw new IllegalArgumentException("변형은 최대 " + simulationProperties.getMaxVariants() + "개까지 요청할 수 있습니다");
+        }
+        long startedAt = System.currentTimeMillis();
+        CalculationContext ctx = new CalculationContext(
+                request.billingStartDate(),
+                request.billingEndDate(),
+                request.billingCalculationType(),
+                request.billingCalculationPeriod()
+        );
+
+        CalculationTarget base = calculationCommandService.loadCalculationTargets(List.of(request.contractId()), ctx).get(0);
+        if (base.getMonthlyChargeData(ContractWithProductsAndSuspensions.class).isEmpty()) {
+            throw new IllegalArgumentException("청구 기간에 유효한 계약 정보가 없습니다: " + request.contractId());
+        }
+
+        // 변경 적용 오류(없는 상품 등)는 계산을 시작하기 전에 모두 드러나도록 계산 대상을 먼저 만든다
+        SimulationTargetBuilder targetBuilder = new SimulationTargetBuilder(base, ctx, loadProductOfferings(request, base));
+        List<CalculationTarget> variantTargets = request.variants().stream()
+                .map(variant -> targetBuilder.build(variant.modifications()))
+                .toList();
+
+        // 실패하거나 거절되면 이 요청이 제출한 나머지 계산을 취소한다 (완료된 계산의 취소는 무시된다)
+        List<Future<CalculationResultGroup>> calculations = new ArrayList<>(variantTargets.size() + 1);
+        try {
+            Future<CalculationResultGroup> baseCalculation = submit(calculations, base, ctx);
+            List<Future<CalculationResultGroup>> variantCalculations = new ArrayList<>(variantTargets.size());
+            for (CalculationTarget target : variantTargets) {
+                variantCalculations.add(submit(calculations, target, ctx));
+            }
+
+            BigDecimal baseTotalFee = totalFee(await(baseCalculation, "기준"));
+            List<SimulationVariantResult> variantResults = new ArrayList<>(variantTargets.size());
+            for (int i = 0; i < variantTargets.size(); i++) {
+                SimulationVariant variant = request.variants().get(i);
+                variantResults.add(toVariantResult(variant.variantId(), await(variantCalculations.get(i), variant.variantId()), baseTotalFee));
+            }
+
+            log.info("=== 요금 시뮬레이션 완료 === 계약: {}, 변형: {}개, 실행 시간: {}ms",
+                    request.contractId(), variantTargets.size(), System.currentTimeMillis() - startedAt);
+            return new SimulationResponse(request.contractId(), baseTotalFee, variantResults);
+        } finally {
+            calculations.forEach(calculation -> calculation.cancel(true));
+        }
+    }
+
+    private Future<CalculationResultGroup> submit(List<Future<CalculationResultGroup>> calculations,
+                                                  CalculationTarget target, CalculationContext ctx) {
+        Future<CalculationResultGroup> calculation =
+                simulationExecutor.submit(() -> calculationCommandService.processCalculation(target, ctx));
+        calculations.add(calculation);
+        return calculation;
+    }
+
+    /**
+     * 상품 추가에 필요한 상품 오퍼링. 계약에 이미 있는 상품은 로딩한 데이터를 쓰고, 나머지만 한 번에 조회한다.
+     */
+    private Map<String, ProductOffering> loadProductOfferings(SimulationRequest request, CalculationTarget base) {
+        List<String> requiredIds = request.variants().stream()
+                .flatMap(variant -> variant.modifications().stream())
+                .filter(modification -> modification.type() == ContractModification.ModificationType.ADD_PRODUCT)
+                .map(ContractModification::productOfferingId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (requiredIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, ProductOffering> productOfferings = new HashMap<>();
+        for (ContractWithProductsAndSuspensions contract : base.getMonthlyChargeData(ContractWithProductsAndSuspensions.class)) {
+            for (Product product : contract.getProducts()) {
+                productOfferings.putIfAbsent(product.getProductOffering().getProductOfferingId(), product.getProductOffering());
+            }
+        }
+        List<String> missingIds = requiredIds.stream()
+                .filter(productOfferingId -> !productOfferings.containsKey(productOfferingId))
+                .toList();
+        productOfferingQueryPort.findProductOfferingsByIds(missingIds)
+                .forEach(productOffering -> productOfferings.put(productOffering.getProductOfferingId(), productOffering));
+        return productOfferings;
+    }
+
+    private SimulationVariantResult toVariantResult(String variantId, CalculationResultGroup resultGroup, BigDecimal baseTotalFee) {
+        Map<String, BigDecimal> feeByRevenueItem = new TreeMap<>();
+        for (CalculationResult<?> result : resultGroup.calculationResults()) {
+            feeByRevenueItem.merge(String.valueOf(result.getRevenueItemId()), result.getFee(), BigDecimal::add);
+        }
+        BigDecimal totalFee = totalFee(resultGroup);
+        return new SimulationVariantResult(
+                variantId,
+                totalFee,
+                totalFee.subtract(baseTotalFee),
+                resultGroup.calculationResults().size(),
+                feeByRevenueItem
+        );
+    }
+
+    private BigDecimal totalFee(CalculationResultGroup resultGroup) {
+        return resultGroup.calculationResults().stream()
+                .map(CalculationResult::getFee)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private CalculationResultGroup await(Future<CalculationResultGroup> calculation, String variantId) {
+        try {
+            return calculation.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("요금 시뮬레이션 실패: " + variantId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요금 시뮬레이션 중단", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요금 시뮬레이션 계산 Executor 설정.
+ * 모든 시뮬레이션 요청이 스레드 수와 대기열 길이가 고정된 Executor 하나를 공유하므로, 동시 요청이 늘어도 계산 스레드 수는 parallelism을 넘지 않는다.
+ * 대기열이 가득 차면 RejectedExecutionException으로 요청을 거절한다.
+ */
+@Configuration
+@Slf4j
+public class SimulationExecutorConfig {
+
+    public static final String SIMULATION_EXECUTOR = "simulationExecutor";
+
+    @Bean(name = SIMULATION_EXECUTOR, destroyMethod = "close")
+    public ExecutorService simulationExecutor(SimulationProperties simulationProperties) {
+        int threads = Math.max(1, simulationProperties.getParallelism());
+        log.info("=== 시뮬레이션 Executor 생성 === 스레드: {}, 대기열: {}", threads, simulationProperties.getQueueCapacity());
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, simulationProperties.getQueueCapacity())),
+                Thread.ofPlatform().name("simulation-", 0).factory()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요금 시뮬레이션 관련 설정 프로퍼티
+ * application.yml의 billing.simulation 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.simulation")
+@Data
+public class SimulationProperties {
+
+    /**
+     * 변형을 계산할 스레드 수 (기본값: 4). 모든 요청이 이 수의 스레드를 가진 Executor 하나를 공유한다.
+     */
+    private int parallelism = 4;
+
+    /**
+     * 계산 스레드를 기다리는 변형 계산의 최대 수 (기본값: 1000). 넘으면 요청을 거절한다.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 요청 1건에 허용하는 최대 변형 수 (기본값: 100)
+     */
+    private int maxVariants = 100;
+}
@@ -0,0 +1,197 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import me.realimpact.telecom.calculation.api.ContractModification;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.MonthlyChargeDomain;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Product;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 로딩한 기준 계산 대상에 시뮬레이션 변경을 적용한 새 계산 대상을 만든다.
+ * 기준 대상과 도메인 객체는 불변이므로 바뀌는 목록만 복사하고 나머지는 그대로 공유한다.
+ * 여러 변형을 동시에 만들고 계산해도 기준 대상은 바뀌지 않는다.
+ */
+public class SimulationTargetBuilder {
+
+    static final String DEFAULT_SUSPENSION_TYPE_CODE = "F1";
+    static final String SIMULATION_DISCOUNT_ID_PREFIX = "SIM-";
+    private static final LocalDateTime OPEN_END_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final CalculationTarget base;
+    private final CalculationContext ctx;
+    private final Map<String, ProductOffering> productOfferings;
+
+    /**
+     * @param base 기준 계산 대상
+     * @param ctx 계산 컨텍스트
+     * @param productOfferings 상품 추가에 사용할 상품 오퍼링 (상품 오퍼링 ID → 상품 오퍼링)
+     */
+    public SimulationTargetBuilder(CalculationTarget base, CalculationContext ctx, Map<String, ProductOffering> productOfferings) {
+        this.base = base;
+        this.ctx = ctx;
+        this.productOfferings = productOfferings;
+    }
+
+    /**
+     * 변경 목록을 순서대로 적용한 계산 대상을 반환한다
+     *
+     * @param modifications 적용할 변경 목록
+     * @return 변경이 적용된 계산 대상 (변경이 없으면 기준 대상)
+     */
+    public CalculationTarget build(List<ContractModification> modifications) {
+        if (modifications.isEmpty()) {
+            return base;
+        }
+
+        ContractWithProductsAndSuspensions contract = baseContract();
+        List<Product> products = new ArrayList<>(contract.getProducts());
+        List<Suspension> suspensions = new ArrayList<>(contract.getSuspensions());
+        Optional<LocalDate> terminatedAt = contract.getTerminatedAt();
+        List<Discount> discounts = new ArrayList<>(base.discounts());
+
+        for (ContractModification modification : modifications) {
+            switch (modification.type()) {
+                case ADD_PRODUCT -> products.add(newProduct(modification));
+                case REMOVE_PRODUCT -> removeProduct(products, modification);
+                case CHANGE_TERMINATION_DATE -> terminatedAt = Optional.of(required(modification.endDate(), "해지일(endDate)"));
+                case ADD_SUSPENSION -> suspensions.add(newSuspension(modification));
+                case ADD_DISCOUNT -> discounts.add(newDiscount(modification, discounts.size()));
+            }
+        }
+
+        ContractWithProductsAndSuspensions modifiedContract = new ContractWithProductsAndSuspensions(
+                contract.getContractId(),
+                contract.getSubscribedAt(),
+                contract.getInitiallySubscribedAt(),
+                terminatedAt,
+                contract.getPrefferedTerminationDate(),
+                contract.getBillingStartDate(),
+                contract.getBillingEndDate(),
+                List.copyOf(products),
+                List.copyOf(suspensions),
+                contract.getAdditionalBillingFactors()
+        );
+
+        Map<Class<? extends MonthlyChargeDomain>, List<? extends MonthlyChargeDomain>> monthlyChargeData =
+                new HashMap<>(base.monthlyChargeData());
+        monthlyChargeData.put(ContractWithProductsAndSuspensions.class, List.of(modifiedContract));
+
+        return new CalculationTarget(
+                base.contractId(),
+                monthlyChargeData,
+                base.oneTimeChargeData(),
+                List.copyOf(discounts)
+        );
+    }
+
+    private ContractWithProductsAndSuspensions baseContract() {
+        List<ContractWithProductsAndSuspensions> contracts = base.getMonthlyChargeData(ContractWithProductsAndSuspensions.class);
+        if (contracts.isEmpty()) {
+            throw new IllegalArgumentException("청구 기간에 유효한 계약 정보가 없습니다: " + base.contractId());
+        }
+        return contracts.get(0);
+    }
+
+    private Product newProduct(ContractModification modification) {
+        String productOfferingId = required(modification.productOfferingId(), "상품 오퍼링 ID(productOfferingId)");
+        ProductOffering productOffering = productOfferings.get(productOfferingId);
+        if (productOffering == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품 오퍼링입니다: " + productOfferingId);
+        }
+        LocalDate startDate = Objects.requireNonNullElse(modification.startDate(), ctx.billingStartDate());
+        return new Product(
+                base.contractId(),
+                productOffering,
+                startDate.atStartOfDay(),
+                modification.endDate() == null ? OPEN_END_DATE_TIME : modification.endDate().atStartOfDay(),
+                startDate,
+                Optional.of(startDate),
+                Optional.empty()
+        );
+    }
+
+    /**
+     * 상품 해지. 해지일이 없으면 상품을 계산 대상에서 제외하고, 있으면 해지일을 설정한다 (기존 해지일이 더 빠르면 유지).
+     */
+    private void removeProduct(List<Product> products, ContractModification modification) {
+        String productOfferingId = required(modification.productOfferingId(), "상품 오퍼링 ID(productOfferingId)");
+        LocalDate endDate = modification.endDate();
+        boolean removed = false;
+        for (int i = products.size() - 1; i >= 0; i--) {
+            Product product = products.get(i);
+            if (!productOfferingId.equals(product.getProductOffering().getProductOfferingId())) {
+                continue;
+            }
+            removed = true;
+            if (endDate == null) {
+                products.remove(i);
+            } else {
+                LocalDate terminatedAt = product.getTerminatedAt()
+                        .filter(existing -> existing.isBefore(endDate))
+                        .orElse(endDate);
+                products.set(i, new Product(
+                        product.getContractId(),
+                        product.getProductOffering(),
+                        product.getEffectiveStartDateTime(),
+                        product.getEffectiveEndDateTime(),
+                        product.getSubscribedAt(),
+                        product.getActivatedAt(),
+                        Optional.of(terminatedAt)
+                ));
+            }
+        }
+        if (!removed) {
+            throw new IllegalArgumentException("계약에 없는 상품입니다: " + productOfferingId);
+        }
+    }
+
+    private Suspension newSuspension(ContractModification modification) {
+        LocalDate startDate = required(modification.startDate(), "정지 시작일(startDate)");
+        LocalDate endDate = required(modification.endDate(), "정지 종료일(endDate)");
+        String suspensionTypeCode = Objects.requireNonNullElse(modification.suspensionTypeCode(), DEFAULT_SUSPENSION_TYPE_CODE);
+        return new Suspension(
+                startDate.atStartOfDay(),
+                endDate.atStartOfDay(),
+                Suspension.SuspensionType.fromCode(suspensionTypeCode)
+        );
+    }
+
+    private Discount newDiscount(ContractModification modification, int sequence) {
+        String productOfferingId = required(modification.productOfferingId(), "상품 오퍼링 ID(productOfferingId)");
+        String applyUnit = required(modification.discountApplyUnit(), "할인 적용 단위(discountApplyUnit)");
+        if (!Discount.APPLY_UNIT_RATE.equals(applyUnit) && !Discount.APPLY_UNIT_AMOUNT.equals(applyUnit)) {
+            throw new IllegalArgumentException("할인 적용 단위는 RATE 또는 AMOUNT 입니다: " + applyUnit);
+        }
+        return new Discount(
+                base.contractId(),
+                SIMULATION_DISCOUNT_ID_PREFIX + sequence,
+                Objects.requireNonNullElse(modification.startDate(), ctx.billingStartDate()),
+                Objects.requireNonNullElse(modification.endDate(), ctx.billingEndDate()),
+                productOfferingId,
+                applyUnit,
+                modification.discountAmount(),
+                modification.discountRate(),
+                null
+        );
+    }
+
+    private static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + "은(는) 필수입니다");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,22 @@
+package me.realimpact.telecom.calculation.application.termination;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 해지핫빌 관련 설정 프로퍼티
+ * application.yml의 billing.termination-inquiry 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.termination-inquiry")
+@Data
+public class TerminationInquiryProperties {
+
+    /**
+     * 응답 시간 목표 (기본값: 200ms). 요청이 이 시간을 넘기면 경고 로그를 남기고, 성능 측정 배치는 p99와 비교한다.
+     */
+    private Duration latencyTarget = Duration.ofMillis(200);
+}
@@ -0,0 +1,68 @@
+package me.realimpact.telecom.calculation.application.termination;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.api.TerminationInquiryRequest;
+import me.realimpact.telecom.calculation.api.TerminationInquiryResponse;
+import me.realimpact.telecom.calculation.api.TerminationInquiryUseCase;
+import me.realimpact.telecom.calculation.application.CalculationCommandService;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 해지핫빌 서비스.
+ * 계약 1건 목록으로 로딩하므로 각 DataLoader의 IN 절이 바인드 하나로 고정되어(버킷 패딩 제외) 단건 실행계획을 쓰고,
+ * 해지 가정 유형이라 단말 할부는 회차별 상세 대신 마스터별 잔여 할부금 합계만 조회한다.
+ * 계산 결과는 저장하지 않으므로 후처리도 실행하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TerminationInquiryService implements TerminationInquiryUseCase {
+
+    private final CalculationCommandService calculationCommandService;
+    private final TerminationInquiryProperties terminationInquiryProperties;
+
+    @Override
+    public TerminationInquiryResponse inquire(TerminationInquiryRequest request) {
+        long startedAt = System.nanoTime();
+        CalculationContext ctx = createContext(request);
+
+        CalculationTarget target = calculationCommandService.loadCalculationTargets(List.of(request.contractId()), ctx).get(0);
+        CalculationResultGroup resultGroup = calculationCommandService.processCalculation(target, ctx);
+
+        BigDecimal totalFee = resultGroup.calculationResults().stream()
+                .map(CalculationResult::getFee)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        if (elapsedMillis > terminationInquiryProperties.getLatencyTarget().toMillis()) {
+            log.warn("해지핫빌 응답 시간 목표 초과: 계약 {}, {}ms (목표 {}ms)",
+                    request.contractId(), elapsedMillis, terminationInquiryProperties.getLatencyTarget().toMillis());
+        } else {
+            log.debug("해지핫빌 완료: 계약 {}, 결과 {}건, {}ms",
+                    request.contractId(), resultGroup.calculationResults().size(), elapsedMillis);
+        }
+        return new TerminationInquiryResponse(request.contractId(), request.terminationDate(), totalFee, resultGroup.calculationResults());
+    }
+
+    /**
+     * 해지월 1일부터 해지일까지를 청구기간으로 하는 해지핫빌 계산 컨텍스트
+     */
+    private static CalculationContext createContext(TerminationInquiryRequest request) {
+        return new CalculationContext(
+                request.terminationDate().withDayOfMonth(1),
+                request.terminationDate(),
+                BillingCalculationType.TERMINATION_INQUIRY,
+                BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH
+        );
+    }
+}
@@ -10,18 +10,27 @@ import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 /**
  * VAT 계산기
  * 기존 CalculationResult들을 기반으로 VAT CalculationResult를 생성한다.
+ *
+ * billing.vat.mode에 따라 결과 1건마다 VAT를 만들거나(PER_RESULT),
+ * 계약 × VAT 수익항목별로 과세 금액을 합산해 VAT 1건을 만든다(AGGREGATED).
+ * AGGREGATED의 VAT 금액은 (과세 금액 합계 × 세율)을 원 단위로 aggregated-rounding-mode(기본 절사) 처리한 값이다.
+ * 음수 합계(할인 초과)는 0 방향으로 처리되므로 부호만 다르고 같은 크기가 된다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class VatCalculator {
     
+    private static final String AGGREGATED_ITEM_ID = "#";
+
     private final VatProperties vatProperties;
     private final RevenueMasterDataCacheService revenueCacheService;
     
@@ -41,50 +50,99 @@ public class VatCalculator {
             return List.of();
         }
         
-        log.debug("Starting VAT calculation for {} results with VAT rate: {}", 
-                  existingResults.size(), vatProperties.getVatRate());
+        log.debug("Starting {} VAT calculation for {} results with VAT rate: {}", 
+                  vatProperties.getMode(), existingResults.size(), vatProperties.getVatRate());
         
-        List<CalculationResult<?>> vatResults = existingResults.stream()
-                .filter(this::isVatApplicable)
-                .map(result -> createVatCalculationResult(ctx, result))
-                .filter(Objects::nonNull)
-                .<CalculationResult<?>>map(result -> result)
-                .toList();
+        List<CalculationResult<?>> vatResults = vatProperties.getMode() == VatProperties.VatMode.AGGREGATED
+                ? calculateAggregatedVat(existingResults)
+                : calculatePerResultVat(existingResults);
         
         log.debug("Generated {} VAT calculation results", vatResults.size());
         return vatResults;
     }
+
+    /**
+     * 결과 1건마다 VAT 결과 1건을 만든다
+     */
+    private List<CalculationResult<?>> calculatePerResultVat(List<CalculationResult<?>> existingResults) {
+        List<CalculationResult<?>> vatResults = new ArrayList<>();
+        for (CalculationResult<?> result : existingResults) {
+            RevenueMasterData masterData = findVatMasterData(result);
+            if (masterData == null) {
+                continue;
+            }
+            CalculationResult<?> vatResult = createVatCalculationResult(result, masterData);
+            if (vatResult != null) {
+                vatResults.add(vatResult);
+            }
+        }
+        return vatResults;
+    }
+
+    /**
+     * 계약 × VAT 수익항목별로 과세 금액을 합산하여 그룹마다 VAT 결과 1건을 만든다.
+     * 그룹은 처음 나타난 순서를 유지한다.
+     */
+    private List<CalculationResult<?>> calculateAggregatedVat(List<CalculationResult<?>> existingResults) {
+        Map<VatGroupKey, VatGroup> groups = new LinkedHashMap<>();
+        for (CalculationResult<?> result : existingResults) {
+            RevenueMasterData masterData = findVatMasterData(result);
+            if (masterData == null) {
+                continue;
+            }
+            groups.computeIfAbsent(new VatGroupKey(result.getContractId(), masterData.vatRevenueItemId()),
+                            key -> new VatGroup(result))
+                    .add(result.getFee());
+        }
+
+        List<CalculationResult<?>> vatResults = new ArrayList<>(groups.size());
+        for (Map.Entry<VatGroupKey, VatGroup> entry : groups.entrySet()) {
+            CalculationResult<?> template = entry.getValue().template;
+            vatResults.add(new CalculationResult<>(
+                template.getContractId(),
+                template.getBillingStartDate(),
+                template.getBillingEndDate(),
+                AGGREGATED_ITEM_ID,
+                AGGREGATED_ITEM_ID,
+                entry.getKey().vatRevenueItemId(),
+                template.getBillingStartDate(),
+                template.getBillingEndDate(),
+                null,
+                calculateAggregatedVatAmount(entry.getValue().taxableAmount),
+                BigDecimal.ZERO,
+                null,
+                null // VAT 계산은 후처리가 필요 없음
+            ));
+        }
+        return vatResults;
+    }
     
     /**
-     * VAT 계산 대상인지 확인
+     * VAT 계산 대상이면 수익 마스터 데이터를 반환한다
      * RevenueMasterData에 vatRevenueItemId가 설정된 경우만 VAT 계산 대상
+     *
+     * @return 수익 마스터 데이터 (VAT 계산 대상이 아니면 null)
      */
-    private boolean isVatApplicable(CalculationResult<?> result) {
+    private RevenueMasterData findVatMasterData(CalculationResult<?> result) {
         if (result.getRevenueItemId() == null) {
-            return false;
+            return null;
         }
         
         RevenueMasterData masterData = revenueCacheService.getRevenueMasterData(result.getRevenueItemId());
-        boolean applicable = masterData != null && masterData.vatRevenueItemId() != null;
-        
-        if (applicable) {
-            log.trace("VAT applicable for revenueItemId: {} -> vatRevenueItemId: {}", 
-                     result.getRevenueItemId(), masterData.vatRevenueItemId());
+        if (masterData == null || masterData.vatRevenueItemId() == null) {
+            return null;
         }
         
-        return applicable;
+        log.trace("VAT applicable for revenueItemId: {} -> vatRevenueItemId: {}", 
+                 result.getRevenueItemId(), masterData.vatRevenueItemId());
+        return masterData;
     }
     
     /**
      * 기존 CalculationResult를 기반으로 VAT CalculationResult 생성
      */
-    private CalculationResult<?> createVatCalculationResult(CalculationContext ctx, CalculationResult<?> originalResult) {
+    private CalculationResult<?> createVatCalculationResult(CalculationResult<?> originalResult, RevenueMasterData masterData) {
         try {
-            RevenueMasterData masterData = revenueCacheService.getRevenueMasterData(originalResult.getRevenueItemId());
-            if (masterData == null || masterData.vatRevenueItemId() == null) {
-                return null;
-            }
-            
             BigDecimal vatAmount = calculateVatAmount(originalResult.getFee());
             
             return new CalculationResult<>(
@@ -122,4 +180,37 @@ public class VatCalculator {
         
         return taxableAmount.multiply(vatProperties.getVatRate());
     }
-}
\ No newline at end of file
+
+    /**
+     * 합산된 과세 금액의 VAT 금액 계산 (원 단위, aggregated-rounding-mode 적용)
+     *
+     * @param taxableAmount 과세 대상 금액 합계
+     * @return VAT 금액
+     */
+    private BigDecimal calculateAggregatedVatAmount(BigDecimal taxableAmount) {
+        return calculateVatAmount(taxableAmount).setScale(0, vatProperties.getAggregatedRoundingMode());
+    }
+
+    /**
+     * VAT 그룹 키 (계약 ID, VAT 수익항목 ID)
+     */
+    private record VatGroupKey(Long contractId, String vatRevenueItemId) {}
+
+    /**
+     * VAT 그룹의 과세 금액 합계와 메타데이터용 첫 번째 결과
+     */
+    private static class VatGroup {
+        private final CalculationResult<?> template;
+        private BigDecimal taxableAmount = BigDecimal.ZERO;
+
+        VatGroup(CalculationResult<?> template) {
+            this.template = template;
+        }
+
+        void add(BigDecimal fee) {
+            if (fee != null) {
+                taxableAmount = taxableAmount.add(fee);
+            }
+        }
+    }
+}
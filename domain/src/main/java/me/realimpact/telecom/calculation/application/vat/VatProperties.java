@@ -5,6 +5,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * VAT 계산 관련 설정 프로퍼티
@@ -24,4 +25,25 @@ public class VatProperties {
      * VAT 계산 활성화 여부 (기본값: true)
      */
     private boolean enabled = true;
+
+    /**
+     * VAT 산출 방식 (기본값: PER_RESULT)
+     */
+    private VatMode mode = VatMode.PER_RESULT;
+
+    /**
+     * AGGREGATED 방식에서 VAT 금액의 원 미만 처리 방식 (기본값: DOWN, 원 미만 절사)
+     */
+    private RoundingMode aggregatedRoundingMode = RoundingMode.DOWN;
+
+    public enum VatMode {
+        /**
+         * 계산 결과 1건마다 VAT 1건 (과세 금액 × 세율, 반올림 없음)
+         */
+        PER_RESULT,
+        /**
+         * 계약 × VAT 수익항목별로 과세 금액을 합산하여 VAT 1건 (합계 × 세율을 원 단위로 처리)
+         */
+        AGGREGATED
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package me.realimpact.telecom.calculation.domain;
+
+import java.util.List;
+
+/**
+ * 여러 건을 한 번에 처리할 수 있는 후처리 인터페이스
+ * Writer는 청크 단위로 같은 BatchPostProcessor의 입력을 모아서 processAll을 한 번 호출한다.
+ * 입력을 모을 수 있도록 계산기마다 하나의 인스턴스를 만들어 CalculationResult에 넘겨야 한다.
+ */
+@FunctionalInterface
+public interface BatchPostProcessor<I> extends PostProcessor<I> {
+
+    /**
+     * 모인 계산 결과들에 대한 후처리를 한 번에 수행한다
+     *
+     * @param ctx 계산 컨텍스트
+     * @param inputs 후처리 대상 목록
+     */
+    void processAll(CalculationContext ctx, List<I> inputs);
+
+    @Override
+    default void process(CalculationContext ctx, I input) {
+        processAll(ctx, List.of(input));
+    }
+}
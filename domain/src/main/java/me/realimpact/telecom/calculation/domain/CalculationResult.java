@@ -7,7 +7,7 @@ import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -43,6 +43,17 @@ public class CalculationResult<I> {
         }
     }
 
+    /**
+     * 후처리 작업을 즉시 실행하지 않고 수집기에 모은다 (청크 단위 일괄 후처리용)
+     *
+     * @param batch 후처리 수집기
+     */
+    public void collectPost(PostProcessingBatch batch) {
+        if (postProcessor != null) {
+            batch.add(postProcessor, domain);
+        }
+    }
+
     /**
      * 주어진 기간으로 일할 계산하여 CalculationResult 목록을 반환한다
      *
@@ -52,48 +63,58 @@ public class CalculationResult<I> {
         if (periods == null || periods.isEmpty()) {
             return List.of();
         }
-
-        // 각 period와 현재 CalculationResult가 겹치는 부분만 계산
-        return periods.stream()
-            .filter(this::overlapsWith)
-            .map(period -> {
-                // 겹치는 구간 계산
-                LocalDate intersectionStart = effectiveStartDate.isAfter(period.getStartDate())
-                    ? effectiveStartDate : period.getStartDate();
-                LocalDate intersectionEnd = effectiveEndDate.isBefore(period.getEndDate())
-                    ? effectiveEndDate : period.getEndDate();
-
-                return DefaultPeriod.of(intersectionStart, intersectionEnd);
-            })
-            .filter(period -> period.getStartDate().isBefore(period.getEndDate())) // 유효한 구간만
-            .map(this::createProratedResult)
-            .toList();
+        List<CalculationResult<?>> proratedResults = new ArrayList<>(periods.size());
+        prorateInto(ProrationPeriods.of(periods), proratedResults);
+        return proratedResults;
     }
 
+    /**
+     * 기간 목록의 각 기간과 겹치는 구간으로 일할 계산하여 target에 추가한다.
+     * 겹치는 구간이 하루 이하인 기간은 건너뛰며, 일수는 epoch day 차이로 계산한다.
+     *
+     * @param periods 일할 기준 기간 목록
+     * @param target 일할 계산된 결과를 담을 목록
+     */
+    public void prorateInto(ProrationPeriods periods, List<? super CalculationResult<?>> target) {
+        long effectiveStartDay = effectiveStartDate.toEpochDay();
+        long effectiveEndDay = effectiveEndDate.toEpochDay();
+        BigDecimal originalDays = BigDecimal.valueOf(effectiveEndDay - effectiveStartDay + 1);
 
-    private boolean overlapsWith(DefaultPeriod period) {
-        return effectiveStartDate.isBefore(period.getEndDate()) &&
-               period.getStartDate().isBefore(effectiveEndDate);
+        for (int i = 0; i < periods.size(); i++) {
+            long periodStartDay = periods.startDay(i);
+            long periodEndDay = periods.endDay(i);
+            // 현재 CalculationResult와 겹치는 구간만 계산
+            if (effectiveStartDay >= periodEndDay || periodStartDay >= effectiveEndDay) {
+                continue;
+            }
+            boolean startsWithPeriod = periodStartDay > effectiveStartDay;
+            boolean endsWithPeriod = periodEndDay < effectiveEndDay;
+            long intersectionStartDay = startsWithPeriod ? periodStartDay : effectiveStartDay;
+            long intersectionEndDay = endsWithPeriod ? periodEndDay : effectiveEndDay;
+            if (intersectionStartDay >= intersectionEndDay) {
+                continue;
+            }
+            target.add(createProratedResult(
+                    startsWithPeriod ? periods.startDate(i) : effectiveStartDate,
+                    endsWithPeriod ? periods.endDate(i) : effectiveEndDate,
+                    intersectionEndDay - intersectionStartDay + 1,
+                    originalDays));
+        }
     }
-    
+
     /**
      * 주어진 기간에 대한 일할 계산된 CalculationResult를 생성
      */
-    private CalculationResult<?> createProratedResult(DefaultPeriod period) {
-        // 원래 기간의 일수 계산
-        long originalDays = ChronoUnit.DAYS.between(effectiveStartDate, effectiveEndDate) + 1;
-        // 새로운 구간의 일수 계산  
-        long proratedDays = ChronoUnit.DAYS.between(period.getStartDate(), period.getEndDate()) + 1;
-        
+    private CalculationResult<?> createProratedResult(LocalDate startDate, LocalDate endDate,
+                                                      long proratedDays, BigDecimal originalDays) {
         // 일할 비율 계산
         BigDecimal prorateRatio = BigDecimal.valueOf(proratedDays)
-            .divide(BigDecimal.valueOf(originalDays), 5, RoundingMode.HALF_UP);
+            .divide(originalDays, 5, RoundingMode.HALF_UP);
         
         // 일할 계산된 금액
         BigDecimal proratedFee = fee != null ? 
             fee.multiply(prorateRatio).setScale(2, RoundingMode.HALF_UP) : 
             BigDecimal.ZERO;
-        BigDecimal proratedBalance = new BigDecimal(proratedFee.toString());
         // 새로운 CalculationResult 생성 (기존 속성 유지, 날짜와 금액만 변경)
         return new CalculationResult<>(
             contractId,
@@ -102,11 +123,11 @@ public class CalculationResult<I> {
             productOfferingId,
             chargeItemId,
             revenueItemId,
-            period.getStartDate(),      // 새로운 유효 시작일
-            period.getEndDate(),        // 새로운 유효 종료일
+            startDate,      // 새로운 유효 시작일
+            endDate,        // 새로운 유효 종료일
             suspensionType,
             proratedFee,      // 일할 계산된 금액
-                proratedBalance,      // 일할 계산된 금액
+            proratedFee,      // 일할 계산된 금액 (BigDecimal은 불변이므로 공유)
             domain,           // 기존 도메인 객체 유지
             postProcessor     // 기존 PostProcessor 유지
         );
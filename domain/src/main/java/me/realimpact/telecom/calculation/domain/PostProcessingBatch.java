@@ -0,0 +1,67 @@
+package me.realimpact.telecom.calculation.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크 단위 후처리 수집기
+ * BatchPostProcessor의 입력은 후처리기별로 모아 두었다가 flush 시 한 번에 처리하고,
+ * 일반 PostProcessor는 수집한 순서대로 한 건씩 처리한다.
+ */
+public class PostProcessingBatch {
+
+    // 람다/메서드 참조 인스턴스는 동일성으로 비교되므로 후처리기 인스턴스별로 모인다.
+    private final Map<BatchPostProcessor<?>, List<Object>> batchedInputs = new LinkedHashMap<>();
+    private final List<SinglePost<?>> singlePosts = new ArrayList<>();
+
+    /**
+     * 후처리 대상을 추가한다
+     *
+     * @param postProcessor 후처리기
+     * @param input 후처리 입력
+     */
+    public <I> void add(PostProcessor<I> postProcessor, I input) {
+        if (postProcessor instanceof BatchPostProcessor<I> batchPostProcessor) {
+            batchedInputs.computeIfAbsent(batchPostProcessor, key -> new ArrayList<>()).add(input);
+        } else {
+            singlePosts.add(new SinglePost<>(postProcessor, input));
+        }
+    }
+
+    /**
+     * 모인 후처리를 모두 실행하고 비운다
+     *
+     * @param ctx 계산 컨텍스트
+     */
+    @SuppressWarnings("unchecked")
+    public void flush(CalculationContext ctx) {
+        singlePosts.forEach(singlePost -> singlePost.process(ctx));
+        batchedInputs.forEach((batchPostProcessor, inputs) ->
+                ((BatchPostProcessor<Object>) batchPostProcessor).processAll(ctx, inputs));
+
+        singlePosts.clear();
+        batchedInputs.clear();
+    }
+
+    /**
+     * 모인 후처리 대상 건수
+     */
+    public int size() {
+        return singlePosts.size() + batchedInputs.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * flush 시 후처리기 호출 수 (일괄 후처리기는 후처리기당 1회, 일반 후처리기는 입력당 1회)
+     */
+    public int processorCalls() {
+        return singlePosts.size() + batchedInputs.size();
+    }
+
+    private record SinglePost<I>(PostProcessor<I> postProcessor, I input) {
+        void process(CalculationContext ctx) {
+            postProcessor.process(ctx, input);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package me.realimpact.telecom.calculation.domain;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.DefaultPeriod;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일할 계산의 기준 기간 목록.
+ * 기간 경계를 epoch day 배열로 미리 풀어 두어, 계산 결과마다 기간 객체를 만들지 않고 정수 비교만으로 겹치는 구간을 찾는다.
+ * 기간 순서는 추가한 순서 그대로이며 일할 결과도 이 순서로 만들어진다.
+ */
+public final class ProrationPeriods {
+
+    private LocalDate[] startDates;
+    private LocalDate[] endDates;
+    private long[] startDays;
+    private long[] endDays;
+    private int size;
+
+    public ProrationPeriods(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.startDates = new LocalDate[capacity];
+        this.endDates = new LocalDate[capacity];
+        this.startDays = new long[capacity];
+        this.endDays = new long[capacity];
+    }
+
+    public static ProrationPeriods of(List<DefaultPeriod> periods) {
+        ProrationPeriods prorationPeriods = new ProrationPeriods(periods.size());
+        for (DefaultPeriod period : periods) {
+            prorationPeriods.add(period.getStartDate(), period.getEndDate());
+        }
+        return prorationPeriods;
+    }
+
+    /**
+     * 기간을 추가한다
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     */
+    public void add(LocalDate startDate, LocalDate endDate) {
+        if (size == startDays.length) {
+            int capacity = size * 2;
+            startDates = Arrays.copyOf(startDates, capacity);
+            endDates = Arrays.copyOf(endDates, capacity);
+            startDays = Arrays.copyOf(startDays, capacity);
+            endDays = Arrays.copyOf(endDays, capacity);
+        }
+        startDates[size] = startDate;
+        endDates[size] = endDate;
+        startDays[size] = startDate.toEpochDay();
+        endDays[size] = endDate.toEpochDay();
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    LocalDate startDate(int index) {
+        return startDates[index];
+    }
+
+    LocalDate endDate(int index) {
+        return endDates[index];
+    }
+
+    long startDay(int index) {
+        return startDays[index];
+    }
+
+    long endDay(int index) {
+        return endDays[index];
+    }
+}
@@ -1,21 +1,56 @@
 package me.realimpact.telecom.calculation.domain.monthlyfee;
 
-import lombok.RequiredArgsConstructor;
-
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 
-@RequiredArgsConstructor
+/**
+ * 추가 과금 요소.
+ * 적재 시점에 요소 키를 FactorKeyRegistry 슬롯으로 바꾸고, 정수 값은 한 번만 파싱하여 슬롯 색인 배열에 보관한다.
+ * 요금 정책은 슬롯 번호로 hasFactor/getLongFactorValue를 호출하여 맵 조회/파싱/Optional 할당 없이 값을 읽는다.
+ */
 public class AdditionalBillingFactor extends Temporal {
     /*
      * key : ContractAmount, LineCount, LineSpeed.
      * value : 10000, 3, H8, etc.
      */
-    private final Map<String, String> factors;
+    private final boolean[] present;
+    private final String[] stringValues;
+    private final long[] longValues;
+    private final boolean[] numeric;
 
     private final LocalDate effectiveStartDate;
-    private final LocalDate effectiveEndDate; 
+    private final LocalDate effectiveEndDate;
+
+    public AdditionalBillingFactor(Map<String, String> factors, LocalDate effectiveStartDate, LocalDate effectiveEndDate) {
+        this.effectiveStartDate = effectiveStartDate;
+        this.effectiveEndDate = effectiveEndDate;
+
+        int length = 0;
+        for (String key : factors.keySet()) {
+            length = Math.max(length, FactorKeyRegistry.slotOf(key) + 1);
+        }
+        this.present = new boolean[length];
+        this.stringValues = new String[length];
+        this.longValues = new long[length];
+        this.numeric = new boolean[length];
+
+        for (Map.Entry<String, String> entry : factors.entrySet()) {
+            int slot = FactorKeyRegistry.slotOf(entry.getKey());
+            String value = entry.getValue();
+            present[slot] = true;
+            // 코드 값은 같은 문자열 인스턴스를 공유하도록 intern 한다
+            stringValues[slot] = value != null ? value.intern() : null;
+            if (value != null) {
+                try {
+                    longValues[slot] = Long.parseLong(value);
+                    numeric[slot] = true;
+                } catch (NumberFormatException e) {
+                    // 코드 값 (예: H8) - 정수로 읽으려 할 때 예외를 던진다
+                }
+            }
+        }
+    }
 
     @Override
     public LocalDate getStartDate() {
@@ -35,18 +70,61 @@ public class AdditionalBillingFactor extends Temporal {
      * @return      해당 타입의 Optional 값
      */
     public <T> Optional<T> getFactorValue(String key, Class<T> clazz) {
-        if (factors.containsKey(key)) {
-            String factorValue = factors.get(key);
-            try {
-                if (clazz == String.class) {
-                    return Optional.of(clazz.cast(factorValue));
-                } else if (clazz == Long.class) {
-                    return Optional.of(clazz.cast(Long.valueOf(factorValue)));
-                }
-            } catch (Exception e) {
-                throw e;
-            }            
-        } 
+        int slot = FactorKeyRegistry.findSlot(key);
+        if (hasFactor(slot)) {
+            if (clazz == String.class) {
+                return Optional.of(clazz.cast(stringValues[slot]));
+            } else if (clazz == Long.class) {
+                return Optional.of(clazz.cast(getLongFactorValue(slot)));
+            }
+        }
         return Optional.empty();
     }
-}
\ No newline at end of file
+
+    /**
+     * 추가 과금 요소가 있는지 확인합니다.
+     */
+    public boolean hasFactor(String key) {
+        return hasFactor(FactorKeyRegistry.findSlot(key));
+    }
+
+    /**
+     * 추가 과금 요소가 있는지 슬롯 번호로 확인합니다.
+     */
+    public boolean hasFactor(int slot) {
+        return slot >= 0 && slot < present.length && present[slot];
+    }
+
+    /**
+     * 추가 과금 요소 값을 long으로 반환합니다. Optional/박싱 없이 읽기 위해 요금 정책에서 사용합니다.
+     * 키가 있는지는 hasFactor로 먼저 확인해야 합니다.
+     *
+     * @param key 조회할 요소의 키
+     * @return    long 값
+     */
+    public long getLongFactorValue(String key) {
+        return getLongFactorValue(FactorKeyRegistry.findSlot(key));
+    }
+
+    /**
+     * 적재 시점에 파싱해 둔 long 값을 슬롯 번호로 반환합니다.
+     *
+     * @param slot FactorKeyRegistry 슬롯 번호
+     * @return     long 값
+     * @throws NumberFormatException 값이 정수가 아닌 경우
+     */
+    public long getLongFactorValue(int slot) {
+        if (!numeric[slot]) {
+            throw new NumberFormatException("For input string: \"" + stringValues[slot] + "\"");
+        }
+        return longValues[slot];
+    }
+
+    /**
+     * 문자열(코드) 값을 슬롯 번호로 반환합니다.
+     * 키가 있는지는 hasFactor로 먼저 확인해야 합니다.
+     */
+    public String getStringFactorValue(int slot) {
+        return stringValues[slot];
+    }
+}
@@ -45,6 +45,57 @@ public class ContractWithProductsAndSuspensions extends Temporal implements Mont
         ).min(Comparator.naturalOrder()).orElseThrow();
     }
     
+    /**
+     * 더 넓은 기간으로 조회한 계약을 주어진 청구 기간 기준으로 좁힌다.
+     * 상품 조회 쿼리(contractPeriodFilterClause)와 같은 조건으로 계약/상품/정지를 거르며,
+     * 청구 기간에 유효한 상품이 없으면 그 기간으로는 조회되지 않았을 계약이므로 빈 값을 반환한다.
+     *
+     * @param billingPeriod 청구 기간
+     * @return 청구 기간 기준으로 좁힌 계약
+     */
+    public Optional<ContractWithProductsAndSuspensions> narrowTo(DefaultPeriod billingPeriod) {
+        LocalDate start = billingPeriod.getStartDate();
+        LocalDate end = billingPeriod.getEndDate();
+        boolean contractInPeriod = onOrBefore(subscribedAt, end)
+            && terminatedAt.map(date -> date.isAfter(start)).orElse(true)
+            && onOrBefore(initiallySubscribedAt, end)
+            && prefferedTerminationDate.map(date -> date.isAfter(start)).orElse(true);
+        if (!contractInPeriod) {
+            return Optional.empty();
+        }
+
+        List<Product> productsInPeriod = products.stream()
+            .filter(product -> !product.getEffectiveStartDateTime().toLocalDate().isAfter(end)
+                && product.getEffectiveEndDateTime().toLocalDate().isAfter(start)
+                && onOrBefore(product.getSubscribedAt(), end)
+                && product.getTerminatedAt().map(date -> date.isAfter(start)).orElse(true))
+            .toList();
+        if (productsInPeriod.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Suspension> suspensionsInPeriod = suspensions.stream()
+            .filter(suspension -> !suspension.getStartDate().isAfter(end) && suspension.getEndDate().isAfter(start))
+            .toList();
+
+        return Optional.of(new ContractWithProductsAndSuspensions(
+            contractId,
+            subscribedAt,
+            initiallySubscribedAt,
+            terminatedAt,
+            prefferedTerminationDate,
+            start,
+            end,
+            productsInPeriod,
+            suspensionsInPeriod,
+            additionalBillingFactors
+        ));
+    }
+
+    private static boolean onOrBefore(LocalDate date, LocalDate end) {
+        return date == null || !date.isAfter(end);
+    }
+
     /**
      * 계약 정보, 상품 정보, 정지 정보를 기반으로 일할 계산을 위한 구간들을 생성한다.
      *
@@ -98,7 +149,18 @@ public class ContractWithProductsAndSuspensions extends Temporal implements Mont
      */
     private List<ProratedPeriod> createProratedPeriods(Temporal period, DefaultPeriod billingPeriod) {
         List<ProratedPeriod> proratedPeriods = new ArrayList<>();
-        
+
+        // 정지이력/추가과금요소는 기간에만 의존하므로 상품·과금항목 루프 밖에서 한 번만 찾는다
+        Optional<Suspension> overlappedSuspension = this.suspensions.stream()
+            .filter(s -> s.overlapsWith(period))
+            .findFirst();
+
+        List<AdditionalBillingFactor> overlappedAdditionalBillingFactor = this.additionalBillingFactors.isEmpty()
+                ? List.of()
+                : this.additionalBillingFactors.stream()
+                    .filter(bf -> bf.overlapsWith(period))
+                    .toList();
+
         for (Product product : this.products) {
             // 상품이 해당 기간과 겹치는지 확인
             if (!product.overlapsWith(period)) {
@@ -106,15 +168,6 @@ public class ContractWithProductsAndSuspensions extends Temporal implements Mont
             }
 
             for (ChargeItem chargeItem : product.getProductOffering().getChargeItems()) {
-                // 해당 기간에 겹치는 정지이력 찾기
-                Optional<Suspension> overlappedSuspension = this.suspensions.stream()
-                    .filter(s -> s.overlapsWith(period))
-                    .findFirst();
-
-                List<AdditionalBillingFactor> overlappedAdditionalBillingFactor = this.additionalBillingFactors.stream()
-                        .filter(bf -> bf.overlapsWith(period))
-                        .toList();
-
                 proratedPeriods.add(
                     ProratedPeriod.builder()
                         .period(period)
@@ -0,0 +1,38 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추가 과금 요소 키 → 슬롯 번호 등록부.
+ * 요소 키마다 0부터 차례로 작은 정수 슬롯을 부여하며, AdditionalBillingFactor는 값을 이 슬롯 번호로 색인한 배열에 보관한다.
+ * 요금 정책은 생성 시점에 키를 슬롯으로 바꿔 두고, 계산 시에는 문자열 비교 없이 배열 접근만 한다.
+ *
+ * 키 종류는 상품 정책이 정의한 소수로 한정되므로 등록된 슬롯은 해제하지 않는다.
+ */
+public final class FactorKeyRegistry {
+
+    public static final int NOT_REGISTERED = -1;
+
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private FactorKeyRegistry() {
+    }
+
+    /**
+     * 키의 슬롯 번호를 반환하며, 처음 보는 키면 새 슬롯을 부여한다
+     */
+    public static int slotOf(String key) {
+        return SLOTS.computeIfAbsent(key, k -> NEXT_SLOT.getAndIncrement());
+    }
+
+    /**
+     * 키의 슬롯 번호를 반환한다. 등록되지 않은 키면 NOT_REGISTERED(-1)
+     */
+    public static int findSlot(String key) {
+        Integer slot = SLOTS.get(key);
+        return slot != null ? slot : NOT_REGISTERED;
+    }
+}
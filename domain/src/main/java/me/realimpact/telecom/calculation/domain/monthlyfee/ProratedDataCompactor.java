@@ -0,0 +1,100 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension.SuspensionType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 일할 계산 데이터 압축기.
+ * buildProratedPeriods는 다른 상품/정지이력의 날짜로도 구간을 나누므로, 같은 과금항목이 금액만 나뉜 채 연속 구간으로 여러 행이 된다.
+ * 이 행들은 어차피 구간 합치기(consolidate)에서 수익항목별로 합산되므로, CalculationResult를 만들기 전에 미리 줄인다.
+ *
+ * 1. 금액 0인 행(미납정지 등)은 제거한다. 단, 수익항목에 0원 행만 있으면 합치기 결과 행이 유지되도록 남겨 아래 규칙으로 합친다.
+ * 2. 상품/과금항목/수익항목/정지유형이 같고 기간이 이어지는 행은 금액을 더해 하나로 합친다.
+ *    할인 대상 상품은 할인 구간분리와 금액 할인이 행 단위로 적용되므로 합치지 않는다.
+ *
+ * 금액은 이미 계산된 값을 더하기만 하므로 합치기 이후의 수익항목별 합계는 압축 전과 같다.
+ */
+public final class ProratedDataCompactor {
+
+    private ProratedDataCompactor() {
+    }
+
+    private record MergeKey(String productOfferingId, String chargeItemId, String revenueItemId,
+                            Optional<SuspensionType> suspensionType) {
+    }
+
+    /**
+     * @param proratedData 기간 순으로 정렬된 일할 계산 데이터 (buildProratedPeriods 순서)
+     * @param splitRequiredProductOfferingIds 행을 합치면 안 되는 상품 ID (할인 대상 상품)
+     * @return 압축된 일할 계산 데이터
+     */
+    public static List<ProratedCalculationData> compact(
+            List<ProratedCalculationData> proratedData,
+            Set<String> splitRequiredProductOfferingIds) {
+        if (proratedData.size() <= 1) {
+            return proratedData;
+        }
+
+        List<ProratedCalculationData> compacted = new ArrayList<>(proratedData.size());
+        Map<MergeKey, Integer> lastIndexByKey = new HashMap<>();
+        Set<String> revenueItemsWithAmount = new HashSet<>();
+        for (ProratedCalculationData data : proratedData) {
+            if (!isZero(data)) {
+                revenueItemsWithAmount.add(data.revenueItemId());
+            }
+        }
+
+        for (ProratedCalculationData data : proratedData) {
+            // 같은 수익항목에 금액 행이 있으면 0원 행은 합계에 영향이 없으므로 버린다
+            if (isZero(data) && revenueItemsWithAmount.contains(data.revenueItemId())) {
+                continue;
+            }
+
+            if (splitRequiredProductOfferingIds.contains(data.productOfferingId())) {
+                compacted.add(data);
+                continue;
+            }
+
+            MergeKey key = new MergeKey(data.productOfferingId(), data.chargeItemId(), data.revenueItemId(), data.suspensionType());
+            Integer lastIndex = lastIndexByKey.get(key);
+            if (lastIndex != null) {
+                ProratedCalculationData last = compacted.get(lastIndex);
+                if (last.periodEndDate().plusDays(1).equals(data.periodStartDate())) {
+                    compacted.set(lastIndex, merge(last, data));
+                    continue;
+                }
+            }
+            lastIndexByKey.put(key, compacted.size());
+            compacted.add(data);
+        }
+        return compacted;
+    }
+
+    private static boolean isZero(ProratedCalculationData data) {
+        return data.proratedFee().signum() == 0 && data.balance().signum() == 0;
+    }
+
+    private static ProratedCalculationData merge(ProratedCalculationData first, ProratedCalculationData second) {
+        BigDecimal proratedFee = first.proratedFee().add(second.proratedFee());
+        BigDecimal balance = first.balance().add(second.balance());
+        return new ProratedCalculationData(
+            first.contractId(),
+            first.productOfferingId(),
+            first.chargeItemId(),
+            first.revenueItemId(),
+            first.periodStartDate(),
+            second.periodEndDate(),
+            first.suspensionType(),
+            proratedFee,
+            balance
+        );
+    }
+}
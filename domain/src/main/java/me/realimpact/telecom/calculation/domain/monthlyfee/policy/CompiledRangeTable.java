@@ -0,0 +1,76 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee.policy;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * RangeRule 목록을 값 → 요금 조회용 구간표로 컴파일한 결과.
+ * 규칙의 경계(from, to + 1)로 수직선을 나누고 각 구간에 "목록 순서상 처음 일치하는 규칙"의 요금을 미리 정해 두므로,
+ * 규칙이 겹치거나 정렬되어 있지 않아도 기존 선형 탐색과 같은 결과를 이분 탐색으로 얻는다.
+ */
+final class CompiledRangeTable {
+    // segmentStarts[i] ~ segmentStarts[i + 1] - 1 구간의 요금은 fees[i] (null = 일치하는 규칙 없음)
+    private final long[] segmentStarts;
+    private final BigDecimal[] fees;
+
+    private CompiledRangeTable(long[] segmentStarts, BigDecimal[] fees) {
+        this.segmentStarts = segmentStarts;
+        this.fees = fees;
+    }
+
+    static CompiledRangeTable compile(List<RangeRule> rules) {
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (RangeRule rule : rules) {
+            validate(rule);
+            boundaries.add(rule.getFrom());
+            if (rule.getTo() < Long.MAX_VALUE) {
+                boundaries.add(rule.getTo() + 1);
+            }
+        }
+
+        long[] starts = new long[boundaries.size()];
+        BigDecimal[] fees = new BigDecimal[boundaries.size()];
+        int size = 0;
+        for (long start : boundaries) {
+            BigDecimal fee = firstMatchingFee(rules, start);
+            // 요금이 같은 인접 구간은 하나로 합친다
+            if (size > 0 && Objects.equals(fees[size - 1], fee)) {
+                continue;
+            }
+            starts[size] = start;
+            fees[size] = fee;
+            size++;
+        }
+        return new CompiledRangeTable(Arrays.copyOf(starts, size), Arrays.copyOf(fees, size));
+    }
+
+    static void validate(RangeRule rule) {
+        if (rule.getFrom() > rule.getTo()) {
+            throw new IllegalArgumentException("구간 규칙의 시작값이 종료값보다 큽니다: " + rule.getFrom() + " ~ " + rule.getTo());
+        }
+    }
+
+    private static BigDecimal firstMatchingFee(List<RangeRule> rules, long value) {
+        for (RangeRule rule : rules) {
+            if (rule.isInRange(value)) {
+                return rule.getFee();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 값이 속한 구간의 요금, 일치하는 규칙이 없으면 null
+     */
+    BigDecimal feeAt(long value) {
+        int index = Arrays.binarySearch(segmentStarts, value);
+        if (index < 0) {
+            // 삽입 위치 - 1 = value보다 작은 시작값 중 가장 큰 구간
+            index = -index - 2;
+        }
+        return index < 0 ? null : fees[index];
+    }
+}
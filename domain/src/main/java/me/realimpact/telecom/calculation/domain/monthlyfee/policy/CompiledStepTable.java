@@ -0,0 +1,70 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee.policy;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 구간 합산(StepFactorPolicy) 규칙을 누적 수량/누적 금액 표로 컴파일한 결과.
+ * 규칙은 목록 순서대로 각 구간의 폭(to - from + 1)만큼 값을 소진하므로,
+ * 누적 폭에서 값이 끝나는 구간을 이분 탐색으로 찾고 그 앞 구간까지의 누적 금액에 나머지만 더한다.
+ */
+final class CompiledStepTable {
+    private final long[] cumulativeWidths;
+    private final BigDecimal[] cumulativeAmounts;
+    private final BigDecimal[] fees;
+
+    private CompiledStepTable(long[] cumulativeWidths, BigDecimal[] cumulativeAmounts, BigDecimal[] fees) {
+        this.cumulativeWidths = cumulativeWidths;
+        this.cumulativeAmounts = cumulativeAmounts;
+        this.fees = fees;
+    }
+
+    static CompiledStepTable compile(List<RangeRule> rules) {
+        long[] cumulativeWidths = new long[rules.size()];
+        BigDecimal[] cumulativeAmounts = new BigDecimal[rules.size()];
+        BigDecimal[] fees = new BigDecimal[rules.size()];
+
+        long cumulativeWidth = 0;
+        BigDecimal cumulativeAmount = BigDecimal.ZERO;
+        for (int i = 0; i < rules.size(); i++) {
+            RangeRule rule = rules.get(i);
+            CompiledRangeTable.validate(rule);
+            long span = rule.getTo() - rule.getFrom();
+            long width = span < 0 ? Long.MAX_VALUE : saturatedAdd(span, 1);
+            cumulativeAmount = cumulativeAmount.add(rule.getFee().multiply(BigDecimal.valueOf(width)));
+            cumulativeWidth = saturatedAdd(cumulativeWidth, width);
+
+            cumulativeWidths[i] = cumulativeWidth;
+            cumulativeAmounts[i] = cumulativeAmount;
+            fees[i] = rule.getFee();
+        }
+        return new CompiledStepTable(cumulativeWidths, cumulativeAmounts, fees);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * @return 값을 구간 순서대로 나누어 각 구간 단가를 곱한 합계
+     */
+    BigDecimal amountFor(long value) {
+        if (value <= 0 || fees.length == 0) {
+            return BigDecimal.ZERO;
+        }
+        int index = Arrays.binarySearch(cumulativeWidths, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (index >= fees.length) {
+            // 모든 구간을 소진한 초과분은 과금하지 않는다
+            return cumulativeAmounts[fees.length - 1];
+        }
+
+        long consumedBefore = index == 0 ? 0 : cumulativeWidths[index - 1];
+        BigDecimal amountBefore = index == 0 ? BigDecimal.ZERO : cumulativeAmounts[index - 1];
+        return amountBefore.add(fees[index].multiply(BigDecimal.valueOf(value - consumedBefore)));
+    }
+}
@@ -0,0 +1,31 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee.policy;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.AdditionalBillingFactor;
+import me.realimpact.telecom.calculation.domain.monthlyfee.FactorKeyRegistry;
+
+import java.util.List;
+
+/**
+ * 요금 정책이 읽는 정수형 추가 과금 요소.
+ * 요소 키를 정책 생성 시점에 FactorKeyRegistry 슬롯으로 바꿔 두고, 스트림/Optional 없이 첫 번째로 값을 가진 요소에서 읽는다.
+ */
+final class LongFactorSlot {
+    private final int slot;
+
+    LongFactorSlot(String factorKey) {
+        this.slot = FactorKeyRegistry.slotOf(factorKey);
+    }
+
+    /**
+     * @return 첫 번째로 키를 가진 요소의 값, 없으면 0
+     */
+    long read(List<AdditionalBillingFactor> additionalBillingFactors) {
+        for (int i = 0; i < additionalBillingFactors.size(); i++) {
+            AdditionalBillingFactor factor = additionalBillingFactors.get(i);
+            if (factor.hasFactor(slot)) {
+                return factor.getLongFactorValue(slot);
+            }
+        }
+        return 0L;
+    }
+}
@@ -1,39 +1,35 @@
 package me.realimpact.telecom.calculation.domain.monthlyfee.policy;
 
-import lombok.RequiredArgsConstructor;
 import me.realimpact.telecom.calculation.domain.monthlyfee.AdditionalBillingFactor;
 import me.realimpact.telecom.calculation.domain.monthlyfee.Pricing;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 
 
 /**
  * 전체 값이 속하는 구간의 요금을 모든 값에 적용하는 정책
  * 예: 1~5회선은 1000원, 6~10회선은 800원, 11회선 이상은 600원일 때
  * 15회선인 경우: 15회선 * 600원 = 9000원
+ * 규칙은 생성 시점에 구간표로 컴파일하여 이분 탐색으로 조회한다.
  */
-@RequiredArgsConstructor
 public class TierFactorPolicy implements Pricing {
-    private final String factorKey;
-    private final List<RangeRule> rules;
+    private final LongFactorSlot factorSlot;
+    private final CompiledRangeTable rangeTable;
+
+    public TierFactorPolicy(String factorKey, List<RangeRule> rules) {
+        this.factorSlot = new LongFactorSlot(factorKey);
+        this.rangeTable = CompiledRangeTable.compile(rules);
+    }
 
     @Override
     public BigDecimal getPrice(List<AdditionalBillingFactor> additionalBillingFactors) {
-        Long billingFactor = additionalBillingFactors.stream()
-            .map(factor -> factor.getFactorValue(factorKey, Long.class))
-            .filter(Optional::isPresent)
-            .map(opt -> opt.orElse(0L))
-            .findFirst()
-            .orElse(0L);
-
-        BigDecimal price = rules.stream()
-                .filter(rule -> rule.isInRange(billingFactor))
-                .findFirst()
-                .map(RangeRule::getFee)
-                .orElse(BigDecimal.ZERO);
+        long billingFactor = factorSlot.read(additionalBillingFactors);
+        BigDecimal price = rangeTable.feeAt(billingFactor);
+        if (price == null) {
+            price = BigDecimal.ZERO;
+        }
 
         return price.multiply(BigDecimal.valueOf(billingFactor));
     }
-} 
\ No newline at end of file
+}
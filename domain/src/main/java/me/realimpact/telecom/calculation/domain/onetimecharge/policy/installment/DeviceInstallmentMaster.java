@@ -1,7 +1,7 @@
 package me.realimpact.telecom.calculation.domain.onetimecharge.policy.installment;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
 import me.realimpact.telecom.calculation.api.BillingCalculationType;
@@ -12,7 +12,8 @@ import java.util.List;
 
 /**
  * 단말할부 마스터 정보
- * 
+ * 미청구 잔여 할부금 합계와 회차별 할부금 배열을 생성 시점에 한 번만 계산해 두고 요금 조회 시 재사용한다.
+ *
  * @param contractId 계약 ID
  * @param installmentSequence 할부 일련번호
  * @param installmentStartDate 할부 시작일
@@ -21,9 +22,10 @@ import java.util.List;
  * @param billedCount 할부 청구 횟수
  */
 @Getter
-@RequiredArgsConstructor
 @ToString
 public class DeviceInstallmentMaster implements OneTimeChargeDomain {
+    private static final long[] NO_ROUNDS = new long[0];
+
     private final Long contractId;
     private final Long installmentSequence;
     private final LocalDate installmentStartDate;
@@ -32,21 +34,108 @@ public class DeviceInstallmentMaster implements OneTimeChargeDomain {
     private final Integer billedCount;
     private final List<DeviceInstallmentDetail> deviceInstallmentDetailList;
 
+    // 미청구 잔여 할부금 합계 (해지 가정 유형의 요금)
+    private final long remainingInstallmentAmount;
+
+    // 회차를 인덱스로 하는 할부금. 상세가 없는 회차는 0
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final long[] installmentAmountByRound;
+
+    public DeviceInstallmentMaster(
+            Long contractId,
+            Long installmentSequence,
+            LocalDate installmentStartDate,
+            Long totalInstallmentAmount,
+            Integer installmentMonths,
+            Integer billedCount,
+            List<DeviceInstallmentDetail> deviceInstallmentDetailList
+    ) {
+        this.contractId = contractId;
+        this.installmentSequence = installmentSequence;
+        this.installmentStartDate = installmentStartDate;
+        this.totalInstallmentAmount = totalInstallmentAmount;
+        this.installmentMonths = installmentMonths;
+        this.billedCount = billedCount;
+        this.deviceInstallmentDetailList = deviceInstallmentDetailList;
+
+        long remaining = 0L;
+        int maxRound = 0;
+        for (DeviceInstallmentDetail detail : deviceInstallmentDetailList) {
+            remaining += detail.installmentAmount();
+            if (detail.installmentRound() != null) {
+                maxRound = Math.max(maxRound, detail.installmentRound());
+            }
+        }
+        this.remainingInstallmentAmount = remaining;
+        this.installmentAmountByRound = maxRound == 0 ? NO_ROUNDS : new long[maxRound + 1];
+        // 같은 회차가 여러 건이면 앞의 상세를 쓴다 (기존 findFirst와 동일)
+        for (int i = deviceInstallmentDetailList.size() - 1; i >= 0; i--) {
+            DeviceInstallmentDetail detail = deviceInstallmentDetailList.get(i);
+            if (detail.installmentRound() != null && detail.installmentRound() > 0) {
+                installmentAmountByRound[detail.installmentRound()] = detail.installmentAmount();
+            }
+        }
+    }
+
+    private DeviceInstallmentMaster(
+            Long contractId,
+            Long installmentSequence,
+            LocalDate installmentStartDate,
+            Long totalInstallmentAmount,
+            Integer installmentMonths,
+            Integer billedCount,
+            long remainingInstallmentAmount
+    ) {
+        this.contractId = contractId;
+        this.installmentSequence = installmentSequence;
+        this.installmentStartDate = installmentStartDate;
+        this.totalInstallmentAmount = totalInstallmentAmount;
+        this.installmentMonths = installmentMonths;
+        this.billedCount = billedCount;
+        this.deviceInstallmentDetailList = List.of();
+        this.remainingInstallmentAmount = remainingInstallmentAmount;
+        this.installmentAmountByRound = NO_ROUNDS;
+    }
+
+    /**
+     * DB에서 합산한 잔여 할부금으로 마스터를 만든다. 회차별 상세가 없으므로 해지 가정 유형의 계산에만 쓴다.
+     *
+     * @param remainingInstallmentAmount 미청구 잔여 할부금 합계
+     * @return 상세 없이 잔여 할부금만 가진 단말할부 마스터
+     */
+    public static DeviceInstallmentMaster ofRemainingAmount(
+            Long contractId,
+            Long installmentSequence,
+            LocalDate installmentStartDate,
+            Long totalInstallmentAmount,
+            Integer installmentMonths,
+            Integer billedCount,
+            long remainingInstallmentAmount
+    ) {
+        return new DeviceInstallmentMaster(
+                contractId,
+                installmentSequence,
+                installmentStartDate,
+                totalInstallmentAmount,
+                installmentMonths,
+                billedCount,
+                remainingInstallmentAmount
+        );
+    }
+
     public Long getFee(BillingCalculationType billingCalculationType, BillingCalculationPeriod billingCalculationPeriod) {
         // 해지 가정이면 전체 금액. 아니면 이달치 리턴
         if (billingCalculationType.isTerminationAssumed()) {
-            return deviceInstallmentDetailList.stream().mapToLong(DeviceInstallmentDetail::installmentAmount).sum();
+            return remainingInstallmentAmount;
         } else {
             // 당월, 전당월의 전월이면 현재까지 청구된 차수의 다음 차수. 전당월의 당월이면 현재까지 청구된 차수의 다다음 차수
             int nextChargeIncrement = switch (billingCalculationPeriod) {
                 case POST_BILLING_CURRENT_MONTH, PRE_BILLING_PREVIOUS_MONTH -> 1;
                 case PRE_BILLING_CURRENT_MONTH -> 2;
             };
-            return deviceInstallmentDetailList.stream()
-                    .filter(deviceInstallmentDetail -> deviceInstallmentDetail.installmentRound() == this.billedCount + nextChargeIncrement)
-                    .findFirst()
-                    .map(DeviceInstallmentDetail::installmentAmount)
-                    .orElse(0L);
+            int round = this.billedCount + nextChargeIncrement;
+            return round > 0 && round < installmentAmountByRound.length ? installmentAmountByRound[round] : 0L;
         }
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import me.realimpact.telecom.calculation.domain.CalculationContext;
 import me.realimpact.telecom.calculation.domain.CalculationResult;
 import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.CalculationResultMapper;
+import me.realimpact.telecom.calculation.infrastructure.monitoring.WriterFlushEvent;
 import me.realimpact.telecom.calculation.port.out.CalculationResultSavePort;
 import org.springframework.stereotype.Repository;
 
@@ -30,9 +31,15 @@ public class CalculationResultRepository implements CalculationResultSavePort {
 
         //log.info("Starting batch save for {} calculation results", results.size());
 
+        WriterFlushEvent event = new WriterFlushEvent();
+        event.begin();
         try {
-            int insertedRows = calculationResultMapper.batchInsertCalculationResults(results);
+            int insertedRows = calculationResultMapper.batchInsertCalculationResults(
+                    ctx.billingCalculationType().getCode(), ctx.billingCalculationPeriod().getCode(), results);
             log.info("Successfully inserted {} records", insertedRows);
+
+            event.rows = results.size();
+            event.commit();
             
         } catch (Exception e) {
             log.error("Failed to batch save calculation results", e);
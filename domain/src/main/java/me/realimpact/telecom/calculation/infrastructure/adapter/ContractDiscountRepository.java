@@ -11,11 +11,17 @@ import me.realimpact.telecom.calculation.port.out.ContractDiscountQueryPort;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class ContractDiscountRepository implements ContractDiscountQueryPort, ContractDiscountCommandPort {
+    // MERGE 한 번에 넣을 최대 건수 (바인드 변수 수 제한 대비)
+    private static final int MERGE_BATCH_SIZE = 1000;
+
     private final ContractDiscountMapper contractDiscountMapper;
     private final ContractDiscountDtoConverter contractDiscountDtoConverter;
 
@@ -32,4 +38,25 @@ public class ContractDiscountRepository implements ContractDiscountQueryPort, Co
     public void applyDiscount(Discount discount) {
         contractDiscountMapper.applyDiscount(discount);
     }
+
+    @Override
+    public void applyDiscounts(List<Discount> discounts) {
+        // 같은 할인 키가 두 번 들어가면 MERGE가 실패하므로 키 기준으로 중복을 제거한다 (마지막 값 유지).
+        Map<DiscountKey, Discount> distinctDiscounts = new LinkedHashMap<>();
+        for (Discount discount : discounts) {
+            distinctDiscounts.put(DiscountKey.of(discount), discount);
+        }
+
+        List<Discount> targets = new ArrayList<>(distinctDiscounts.values());
+        for (int from = 0; from < targets.size(); from += MERGE_BATCH_SIZE) {
+            contractDiscountMapper.applyDiscounts(targets.subList(from, Math.min(from + MERGE_BATCH_SIZE, targets.size())));
+        }
+    }
+
+    private record DiscountKey(Long contractId, String discountId, LocalDate discountStartDate, LocalDate discountEndDate) {
+        static DiscountKey of(Discount discount) {
+            return new DiscountKey(discount.getContractId(), discount.getDiscountId(),
+                discount.getDiscountStartDate(), discount.getDiscountEndDate());
+        }
+    }
 }
\ No newline at end of file
@@ -31,4 +31,11 @@ public class DeviceInstallmentRepository implements DeviceInstallmentQueryPort {
         return oneTimeChargeDtoConverter.convertToDeviceInstallmentMasters(deviceInstallmentDtos);
     }
 
+    @Override
+    public List<DeviceInstallmentMaster> findRemainingDeviceInstallments(List<Long> contractIds, LocalDate billingEndDate) {
+        return deviceInstallmentMapper.findRemainingInstallmentsByContractIds(contractIds, billingEndDate).stream()
+            .map(oneTimeChargeDtoConverter::convertToRemainingDeviceInstallmentMaster)
+            .toList();
+    }
+
 }
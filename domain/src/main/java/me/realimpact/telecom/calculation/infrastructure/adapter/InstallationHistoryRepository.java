@@ -15,6 +15,9 @@ import java.util.List;
 @Repository
 @RequiredArgsConstructor
 public class InstallationHistoryRepository implements InstallationHistoryQueryPort, InstallationHistoryCommandPort {
+    // UPDATE 한 번에 넣을 최대 건수 (IN 목록 제한 대비)
+    private static final int UPDATE_BATCH_SIZE = 1000;
+
     private final InstallationHistoryMapper installationHistoryMapper;
     private final OneTimeChargeDtoConverter oneTimeChargeDtoConverter;
 
@@ -41,4 +44,19 @@ public class InstallationHistoryRepository implements InstallationHistoryQueryPo
             );
         }
     }
+
+    @Override
+    public void updateChargeStatuses(List<InstallationHistory> installationHistories) {
+        List<InstallationHistory> targets = installationHistories.stream().distinct().toList();
+        for (int from = 0; from < targets.size(); from += UPDATE_BATCH_SIZE) {
+            List<InstallationHistory> batch = targets.subList(from, Math.min(from + UPDATE_BATCH_SIZE, targets.size()));
+            int updatedRows = installationHistoryMapper.updateBilledFlags(batch);
+
+            if (updatedRows < batch.size()) {
+                throw new IllegalStateException(
+                    "설치내역 일부를 찾을 수 없습니다. 요청: " + batch.size() + "건, 업데이트: " + updatedRows + "건"
+                );
+            }
+        }
+    }
 }
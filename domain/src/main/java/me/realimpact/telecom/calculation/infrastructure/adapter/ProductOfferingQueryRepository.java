@@ -0,0 +1,27 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter;
+
+import lombok.RequiredArgsConstructor;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+import me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.ProductQueryMapper;
+import me.realimpact.telecom.calculation.infrastructure.converter.ContractDtoToDomainConverter;
+import me.realimpact.telecom.calculation.port.out.ProductOfferingQueryPort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductOfferingQueryRepository implements ProductOfferingQueryPort {
+    private final ProductQueryMapper productQueryMapper;
+    private final ContractDtoToDomainConverter converter;
+
+    @Override
+    public List<ProductOffering> findProductOfferingsByIds(List<String> productOfferingIds) {
+        if (productOfferingIds.isEmpty()) {
+            return List.of();
+        }
+        return productQueryMapper.findProductOfferingsByIds(productOfferingIds).stream()
+                .map(converter::convertToProductOffering)
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계산 결과 컬럼 값 인코더. 컬럼 파일(.cres)과 배치의 디스크 버퍼가 같은 방식으로 값을 기록하도록 공유한다.
+ * 반복되는 문자열(상품/과금항목/수익항목 ID)은 처음 나온 순서의 사전 번호로, 날짜는 epoch day로 바꾼다.
+ *
+ * 사전은 인스턴스에 보관되므로 같은 인스턴스(또는 같은 사전을 읽은 쪽)만 번호를 값으로 되돌릴 수 있다. 한 스레드에서만 사용한다.
+ */
+public class ColumnValueEncoder {
+
+    public static final int NULL_DICTIONARY_ID = -1;
+    public static final int NULL_EPOCH_DAY = Integer.MIN_VALUE;
+
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+
+    /**
+     * @return 문자열의 사전 번호 (처음 나온 값이면 새 번호를 부여, null이면 NULL_DICTIONARY_ID)
+     */
+    public int dictionaryId(String value) {
+        if (value == null) {
+            return NULL_DICTIONARY_ID;
+        }
+        Integer id = dictionaryIndex.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndex.put(value, id);
+        }
+        return id;
+    }
+
+    public String dictionaryValue(int dictionaryId) {
+        return dictionaryId == NULL_DICTIONARY_ID ? null : dictionary.get(dictionaryId);
+    }
+
+    /**
+     * @return 사전 번호 순서의 문자열 목록 (읽기 전용)
+     */
+    public List<String> dictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    /**
+     * @return 날짜의 epoch day (null이면 NULL_EPOCH_DAY)
+     */
+    public static int epochDay(LocalDate date) {
+        return date == null ? NULL_EPOCH_DAY : (int) date.toEpochDay();
+    }
+
+    public static LocalDate toDate(int epochDay) {
+        return epochDay == NULL_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
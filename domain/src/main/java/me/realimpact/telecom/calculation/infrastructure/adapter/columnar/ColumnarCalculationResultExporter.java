@@ -0,0 +1,108 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.port.out.CalculationResultExportPort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 계산 결과를 내보내기 단위(파티션)마다 컬럼 파일(.cres) 하나로 기록하는 outbound adapter.
+ * 파일은 {directory}/{청구시작일}_{청구종료일}_{계산유형}_{계산주기}/{exportName}.cres 에 만들어지며,
+ * 하위 시스템은 {@link #listFiles(Path)}로 찾은 파일을 {@link ColumnarResultFileReader}로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarCalculationResultExporter implements CalculationResultExportPort {
+
+    private final ColumnarExportProperties properties;
+
+    @Override
+    public ExportSession open(CalculationContext ctx, String exportName) {
+        Path file = runDirectory(ctx).resolve(exportName + ColumnarResultFormat.FILE_EXTENSION);
+        try {
+            return new ColumnarExportSession(file, new ColumnarResultFileWriter(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("컬럼 파일 생성 실패: " + file, e);
+        }
+    }
+
+    /**
+     * 청구 실행 하나의 컬럼 파일 디렉터리
+     */
+    public Path runDirectory(CalculationContext ctx) {
+        return Path.of(properties.getDirectory()).resolve(String.join("_",
+                ctx.billingStartDate().toString(),
+                ctx.billingEndDate().toString(),
+                ctx.billingCalculationType().getCode(),
+                ctx.billingCalculationPeriod().getCode()));
+    }
+
+    /**
+     * 디렉터리의 완성된 컬럼 파일 목록 (기록 중인 .cres.tmp 제외)
+     */
+    public static List<Path> listFiles(Path runDirectory) throws IOException {
+        if (!Files.isDirectory(runDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(runDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(ColumnarResultFormat.FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static class ColumnarExportSession implements ExportSession {
+
+        private final Path file;
+        private final ColumnarResultFileWriter writer;
+
+        ColumnarExportSession(Path file, ColumnarResultFileWriter writer) {
+            this.file = file;
+            this.writer = writer;
+        }
+
+        @Override
+        public void append(List<CalculationResult<?>> results) {
+            writer.append(results);
+        }
+
+        @Override
+        public void commit() {
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                throw new UncheckedIOException("컬럼 파일 기록 실패: " + file, e);
+            }
+        }
+
+        @Override
+        public void rollback() {
+            writer.rollback();
+        }
+
+        @Override
+        public long committedCount() {
+            return writer.committedRows();
+        }
+
+        @Override
+        public void close() {
+            try {
+                writer.close();
+                log.debug("컬럼 파일 기록 완료: {} ({}건)", file, writer.committedRows());
+            } catch (IOException e) {
+                throw new UncheckedIOException("컬럼 파일 완료 처리 실패: " + file, e);
+            }
+        }
+    }
+}
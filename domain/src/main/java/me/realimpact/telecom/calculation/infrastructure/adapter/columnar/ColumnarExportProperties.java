@@ -0,0 +1,25 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계산 결과 컬럼 파일 내보내기 관련 설정 프로퍼티
+ * application.yml의 billing.columnar-export 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.columnar-export")
+@Data
+public class ColumnarExportProperties {
+
+    /**
+     * 내보내기 활성화 여부 (기본값: false). 배치 Job이 Writer에 연결할지 판단할 때 사용한다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 컬럼 파일을 기록할 최상위 디렉터리. 청구 실행별 하위 디렉터리가 만들어진다.
+     */
+    private String directory = "./columnar-export";
+}
@@ -0,0 +1,389 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import static me.realimpact.telecom.calculation.infrastructure.adapter.columnar.ColumnarResultFormat.*;
+
+/**
+ * 계산 결과 컬럼 파일(.cres)을 메모리 매핑하여 읽는다. 형식은 {@link ColumnarResultFormat} 참고.
+ *
+ * 행 그룹과 계약 색인은 매핑된 버퍼를 그대로 읽으며(복사 없음), 사전만 열 때 문자열로 복원한다.
+ * {@link Cursor}는 행마다 객체를 만들지 않는 재사용 커서이므로 다음 행으로 넘어가기 전에 필요한 값을 꺼내야 한다.
+ * 여러 스레드에서 동시에 커서를 열어도 된다.
+ */
+public class ColumnarResultFileReader implements AutoCloseable {
+
+    private static final Suspension.SuspensionType[] SUSPENSION_TYPES = Suspension.SuspensionType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final String[] dictionary;
+    private final RowGroup[] rowGroups;
+    private final long rowCount;
+
+    // 계약 색인 (푸터 매핑 버퍼 위의 위치)
+    private final ByteBuffer footer;
+    private final int indexSize;
+    private final int indexContractIdsPosition;
+    private final int indexFirstRowsPosition;
+    private final int indexRowCountsPosition;
+
+    private ColumnarResultFileReader(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException("계산 결과 컬럼 파일이 아닙니다: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            MappedByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, fileSize - TRAILER_BYTES, TRAILER_BYTES);
+            if (header.getInt(0) != MAGIC || trailer.getInt(Long.BYTES) != MAGIC) {
+                throw new IOException("계산 결과 컬럼 파일이 아니거나 완성되지 않은 파일입니다: " + file);
+            }
+            if (header.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("지원하지 않는 컬럼 파일 버전: " + header.getInt(Integer.BYTES) + " (" + file + ")");
+            }
+
+            long footerOffset = trailer.getLong(0);
+            this.footer = channel.map(FileChannel.MapMode.READ_ONLY, footerOffset, fileSize - TRAILER_BYTES - footerOffset);
+
+            int position = 0;
+            this.dictionary = new String[footer.getInt(position)];
+            position += Integer.BYTES;
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = footer.getInt(position);
+                byte[] value = new byte[length];
+                footer.get(position + Integer.BYTES, value);
+                dictionary[i] = new String(value, StandardCharsets.UTF_8);
+                position += Integer.BYTES + length;
+            }
+
+            this.rowGroups = new RowGroup[footer.getInt(position)];
+            position += Integer.BYTES;
+            long firstRow = 0;
+            for (int i = 0; i < rowGroups.length; i++) {
+                long offset = footer.getLong(position);
+                long end = i + 1 < rowGroups.length ? footer.getLong(position + Long.BYTES + Integer.BYTES) : footerOffset;
+                rowGroups[i] = new RowGroup(channel.map(FileChannel.MapMode.READ_ONLY, offset, end - offset), firstRow);
+                firstRow += rowGroups[i].rowCount;
+                position += Long.BYTES + Integer.BYTES;
+            }
+            this.rowCount = firstRow;
+
+            this.indexSize = footer.getInt(position);
+            this.indexContractIdsPosition = position + Integer.BYTES;
+            this.indexFirstRowsPosition = indexContractIdsPosition + Long.BYTES * indexSize;
+            this.indexRowCountsPosition = indexFirstRowsPosition + Long.BYTES * indexSize;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static ColumnarResultFileReader open(Path file) throws IOException {
+        return new ColumnarResultFileReader(file);
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public int rowGroupCount() {
+        return rowGroups.length;
+    }
+
+    public int dictionarySize() {
+        return dictionary.length;
+    }
+
+    public String dictionaryValue(int dictionaryId) {
+        return dictionaryId == NULL_DICTIONARY_ID ? null : dictionary[dictionaryId];
+    }
+
+    public boolean contains(long contractId) {
+        int i = lowerBound(contractId);
+        return i < indexSize && indexContractId(i) == contractId;
+    }
+
+    /**
+     * 파일의 모든 행을 기록 순서대로 읽는 커서
+     */
+    public Cursor scan() {
+        return new Cursor(new long[]{0}, new long[]{rowCount});
+    }
+
+    /**
+     * 계약 색인으로 해당 계약의 행만 읽는 커서 (없으면 빈 커서)
+     */
+    public Cursor scan(long contractId) {
+        int from = lowerBound(contractId);
+        int to = from;
+        while (to < indexSize && indexContractId(to) == contractId) {
+            to++;
+        }
+        long[] starts = new long[to - from];
+        long[] ends = new long[to - from];
+        for (int i = from; i < to; i++) {
+            starts[i - from] = footer.getLong(indexFirstRowsPosition + Long.BYTES * i);
+            ends[i - from] = starts[i - from] + footer.getInt(indexRowCountsPosition + Integer.BYTES * i);
+        }
+        return new Cursor(starts, ends);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long indexContractId(int i) {
+        return footer.getLong(indexContractIdsPosition + Long.BYTES * i);
+    }
+
+    private int lowerBound(long contractId) {
+        int low = 0;
+        int high = indexSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (indexContractId(mid) < contractId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private RowGroup rowGroupOf(long row) {
+        int low = 0;
+        int high = rowGroups.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (rowGroups[mid].firstRow <= row) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return rowGroups[low];
+    }
+
+    /**
+     * 행 단위 재사용 커서. next()가 true를 반환한 뒤에만 값을 읽을 수 있다.
+     */
+    public final class Cursor {
+
+        private final long[] rangeStarts;
+        private final long[] rangeEnds;
+        private int rangeIndex = -1;
+        private long nextRow;
+        private long rangeEnd;
+
+        private RowGroup group;
+        private int row;
+
+        private Cursor(long[] rangeStarts, long[] rangeEnds) {
+            this.rangeStarts = rangeStarts;
+            this.rangeEnds = rangeEnds;
+        }
+
+        public boolean next() {
+            while (nextRow >= rangeEnd) {
+                if (++rangeIndex >= rangeStarts.length) {
+                    return false;
+                }
+                nextRow = rangeStarts[rangeIndex];
+                rangeEnd = rangeEnds[rangeIndex];
+            }
+            long current = nextRow++;
+            if (group == null || current < group.firstRow || current >= group.firstRow + group.rowCount) {
+                group = rowGroupOf(current);
+            }
+            row = (int) (current - group.firstRow);
+            return true;
+        }
+
+        public long contractId() {
+            return group.buffer.getLong(group.contractIdPosition + Long.BYTES * row);
+        }
+
+        public int productOfferingDictionaryId() {
+            return group.buffer.getInt(group.productOfferingIdPosition + Integer.BYTES * row);
+        }
+
+        public int chargeItemDictionaryId() {
+            return group.buffer.getInt(group.chargeItemIdPosition + Integer.BYTES * row);
+        }
+
+        public int revenueItemDictionaryId() {
+            return group.buffer.getInt(group.revenueItemIdPosition + Integer.BYTES * row);
+        }
+
+        public String productOfferingId() {
+            return dictionaryValue(productOfferingDictionaryId());
+        }
+
+        public String chargeItemId() {
+            return dictionaryValue(chargeItemDictionaryId());
+        }
+
+        public String revenueItemId() {
+            return dictionaryValue(revenueItemDictionaryId());
+        }
+
+        public LocalDate billingStartDate() {
+            return group.dates[0].get(group.buffer, row);
+        }
+
+        public LocalDate billingEndDate() {
+            return group.dates[1].get(group.buffer, row);
+        }
+
+        public LocalDate effectiveStartDate() {
+            return group.dates[2].get(group.buffer, row);
+        }
+
+        public LocalDate effectiveEndDate() {
+            return group.dates[3].get(group.buffer, row);
+        }
+
+        public Suspension.SuspensionType suspensionType() {
+            byte value = group.buffer.get(group.suspensionTypePosition + row);
+            return value == 0 ? null : SUSPENSION_TYPES[value - 1];
+        }
+
+        /**
+         * @return fee의 고정소수점 값 (scale은 feeScale(), 없으면 Long.MIN_VALUE)
+         */
+        public long feeUnscaled() {
+            return group.fee.unscaled(group.buffer, row);
+        }
+
+        public int feeScale() {
+            return group.fee.scale;
+        }
+
+        public BigDecimal fee() {
+            return group.fee.get(group.buffer, row);
+        }
+
+        /**
+         * @return balance의 고정소수점 값 (scale은 balanceScale(), 없으면 Long.MIN_VALUE)
+         */
+        public long balanceUnscaled() {
+            return group.balance.unscaled(group.buffer, row);
+        }
+
+        public int balanceScale() {
+            return group.balance.scale;
+        }
+
+        public BigDecimal balance() {
+            return group.balance.get(group.buffer, row);
+        }
+
+        /**
+         * 현재 행을 계산 결과로 복원한다 (도메인 객체와 후처리기는 null)
+         */
+        public CalculationResult<?> toCalculationResult() {
+            return new CalculationResult<>(
+                    contractId(),
+                    billingStartDate(),
+                    billingEndDate(),
+                    productOfferingId(),
+                    chargeItemId(),
+                    revenueItemId(),
+                    effectiveStartDate(),
+                    effectiveEndDate(),
+                    suspensionType(),
+                    fee(),
+                    balance(),
+                    null,
+                    null
+            );
+        }
+    }
+
+    /**
+     * 매핑된 행 그룹 하나와 컬럼 시작 위치
+     */
+    private static final class RowGroup {
+
+        private final ByteBuffer buffer;
+        private final long firstRow;
+        private final int rowCount;
+        private final int contractIdPosition;
+        private final int productOfferingIdPosition;
+        private final int chargeItemIdPosition;
+        private final int revenueItemIdPosition;
+        private final DateColumn[] dates = new DateColumn[4];
+        private final int suspensionTypePosition;
+        private final AmountColumn fee;
+        private final AmountColumn balance;
+
+        private RowGroup(ByteBuffer buffer, long firstRow) {
+            this.buffer = buffer;
+            this.firstRow = firstRow;
+            this.rowCount = buffer.getInt(0);
+
+            int position = Integer.BYTES;
+            contractIdPosition = position;
+            position += Long.BYTES * rowCount;
+            productOfferingIdPosition = position;
+            position += Integer.BYTES * rowCount;
+            chargeItemIdPosition = position;
+            position += Integer.BYTES * rowCount;
+            revenueItemIdPosition = position;
+            position += Integer.BYTES * rowCount;
+            for (int column = 0; column < dates.length; column++) {
+                byte width = buffer.get(position);
+                dates[column] = new DateColumn(position + Byte.BYTES + Integer.BYTES, width, buffer.getInt(position + Byte.BYTES));
+                position += dateBlockBytes(width, rowCount);
+            }
+            suspensionTypePosition = position;
+            position += rowCount;
+            fee = new AmountColumn(position + Integer.BYTES, buffer.getInt(position));
+            position += amountBlockBytes(rowCount);
+            balance = new AmountColumn(position + Integer.BYTES, buffer.getInt(position));
+        }
+    }
+
+    private record DateColumn(int position, byte width, int baseEpochDay) {
+
+        LocalDate get(ByteBuffer buffer, int row) {
+            if (width == DATE_WIDTH_SHORT) {
+                int delta = Short.toUnsignedInt(buffer.getShort(position + DATE_WIDTH_SHORT * row));
+                return delta == NULL_DATE_SHORT ? null : LocalDate.ofEpochDay(baseEpochDay + delta);
+            }
+            int delta = buffer.getInt(position + DATE_WIDTH_INT * row);
+            return delta == NULL_DATE_INT ? null : LocalDate.ofEpochDay((long) baseEpochDay + delta);
+        }
+    }
+
+    private record AmountColumn(int position, int scale) {
+
+        long unscaled(ByteBuffer buffer, int row) {
+            return buffer.getLong(position + Long.BYTES * row);
+        }
+
+        BigDecimal get(ByteBuffer buffer, int row) {
+            long value = unscaled(buffer, row);
+            return value == NULL_AMOUNT ? null : BigDecimal.valueOf(value, scale);
+        }
+    }
+}
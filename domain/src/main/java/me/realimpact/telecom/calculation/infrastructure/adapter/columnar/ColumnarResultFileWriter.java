@@ -0,0 +1,363 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.realimpact.telecom.calculation.infrastructure.adapter.columnar.ColumnValueEncoder.NULL_EPOCH_DAY;
+import static me.realimpact.telecom.calculation.infrastructure.adapter.columnar.ColumnValueEncoder.epochDay;
+import static me.realimpact.telecom.calculation.infrastructure.adapter.columnar.ColumnarResultFormat.*;
+
+/**
+ * 계산 결과를 컬럼 파일(.cres)로 기록한다. 형식은 {@link ColumnarResultFormat} 참고.
+ *
+ * append한 결과는 컬럼별 기본형 배열에 인코딩해 두었다가 commit 시 행 그룹 하나로 기록하고, rollback 시 버린다.
+ * close하면 사전/행 그룹 목록/계약 색인을 푸터로 기록하고 임시 파일(.cres.tmp)을 최종 파일로 옮긴다.
+ * 한 스레드에서만 사용한다.
+ */
+public class ColumnarResultFileWriter implements AutoCloseable {
+
+    private static final int DATE_COLUMNS = 4;
+
+    private final Path target;
+    private final Path tempFile;
+    private final FileChannel channel;
+
+    private final ColumnValueEncoder encoder = new ColumnValueEncoder();
+
+    // 기록된 행 그룹: 시작 위치, 행 수
+    private final List<long[]> rowGroups = new ArrayList<>();
+    private long committedRows;
+
+    // 계약 색인: 같은 계약이 연속된 구간마다 한 건
+    private long[] indexContractIds = new long[1024];
+    private long[] indexFirstRows = new long[1024];
+    private int[] indexRowCounts = new int[1024];
+    private int indexSize;
+
+    // 아직 commit되지 않은 행
+    private int pendingRows;
+    private long[] contractIds = new long[256];
+    private int[] productOfferingIds = new int[256];
+    private int[] chargeItemIds = new int[256];
+    private int[] revenueItemIds = new int[256];
+    private int[][] epochDays = new int[DATE_COLUMNS][256];
+    private byte[] suspensionTypes = new byte[256];
+    private long[] feeUnscaled = new long[256];
+    private int[] feeScales = new int[256];
+    private long[] balanceUnscaled = new long[256];
+    private int[] balanceScales = new int[256];
+
+    private boolean closed;
+
+    public ColumnarResultFileWriter(Path target) throws IOException {
+        this.target = target;
+        this.tempFile = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        writeFully(header);
+    }
+
+    /**
+     * 결과를 인코딩해 commit 대기 행으로 추가한다
+     *
+     * @throws ArithmeticException 금액의 비정규화 값이 long 범위를 넘는 경우
+     */
+    public void append(List<? extends CalculationResult<?>> results) {
+        for (CalculationResult<?> result : results) {
+            append(result);
+        }
+    }
+
+    public void append(CalculationResult<?> result) {
+        ensurePendingCapacity(pendingRows + 1);
+        int row = pendingRows;
+
+        contractIds[row] = result.getContractId();
+        productOfferingIds[row] = encoder.dictionaryId(result.getProductOfferingId());
+        chargeItemIds[row] = encoder.dictionaryId(result.getChargeItemId());
+        revenueItemIds[row] = encoder.dictionaryId(result.getRevenueItemId());
+        epochDays[0][row] = epochDay(result.getBillingStartDate());
+        epochDays[1][row] = epochDay(result.getBillingEndDate());
+        epochDays[2][row] = epochDay(result.getEffectiveStartDate());
+        epochDays[3][row] = epochDay(result.getEffectiveEndDate());
+        suspensionTypes[row] = result.getSuspensionType() == null ? 0 : (byte) (result.getSuspensionType().ordinal() + 1);
+        feeScales[row] = encodeAmount(result.getFee(), feeUnscaled, row);
+        balanceScales[row] = encodeAmount(result.getBalance(), balanceUnscaled, row);
+
+        pendingRows++;
+    }
+
+    /**
+     * 대기 중인 행을 행 그룹 하나로 기록한다
+     */
+    public void commit() throws IOException {
+        if (pendingRows == 0) {
+            return;
+        }
+        int rows = pendingRows;
+
+        byte[] dateWidths = new byte[DATE_COLUMNS];
+        int[] dateBases = new int[DATE_COLUMNS];
+        int size = Integer.BYTES + rows * (Long.BYTES + Integer.BYTES * 3 + Byte.BYTES);
+        for (int column = 0; column < DATE_COLUMNS; column++) {
+            dateBases[column] = dateBase(epochDays[column], rows);
+            dateWidths[column] = dateWidth(epochDays[column], rows, dateBases[column]);
+            size += dateBlockBytes(dateWidths[column], rows);
+        }
+        size += amountBlockBytes(rows) * 2;
+
+        ByteBuffer block = ByteBuffer.allocate(size);
+        block.putInt(rows);
+        for (int i = 0; i < rows; i++) block.putLong(contractIds[i]);
+        for (int i = 0; i < rows; i++) block.putInt(productOfferingIds[i]);
+        for (int i = 0; i < rows; i++) block.putInt(chargeItemIds[i]);
+        for (int i = 0; i < rows; i++) block.putInt(revenueItemIds[i]);
+        for (int column = 0; column < DATE_COLUMNS; column++) {
+            putDateBlock(block, epochDays[column], rows, dateBases[column], dateWidths[column]);
+        }
+        block.put(suspensionTypes, 0, rows);
+        putAmountBlock(block, feeUnscaled, feeScales, rows);
+        putAmountBlock(block, balanceUnscaled, balanceScales, rows);
+        block.flip();
+
+        long offset = channel.position();
+        writeFully(block);
+        rowGroups.add(new long[]{offset, rows});
+
+        for (int i = 0; i < rows; i++) {
+            addToIndex(contractIds[i], committedRows + i);
+        }
+        committedRows += rows;
+        pendingRows = 0;
+    }
+
+    /**
+     * 대기 중인 행을 버린다
+     */
+    public void rollback() {
+        pendingRows = 0;
+    }
+
+    public long committedRows() {
+        return committedRows;
+    }
+
+    /**
+     * 대기 중인 행은 버리고, 푸터를 기록한 뒤 최종 파일로 옮긴다
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingRows = 0;
+
+        try (channel) {
+            long footerOffset = channel.position();
+            writeFully(footer());
+
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+            trailer.putLong(footerOffset).putInt(MAGIC).flip();
+            writeFully(trailer);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 파일을 완성하지 않고 임시 파일을 지운다
+     */
+    public void abort() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        channel.close();
+        Files.deleteIfExists(tempFile);
+    }
+
+    private ByteBuffer footer() {
+        List<String> dictionary = encoder.dictionary();
+        byte[][] encodedDictionary = new byte[dictionary.size()][];
+        int size = Integer.BYTES * 3;
+        for (int i = 0; i < encodedDictionary.length; i++) {
+            encodedDictionary[i] = dictionary.get(i).getBytes(StandardCharsets.UTF_8);
+            size += Integer.BYTES + encodedDictionary[i].length;
+        }
+        size += rowGroups.size() * (Long.BYTES + Integer.BYTES);
+        size += indexSize * (Long.BYTES * 2 + Integer.BYTES);
+
+        ByteBuffer footer = ByteBuffer.allocate(size);
+        footer.putInt(encodedDictionary.length);
+        for (byte[] value : encodedDictionary) {
+            footer.putInt(value.length).put(value);
+        }
+
+        footer.putInt(rowGroups.size());
+        for (long[] rowGroup : rowGroups) {
+            footer.putLong(rowGroup[0]).putInt((int) rowGroup[1]);
+        }
+
+        int[] order = sortedIndexOrder();
+        footer.putInt(indexSize);
+        for (int i : order) footer.putLong(indexContractIds[i]);
+        for (int i : order) footer.putLong(indexFirstRows[i]);
+        for (int i : order) footer.putInt(indexRowCounts[i]);
+        return footer.flip();
+    }
+
+    /**
+     * 계약 ID 오름차순(같으면 시작 행 순) 색인 순서. 파티션 Reader는 계약 ID 순으로 읽으므로 대부분 이미 정렬되어 있다.
+     */
+    private int[] sortedIndexOrder() {
+        int[] order = new int[indexSize];
+        boolean sorted = true;
+        for (int i = 0; i < indexSize; i++) {
+            order[i] = i;
+            if (i > 0 && indexContractIds[i - 1] > indexContractIds[i]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+        return Arrays.stream(order).boxed()
+                .sorted((a, b) -> indexContractIds[a] != indexContractIds[b]
+                        ? Long.compare(indexContractIds[a], indexContractIds[b])
+                        : Long.compare(indexFirstRows[a], indexFirstRows[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void addToIndex(long contractId, long row) {
+        int last = indexSize - 1;
+        if (last >= 0 && indexContractIds[last] == contractId && indexFirstRows[last] + indexRowCounts[last] == row) {
+            indexRowCounts[last]++;
+            return;
+        }
+        if (indexSize == indexContractIds.length) {
+            int capacity = indexSize * 2;
+            indexContractIds = Arrays.copyOf(indexContractIds, capacity);
+            indexFirstRows = Arrays.copyOf(indexFirstRows, capacity);
+            indexRowCounts = Arrays.copyOf(indexRowCounts, capacity);
+        }
+        indexContractIds[indexSize] = contractId;
+        indexFirstRows[indexSize] = row;
+        indexRowCounts[indexSize] = 1;
+        indexSize++;
+    }
+
+    /**
+     * @return 금액의 scale (null이면 -1)
+     */
+    private static int encodeAmount(BigDecimal value, long[] unscaled, int row) {
+        if (value == null) {
+            unscaled[row] = NULL_AMOUNT;
+            return -1;
+        }
+        BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        unscaled[row] = normalized.unscaledValue().longValueExact();
+        return normalized.scale();
+    }
+
+    private static int dateBase(int[] values, int rows) {
+        int base = Integer.MAX_VALUE;
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != NULL_EPOCH_DAY) {
+                base = Math.min(base, values[i]);
+            }
+        }
+        return base == Integer.MAX_VALUE ? 0 : base;
+    }
+
+    private static byte dateWidth(int[] values, int rows, int base) {
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != NULL_EPOCH_DAY && (long) values[i] - base >= NULL_DATE_SHORT) {
+                return DATE_WIDTH_INT;
+            }
+        }
+        return DATE_WIDTH_SHORT;
+    }
+
+    private static void putDateBlock(ByteBuffer block, int[] values, int rows, int base, byte width) {
+        block.put(width).putInt(base);
+        for (int i = 0; i < rows; i++) {
+            boolean isNull = values[i] == NULL_EPOCH_DAY;
+            if (width == DATE_WIDTH_SHORT) {
+                block.putShort((short) (isNull ? NULL_DATE_SHORT : values[i] - base));
+            } else {
+                block.putInt(isNull ? NULL_DATE_INT : values[i] - base);
+            }
+        }
+    }
+
+    /**
+     * 블록 내 최대 scale로 맞춰 기록한다
+     */
+    private static void putAmountBlock(ByteBuffer block, long[] unscaled, int[] scales, int rows) {
+        int blockScale = 0;
+        for (int i = 0; i < rows; i++) {
+            blockScale = Math.max(blockScale, scales[i]);
+        }
+        block.putInt(blockScale);
+        for (int i = 0; i < rows; i++) {
+            if (scales[i] < 0) {
+                block.putLong(NULL_AMOUNT);
+                continue;
+            }
+            long value = unscaled[i];
+            for (int s = scales[i]; s < blockScale; s++) {
+                value = Math.multiplyExact(value, 10L);
+            }
+            block.putLong(value);
+        }
+    }
+
+    private void ensurePendingCapacity(int required) {
+        if (required <= contractIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, contractIds.length * 2);
+        contractIds = Arrays.copyOf(contractIds, capacity);
+        productOfferingIds = Arrays.copyOf(productOfferingIds, capacity);
+        chargeItemIds = Arrays.copyOf(chargeItemIds, capacity);
+        revenueItemIds = Arrays.copyOf(revenueItemIds, capacity);
+        for (int column = 0; column < DATE_COLUMNS; column++) {
+            epochDays[column] = Arrays.copyOf(epochDays[column], capacity);
+        }
+        suspensionTypes = Arrays.copyOf(suspensionTypes, capacity);
+        feeUnscaled = Arrays.copyOf(feeUnscaled, capacity);
+        feeScales = Arrays.copyOf(feeScales, capacity);
+        balanceUnscaled = Arrays.copyOf(balanceUnscaled, capacity);
+        balanceScales = Arrays.copyOf(balanceScales, capacity);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
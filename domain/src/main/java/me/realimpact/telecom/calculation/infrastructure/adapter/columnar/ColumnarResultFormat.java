@@ -0,0 +1,59 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+/**
+ * 계산 결과 컬럼 파일(.cres) 형식 상수
+ *
+ * <pre>
+ * 헤더      : int MAGIC, int VERSION
+ * 행 그룹 * : int rowCount
+ *             long[] contractId
+ *             int[]  productOfferingId, chargeItemId, revenueItemId (사전 번호, 없으면 -1)
+ *             날짜 블록 * 4 (billingStartDate, billingEndDate, effectiveStartDate, effectiveEndDate)
+ *                 byte width(2|4), int baseEpochDay, short[]|int[] (baseEpochDay와의 차이, 없으면 해당 폭의 최댓값)
+ *             byte[] suspensionType (ordinal + 1, 없으면 0)
+ *             금액 블록 * 2 (fee, balance)
+ *                 int scale, long[] unscaled (블록 내 최대 scale로 맞춘 고정소수점, 없으면 Long.MIN_VALUE)
+ * 푸터      : int 사전 크기, (int 길이, UTF-8 바이트) * n
+ *             int 행 그룹 수, (long 시작 위치, int 행 수) * n
+ *             int 색인 크기, long[] contractId(오름차순), long[] 시작 행, int[] 행 수
+ * 꼬리      : long 푸터 시작 위치, int MAGIC
+ * </pre>
+ *
+ * 한 행 그룹은 Writer의 commit 한 번(배치에서는 커밋된 청크 하나)에 해당한다.
+ */
+final class ColumnarResultFormat {
+
+    static final int MAGIC = 0x43524553; // "CRES"
+    static final int VERSION = 1;
+
+    static final String FILE_EXTENSION = ".cres";
+    static final String TEMP_EXTENSION = ".cres.tmp";
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    static final int NULL_DICTIONARY_ID = ColumnValueEncoder.NULL_DICTIONARY_ID;
+    static final long NULL_AMOUNT = Long.MIN_VALUE;
+
+    static final byte DATE_WIDTH_SHORT = 2;
+    static final byte DATE_WIDTH_INT = 4;
+    static final int NULL_DATE_SHORT = 0xFFFF;
+    static final int NULL_DATE_INT = Integer.MAX_VALUE;
+
+    private ColumnarResultFormat() {
+    }
+
+    /**
+     * 날짜 블록의 바이트 수
+     */
+    static int dateBlockBytes(byte width, int rowCount) {
+        return Byte.BYTES + Integer.BYTES + width * rowCount;
+    }
+
+    /**
+     * 금액 블록의 바이트 수
+     */
+    static int amountBlockBytes(int rowCount) {
+        return Integer.BYTES + Long.BYTES * rowCount;
+    }
+}
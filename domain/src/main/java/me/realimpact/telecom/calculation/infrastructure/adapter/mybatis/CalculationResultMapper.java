@@ -16,10 +16,14 @@ public interface CalculationResultMapper {
 
     /**
      * 평면화된 계산 결과를 배치로 삽입
+     * @param billingCalculationType 계산 결과를 만든 청구 계산 유형 코드
+     * @param billingCalculationPeriod 계산 결과를 만든 청구 계산 주기 코드
      * @param items 평면화된 계산 결과 목록
      * @return 삽입된 행 수
      */
     int batchInsertCalculationResults(
+        @Param("billingCalculationType") String billingCalculationType,
+        @Param("billingCalculationPeriod") String billingCalculationPeriod,
         @Param("items") List<CalculationResult<?>> items
     );
 
@@ -28,4 +32,19 @@ public interface CalculationResultMapper {
      * @return 삭제된 행 수
      */
     int deleteAllCalculationResults();
+
+    /**
+     * 증분 재계산 대상(calculation_delta_target) 계약의 해당 청구기간/유형/주기 계산 결과를 삭제
+     * @param billingStartDate 청구 시작일
+     * @param billingEndDate 청구 종료일
+     * @param billingCalculationType 청구 계산 유형 코드
+     * @param billingCalculationPeriod 청구 계산 주기 코드
+     * @return 삭제된 행 수
+     */
+    int deleteCalculationResultsOfDeltaTargets(
+        @Param("billingStartDate") LocalDate billingStartDate,
+        @Param("billingEndDate") LocalDate billingEndDate,
+        @Param("billingCalculationType") String billingCalculationType,
+        @Param("billingCalculationPeriod") String billingCalculationPeriod
+    );
 }
\ No newline at end of file
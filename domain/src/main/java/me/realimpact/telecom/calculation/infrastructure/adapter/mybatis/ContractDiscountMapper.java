@@ -29,4 +29,12 @@ public interface ContractDiscountMapper {
     );
 
     void applyDiscount(Discount discount);
+
+    /**
+     * 할인 적용 금액을 MERGE 한 번으로 일괄 반영한다
+     *
+     * @param discounts 적용할 할인 목록 (키 중복 없음)
+     * @return 반영된 행 수
+     */
+    int applyDiscounts(@Param("discounts") List<Discount> discounts);
 }
\ No newline at end of file
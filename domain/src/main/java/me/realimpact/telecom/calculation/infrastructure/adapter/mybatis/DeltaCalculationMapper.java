@@ -0,0 +1,68 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import me.realimpact.telecom.calculation.infrastructure.dto.SourceWatermarkDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분(delta) 재계산을 위한 MyBatis Mapper
+ * 원천 테이블별 변경 기준 시각을 관리하고, 변경된 계약을 calculation_delta_target에 적재한다.
+ */
+@Mapper
+public interface DeltaCalculationMapper {
+
+    /**
+     * 직전 성공 실행에서 기록한 원천 테이블별 기준 시각을 조회한다
+     *
+     * @param watermarkKey 기준 시각 구분 키 (청구 계산 유형, 주기, 청구기간)
+     * @return 원천 테이블별 기준 시각 목록
+     */
+    List<SourceWatermarkDto> findWatermarks(@Param("watermarkKey") String watermarkKey);
+
+    /**
+     * 원천 테이블별 현재 최대 updated_at을 조회한다 (데이터가 없는 테이블은 null)
+     *
+     * @return 원천 테이블별 현재 기준 시각 목록
+     */
+    List<SourceWatermarkDto> findCurrentHighWaterMarks();
+
+    /**
+     * 원천 테이블의 기준 시각을 저장한다
+     */
+    int mergeWatermark(
+        @Param("watermarkKey") String watermarkKey,
+        @Param("sourceTable") String sourceTable,
+        @Param("highWaterMark") LocalDateTime highWaterMark
+    );
+
+    /**
+     * 모든 기준 시각을 삭제한다 (전체 계산 결과를 삭제하면 다음 증분 실행은 전체 계약을 대상으로 해야 한다)
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteAllWatermarks();
+
+    /**
+     * 이전 실행의 재계산 대상 계약을 비운다
+     */
+    int deleteDeltaTargets();
+
+    /**
+     * 전체 계약을 재계산 대상으로 적재한다 (기준 시각이 없거나 기준 정보가 바뀐 경우)
+     *
+     * @return 적재된 계약 수
+     */
+    int insertAllContractsAsDeltaTargets();
+
+    /**
+     * 원천 테이블별 기준 시각 이후 변경된 행이 있는 계약을 재계산 대상으로 적재한다
+     *
+     * @param since 원천 테이블명을 키로 하는 변경 기준 시각
+     * @return 적재된 계약 수
+     */
+    int insertChangedContractsAsDeltaTargets(@Param("since") Map<String, LocalDateTime> since);
+}
@@ -24,4 +24,16 @@ public interface DeviceInstallmentMapper {
         @Param("contractIds") List<Long> contractIds,
         @Param("billingEndDate") LocalDate billingEndDate
     );
+
+    /**
+     * 계약 ID 목록으로 단말할부 마스터별 미청구 잔여 할부금 합계를 조회한다 (해지 가정 유형용)
+     *
+     * @param contractIds 계약 ID 목록
+     * @param billingEndDate 청구 종료일
+     * @return 상세 없이 잔여 할부금 합계를 담은 단말할부내역 목록
+     */
+    List<DeviceInstallmentDto> findRemainingInstallmentsByContractIds(
+        @Param("contractIds") List<Long> contractIds,
+        @Param("billingEndDate") LocalDate billingEndDate
+    );
 }
\ No newline at end of file
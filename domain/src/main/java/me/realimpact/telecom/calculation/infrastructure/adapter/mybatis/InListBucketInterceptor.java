@@ -0,0 +1,105 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계약 ID IN 절을 정해진 버킷 크기로 채워주는 MyBatis Interceptor.
+ * 청크마다 목록 길이가 달라 매번 새로운 SQL 텍스트가 만들어지는 것을 막아 커서 공유를 유도한다.
+ * 부족한 자리는 마지막 계약 ID를 반복해서 채우므로 조회 결과는 달라지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class InListBucketInterceptor implements Interceptor {
+
+    static final String CONTRACT_IDS_PARAM = "contractIds";
+
+    private final InListBucketProperties inListBucketProperties;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (inListBucketProperties.isEnabled()) {
+            Object[] args = invocation.getArgs();
+            args[1] = padContractIds(args[1]);
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * 파라미터 맵의 contractIds 목록을 버킷 크기로 채운 새 파라미터 맵을 반환한다.
+     * 호출자의 파라미터 객체는 변경하지 않는다.
+     */
+    private Object padContractIds(Object parameterObject) {
+        if (!(parameterObject instanceof Map<?, ?> parameterMap)
+                || !parameterMap.containsKey(CONTRACT_IDS_PARAM)
+                || !(parameterMap.get(CONTRACT_IDS_PARAM) instanceof List<?> contractIds)) {
+            return parameterObject;
+        }
+
+        List<?> padded = padToBucket(contractIds, inListBucketProperties.getSizes());
+        if (padded == contractIds) {
+            return parameterObject;
+        }
+
+        Map<String, Object> copied = parameterObject instanceof MapperMethod.ParamMap
+                ? new MapperMethod.ParamMap<>()
+                : new HashMap<>();
+        for (Map.Entry<?, ?> entry : parameterMap.entrySet()) {
+            // @Param 이름과 param1 같은 별칭이 같은 목록을 가리키므로 모두 교체한다.
+            Object value = entry.getValue() == contractIds ? padded : entry.getValue();
+            copied.put(String.valueOf(entry.getKey()), value);
+        }
+        return copied;
+    }
+
+    /**
+     * 목록 길이 이상인 가장 작은 버킷 크기까지 마지막 원소를 반복해 채운다.
+     * 빈 목록이거나 이미 버킷 크기와 같거나 가장 큰 버킷보다 길면 원본을 그대로 반환한다.
+     * 계약 1건 목록도 원본을 반환한다. IN 절이 바인드 하나로 고정되어 단건 조회(해지핫빌 등)가 계약 ID 등호 조건과 같은 실행계획을 쓴다.
+     *
+     * @param ids 원본 목록
+     * @param bucketSizes 오름차순 버킷 크기 목록
+     * @return 버킷 크기로 채워진 목록
+     */
+    static <T> List<T> padToBucket(List<T> ids, List<Integer> bucketSizes) {
+        if (ids.size() <= 1) {
+            return ids;
+        }
+        int size = ids.size();
+        int bucket = bucketSizes.stream()
+                .filter(bucketSize -> bucketSize >= size)
+                .findFirst()
+                .orElse(size);
+        if (bucket == size) {
+            return ids;
+        }
+
+        List<T> padded = new ArrayList<>(bucket);
+        padded.addAll(ids);
+        T last = ids.get(size - 1);
+        while (padded.size() < bucket) {
+            padded.add(last);
+        }
+        return padded;
+    }
+}
@@ -0,0 +1,27 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IN 절 버킷 패딩 관련 설정 프로퍼티
+ * application.yml의 billing.mybatis.in-list-bucket 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "billing.mybatis.in-list-bucket")
+@Data
+public class InListBucketProperties {
+
+    /**
+     * 계약 ID IN 절 패딩 활성화 여부 (기본값: false)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 패딩 대상 버킷 크기 목록 (오름차순). 가장 큰 버킷보다 긴 목록은 패딩하지 않는다.
+     */
+    private List<Integer> sizes = List.of(16, 64, 256, 1000);
+}
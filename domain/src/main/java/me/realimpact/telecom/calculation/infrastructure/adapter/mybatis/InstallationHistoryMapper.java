@@ -1,5 +1,6 @@
 package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
 
+import me.realimpact.telecom.calculation.domain.onetimecharge.policy.installation.InstallationHistory;
 import me.realimpact.telecom.calculation.infrastructure.dto.InstallationHistoryDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -36,4 +37,12 @@ public interface InstallationHistoryMapper {
         @Param("contractId") Long contractId,
         @Param("sequenceNumber") Long sequenceNumber
     );
+
+    /**
+     * 여러 설치내역의 청구 상태를 한 번에 업데이트한다
+     *
+     * @param installationHistories 설치내역 목록
+     * @return 업데이트된 행 수
+     */
+    int updateBilledFlags(@Param("installationHistories") List<InstallationHistory> installationHistories);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import me.realimpact.telecom.calculation.infrastructure.monitoring.LoaderQueryEvent;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 MyBatis 조회를 JFR LoaderQueryEvent로 남기는 Interceptor.
+ * JFR 기록 중이 아니면 이벤트가 비활성 상태라 조회만 그대로 실행된다.
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class LoaderQueryEventInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        LoaderQueryEvent event = new LoaderQueryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        Object result = invocation.proceed();
+        event.end();
+
+        if (event.shouldCommit()) {
+            Object[] args = invocation.getArgs();
+            event.mapperId = shortMapperId(((MappedStatement) args[0]).getId());
+            event.contractCount = contractCount(args[1]);
+            event.rows = result instanceof List<?> rows ? rows.size() : -1;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * 패키지를 뗀 Mapper.statement 형태
+     */
+    static String shortMapperId(String statementId) {
+        int statementDot = statementId.lastIndexOf('.');
+        int mapperDot = statementDot > 0 ? statementId.lastIndexOf('.', statementDot - 1) : -1;
+        return statementId.substring(mapperDot + 1);
+    }
+
+    /**
+     * contractIds 파라미터의 계약 수. IN 절 버킷 패딩은 마지막 ID를 반복하므로 서로 다른 ID만 센다.
+     */
+    static int contractCount(Object parameterObject) {
+        if (parameterObject instanceof Map<?, ?> parameterMap
+                && parameterMap.containsKey(InListBucketInterceptor.CONTRACT_IDS_PARAM)
+                && parameterMap.get(InListBucketInterceptor.CONTRACT_IDS_PARAM) instanceof List<?> contractIds) {
+            return (int) contractIds.stream().distinct().count();
+        }
+        return -1;
+    }
+}
@@ -1,6 +1,7 @@
 package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
 
 import me.realimpact.telecom.calculation.infrastructure.dto.ContractProductsSuspensionsDto;
+import me.realimpact.telecom.calculation.infrastructure.dto.ProductDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -17,4 +18,11 @@ public interface ProductQueryMapper {
         @Param("billingStartDate") LocalDate billingStartDate,
         @Param("billingEndDate") LocalDate billingEndDate
     );
+
+    /**
+     * 상품 오퍼링 ID 목록으로 상품 오퍼링과 과금항목 조회: 요금 시뮬레이션용 (계약과 무관)
+     */
+    List<ProductDto> findProductOfferingsByIds(
+        @Param("productOfferingIds") List<String> productOfferingIds
+    );
 }
\ No newline at end of file
@@ -4,10 +4,17 @@ import me.realimpact.telecom.calculation.domain.onetimecharge.policy.installment
 import me.realimpact.telecom.calculation.port.out.DeviceInstallmentCommandPort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DeviceInstallmentServiceClient implements DeviceInstallmentCommandPort {
     @Override
     public void updateChargeStatus(DeviceInstallmentMaster deviceInstallmentMaster) {
         // 오더의 서비스를 주입받아서 호출하거나 이벤트 발행 필요
     }
+
+    @Override
+    public void updateChargeStatuses(List<DeviceInstallmentMaster> deviceInstallmentMasters) {
+        // 오더의 일괄 처리 API를 호출하거나 이벤트를 묶어서 발행 필요
+    }
 }
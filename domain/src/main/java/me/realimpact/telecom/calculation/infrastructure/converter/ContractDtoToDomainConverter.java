@@ -64,7 +64,7 @@ public class ContractDtoToDomainConverter {
         );
     }
 
-    private ProductOffering convertToProductOffering(ProductDto dto) {
+    public ProductOffering convertToProductOffering(ProductDto dto) {
         List<ChargeItem> chargeItems = dto.getChargeItems() != null ? 
             dto.getChargeItems().stream()
                 .map(this::convertToChargeItem)
@@ -68,6 +68,21 @@ public class OneTimeChargeDtoConverter {
         );
     }
 
+    /**
+     * 잔여 할부금 합산 조회 결과를 상세 없는 DeviceInstallmentMaster 도메인 객체로 변환
+     */
+    public DeviceInstallmentMaster convertToRemainingDeviceInstallmentMaster(DeviceInstallmentDto dto) {
+        return DeviceInstallmentMaster.ofRemainingAmount(
+            dto.getContractId(),
+            dto.getInstallmentSequence(),
+            dto.getInstallmentStartDate(),
+            dto.getTotalInstallmentAmount().longValue(),
+            dto.getInstallmentMonths(),
+            dto.getBilledCount(),
+            dto.getRemainingInstallmentAmount() != null ? dto.getRemainingInstallmentAmount().longValue() : 0L
+        );
+    }
+
     /**
      * DeviceInstallmentDto 리스트를 DeviceInstallmentMaster 도메인 객체 리스트로 변환
      */
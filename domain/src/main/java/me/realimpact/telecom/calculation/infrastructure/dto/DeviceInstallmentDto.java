@@ -22,5 +22,7 @@ public class DeviceInstallmentDto {
     private BigDecimal totalInstallmentAmount;
     private Integer installmentMonths;
     private Integer billedCount;
+    // 잔여 할부금 합산 조회에서만 채워진다
+    private BigDecimal remainingInstallmentAmount;
     private List<DeviceInstallmentDetailDto> details;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package me.realimpact.telecom.calculation.infrastructure.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원천 테이블별 변경 기준 시각(high-water mark) DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SourceWatermarkDto {
+    private String sourceTable;
+    private LocalDateTime highWaterMark;
+}
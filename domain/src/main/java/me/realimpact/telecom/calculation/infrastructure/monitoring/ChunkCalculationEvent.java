@@ -0,0 +1,40 @@
+package me.realimpact.telecom.calculation.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 계약 청크 하나의 계산 JFR 이벤트.
+ * 배치에서는 청크의 읽기~쓰기 전체, 유스케이스 호출에서는 계약 목록의 로딩~계산 구간을 나타낸다.
+ */
+@Name("telecom.billing.ChunkCalculation")
+@Label("Chunk Calculation")
+@Category({"Telecom Billing", "Calculation"})
+@Description("계약 청크 계산")
+@StackTrace(false)
+public class ChunkCalculationEvent extends Event {
+
+    @Label("Partition")
+    @Description("파티션 키 (파티션 밖에서 실행되면 -1)")
+    public int partitionKey;
+
+    @Label("First Contract ID")
+    public long firstContractId;
+
+    @Label("Last Contract ID")
+    public long lastContractId;
+
+    @Label("Contracts")
+    public int contracts;
+
+    @Label("Results")
+    @Description("계산 결과 건수")
+    public int results;
+
+    @Label("Failed")
+    public boolean failed;
+}
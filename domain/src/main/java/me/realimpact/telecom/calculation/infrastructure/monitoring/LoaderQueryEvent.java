@@ -0,0 +1,31 @@
+package me.realimpact.telecom.calculation.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 조회 쿼리 한 건의 JFR 이벤트 (DataLoader/Reader가 실행한 MyBatis 조회).
+ * 커서 조회(queryCursor)는 커서를 여는 시간만 측정되며 행 수는 -1이다.
+ */
+@Name("telecom.billing.LoaderQuery")
+@Label("Loader Query")
+@Category({"Telecom Billing", "Database"})
+@Description("MyBatis 조회 쿼리 실행")
+@StackTrace(false)
+public class LoaderQueryEvent extends Event {
+
+    @Label("Mapper ID")
+    public String mapperId;
+
+    @Label("Contract Count")
+    @Description("조회 조건의 계약 수 (IN 절 패딩 제외, 계약 조건이 없으면 -1)")
+    public int contractCount;
+
+    @Label("Rows")
+    @Description("조회된 행 수 (커서 조회는 -1)")
+    public int rows;
+}
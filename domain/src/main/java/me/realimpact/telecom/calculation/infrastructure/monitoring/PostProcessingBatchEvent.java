@@ -0,0 +1,27 @@
+package me.realimpact.telecom.calculation.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 청크 후처리(PostProcessingBatch flush) 한 번의 JFR 이벤트
+ */
+@Name("telecom.billing.PostProcessingBatch")
+@Label("Post Processing Batch")
+@Category({"Telecom Billing", "Database"})
+@Description("계산 결과 후처리 일괄 실행")
+@StackTrace(false)
+public class PostProcessingBatchEvent extends Event {
+
+    @Label("Processor Calls")
+    @Description("후처리기 호출 수 (일괄 후처리기는 후처리기당 1회, 일반 후처리기는 입력당 1회)")
+    public int processorCalls;
+
+    @Label("Inputs")
+    @Description("후처리 입력 건수")
+    public int inputs;
+}
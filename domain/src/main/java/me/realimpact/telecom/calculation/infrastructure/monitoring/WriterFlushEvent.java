@@ -0,0 +1,24 @@
+package me.realimpact.telecom.calculation.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 계산 결과 저장(flush) 한 번의 JFR 이벤트
+ * 저장 한 번은 다중 행 INSERT 하나로 실행되므로 문장 수는 따로 기록하지 않는다.
+ */
+@Name("telecom.billing.WriterFlush")
+@Label("Writer Flush")
+@Category({"Telecom Billing", "Database"})
+@Description("계산 결과 저장")
+@StackTrace(false)
+public class WriterFlushEvent extends Event {
+
+    @Label("Rows")
+    @Description("저장한 계산 결과 건수")
+    public int rows;
+}
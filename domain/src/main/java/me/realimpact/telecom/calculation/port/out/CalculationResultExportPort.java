@@ -0,0 +1,42 @@
+package me.realimpact.telecom.calculation.port.out;
+
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+
+import java.util.List;
+
+/**
+ * 계산 결과를 DB 저장과 별도로 하위 시스템(청구서 발행 등)이 읽을 수 있는 형태로 내보내는 포트
+ */
+public interface CalculationResultExportPort {
+
+    /**
+     * 내보내기 단위(배치 파티션 등) 하나를 연다
+     *
+     * @param calculationContext 계산 컨텍스트
+     * @param exportName 같은 컨텍스트 안에서 내보내기 단위를 구분하는 이름
+     * @return 결과를 추가할 세션
+     */
+    ExportSession open(CalculationContext calculationContext, String exportName);
+
+    /**
+     * 내보내기 세션. append로 추가한 결과는 commit해야 확정되고, rollback하면 버려진다.
+     * close하면 확정된 결과만 남기고 내보내기를 마친다.
+     */
+    interface ExportSession extends AutoCloseable {
+
+        void append(List<CalculationResult<?>> results);
+
+        void commit();
+
+        void rollback();
+
+        /**
+         * @return 확정된 결과 건수
+         */
+        long committedCount();
+
+        @Override
+        void close();
+    }
+}
@@ -3,6 +3,13 @@ package me.realimpact.telecom.calculation.port.out;
 import me.realimpact.telecom.calculation.domain.discount.ContractDiscounts;
 import me.realimpact.telecom.calculation.domain.discount.Discount;
 
+import java.util.List;
+
 public interface ContractDiscountCommandPort {
     void applyDiscount(Discount discount);
+
+    /**
+     * 여러 할인의 적용 금액을 한 번에 반영한다
+     */
+    void applyDiscounts(List<Discount> discounts);
 }
\ No newline at end of file
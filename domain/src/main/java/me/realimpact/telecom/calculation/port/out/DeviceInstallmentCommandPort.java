@@ -2,6 +2,13 @@ package me.realimpact.telecom.calculation.port.out;
 
 import me.realimpact.telecom.calculation.domain.onetimecharge.policy.installment.DeviceInstallmentMaster;
 
+import java.util.List;
+
 public interface DeviceInstallmentCommandPort {
     void updateChargeStatus(DeviceInstallmentMaster deviceInstallmentMaster);
+
+    /**
+     * 여러 단말할부의 청구 상태를 한 번에 반영한다
+     */
+    void updateChargeStatuses(List<DeviceInstallmentMaster> deviceInstallmentMasters);
 }
@@ -8,4 +8,9 @@ import java.util.List;
 
 public interface DeviceInstallmentQueryPort {
     List<DeviceInstallmentMaster> findDeviceInstallments(List<Long> contractIds, LocalDate billingStartDate, LocalDate billingEndDate);
+
+    /**
+     * 단말할부 마스터별 미청구 잔여 할부금 합계만 조회한다. 회차별 상세는 채워지지 않으므로 해지 가정 유형에서만 쓴다.
+     */
+    List<DeviceInstallmentMaster> findRemainingDeviceInstallments(List<Long> contractIds, LocalDate billingEndDate);
 }
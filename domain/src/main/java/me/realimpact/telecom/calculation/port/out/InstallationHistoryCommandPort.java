@@ -7,4 +7,9 @@ import java.util.List;
 
 public interface InstallationHistoryCommandPort {
     void updateChargeStatus(InstallationHistory installationHistory);
+
+    /**
+     * 여러 설치내역의 청구 상태를 한 번에 반영한다
+     */
+    void updateChargeStatuses(List<InstallationHistory> installationHistories);
 }
@@ -0,0 +1,12 @@
+package me.realimpact.telecom.calculation.port.out;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+
+import java.util.List;
+
+public interface ProductOfferingQueryPort {
+    /**
+     * 상품 오퍼링과 과금항목 조회 (요금 시뮬레이션의 상품 추가용)
+     */
+    List<ProductOffering> findProductOfferingsByIds(List<String> productOfferingIds);
+}
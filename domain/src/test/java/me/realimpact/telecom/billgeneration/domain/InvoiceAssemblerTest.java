@@ -0,0 +1,90 @@
+package me.realimpact.telecom.billgeneration.domain;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvoiceAssemblerTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 10, 1);
+    private static final LocalDate END = LocalDate.of(2025, 10, 31);
+    private static final LocalDate BILL_DATE = LocalDate.of(2025, 11, 5);
+
+    @Test
+    void next_계약별로수익항목합산() {
+        // given
+        InvoiceAssembler assembler = assembler(List.of(
+                row(1L, "REV_B", "1000.40"),
+                row(1L, "REV_A", "500"),
+                row(1L, "REV_B", "0.70"),
+                row(2L, "REV_A", "300")));
+
+        // when
+        Invoice first = assembler.next();
+        Invoice second = assembler.next();
+        Invoice none = assembler.next();
+
+        // then
+        assertThat(first.getContractId()).isEqualTo(1L);
+        assertThat(first.getLines()).extracting(InvoiceLine::getRevenueItemId).containsExactly("REV_A", "REV_B");
+        assertThat(first.getLines()).extracting(InvoiceLine::getAmount).containsExactly(500L, 1001L);
+        assertThat(first.getLines()).extracting(InvoiceLine::getDescription).containsExactly("이름_REV_A", "이름_REV_B");
+        assertThat(first.getTotalAmount()).isEqualTo(1501L);
+        assertThat(first.getBillDate()).isEqualTo(BILL_DATE);
+
+        assertThat(second.getContractId()).isEqualTo(2L);
+        assertThat(second.getTotalAmount()).isEqualTo(300L);
+        assertThat(List.of(first.getInvoiceNumber(), second.getInvoiceNumber())).containsExactly(100L, 101L);
+
+        assertThat(none).isNull();
+        assertThat(assembler.resultRows()).isEqualTo(4);
+    }
+
+    @Test
+    void next_원미만절사및0원항목제외() {
+        // given
+        InvoiceAssembler assembler = assembler(List.of(
+                row(1L, "REV_A", "1000.99"),
+                row(1L, "REV_DISCOUNT", "-100.50"),
+                row(1L, "REV_DISCOUNT", "100.50"),
+                row(1L, "REV_C", "0.99")));
+
+        // when
+        Invoice invoice = assembler.next();
+
+        // then
+        assertThat(invoice.getLines()).extracting(InvoiceLine::getRevenueItemId).containsExactly("REV_A");
+        assertThat(invoice.getTotalAmount()).isEqualTo(1000L);
+    }
+
+    @Test
+    void next_계약ID순이아니면예외() {
+        // given
+        InvoiceAssembler assembler = assembler(List.of(
+                row(2L, "REV_A", "100"),
+                row(1L, "REV_A", "100")));
+        assembler.next();
+
+        // when & then
+        assertThatThrownBy(assembler::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InvoiceAssembler assembler(List<BillableResult> rows) {
+        AtomicLong invoiceNumbers = new AtomicLong(100);
+        return new InvoiceAssembler(rows.iterator(), START, END,
+                BillingCalculationType.REVENUE_CONFIRMATION, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH, BILL_DATE,
+                invoiceNumbers::getAndIncrement, revenueItemId -> "이름_" + revenueItemId);
+    }
+
+    private static BillableResult row(long contractId, String revenueItemId, String fee) {
+        return new BillableResult(contractId, revenueItemId, new BigDecimal(fee));
+    }
+}
@@ -0,0 +1,78 @@
+package me.realimpact.telecom.calculation.application.discount;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalculationResultProraterTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+
+    private final CalculationContext ctx = new CalculationContext(
+        START,
+        END,
+        BillingCalculationType.REVENUE_CONFIRMATION,
+        BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH
+    );
+
+    private final CalculationResultProrater prorater = new CalculationResultProrater();
+
+    @Test
+    void prorate_할인순서대로청구기간내구간분리() {
+        // given
+        CalculationResult<?> po1 = result("PO1", "31000");
+        CalculationResult<?> po3 = result("PO3", "10000");
+        List<Discount> discounts = List.of(
+            discount("PO1", LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 20)),
+            discount("PO2", START, END),
+            discount("PO1", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 5)),
+            discount("PO1", END, LocalDate.of(2024, 4, 30))
+        );
+
+        // when
+        List<? extends CalculationResult<?>> results = prorater.prorate(ctx, List.of(po1, po3), discounts);
+
+        // then
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getEffectiveStartDate()).isEqualTo(LocalDate.of(2024, 3, 10));
+        assertThat(results.get(0).getEffectiveEndDate()).isEqualTo(LocalDate.of(2024, 3, 20));
+        assertThat(results.get(0).getFee()).isEqualByComparingTo("11000.04");
+        assertThat(results.get(0).getBalance()).isEqualByComparingTo("11000.04");
+        assertThat(results.get(1).getEffectiveStartDate()).isEqualTo(START);
+        assertThat(results.get(1).getEffectiveEndDate()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(results.get(1).getFee()).isEqualByComparingTo("4999.99");
+        assertThat(results.get(2)).isSameAs(po3);
+    }
+
+    @Test
+    void prorate_할인이없으면원본그대로() {
+        // given
+        CalculationResult<?> po1 = result("PO1", "31000");
+
+        // when
+        List<? extends CalculationResult<?>> results = prorater.prorate(ctx, List.of(po1), List.of());
+
+        // then
+        assertThat(results).containsExactly(po1);
+    }
+
+    private static CalculationResult<?> result(String productOfferingId, String fee) {
+        return new CalculationResult<>(1L, START, END, productOfferingId, "CI01", "REV01",
+            START, END, null, new BigDecimal(fee), new BigDecimal(fee), null, null);
+    }
+
+    private static Discount discount(String productOfferingId, LocalDate startDate, LocalDate endDate) {
+        return new Discount(1L, "D_" + productOfferingId, startDate, endDate, productOfferingId,
+            Discount.APPLY_UNIT_AMOUNT, 1000L, null, null);
+    }
+}
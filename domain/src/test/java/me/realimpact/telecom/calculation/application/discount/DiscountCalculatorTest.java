@@ -0,0 +1,73 @@
+package me.realimpact.telecom.calculation.application.discount;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiscountCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 10, 1);
+    private static final LocalDate END = LocalDate.of(2025, 10, 31);
+
+    private final DiscountCalculator discountCalculator = new DiscountCalculator(null, null);
+
+    @Test
+    void process_할인순서와결과순서유지() {
+        // given
+        CalculationResult<?> po1First = result("PO1", START, LocalDate.of(2025, 10, 15), "1000");
+        CalculationResult<?> po2 = result("PO2", START, END, "2000");
+        CalculationResult<?> po1Second = result("PO1", LocalDate.of(2025, 10, 16), END, "500");
+        Discount rate = discount("D1", "PO1", START, END, Discount.APPLY_UNIT_RATE, null, "10");
+        Discount amount = discount("D2", "PO1", START, END, Discount.APPLY_UNIT_AMOUNT, 600L, null);
+
+        // when
+        List<? extends CalculationResult<?>> results = discountCalculator.process(
+                null, List.of(po1First, po2, po1Second), List.of(rate, amount));
+
+        // then
+        assertThat(results).extracting(CalculationResult::getDomain).containsExactly(rate, rate, amount, amount);
+        assertThat(results).extracting(CalculationResult::getEffectiveStartDate)
+                .containsExactly(START, LocalDate.of(2025, 10, 16), START, LocalDate.of(2025, 10, 16));
+        assertThat(results).extracting(r -> r.getFee().intValueExact()).containsExactly(-100, -50, -600, -450);
+        assertThat(po1First.getBalance()).isEqualByComparingTo("300");
+        assertThat(po1Second.getBalance()).isEqualByComparingTo("0");
+        assertThat(po2.getBalance()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void process_상품오퍼링이나기간이맞지않으면할인없음() {
+        // given
+        CalculationResult<?> po1 = result("PO1", START, END, "1000");
+        CalculationResult<?> noProductOffering = result(null, START, END, "1000");
+        Discount otherProductOffering = discount("D1", "PO9", START, END, Discount.APPLY_UNIT_AMOUNT, 100L, null);
+        Discount expired = discount("D2", "PO1", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 9, 30),
+                Discount.APPLY_UNIT_AMOUNT, 100L, null);
+
+        // when
+        List<? extends CalculationResult<?>> results = discountCalculator.process(
+                null, List.of(po1, noProductOffering), List.of(otherProductOffering, expired));
+
+        // then
+        assertThat(results).isEmpty();
+        assertThat(po1.getBalance()).isEqualByComparingTo("1000");
+    }
+
+    private static CalculationResult<?> result(String productOfferingId, LocalDate effectiveStartDate,
+                                               LocalDate effectiveEndDate, String fee) {
+        return new CalculationResult<>(1L, START, END, productOfferingId, "CI01", "REV01",
+                effectiveStartDate, effectiveEndDate, null,
+                new BigDecimal(fee), new BigDecimal(fee), null, null);
+    }
+
+    private static Discount discount(String discountId, String productOfferingId, LocalDate startDate, LocalDate endDate,
+                                     String applyUnit, Long discountAmount, String discountRate) {
+        return new Discount(1L, discountId, startDate, endDate, productOfferingId, applyUnit,
+                discountAmount, discountRate == null ? null : new BigDecimal(discountRate), null);
+    }
+}
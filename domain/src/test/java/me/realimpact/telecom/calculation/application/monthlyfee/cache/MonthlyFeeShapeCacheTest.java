@@ -0,0 +1,192 @@
+package me.realimpact.telecom.calculation.application.monthlyfee.cache;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.application.monthlyfee.calculator.BasicPolicyMonthlyFeeCalculator;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.monthlyfee.AdditionalBillingFactor;
+import me.realimpact.telecom.calculation.domain.monthlyfee.CalculationMethod;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ChargeItem;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Product;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProratedCalculationData;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import me.realimpact.telecom.calculation.domain.monthlyfee.policy.FlatRatePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonthlyFeeShapeCacheTest {
+
+    private static final LocalDate BILLING_START_DATE = LocalDate.of(2024, 3, 1);
+    private static final LocalDate BILLING_END_DATE = LocalDate.of(2024, 3, 31);
+
+    private static final ProductOffering FLAT_RATE_OFFERING = new ProductOffering(
+        "FLAT-001",
+        "정액제 상품",
+        List.of(new ChargeItem(
+            "FLAT-001-01",
+            "기본료",
+            "FLAT-001-01",
+            new BigDecimal("0.5"),
+            CalculationMethod.FLAT_RATE,
+            new FlatRatePolicy(BigDecimal.valueOf(30000))
+        ))
+    );
+
+    private final CalculationContext ctx = new CalculationContext(
+        BILLING_START_DATE,
+        BILLING_END_DATE,
+        BillingCalculationType.REVENUE_CONFIRMATION,
+        BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH
+    );
+
+    private PricingCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PricingCacheProperties();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    void getOrCompute_SameShapeDifferentContract_ComputesOnce() {
+        // given
+        MonthlyFeeShapeCache cache = new MonthlyFeeShapeCache(properties);
+        AtomicInteger computeCount = new AtomicInteger();
+
+        // when
+        cache.getOrCompute(ctx, createContract(1L, LocalDate.of(2023, 1, 1), List.of()), contract -> {
+            computeCount.incrementAndGet();
+            return List.of();
+        });
+        cache.getOrCompute(ctx, createContract(2L, LocalDate.of(2022, 6, 1), List.of()), contract -> {
+            computeCount.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(computeCount.get()).isEqualTo(1);
+        assertThat(cache.getStatistics().hits()).isEqualTo(1);
+        assertThat(cache.getStatistics().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void fingerprint_DifferentSubscriptionDayInBillingPeriod_DiffersFromFullMonth() {
+        // given
+        ContractWithProductsAndSuspensions fullMonth = createContract(1L, LocalDate.of(2023, 1, 1), List.of());
+        ContractWithProductsAndSuspensions midMonth = createContract(2L, LocalDate.of(2024, 3, 15), List.of());
+
+        // when & then
+        assertThat(ShapeFingerprint.of(ctx, fullMonth)).isNotEqualTo(ShapeFingerprint.of(ctx, midMonth));
+    }
+
+    @Test
+    void fingerprint_WithAdditionalBillingFactor_IsEmpty() {
+        // given
+        ContractWithProductsAndSuspensions contract = createContract(1L, LocalDate.of(2023, 1, 1), List.of(),
+            List.of(new AdditionalBillingFactor(Map.of("line_count", "3"), BILLING_START_DATE, BILLING_END_DATE)));
+
+        // when & then
+        assertThat(ShapeFingerprint.of(ctx, contract)).isEmpty();
+    }
+
+    @Test
+    void process_CachedShapeWithSuspension_MatchesFullCalculation() {
+        // given
+        Suspension suspension = new Suspension(
+            LocalDateTime.of(2024, 3, 10, 0, 0),
+            LocalDateTime.of(2024, 3, 20, 23, 59),
+            Suspension.SuspensionType.TEMPORARY_SUSPENSION
+        );
+        BasicPolicyMonthlyFeeCalculator cachedCalculator = new BasicPolicyMonthlyFeeCalculator(new MonthlyFeeShapeCache(properties));
+        BasicPolicyMonthlyFeeCalculator plainCalculator = new BasicPolicyMonthlyFeeCalculator();
+
+        cachedCalculator.process(ctx, createContract(1L, LocalDate.of(2023, 1, 1), List.of(suspension)));
+
+        // when
+        ContractWithProductsAndSuspensions contract = createContract(2L, LocalDate.of(2023, 1, 1), List.of(suspension));
+        List<CalculationResult<ContractWithProductsAndSuspensions>> cached = cachedCalculator.process(ctx, contract);
+        List<CalculationResult<ContractWithProductsAndSuspensions>> expected = plainCalculator.process(ctx, contract);
+
+        // then
+        assertThat(cached).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(cached.get(i).getContractId()).isEqualTo(2L);
+            assertThat(cached.get(i).getEffectiveStartDate()).isEqualTo(expected.get(i).getEffectiveStartDate());
+            assertThat(cached.get(i).getEffectiveEndDate()).isEqualTo(expected.get(i).getEffectiveEndDate());
+            assertThat(cached.get(i).getSuspensionType()).isEqualTo(expected.get(i).getSuspensionType());
+            assertThat(cached.get(i).getFee()).isEqualByComparingTo(expected.get(i).getFee());
+        }
+    }
+
+    @Test
+    void getOrCompute_VerificationMismatch_ThrowsException() {
+        // given
+        properties.setVerifySampleRate(1.0);
+        MonthlyFeeShapeCache cache = new MonthlyFeeShapeCache(properties);
+        AtomicInteger computeCount = new AtomicInteger();
+
+        cache.getOrCompute(ctx, createContract(1L, LocalDate.of(2023, 1, 1), List.of()),
+            contract -> List.of(createData(contract.getContractId(), computeCount.incrementAndGet())));
+
+        // when & then
+        assertThatThrownBy(() -> cache.getOrCompute(ctx, createContract(2L, LocalDate.of(2023, 1, 1), List.of()),
+            contract -> List.of(createData(contract.getContractId(), computeCount.incrementAndGet()))))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.getStatistics().mismatches()).isEqualTo(1);
+    }
+
+    private ProratedCalculationData createData(Long contractId, long fee) {
+        return new ProratedCalculationData(
+            contractId, "FLAT-001", "FLAT-001-01", "FLAT-001-01",
+            BILLING_START_DATE, BILLING_END_DATE, Optional.empty(),
+            BigDecimal.valueOf(fee), BigDecimal.valueOf(fee)
+        );
+    }
+
+    private ContractWithProductsAndSuspensions createContract(Long contractId, LocalDate subscribedAt, List<Suspension> suspensions) {
+        return createContract(contractId, subscribedAt, suspensions, List.of());
+    }
+
+    private ContractWithProductsAndSuspensions createContract(
+        Long contractId,
+        LocalDate subscribedAt,
+        List<Suspension> suspensions,
+        List<AdditionalBillingFactor> additionalBillingFactors
+    ) {
+        Product product = new Product(
+            contractId,
+            FLAT_RATE_OFFERING,
+            subscribedAt.atStartOfDay(),
+            LocalDateTime.of(9999, 12, 31, 23, 59),
+            subscribedAt,
+            Optional.of(subscribedAt),
+            Optional.empty()
+        );
+        return new ContractWithProductsAndSuspensions(
+            contractId,
+            subscribedAt,
+            subscribedAt,
+            Optional.empty(),
+            Optional.empty(),
+            BILLING_START_DATE,
+            BILLING_END_DATE,
+            List.of(product),
+            suspensions,
+            additionalBillingFactors
+        );
+    }
+}
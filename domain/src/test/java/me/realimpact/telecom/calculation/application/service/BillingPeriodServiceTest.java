@@ -0,0 +1,66 @@
+package me.realimpact.telecom.calculation.application.service;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.monthlyfee.DefaultPeriod;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BillingPeriodServiceTest {
+
+    private final BillingPeriodService billingPeriodService = new BillingPeriodService();
+
+    @Test
+    void createLoadingContext_전당월의전월과당월을모두포함() {
+        // given
+        CalculationContext previousMonth = new CalculationContext(
+                LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31),
+                BillingCalculationType.REALTIME_CHARGE_INQUIRY, BillingCalculationPeriod.PRE_BILLING_PREVIOUS_MONTH);
+        CalculationContext currentMonth = new CalculationContext(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 15),
+                BillingCalculationType.REALTIME_CHARGE_INQUIRY, BillingCalculationPeriod.PRE_BILLING_CURRENT_MONTH);
+
+        // when
+        CalculationContext loadingContext = billingPeriodService.createLoadingContext(List.of(previousMonth, currentMonth));
+
+        // then
+        DefaultPeriod loadingPeriod = billingPeriodService.createBillingPeriod(loadingContext);
+        assertThat(loadingPeriod.getStartDate()).isEqualTo(LocalDate.of(2025, 8, 1));
+        assertThat(loadingPeriod.getEndDate()).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(loadingContext.billingEndDate()).isEqualTo(LocalDate.of(2025, 9, 15));
+    }
+
+    @Test
+    void createLoadingContext_종료일포함유형이있으면하루더로딩() {
+        // given
+        CalculationContext estimation = new CalculationContext(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30),
+                BillingCalculationType.REVENUE_ESTIMATION, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH);
+        CalculationContext inquiry = new CalculationContext(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30),
+                BillingCalculationType.REALTIME_CHARGE_INQUIRY, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH);
+
+        // when
+        CalculationContext loadingContext = billingPeriodService.createLoadingContext(List.of(inquiry, estimation));
+
+        // then
+        assertThat(loadingContext.billingCalculationType()).isEqualTo(BillingCalculationType.REVENUE_ESTIMATION);
+        assertThat(billingPeriodService.createBillingPeriod(loadingContext).getEndDate()).isEqualTo(LocalDate.of(2025, 10, 1));
+    }
+
+    @Test
+    void createLoadingContext_컨텍스트가하나면그대로반환() {
+        // given
+        CalculationContext ctx = new CalculationContext(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30),
+                BillingCalculationType.REVENUE_CONFIRMATION, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH);
+
+        // when & then
+        assertThat(billingPeriodService.createLoadingContext(List.of(ctx))).isSameAs(ctx);
+    }
+}
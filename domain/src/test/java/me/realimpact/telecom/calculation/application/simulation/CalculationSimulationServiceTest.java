@@ -0,0 +1,124 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.api.CalculationResultGroup;
+import me.realimpact.telecom.calculation.api.SimulationRequest;
+import me.realimpact.telecom.calculation.api.SimulationResponse;
+import me.realimpact.telecom.calculation.api.SimulationVariant;
+import me.realimpact.telecom.calculation.application.CalculationCommandService;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.port.out.ProductOfferingQueryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalculationSimulationServiceTest {
+
+    private static final LocalDate BILLING_START_DATE = LocalDate.of(2025, 10, 1);
+    private static final LocalDate BILLING_END_DATE = LocalDate.of(2025, 10, 31);
+
+    @Mock
+    private CalculationCommandService calculationCommandService;
+
+    @Mock
+    private ProductOfferingQueryPort productOfferingQueryPort;
+
+    private final ExecutorService simulationExecutor = Executors.newFixedThreadPool(2);
+
+    private CalculationSimulationService calculationSimulationService;
+
+    @BeforeEach
+    void setUp() {
+        calculationSimulationService = new CalculationSimulationService(
+                calculationCommandService, productOfferingQueryPort, new SimulationProperties(), simulationExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationExecutor.close();
+    }
+
+    @Test
+    void simulate_청구기간에계약이없으면예외() {
+        // given: 없는 계약도 로딩 결과는 데이터가 빈 계산 대상 하나다
+        when(calculationCommandService.loadCalculationTargets(anyList(), any(CalculationContext.class)))
+                .thenReturn(List.of(new CalculationTarget(999L, Map.of(), Map.of(), List.of())));
+
+        // when & then
+        assertThatThrownBy(() -> calculationSimulationService.simulate(request(999L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("999");
+        verify(calculationCommandService, never()).processCalculation(any(CalculationTarget.class), any(CalculationContext.class));
+    }
+
+    @Test
+    void simulate_요청이끝나도공유Executor는유지() {
+        // given
+        CalculationTarget base = new CalculationTarget(1L,
+                Map.of(ContractWithProductsAndSuspensions.class, List.of(contract())), Map.of(), List.of());
+        when(calculationCommandService.loadCalculationTargets(anyList(), any(CalculationContext.class)))
+                .thenReturn(List.of(base));
+        when(calculationCommandService.processCalculation(any(CalculationTarget.class), any(CalculationContext.class)))
+                .thenReturn(new CalculationResultGroup(List.of()));
+
+        // when
+        SimulationResponse first = calculationSimulationService.simulate(request(1L));
+        SimulationResponse second = calculationSimulationService.simulate(request(1L));
+
+        // then
+        assertThat(first.variants()).hasSize(2);
+        assertThat(second.baseTotalFee()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(simulationExecutor.isShutdown()).isFalse();
+        verify(calculationCommandService, times(6)).processCalculation(any(CalculationTarget.class), any(CalculationContext.class));
+    }
+
+    private static SimulationRequest request(Long contractId) {
+        return new SimulationRequest(
+                contractId,
+                BILLING_START_DATE,
+                BILLING_END_DATE,
+                BillingCalculationType.PREVIEW_INQUIRY,
+                BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH,
+                List.of(new SimulationVariant("A", List.of()), new SimulationVariant("B", List.of()))
+        );
+    }
+
+    private static ContractWithProductsAndSuspensions contract() {
+        return new ContractWithProductsAndSuspensions(
+                1L,
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 1),
+                Optional.empty(),
+                Optional.empty(),
+                BILLING_START_DATE,
+                BILLING_END_DATE,
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+}
@@ -0,0 +1,167 @@
+package me.realimpact.telecom.calculation.application.simulation;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import me.realimpact.telecom.calculation.api.ContractModification;
+import me.realimpact.telecom.calculation.api.ContractModification.ModificationType;
+import me.realimpact.telecom.calculation.application.CalculationTarget;
+import me.realimpact.telecom.calculation.domain.CalculationContext;
+import me.realimpact.telecom.calculation.domain.discount.Discount;
+import me.realimpact.telecom.calculation.domain.monthlyfee.CalculationMethod;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ChargeItem;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ContractWithProductsAndSuspensions;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Product;
+import me.realimpact.telecom.calculation.domain.monthlyfee.ProductOffering;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import me.realimpact.telecom.calculation.domain.monthlyfee.policy.FlatRatePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimulationTargetBuilderTest {
+
+    private static final LocalDate BILLING_START_DATE = LocalDate.of(2025, 10, 1);
+    private static final LocalDate BILLING_END_DATE = LocalDate.of(2025, 10, 31);
+
+    private static final ProductOffering BASIC = offering("BASIC", 30000);
+    private static final ProductOffering PREMIUM = offering("PREMIUM", 50000);
+
+    private final CalculationContext ctx = new CalculationContext(
+            BILLING_START_DATE,
+            BILLING_END_DATE,
+            BillingCalculationType.PREVIEW_INQUIRY,
+            BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH
+    );
+
+    @Test
+    void build_상품교체시기준대상은변경되지않음() {
+        // given
+        CalculationTarget base = baseTarget();
+        SimulationTargetBuilder builder = new SimulationTargetBuilder(base, ctx, Map.of("PREMIUM", PREMIUM));
+
+        // when
+        CalculationTarget variant = builder.build(List.of(
+                modification(ModificationType.REMOVE_PRODUCT, "BASIC", null, null),
+                modification(ModificationType.ADD_PRODUCT, "PREMIUM", LocalDate.of(2025, 10, 15), null)));
+
+        // then
+        List<Product> products = contract(variant).getProducts();
+        assertThat(products).extracting(product -> product.getProductOffering().getProductOfferingId())
+                .containsExactly("PREMIUM");
+        assertThat(products.get(0).getStartDate()).isEqualTo(LocalDate.of(2025, 10, 15));
+        assertThat(contract(base).getProducts()).extracting(product -> product.getProductOffering().getProductOfferingId())
+                .containsExactly("BASIC");
+        assertThat(variant.oneTimeChargeData()).isSameAs(base.oneTimeChargeData());
+    }
+
+    @Test
+    void build_해지일지정시상품해지일과계약해지일설정() {
+        // given
+        SimulationTargetBuilder builder = new SimulationTargetBuilder(baseTarget(), ctx, Map.of());
+
+        // when
+        CalculationTarget variant = builder.build(List.of(
+                modification(ModificationType.REMOVE_PRODUCT, "BASIC", null, LocalDate.of(2025, 10, 20)),
+                modification(ModificationType.CHANGE_TERMINATION_DATE, null, null, LocalDate.of(2025, 10, 25))));
+
+        // then
+        ContractWithProductsAndSuspensions contract = contract(variant);
+        assertThat(contract.getProducts().get(0).getEndDate()).isEqualTo(LocalDate.of(2025, 10, 20));
+        assertThat(contract.getTerminatedAt()).contains(LocalDate.of(2025, 10, 25));
+    }
+
+    @Test
+    void build_정지와할인추가() {
+        // given
+        SimulationTargetBuilder builder = new SimulationTargetBuilder(baseTarget(), ctx, Map.of());
+        ContractModification discount = new ContractModification(
+                ModificationType.ADD_DISCOUNT, "BASIC", null, null, null, Discount.APPLY_UNIT_RATE, null, new BigDecimal("10"));
+
+        // when
+        CalculationTarget variant = builder.build(List.of(
+                modification(ModificationType.ADD_SUSPENSION, null, LocalDate.of(2025, 10, 5), LocalDate.of(2025, 10, 10)),
+                discount));
+
+        // then
+        assertThat(contract(variant).getSuspensions()).extracting(Suspension::getSuspensionType)
+                .containsExactly(Suspension.SuspensionType.TEMPORARY_SUSPENSION);
+        assertThat(variant.discounts()).hasSize(1);
+        assertThat(variant.discounts().get(0).getDiscountStartDate()).isEqualTo(BILLING_START_DATE);
+        assertThat(variant.discounts().get(0).getDiscountEndDate()).isEqualTo(BILLING_END_DATE);
+        assertThat(variant.discounts().get(0).getDiscountId()).startsWith(SimulationTargetBuilder.SIMULATION_DISCOUNT_ID_PREFIX);
+    }
+
+    @Test
+    void build_변경이없으면기준대상반환() {
+        // given
+        CalculationTarget base = baseTarget();
+        SimulationTargetBuilder builder = new SimulationTargetBuilder(base, ctx, Map.of());
+
+        // when & then
+        assertThat(builder.build(List.of())).isSameAs(base);
+    }
+
+    @Test
+    void build_없는상품추가시예외() {
+        // given
+        SimulationTargetBuilder builder = new SimulationTargetBuilder(baseTarget(), ctx, Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> builder.build(List.of(modification(ModificationType.ADD_PRODUCT, "UNKNOWN", null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.build(List.of(modification(ModificationType.REMOVE_PRODUCT, "UNKNOWN", null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CalculationTarget baseTarget() {
+        Product basic = new Product(
+                1L,
+                BASIC,
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+                LocalDate.of(2024, 1, 1),
+                Optional.of(LocalDate.of(2024, 1, 1)),
+                Optional.empty()
+        );
+        ContractWithProductsAndSuspensions contract = new ContractWithProductsAndSuspensions(
+                1L,
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 1),
+                Optional.empty(),
+                Optional.empty(),
+                BILLING_START_DATE,
+                BILLING_END_DATE,
+                List.of(basic),
+                List.of(),
+                List.of()
+        );
+        return new CalculationTarget(1L, Map.of(ContractWithProductsAndSuspensions.class, List.of(contract)), Map.of(), List.of());
+    }
+
+    private static ContractWithProductsAndSuspensions contract(CalculationTarget target) {
+        return target.getMonthlyChargeData(ContractWithProductsAndSuspensions.class).get(0);
+    }
+
+    private static ContractModification modification(ModificationType type, String productOfferingId, LocalDate startDate, LocalDate endDate) {
+        return new ContractModification(type, productOfferingId, startDate, endDate, null, null, null, null);
+    }
+
+    private static ProductOffering offering(String productOfferingId, long amount) {
+        return new ProductOffering(productOfferingId, productOfferingId + " 요금제", List.of(new ChargeItem(
+                productOfferingId + "-01",
+                "기본료",
+                productOfferingId + "-01",
+                new BigDecimal("0.5"),
+                CalculationMethod.FLAT_RATE,
+                new FlatRatePolicy(BigDecimal.valueOf(amount))
+        )));
+    }
+}
@@ -0,0 +1,102 @@
+package me.realimpact.telecom.calculation.application.vat;
+
+import me.realimpact.telecom.calculation.application.masterdata.RevenueMasterDataCacheService;
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.masterdata.RevenueMasterData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VatCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 10, 1);
+    private static final LocalDate END = LocalDate.of(2025, 10, 31);
+
+    private VatProperties properties;
+    private VatCalculator vatCalculator;
+
+    @BeforeEach
+    void setUp() {
+        RevenueMasterDataCacheService cacheService = new RevenueMasterDataCacheService(baseDate -> Map.of(
+            "REV_A", masterData("REV_A", "VAT_1"),
+            "REV_B", masterData("REV_B", "VAT_1"),
+            "REV_C", masterData("REV_C", "VAT_2"),
+            "REV_FREE", masterData("REV_FREE", null)
+        ));
+        cacheService.refreshCache();
+        properties = new VatProperties();
+        vatCalculator = new VatCalculator(properties, cacheService);
+    }
+
+    @Test
+    void calculateVat_결과별VAT() {
+        // when
+        List<CalculationResult<?>> vatResults = vatCalculator.calculateVat(null, results());
+
+        // then
+        assertThat(vatResults).extracting(CalculationResult::getRevenueItemId)
+            .containsExactly("VAT_1", "VAT_2", "VAT_1", "VAT_1");
+        assertThat(vatResults.get(0).getFee()).isEqualByComparingTo("100.05");
+    }
+
+    @Test
+    void calculateVat_합산모드는계약과VAT수익항목별1건_원미만절사() {
+        // given
+        properties.setMode(VatProperties.VatMode.AGGREGATED);
+
+        // when
+        List<CalculationResult<?>> vatResults = vatCalculator.calculateVat(null, results());
+
+        // then
+        assertThat(vatResults).extracting(CalculationResult::getContractId).containsExactly(1L, 1L, 2L);
+        assertThat(vatResults).extracting(CalculationResult::getRevenueItemId).containsExactly("VAT_1", "VAT_2", "VAT_1");
+        // (1000.50 + 2000.49) × 0.1 = 300.099 → 300
+        assertThat(vatResults.get(0).getFee()).isEqualByComparingTo("300");
+        assertThat(vatResults.get(0).getProductOfferingId()).isEqualTo("#");
+        assertThat(vatResults.get(0).getEffectiveStartDate()).isEqualTo(START);
+        assertThat(vatResults.get(0).getEffectiveEndDate()).isEqualTo(END);
+        // 500 × 0.1 = 50
+        assertThat(vatResults.get(1).getFee()).isEqualByComparingTo("50");
+        // -15.5 × 0.1 = -1.55 → -1 (0 방향 절사)
+        assertThat(vatResults.get(2).getFee()).isEqualByComparingTo("-1");
+    }
+
+    @Test
+    void calculateVat_합산모드반올림방식설정() {
+        // given
+        properties.setMode(VatProperties.VatMode.AGGREGATED);
+        properties.setAggregatedRoundingMode(RoundingMode.HALF_UP);
+
+        // when
+        List<CalculationResult<?>> vatResults = vatCalculator.calculateVat(null, results());
+
+        // then
+        assertThat(vatResults).extracting(r -> r.getFee().intValueExact()).containsExactly(300, 50, -2);
+    }
+
+    private static List<CalculationResult<?>> results() {
+        return List.of(
+            result(1L, "REV_A", "1000.50"),
+            result(1L, "REV_FREE", "3000"),
+            result(1L, "REV_C", "500"),
+            result(1L, "REV_B", "2000.49"),
+            result(2L, "REV_A", "-15.5")
+        );
+    }
+
+    private static CalculationResult<?> result(Long contractId, String revenueItemId, String fee) {
+        return new CalculationResult<>(contractId, START, END, "PO1", "CI01", revenueItemId,
+            START, LocalDate.of(2025, 10, 15), null, new BigDecimal(fee), new BigDecimal(fee), null, null);
+    }
+
+    private static RevenueMasterData masterData(String revenueItemId, String vatRevenueItemId) {
+        return new RevenueMasterData(revenueItemId, START, END, revenueItemId, null, vatRevenueItemId);
+    }
+}
@@ -0,0 +1,76 @@
+package me.realimpact.telecom.calculation.domain;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostProcessingBatchTest {
+
+    private final CalculationContext ctx = new CalculationContext(
+        LocalDate.of(2024, 3, 1),
+        LocalDate.of(2024, 3, 31),
+        BillingCalculationType.REVENUE_CONFIRMATION,
+        BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH
+    );
+
+    @Test
+    void flush_SameBatchPostProcessor_ProcessesAllInputsAtOnce() {
+        // given
+        List<List<String>> calls = new ArrayList<>();
+        BatchPostProcessor<String> postProcessor = (context, inputs) -> calls.add(List.copyOf(inputs));
+
+        PostProcessingBatch batch = new PostProcessingBatch();
+        createResult("A", postProcessor).collectPost(batch);
+        createResult("B", postProcessor).collectPost(batch);
+        createResult("C", postProcessor).collectPost(batch);
+
+        // when
+        batch.flush(ctx);
+
+        // then
+        assertThat(calls).containsExactly(List.of("A", "B", "C"));
+        assertThat(batch.size()).isZero();
+    }
+
+    @Test
+    void flush_PlainPostProcessor_ProcessesOneByOne() {
+        // given
+        List<String> processed = new ArrayList<>();
+        PostProcessor<String> postProcessor = (context, input) -> processed.add(input);
+
+        PostProcessingBatch batch = new PostProcessingBatch();
+        createResult("A", postProcessor).collectPost(batch);
+        createResult("B", postProcessor).collectPost(batch);
+
+        // when
+        batch.flush(ctx);
+
+        // then
+        assertThat(processed).containsExactly("A", "B");
+    }
+
+    private CalculationResult<String> createResult(String domain, PostProcessor<String> postProcessor) {
+        return new CalculationResult<>(
+            1L,
+            LocalDate.of(2024, 3, 1),
+            LocalDate.of(2024, 3, 31),
+            "PO001",
+            "CI001",
+            "REV001",
+            LocalDate.of(2024, 3, 1),
+            LocalDate.of(2024, 3, 31),
+            null,
+            BigDecimal.valueOf(10000),
+            BigDecimal.valueOf(10000),
+            domain,
+            postProcessor
+        );
+    }
+}
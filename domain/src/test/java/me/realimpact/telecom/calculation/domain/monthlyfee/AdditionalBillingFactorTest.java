@@ -0,0 +1,50 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdditionalBillingFactorTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+
+    @Test
+    void getLongFactorValue_BySlot_ReturnsPreParsedValue() {
+        // given
+        int slot = FactorKeyRegistry.slotOf("line_count");
+        AdditionalBillingFactor factor = new AdditionalBillingFactor(Map.of("line_count", "15", "lineSpeedCode", "H8"), START, END);
+
+        // when & then
+        assertThat(factor.hasFactor(slot)).isTrue();
+        assertThat(factor.getLongFactorValue(slot)).isEqualTo(15L);
+        assertThat(factor.getFactorValue("line_count", Long.class)).contains(15L);
+        assertThat(factor.getFactorValue("lineSpeedCode", String.class)).contains("H8");
+    }
+
+    @Test
+    void hasFactor_KeyOfOtherFactor_ReturnsFalse() {
+        // given
+        int otherSlot = FactorKeyRegistry.slotOf("ContractAmount");
+        AdditionalBillingFactor factor = new AdditionalBillingFactor(Map.of("speed", "1"), START, END);
+
+        // when & then
+        assertThat(factor.hasFactor(otherSlot)).isFalse();
+        assertThat(factor.hasFactor(FactorKeyRegistry.NOT_REGISTERED)).isFalse();
+        assertThat(factor.getFactorValue("unregistered-key", Long.class)).isEmpty();
+    }
+
+    @Test
+    void getLongFactorValue_NonNumericValue_ThrowsNumberFormatException() {
+        // given
+        AdditionalBillingFactor factor = new AdditionalBillingFactor(Map.of("lineSpeedCode", "H8"), START, END);
+
+        // when & then
+        assertThatThrownBy(() -> factor.getFactorValue("lineSpeedCode", Long.class))
+            .isInstanceOf(NumberFormatException.class);
+    }
+}
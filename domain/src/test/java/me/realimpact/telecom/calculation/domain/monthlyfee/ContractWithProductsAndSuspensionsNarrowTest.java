@@ -0,0 +1,100 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.policy.FlatRatePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractWithProductsAndSuspensionsNarrowTest {
+
+    // 8월, 9월 청구를 함께 계산하기 위해 8/1 ~ 10/1로 로딩한 계약
+    private static final LocalDate LOADED_START_DATE = LocalDate.of(2025, 8, 1);
+    private static final LocalDate LOADED_END_DATE = LocalDate.of(2025, 10, 1);
+
+    @Test
+    void narrowTo_청구기간과겹치는상품과정지만남김() {
+        // given
+        Product augustOnly = product("PO_AUG", LocalDateTime.of(2025, 8, 1, 0, 0), LocalDateTime.of(2025, 8, 20, 0, 0));
+        Product ongoing = product("PO_ALL", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+        Suspension augustSuspension = new Suspension(
+                LocalDateTime.of(2025, 8, 5, 0, 0), LocalDateTime.of(2025, 8, 10, 0, 0), Suspension.SuspensionType.TEMPORARY_SUSPENSION);
+        Suspension septemberSuspension = new Suspension(
+                LocalDateTime.of(2025, 9, 5, 0, 0), LocalDateTime.of(2025, 9, 10, 0, 0), Suspension.SuspensionType.TEMPORARY_SUSPENSION);
+        ContractWithProductsAndSuspensions loaded = contract(Optional.empty(),
+                List.of(augustOnly, ongoing), List.of(augustSuspension, septemberSuspension));
+
+        // when
+        Optional<ContractWithProductsAndSuspensions> september = loaded.narrowTo(
+                DefaultPeriod.of(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1)));
+
+        // then
+        assertThat(september).isPresent();
+        assertThat(september.get().getBillingStartDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(september.get().getBillingEndDate()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(september.get().getProducts()).containsExactly(ongoing);
+        assertThat(september.get().getSuspensions()).containsExactly(septemberSuspension);
+    }
+
+    @Test
+    void narrowTo_청구기간에유효한상품이없으면빈값() {
+        // given
+        Product augustOnly = product("PO_AUG", LocalDateTime.of(2025, 8, 1, 0, 0), LocalDateTime.of(2025, 8, 20, 0, 0));
+        ContractWithProductsAndSuspensions loaded = contract(Optional.empty(), List.of(augustOnly), List.of());
+
+        // when & then
+        assertThat(loaded.narrowTo(DefaultPeriod.of(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1)))).isEmpty();
+    }
+
+    @Test
+    void narrowTo_청구시작전에해지된계약은빈값() {
+        // given
+        Product ongoing = product("PO_ALL", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+        ContractWithProductsAndSuspensions loaded = contract(Optional.of(LocalDate.of(2025, 8, 25)), List.of(ongoing), List.of());
+
+        // when & then
+        assertThat(loaded.narrowTo(DefaultPeriod.of(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 9, 1)))).isPresent();
+        assertThat(loaded.narrowTo(DefaultPeriod.of(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1)))).isEmpty();
+    }
+
+    private static ContractWithProductsAndSuspensions contract(
+            Optional<LocalDate> terminatedAt, List<Product> products, List<Suspension> suspensions) {
+        return new ContractWithProductsAndSuspensions(
+                1L,
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 1),
+                terminatedAt,
+                Optional.empty(),
+                LOADED_START_DATE,
+                LOADED_END_DATE,
+                products,
+                suspensions,
+                List.of()
+        );
+    }
+
+    private static Product product(String productOfferingId, LocalDateTime effectiveStartDateTime, LocalDateTime effectiveEndDateTime) {
+        ProductOffering productOffering = new ProductOffering(productOfferingId, "상품", List.of(new ChargeItem(
+                productOfferingId + "_01",
+                "기본료",
+                "REVENUE_001",
+                BigDecimal.valueOf(0.5),
+                CalculationMethod.FLAT_RATE,
+                new FlatRatePolicy(BigDecimal.valueOf(10000))
+        )));
+        return new Product(
+                1L,
+                productOffering,
+                effectiveStartDateTime,
+                effectiveEndDateTime,
+                effectiveStartDateTime.toLocalDate(),
+                Optional.empty(),
+                Optional.empty()
+        );
+    }
+}
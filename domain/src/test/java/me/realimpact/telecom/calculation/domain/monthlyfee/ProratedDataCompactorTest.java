@@ -0,0 +1,99 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee;
+
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension.SuspensionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProratedDataCompactorTest {
+
+    @Test
+    void compact_ContiguousSameChargeItem_MergesIntoOneRow() {
+        // given
+        List<ProratedCalculationData> proratedData = List.of(
+            createData("PO1", "CI1", 1, 9, Optional.empty(), "9677.41935"),
+            createData("PO2", "CI2", 10, 31, Optional.empty(), "1000"),
+            createData("PO1", "CI1", 10, 31, Optional.empty(), "20322.58065")
+        );
+
+        // when
+        List<ProratedCalculationData> compacted = ProratedDataCompactor.compact(proratedData, Set.of());
+
+        // then
+        assertThat(compacted).hasSize(2);
+        assertThat(compacted.get(0).periodStartDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(compacted.get(0).periodEndDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(compacted.get(0).proratedFee()).isEqualByComparingTo("30000");
+        assertThat(compacted.get(0).balance()).isEqualByComparingTo("30000");
+    }
+
+    @Test
+    void compact_DifferentSuspensionTypeOrGap_KeepsRowsSeparate() {
+        // given
+        List<ProratedCalculationData> proratedData = List.of(
+            createData("PO1", "CI1", 1, 9, Optional.empty(), "9000"),
+            createData("PO1", "CI1", 10, 20, Optional.of(SuspensionType.TEMPORARY_SUSPENSION), "5000"),
+            createData("PO1", "CI1", 21, 31, Optional.empty(), "11000")
+        );
+
+        // when
+        List<ProratedCalculationData> compacted = ProratedDataCompactor.compact(proratedData, Set.of());
+
+        // then
+        assertThat(compacted).hasSize(3);
+    }
+
+    @Test
+    void compact_ZeroFeeRows_DropsThemUnlessRevenueItemHasOnlyZeroRows() {
+        // given
+        List<ProratedCalculationData> proratedData = List.of(
+            createData("PO1", "CI1", 1, 9, Optional.empty(), "9000"),
+            createData("PO1", "CI1", 10, 31, Optional.of(SuspensionType.NON_PAYMENT_SUSPENSION), "0"),
+            createData("PO2", "CI2", 1, 9, Optional.of(SuspensionType.NON_PAYMENT_SUSPENSION), "0"),
+            createData("PO2", "CI2", 10, 31, Optional.of(SuspensionType.NON_PAYMENT_SUSPENSION), "0")
+        );
+
+        // when
+        List<ProratedCalculationData> compacted = ProratedDataCompactor.compact(proratedData, Set.of());
+
+        // then
+        assertThat(compacted).extracting(ProratedCalculationData::chargeItemId).containsExactly("CI1", "CI2");
+        assertThat(compacted.get(1).periodEndDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+    }
+
+    @Test
+    void compact_DiscountedProductOffering_KeepsSplitRows() {
+        // given
+        List<ProratedCalculationData> proratedData = List.of(
+            createData("PO1", "CI1", 1, 9, Optional.empty(), "9000"),
+            createData("PO1", "CI1", 10, 31, Optional.empty(), "22000")
+        );
+
+        // when
+        List<ProratedCalculationData> compacted = ProratedDataCompactor.compact(proratedData, Set.of("PO1"));
+
+        // then
+        assertThat(compacted).hasSize(2);
+    }
+
+    private ProratedCalculationData createData(String productOfferingId, String chargeItemId, int startDay, int endDay,
+                                               Optional<SuspensionType> suspensionType, String fee) {
+        return new ProratedCalculationData(
+            1L,
+            productOfferingId,
+            chargeItemId,
+            chargeItemId,
+            LocalDate.of(2024, 3, startDay),
+            LocalDate.of(2024, 3, endDay),
+            suspensionType,
+            new BigDecimal(fee),
+            new BigDecimal(fee)
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package me.realimpact.telecom.calculation.domain.monthlyfee.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledPricingTableTest {
+
+    @Test
+    void feeAt_OverlappingUnsortedRules_ReturnsFirstMatchingRuleInListOrder() {
+        // given
+        List<RangeRule> rules = List.of(
+            new RangeRule(50, 60, BigDecimal.valueOf(300)),
+            new RangeRule(1, 100, BigDecimal.valueOf(100)),
+            new RangeRule(90, 200, BigDecimal.valueOf(200))
+        );
+
+        // when
+        CompiledRangeTable table = CompiledRangeTable.compile(rules);
+
+        // then
+        for (long value = -1; value <= 202; value++) {
+            BigDecimal expected = linearFirstMatch(rules, value);
+            assertThat(table.feeAt(value)).as("value %d", value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void feeAt_RuleUpToLongMaxValue_CoversUpperBound() {
+        // given
+        CompiledRangeTable table = CompiledRangeTable.compile(List.of(
+            new RangeRule(1, 5, BigDecimal.valueOf(1000)),
+            new RangeRule(6, Long.MAX_VALUE, BigDecimal.valueOf(600))
+        ));
+
+        // when & then
+        assertThat(table.feeAt(0)).isNull();
+        assertThat(table.feeAt(5)).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(table.feeAt(Long.MAX_VALUE)).isEqualByComparingTo(BigDecimal.valueOf(600));
+    }
+
+    @Test
+    void amountFor_MatchesSequentialStepSummation() {
+        // given
+        List<RangeRule> rules = List.of(
+            new RangeRule(1, 5, BigDecimal.valueOf(1000)),
+            new RangeRule(6, 10, BigDecimal.valueOf(800)),
+            new RangeRule(11, 15, BigDecimal.valueOf(600))
+        );
+
+        // when
+        CompiledStepTable table = CompiledStepTable.compile(rules);
+
+        // then
+        for (long value = -1; value <= 20; value++) {
+            assertThat(table.amountFor(value)).as("value %d", value)
+                .isEqualByComparingTo(sequentialStepSum(rules, value));
+        }
+    }
+
+    @Test
+    void compile_RuleWithFromGreaterThanTo_ThrowsException() {
+        // given
+        List<RangeRule> rules = List.of(new RangeRule(10, 1, BigDecimal.ONE));
+
+        // when & then
+        assertThatThrownBy(() -> CompiledStepTable.compile(rules)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledRangeTable.compile(rules)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BigDecimal linearFirstMatch(List<RangeRule> rules, long value) {
+        return rules.stream()
+            .filter(rule -> rule.isInRange(value))
+            .map(RangeRule::getFee)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private BigDecimal sequentialStepSum(List<RangeRule> rules, long value) {
+        BigDecimal total = BigDecimal.ZERO;
+        long remaining = value;
+        for (RangeRule rule : rules) {
+            if (remaining <= 0) {
+                break;
+            }
+            long inRange = Math.min(remaining, rule.getTo() - rule.getFrom() + 1);
+            total = total.add(rule.getFee().multiply(BigDecimal.valueOf(inRange)));
+            remaining -= inRange;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,68 @@
+package me.realimpact.telecom.calculation.domain.onetimecharge.policy.installment;
+
+import me.realimpact.telecom.calculation.api.BillingCalculationPeriod;
+import me.realimpact.telecom.calculation.api.BillingCalculationType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeviceInstallmentMasterTest {
+
+    // 24개월 할부 중 10회 청구, 11~13회차 미청구
+    private final DeviceInstallmentMaster master = new DeviceInstallmentMaster(
+            1L,
+            1L,
+            LocalDate.of(2024, 12, 1),
+            720000L,
+            24,
+            10,
+            List.of(
+                    new DeviceInstallmentDetail(11, 30000L),
+                    new DeviceInstallmentDetail(12, 31000L),
+                    new DeviceInstallmentDetail(13, 32000L)
+            )
+    );
+
+    @Test
+    void getFee_해지가정이면미청구잔여할부금합계() {
+        // when & then
+        assertThat(master.getFee(BillingCalculationType.TERMINATION_INQUIRY, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH))
+                .isEqualTo(93000L);
+        assertThat(master.getRemainingInstallmentAmount()).isEqualTo(93000L);
+    }
+
+    @Test
+    void getFee_정기청구는청구횟수다음회차() {
+        // when & then
+        assertThat(master.getFee(BillingCalculationType.REVENUE_CONFIRMATION, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH))
+                .isEqualTo(30000L);
+        assertThat(master.getFee(BillingCalculationType.REALTIME_CHARGE_INQUIRY, BillingCalculationPeriod.PRE_BILLING_CURRENT_MONTH))
+                .isEqualTo(31000L);
+    }
+
+    @Test
+    void getFee_해당회차상세가없으면0() {
+        // given
+        DeviceInstallmentMaster lastRoundBilled = new DeviceInstallmentMaster(
+                1L, 1L, LocalDate.of(2024, 12, 1), 720000L, 24, 23, List.of(new DeviceInstallmentDetail(24, 30000L)));
+
+        // when & then
+        assertThat(lastRoundBilled.getFee(BillingCalculationType.REALTIME_CHARGE_INQUIRY, BillingCalculationPeriod.PRE_BILLING_CURRENT_MONTH))
+                .isZero();
+    }
+
+    @Test
+    void ofRemainingAmount_합산조회결과로해지가정요금계산() {
+        // given
+        DeviceInstallmentMaster remaining = DeviceInstallmentMaster.ofRemainingAmount(
+                1L, 1L, LocalDate.of(2024, 12, 1), 720000L, 24, 10, 93000L);
+
+        // when & then
+        assertThat(remaining.getFee(BillingCalculationType.EXPECTATION_PENALTY_INQUIRY, BillingCalculationPeriod.POST_BILLING_CURRENT_MONTH))
+                .isEqualTo(93000L);
+        assertThat(remaining.getDeviceInstallmentDetailList()).isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.columnar;
+
+import me.realimpact.telecom.calculation.domain.CalculationResult;
+import me.realimpact.telecom.calculation.domain.monthlyfee.Suspension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarResultFileTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 10, 1);
+    private static final LocalDate END = LocalDate.of(2025, 10, 31);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndScan_모든컬럼복원() throws Exception {
+        // given
+        Path file = tempDir.resolve("partition0.cres");
+        CalculationResult<?> prorated = result(1L, "PO1", START, LocalDate.of(2025, 10, 15), null, "12345.67", "100.5");
+        CalculationResult<?> suspended = result(1L, "PO2", LocalDate.of(2025, 10, 16), END, Suspension.SuspensionType.TEMPORARY_SUSPENSION, "-300", null);
+        CalculationResult<?> openEnded = result(2L, null, LocalDate.of(2000, 1, 1), LocalDate.of(9999, 12, 31), null, null, "0.00001");
+
+        // when
+        try (ColumnarResultFileWriter writer = new ColumnarResultFileWriter(file)) {
+            writer.append(List.of(prorated, suspended, openEnded));
+            writer.commit();
+        }
+
+        // then
+        List<CalculationResult<?>> restored = readAll(file, null);
+        assertThat(restored).hasSize(3);
+        assertSame(restored.get(0), prorated);
+        assertSame(restored.get(1), suspended);
+        assertSame(restored.get(2), openEnded);
+        assertThat(Files.exists(tempDir.resolve("partition0.cres.tmp"))).isFalse();
+    }
+
+    @Test
+    void rollback_커밋되지않은행은기록되지않음() throws Exception {
+        // given
+        Path file = tempDir.resolve("partition1.cres");
+
+        // when
+        try (ColumnarResultFileWriter writer = new ColumnarResultFileWriter(file)) {
+            writer.append(result(1L, "PO1", START, END, null, "1000", "1000"));
+            writer.commit();
+            writer.append(result(2L, "PO1", START, END, null, "2000", "2000"));
+            writer.rollback();
+            writer.append(result(3L, "PO1", START, END, null, "3000", "3000"));
+            writer.commit();
+            writer.append(result(4L, "PO1", START, END, null, "4000", "4000"));
+        }
+
+        // then
+        try (ColumnarResultFileReader reader = ColumnarResultFileReader.open(file)) {
+            assertThat(reader.rowCount()).isEqualTo(2);
+            assertThat(reader.rowGroupCount()).isEqualTo(2);
+            assertThat(reader.contains(2L)).isFalse();
+            assertThat(reader.contains(4L)).isFalse();
+        }
+        assertThat(readAll(file, null)).extracting(CalculationResult::getContractId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void scanContract_색인으로계약의행만조회() throws Exception {
+        // given
+        Path file = tempDir.resolve("partition2.cres");
+        try (ColumnarResultFileWriter writer = new ColumnarResultFileWriter(file)) {
+            writer.append(result(30L, "PO1", START, END, null, "1", "1"));
+            writer.append(result(10L, "PO1", START, END, null, "2", "2"));
+            writer.append(result(10L, "PO2", START, END, null, "3", "3"));
+            writer.commit();
+            writer.append(result(20L, "PO1", START, END, null, "4", "4"));
+            writer.append(result(10L, "PO3", START, END, null, "5", "5"));
+            writer.commit();
+        }
+
+        // when
+        List<CalculationResult<?>> contract10 = readAll(file, 10L);
+        List<CalculationResult<?>> missing = readAll(file, 99L);
+
+        // then
+        assertThat(contract10).extracting(CalculationResult::getProductOfferingId).containsExactly("PO1", "PO2", "PO3");
+        assertThat(contract10).extracting(r -> r.getFee().intValue()).containsExactly(2, 3, 5);
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void scan_금액은블록내최대scale의고정소수점() throws Exception {
+        // given
+        Path file = tempDir.resolve("partition3.cres");
+        try (ColumnarResultFileWriter writer = new ColumnarResultFileWriter(file)) {
+            writer.append(result(1L, "PO1", START, END, null, "1000", "1000"));
+            writer.append(result(2L, "PO1", START, END, null, "12.345", "12.345"));
+            writer.commit();
+        }
+
+        // when & then
+        try (ColumnarResultFileReader reader = ColumnarResultFileReader.open(file)) {
+            ColumnarResultFileReader.Cursor cursor = reader.scan();
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.feeScale()).isEqualTo(3);
+            assertThat(cursor.feeUnscaled()).isEqualTo(1_000_000L);
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.feeUnscaled()).isEqualTo(12_345L);
+            assertThat(cursor.next()).isFalse();
+        }
+    }
+
+    private static List<CalculationResult<?>> readAll(Path file, Long contractId) throws Exception {
+        List<CalculationResult<?>> results = new ArrayList<>();
+        try (ColumnarResultFileReader reader = ColumnarResultFileReader.open(file)) {
+            ColumnarResultFileReader.Cursor cursor = contractId == null ? reader.scan() : reader.scan(contractId);
+            while (cursor.next()) {
+                results.add(cursor.toCalculationResult());
+            }
+        }
+        return results;
+    }
+
+    private static void assertSame(CalculationResult<?> actual, CalculationResult<?> expected) {
+        assertThat(actual.getContractId()).isEqualTo(expected.getContractId());
+        assertThat(actual.getBillingStartDate()).isEqualTo(expected.getBillingStartDate());
+        assertThat(actual.getBillingEndDate()).isEqualTo(expected.getBillingEndDate());
+        assertThat(actual.getProductOfferingId()).isEqualTo(expected.getProductOfferingId());
+        assertThat(actual.getChargeItemId()).isEqualTo(expected.getChargeItemId());
+        assertThat(actual.getRevenueItemId()).isEqualTo(expected.getRevenueItemId());
+        assertThat(actual.getEffectiveStartDate()).isEqualTo(expected.getEffectiveStartDate());
+        assertThat(actual.getEffectiveEndDate()).isEqualTo(expected.getEffectiveEndDate());
+        assertThat(actual.getSuspensionType()).isEqualTo(expected.getSuspensionType());
+        if (expected.getFee() == null) {
+            assertThat(actual.getFee()).isNull();
+        } else {
+            assertThat(actual.getFee()).isEqualByComparingTo(expected.getFee());
+        }
+        if (expected.getBalance() == null) {
+            assertThat(actual.getBalance()).isNull();
+        } else {
+            assertThat(actual.getBalance()).isEqualByComparingTo(expected.getBalance());
+        }
+    }
+
+    private static CalculationResult<?> result(Long contractId, String productOfferingId,
+                                               LocalDate effectiveStartDate, LocalDate effectiveEndDate,
+                                               Suspension.SuspensionType suspensionType, String fee, String balance) {
+        return new CalculationResult<>(
+                contractId,
+                START,
+                END,
+                productOfferingId,
+                productOfferingId == null ? null : "CI_" + productOfferingId,
+                "REV01",
+                effectiveStartDate,
+                effectiveEndDate,
+                suspensionType,
+                fee == null ? null : new BigDecimal(fee),
+                balance == null ? null : new BigDecimal(balance),
+                null,
+                null
+        );
+    }
+}
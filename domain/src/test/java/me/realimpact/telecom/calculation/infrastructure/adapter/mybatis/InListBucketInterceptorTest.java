@@ -0,0 +1,173 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class InListBucketInterceptorTest {
+
+    private static final List<Integer> BUCKETS = List.of(16, 64, 256, 1000);
+
+    private static final String SELECT_BY_CONTRACT_IDS = """
+            <script>
+            SELECT contract_id FROM contract
+            WHERE contract_id IN
+            <foreach collection="contractIds" item="contractId" open="(" separator="," close=")">#{contractId}</foreach>
+            </script>
+            """;
+
+    private final Configuration configuration = new Configuration();
+    private final MappedStatement mappedStatement = mappedStatement();
+    private final Executor executor = mock(Executor.class);
+
+    @Test
+    void intercept_IN절과바인딩을버킷크기로교체() throws Throwable {
+        // given: @Param 이름과 param1 별칭이 같은 목록을 가리키는 Mapper 파라미터
+        List<Long> contractIds = List.of(1L, 2L, 3L);
+        MapperMethod.ParamMap<Object> parameter = new MapperMethod.ParamMap<>();
+        parameter.put("contractIds", contractIds);
+        parameter.put("param1", contractIds);
+        Invocation invocation = queryInvocation(parameter);
+
+        // when
+        interceptor(true).intercept(invocation);
+
+        // then
+        Object padded = invocation.getArgs()[1];
+        assertThat(padded).isInstanceOf(MapperMethod.ParamMap.class).isNotSameAs(parameter);
+        BoundSql boundSql = mappedStatement.getBoundSql(padded);
+        assertThat(placeholderCount(boundSql)).isEqualTo(16);
+        assertThat(boundValues(boundSql)).hasSize(16).startsWith(1L, 2L, 3L);
+        assertThat(boundValues(boundSql).subList(3, 16)).containsOnly(3L);
+        assertThat(((Map<?, ?>) padded).get("param1")).isSameAs(((Map<?, ?>) padded).get("contractIds"));
+        assertThat(parameter.get("contractIds")).isSameAs(contractIds);
+        verify(executor).query(same(mappedStatement), same(padded), any(RowBounds.class), any());
+    }
+
+    @Test
+    void intercept_비활성화면파라미터그대로() throws Throwable {
+        // given
+        MapperMethod.ParamMap<Object> parameter = new MapperMethod.ParamMap<>();
+        parameter.put("contractIds", List.of(1L, 2L, 3L));
+        Invocation invocation = queryInvocation(parameter);
+
+        // when
+        interceptor(false).intercept(invocation);
+
+        // then
+        assertThat(invocation.getArgs()[1]).isSameAs(parameter);
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        assertThat(placeholderCount(boundSql)).isEqualTo(3);
+        assertThat(boundValues(boundSql)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void intercept_계약ID목록이없으면파라미터그대로() throws Throwable {
+        // given
+        Long contractId = 1L;
+        Invocation invocation = queryInvocation(contractId);
+
+        // when
+        interceptor(true).intercept(invocation);
+
+        // then
+        assertThat(invocation.getArgs()[1]).isSameAs(contractId);
+    }
+
+    @Test
+    void padToBucket_마지막ID반복() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        // when
+        List<Long> padded = InListBucketInterceptor.padToBucket(ids, BUCKETS);
+
+        // then
+        assertThat(padded).hasSize(16);
+        assertThat(padded.subList(0, 3)).containsExactly(1L, 2L, 3L);
+        assertThat(padded.subList(3, 16)).containsOnly(3L);
+    }
+
+    @Test
+    void padToBucket_버킷크기와같으면원본() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 64).boxed().toList();
+
+        // when
+        List<Long> padded = InListBucketInterceptor.padToBucket(ids, BUCKETS);
+
+        // then
+        assertThat(padded).isSameAs(ids);
+    }
+
+    @Test
+    void padToBucket_빈목록_최대초과() {
+        // given
+        List<Long> empty = List.of();
+        List<Long> oversized = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // when & then
+        assertThat(InListBucketInterceptor.padToBucket(empty, BUCKETS)).isSameAs(empty);
+        assertThat(InListBucketInterceptor.padToBucket(oversized, BUCKETS)).isSameAs(oversized);
+    }
+
+    @Test
+    void padToBucket_단건은패딩하지않음() {
+        // given
+        List<Long> single = List.of(1L);
+
+        // when & then
+        assertThat(InListBucketInterceptor.padToBucket(single, BUCKETS)).isSameAs(single);
+    }
+
+    private static InListBucketInterceptor interceptor(boolean enabled) {
+        InListBucketProperties properties = new InListBucketProperties();
+        properties.setEnabled(enabled);
+        properties.setSizes(BUCKETS);
+        return new InListBucketInterceptor(properties);
+    }
+
+    private MappedStatement mappedStatement() {
+        SqlSource sqlSource = configuration.getDefaultScriptingLanguageInstance()
+                .createSqlSource(configuration, SELECT_BY_CONTRACT_IDS, Map.class);
+        return new MappedStatement.Builder(configuration, "selectByContractIds", sqlSource, SqlCommandType.SELECT).build();
+    }
+
+    private Invocation queryInvocation(Object parameter) throws NoSuchMethodException {
+        return new Invocation(
+                executor,
+                Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+                new Object[]{mappedStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+    }
+
+    private static long placeholderCount(BoundSql boundSql) {
+        return boundSql.getSql().chars().filter(c -> c == '?').count();
+    }
+
+    /**
+     * foreach가 만든 바인드 변수의 값 (SQL의 ? 순서)
+     */
+    private static List<Object> boundValues(BoundSql boundSql) {
+        return boundSql.getParameterMappings().stream()
+                .map(mapping -> boundSql.getAdditionalParameter(mapping.getProperty()))
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package me.realimpact.telecom.calculation.infrastructure.adapter.mybatis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoaderQueryEventInterceptorTest {
+
+    private static final List<Integer> BUCKETS = List.of(16, 64, 256, 1000);
+
+    @Test
+    void shortMapperId_패키지제거() {
+        // when
+        String mapperId = LoaderQueryEventInterceptor.shortMapperId(
+                "me.realimpact.telecom.calculation.infrastructure.adapter.mybatis.ProductQueryMapper.findContractsAndProductInventoriesByContractIds");
+
+        // then
+        assertThat(mapperId).isEqualTo("ProductQueryMapper.findContractsAndProductInventoriesByContractIds");
+    }
+
+    @Test
+    void contractCount_패딩된ID는제외() {
+        // given
+        List<Long> padded = InListBucketInterceptor.padToBucket(List.of(1L, 2L, 3L), BUCKETS);
+
+        // when
+        int contractCount = LoaderQueryEventInterceptor.contractCount(Map.of("contractIds", padded));
+
+        // then
+        assertThat(padded).hasSize(16);
+        assertThat(contractCount).isEqualTo(3);
+    }
+
+    @Test
+    void contractCount_계약조건없으면음수() {
+        // when & then
+        assertThat(LoaderQueryEventInterceptor.contractCount(Map.of("billingEndDate", "2025-10-31"))).isEqualTo(-1);
+        assertThat(LoaderQueryEventInterceptor.contractCount(null)).isEqualTo(-1);
+    }
+}
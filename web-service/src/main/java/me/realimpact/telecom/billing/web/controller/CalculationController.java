@@ -31,6 +31,8 @@ import java.util.stream.Collectors;
 public class CalculationController {
 
     private final CalculationCommandUseCase calculationCommandUseCase;
+    private final CalculationSimulationUseCase calculationSimulationUseCase;
+    private final TerminationInquiryUseCase terminationInquiryUseCase;
 
     /**
      * 지정된 계약들에 대해 월요금, 일회성 요금, 할인, 부가세(VAT)를 포함한 통합 요금 계산을 수행한다.
@@ -93,4 +95,96 @@ public class CalculationController {
         }
     }
 
+    /**
+     * 계약 하나를 한 번만 로딩하고, 상품 추가/해지, 해지일 변경, 정지/할인 추가를 적용한 변형들의 요금을 병렬로 계산한다.
+     * 계산 결과는 저장하지 않는다.
+     *
+     * @param request 시뮬레이션 요청 정보를 담은 DTO. 계약 ID, 청구 기간, 변형 목록을 포함한다.
+     * @return 기준 계약 금액과 변형별 금액 합계를 담은 `SimulationResponse`를 포함하는 ResponseEntity.
+     */
+    @Operation(
+            summary = "요금 시뮬레이션",
+            description = "계약 데이터를 한 번만 로딩하고, 변형마다 상품 추가/해지, 해지일 변경, 정지/할인 추가를 적용하여 요금을 비교합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "시뮬레이션 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SimulationResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 파라미터 (청구 기간에 유효한 계약 없음, 없는 상품, 필수 항목 누락, 변형 수 초과 등)",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "시뮬레이션 요청이 많아 계산 대기열이 가득 참",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping("/simulations")
+    public ResponseEntity<SimulationResponse> simulate(
+            @Parameter(description = "시뮬레이션 요청 정보", required = true)
+            @Valid @RequestBody SimulationRequest request) {
+
+        log.info("시뮬레이션 요청 수신: 계약 {}, 변형 {} 건, 기간: {} ~ {}, 유형: {}",
+                request.contractId(),
+                request.variants().size(),
+                request.billingStartDate(),
+                request.billingEndDate(),
+                request.billingCalculationType());
+
+        return ResponseEntity.ok(calculationSimulationUseCase.simulate(request));
+    }
+
+    /**
+     * 계약 하나를 해지일에 해지한다고 가정하고 해지월 1일부터 해지일까지의 요금(잔여 할부금 포함)을 계산한다.
+     * 매장 창구 응답용 단건 경로이며, 계산 결과는 저장하지 않는다.
+     *
+     * @param request 해지핫빌 요청 정보를 담은 DTO. 계약 ID와 해지일을 포함한다.
+     * @return 금액 합계와 계산 결과를 담은 `TerminationInquiryResponse`를 포함하는 ResponseEntity.
+     */
+    @Operation(
+            summary = "해지핫빌",
+            description = "계약 하나를 해지일에 해지한다고 가정하고 해지월 1일부터 해지일까지의 요금을 계산합니다. 단말 할부는 잔여 할부금 전체가 청구됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "계산 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TerminationInquiryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 파라미터",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping("/termination")
+    public ResponseEntity<TerminationInquiryResponse> inquireTermination(
+            @Parameter(description = "해지핫빌 요청 정보", required = true)
+            @Valid @RequestBody TerminationInquiryRequest request) {
+
+        log.debug("해지핫빌 요청 수신: 계약 {}, 해지일: {}", request.contractId(), request.terminationDate());
+
+        return ResponseEntity.ok(terminationInquiryUseCase.inquire(request));
+    }
+
 }
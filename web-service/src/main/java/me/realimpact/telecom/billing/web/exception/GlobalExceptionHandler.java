@@ -13,6 +13,7 @@ import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -99,6 +100,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * 계산 Executor 포화 예외 처리 (시뮬레이션 대기열 초과 등)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(
+            RejectedExecutionException ex, WebRequest request) {
+
+        log.warn("계산 요청 거절: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "SERVICE_BUSY",
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요",
+                new HashMap<>(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * 일반적인 예외 처리
      */